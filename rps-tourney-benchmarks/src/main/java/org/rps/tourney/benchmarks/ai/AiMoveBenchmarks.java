@@ -0,0 +1,127 @@
+package org.rps.tourney.benchmarks.ai;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.VerboseMode;
+
+import com.justdavis.karl.rpstourney.service.api.game.Throw;
+import com.justdavis.karl.rpstourney.service.api.game.ai.BuiltInAi;
+import com.justdavis.karl.rpstourney.service.api.game.ai.IIncrementalPositronicBrain;
+import com.justdavis.karl.rpstourney.service.api.game.ai.IPositronicMind;
+
+/**
+ * Contains {@link Benchmark}s for the {@link BuiltInAi}s' moves. These are
+ * parameterized by the number of rounds that have already been played, which
+ * should have no effect on the time per move: a learning AI that slows down as
+ * the game goes on is a problem.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AiMoveBenchmarks {
+	/**
+	 * A {@link Benchmark} for a single move (one
+	 * {@link IPositronicMind#nextThrow()} and one
+	 * {@link IPositronicMind#observe(Throw, Throw)}) by a {@link BuiltInAi}
+	 * that has already played {@link MindState#roundsPlayed} rounds.
+	 * 
+	 * @param mindState
+	 *            the {@link MindState} that provides the {@link IPositronicMind}
+	 *            to benchmark
+	 * @return the {@link Throw} made by the AI, which is returned to prevent
+	 *         dead code elimination
+	 */
+	@Benchmark
+	public Throw playMove(MindState mindState) {
+		Throw ownThrow = mindState.mind.nextThrow();
+		mindState.mind.observe(ownThrow, mindState.nextOpponentThrow());
+		return ownThrow;
+	}
+
+	/**
+	 * This method is only here to allow this {@link Benchmark} class to be run
+	 * inside Eclipse. These configuration settings specified in here are only
+	 * applied within Eclipse.
+	 * 
+	 * @param args
+	 *            (not used)
+	 * @throws RunnerException
+	 *             Any failures in the benchmarks will be wrapped and rethrown
+	 *             as {@link RunnerException}s.
+	 */
+	public static void main(String[] args) throws RunnerException {
+		ChainedOptionsBuilder benchmarkOptions = new OptionsBuilder().include(AiMoveBenchmarks.class.getSimpleName())
+				.warmupIterations(10).measurementIterations(10).forks(1).verbosity(VerboseMode.EXTRA);
+		// benchmarkOptions.addProfiler(GCProfiler.class);
+
+		new Runner(benchmarkOptions.build()).run();
+	}
+
+	/**
+	 * Manages the state required for {@link AiMoveBenchmarks}: an
+	 * {@link IPositronicMind} that has already played some rounds against a
+	 * (repeatable) random opponent.
+	 */
+	@State(Scope.Thread)
+	public static class MindState {
+		/**
+		 * The number of distinct opponent {@link Throw}s to cycle through. This
+		 * is a power of two, so that the index can be wrapped with a mask.
+		 */
+		private static final int OPPONENT_THROWS_LENGTH = 1 << 16;
+
+		/**
+		 * The {@link BuiltInAi} to benchmark.
+		 */
+		@Param({ "ENSEMBLE_V1", "MARKOV_CHAIN_V1", "WIN_STAY_LOSE_SHIFT_V1" })
+		public BuiltInAi ai;
+
+		/**
+		 * The number of rounds to play before the benchmark starts.
+		 */
+		@Param({ "10", "1000", "100000", "10000000" })
+		public int roundsPlayed;
+
+		private IPositronicMind mind;
+		private Throw[] opponentThrows;
+		private int opponentThrowIndex;
+
+		/**
+		 * Initializes {@link MindState} instances.
+		 */
+		@Setup
+		public void setup() {
+			Random random = new Random(42L);
+			Throw[] throwValues = Throw.values();
+			this.opponentThrows = new Throw[OPPONENT_THROWS_LENGTH];
+			for (int i = 0; i < opponentThrows.length; i++)
+				opponentThrows[i] = throwValues[random.nextInt(throwValues.length)];
+			this.opponentThrowIndex = 0;
+
+			this.mind = ((IIncrementalPositronicBrain) ai.getPositronicBrain()).createMind();
+			for (int i = 0; i < roundsPlayed; i++)
+				mind.observe(mind.nextThrow(), nextOpponentThrow());
+		}
+
+		/**
+		 * @return the next opponent {@link Throw} to use
+		 */
+		Throw nextOpponentThrow() {
+			Throw opponentThrow = opponentThrows[opponentThrowIndex];
+			opponentThrowIndex = (opponentThrowIndex + 1) & (OPPONENT_THROWS_LENGTH - 1);
+			return opponentThrow;
+		}
+	}
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains the benchmarks for the built-in AIs, which run entirely in-process.
+ */
+package org.rps.tourney.benchmarks.ai;
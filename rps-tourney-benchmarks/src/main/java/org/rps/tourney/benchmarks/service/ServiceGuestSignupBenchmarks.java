@@ -0,0 +1,66 @@
+package org.rps.tourney.benchmarks.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.VerboseMode;
+import org.rps.tourney.benchmarks.serverutils.ServerState;
+
+import com.justdavis.karl.rpstourney.service.api.auth.Account;
+import com.justdavis.karl.rpstourney.service.api.game.Player;
+import com.justdavis.karl.rpstourney.service.client.CookieStore;
+import com.justdavis.karl.rpstourney.service.client.auth.guest.GuestAuthClient;
+import com.justdavis.karl.rpstourney.service.client.config.ClientConfig;
+import com.justdavis.karl.rpstourney.service.client.game.PlayersClient;
+
+/**
+ * Contains {@link Benchmark}s for those web service methods related to
+ * signing up new users. These are the web service's most insert-heavy
+ * operations, and so are the ones most affected by how entity IDs are
+ * allocated and how inserts are batched.
+ */
+public class ServiceGuestSignupBenchmarks {
+	/**
+	 * A {@link Benchmark} for a brand new visitor: a
+	 * {@link GuestAuthClient#loginAsGuest()} call (which creates an
+	 * {@link Account}, its guest login, and an auth token), followed by a
+	 * {@link PlayersClient#findOrCreatePlayer()} call (which creates their
+	 * {@link Player}).
+	 *
+	 * @param serverState
+	 *            the {@link ServerState} that the web service is running in
+	 */
+	@Benchmark
+	public void signupAsGuest(ServerState serverState) {
+		ClientConfig config = new ClientConfig(serverState.getServerManager().getServiceUrl());
+		CookieStore cookies = new CookieStore();
+
+		GuestAuthClient authClient = new GuestAuthClient(config, cookies);
+		authClient.loginAsGuest();
+		PlayersClient playersClient = new PlayersClient(config, cookies);
+		playersClient.findOrCreatePlayer();
+	}
+
+	/**
+	 * This method is only here to allow this {@link Benchmark} class to be run
+	 * inside Eclipse. These configuration settings specified in here are only
+	 * applied within Eclipse.
+	 *
+	 * @param args
+	 *            (not used)
+	 * @throws RunnerException
+	 *             Any failures in the benchmarks will be wrapped and rethrown
+	 *             as {@link RunnerException}s.
+	 */
+	public static void main(String[] args) throws RunnerException {
+		ChainedOptionsBuilder benchmarkOptions = new OptionsBuilder()
+				.include(ServiceGuestSignupBenchmarks.class.getSimpleName()).warmupIterations(20)
+				.measurementIterations(10).forks(1).threads(10 ^ 2).verbosity(VerboseMode.EXTRA);
+		// benchmarkOptions.addProfiler(StackProfiler.class);
+		// benchmarkOptions.jvmArgsAppend(ExistingServerManager.jvmArgsForTomcatWtp());
+
+		new Runner(benchmarkOptions.build()).run();
+	}
+}
@@ -12,8 +12,8 @@ import com.justdavis.karl.rpstourney.service.api.game.ai.BuiltInAi;
 
 /**
  * This Args4J {@link OptionHandler} handles parsing of {@link BuiltInAi}
- * instances from {@link String}s. This will map "Easy", "Medium", or "Hard"
- * {@link String}s to hardcoded {@link BuiltInAi} constants.
+ * instances from {@link String}s. This will map "Easy", "Medium", "Hard",
+ * "Expert", or "Master" {@link String}s to hardcoded {@link BuiltInAi} constants.
  */
 public final class BuiltInAiOptionHandler extends OptionHandler<BuiltInAi> {
 	/**
@@ -47,6 +47,12 @@ public final class BuiltInAiOptionHandler extends OptionHandler<BuiltInAi> {
 		} else if ("hard".equalsIgnoreCase(param)) {
 			setter.addValue(BuiltInAi.META_WIN_STAY_LOSE_SHIFT_V1);
 			return 1;
+		} else if ("expert".equalsIgnoreCase(param)) {
+			setter.addValue(BuiltInAi.MARKOV_CHAIN_V1);
+			return 1;
+		} else if ("master".equalsIgnoreCase(param)) {
+			setter.addValue(BuiltInAi.ENSEMBLE_V1);
+			return 1;
 		}
 
 		throw new CmdLineException(owner, Messages.ILLEGAL_OPERAND, params.getParameter(-1), param);
@@ -13,6 +13,7 @@ import org.slf4j.LoggerFactory;
 import com.justdavis.karl.rpstourney.app.console.i18n.DefaultResourceBundleLoader;
 import com.justdavis.karl.rpstourney.app.console.localservice.GameBundle;
 import com.justdavis.karl.rpstourney.app.console.localservice.LocalGameClient;
+import com.justdavis.karl.rpstourney.app.console.tournament.TournamentRunner;
 import com.justdavis.karl.rpstourney.service.api.auth.Account;
 import com.justdavis.karl.rpstourney.service.api.auth.game.IGameAuthResource;
 import com.justdavis.karl.rpstourney.service.api.auth.guest.IGuestAuthResource;
@@ -22,6 +23,7 @@ import com.justdavis.karl.rpstourney.service.api.game.GameView;
 import com.justdavis.karl.rpstourney.service.api.game.IGameResource;
 import com.justdavis.karl.rpstourney.service.api.game.IPlayersResource;
 import com.justdavis.karl.rpstourney.service.api.game.Player;
+import com.justdavis.karl.rpstourney.service.api.game.ai.BuiltInAi;
 import com.justdavis.karl.rpstourney.service.client.CookieStore;
 import com.justdavis.karl.rpstourney.service.client.auth.game.GameAuthClient;
 import com.justdavis.karl.rpstourney.service.client.auth.guest.GuestAuthClient;
@@ -44,6 +46,10 @@ import ch.qos.logback.classic.LoggerContext;
  * This class is pretty much only responsible for application initialization. It
  * delegates the user interface and gameplay to {@link ConsoleGameDriver}.
  * </p>
+ * <p>
+ * Alternatively, it can also be used to run a tournament between all of the
+ * AIs, via {@link TournamentRunner}.
+ * </p>
  */
 public final class ConsoleApp {
 	/**
@@ -146,6 +152,14 @@ public final class ConsoleApp {
 			return EXIT_CODE_OK;
 		}
 
+		// Run an AI tournament instead of a game, if requested.
+		if (options.isTournament()) {
+			TournamentRunner tournament = new TournamentRunner(BuiltInAi.active(), options.getNumGames(),
+					options.getNumRounds());
+			tournament.run().print(out, new DefaultResourceBundleLoader());
+			return EXIT_CODE_OK;
+		}
+
 		// Create/join the game, per the options.
 		GameBundle gameBundle;
 		if (options.isOnline()) {
@@ -98,8 +98,8 @@ final class ConsoleGameDriver {
 	private static void playGameRound(GameBundle gameBundle, PrintStream out, Scanner scanner) {
 		GameView game = getGame(gameBundle);
 
-		int currentRoundIndex = game.getRounds().size() - 1;
-		GameRound currentRound = game.getRounds().get(currentRoundIndex);
+		GameRound currentRound = game.getCurrentRound();
+		int currentRoundIndex = currentRound.getRoundIndex();
 
 		// Print out the round intro text.
 		out.println(String.format("%nRound %d!", currentRound.getAdjustedRoundIndex() + 1));
@@ -114,7 +114,7 @@ final class ConsoleGameDriver {
 
 		// Print out the round results.
 		game = getGame(gameBundle);
-		currentRound = game.getRounds().get(currentRoundIndex);
+		currentRound = getRound(gameBundle, currentRoundIndex);
 		PlayerRole[] playerRoles = game.getPlayerRoles(game.getViewPlayer());
 		Throw yourThrow, opponentThrow;
 		if (playerRoles.length == 2) {
@@ -176,8 +176,7 @@ final class ConsoleGameDriver {
 	 *         now made their move for the specified round
 	 */
 	private static void waitForOpponentThrow(GameBundle gameBundle, int roundIndex) {
-		GameView game = getGame(gameBundle);
-		GameRound round = game.getRounds().get(roundIndex);
+		GameRound round = getRound(gameBundle, roundIndex);
 
 		while (round.getResult() == null) {
 			// Wait a bit, then refresh the game state to check again.
@@ -187,18 +186,33 @@ final class ConsoleGameDriver {
 				// Nothing in this app uses interrupts; safe to log and ignore.
 				LOGGER.warn("Unexpected interrupt.", e);
 			}
-			game = getGame(gameBundle);
-			round = game.getRounds().get(roundIndex);
+			round = getRound(gameBundle, roundIndex);
 		}
 	}
 
 	/**
 	 * @param gameBundle
 	 *            the {@link GameBundle} for the active game
-	 * @return an updated {@link GameView} for the game being played
+	 * @return an updated {@link GameView} for the game being played, which
+	 *         will only include the current {@link GameRound}, as that's all
+	 *         this class ever displays
 	 */
 	private static GameView getGame(GameBundle gameBundle) {
-		return gameBundle.getGameClient().getGame(gameBundle.getGameId());
+		return gameBundle.getGameClient().getGame(gameBundle.getGameId(), null, 1);
+	}
+
+	/**
+	 * @param gameBundle
+	 *            the {@link GameBundle} for the active game
+	 * @param roundIndex
+	 *            the {@link GameRound#getRoundIndex()} of the round to return
+	 * @return an updated copy of the specified {@link GameRound}
+	 */
+	private static GameRound getRound(GameBundle gameBundle, int roundIndex) {
+		List<GameRound> rounds = gameBundle.getGameClient().getRounds(gameBundle.getGameId(), roundIndex, 1);
+		if (rounds.isEmpty())
+			throw new IllegalStateException("Round not found: " + roundIndex);
+		return rounds.get(0);
 	}
 
 	/**
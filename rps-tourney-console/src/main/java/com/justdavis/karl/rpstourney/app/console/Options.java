@@ -51,13 +51,21 @@ final class Options {
 
 	@Option(name = "--ai", aliases = {
 			"-a" }, required = false, handler = BuiltInAiOptionHandler.class, usage = "specify the AI "
-					+ "to play against: 'Easy', 'Medium', or 'Hard', defaults to 'Easy'")
+					+ "to play against: 'Easy', 'Medium', 'Hard', 'Expert', or 'Master', defaults to 'Easy'")
 	private BuiltInAi aiOpponent;
 
 	@Option(name = "--numRounds", aliases = { "-r" }, required = false, usage = "the maximum number "
 			+ "of rounds to play (excluding ties), defaults to 3")
 	private int numRounds;
 
+	@Option(name = "--tournament", aliases = { "-t" }, required = false, usage = "instead of playing a "
+			+ "game, plays all of the AIs against each other and prints out their win rates")
+	private boolean tournament;
+
+	@Option(name = "--numGames", aliases = { "-n" }, required = false, usage = "the number of games "
+			+ "to play between each pair of AIs (if a tournament is requested), defaults to 1000")
+	private int numGames;
+
 	@Option(name = "--debug", aliases = { "-d" }, required = false, usage = "enables debug/logging "
 			+ "output to STDERR")
 	private boolean debugEnabled;
@@ -81,6 +89,8 @@ final class Options {
 		this.gameUri = null;
 		this.aiOpponent = BuiltInAi.THREE_SIDED_DIE_V1;
 		this.numRounds = 3;
+		this.tournament = false;
+		this.numGames = 1000;
 		this.debugEnabled = false;
 		this.helpRequested = false;
 	}
@@ -197,6 +207,42 @@ final class Options {
 		this.numRounds = numRounds;
 	}
 
+	/**
+	 * @return <code>true</code> if the application should run a tournament
+	 *         between all of the AIs, rather than letting the user play a
+	 *         game
+	 */
+	public boolean isTournament() {
+		return tournament;
+	}
+
+	/**
+	 * @param tournament
+	 *            the value for {@link #isTournament()}
+	 */
+	void setTournament(boolean tournament) {
+		this.tournament = tournament;
+	}
+
+	/**
+	 * @return the number of games to play between each pair of AIs, if
+	 *         {@link #isTournament()} is <code>true</code>
+	 */
+	public int getNumGames() {
+		return numGames;
+	}
+
+	/**
+	 * @param numGames
+	 *            the value for {@link #getNumGames()}
+	 */
+	void setNumGames(int numGames) {
+		if (numGames < 1)
+			throw new IllegalArgumentException();
+
+		this.numGames = numGames;
+	}
+
 	/**
 	 * @return <code>true</code> if the application should write debug/logging
 	 *         output to <code>STDERR</code>, <code>false</code> if all such
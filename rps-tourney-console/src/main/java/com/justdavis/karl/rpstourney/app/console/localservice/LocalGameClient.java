@@ -5,11 +5,14 @@ import java.util.List;
 import javax.ws.rs.NotFoundException;
 
 import com.justdavis.karl.rpstourney.service.api.game.Game;
+import com.justdavis.karl.rpstourney.service.api.game.GameRound;
+import com.justdavis.karl.rpstourney.service.api.game.GameSummaryPage;
 import com.justdavis.karl.rpstourney.service.api.game.GameView;
 import com.justdavis.karl.rpstourney.service.api.game.IGameResource;
 import com.justdavis.karl.rpstourney.service.api.game.Player;
 import com.justdavis.karl.rpstourney.service.api.game.PlayerRole;
 import com.justdavis.karl.rpstourney.service.api.game.Throw;
+import com.justdavis.karl.rpstourney.service.api.game.ai.AiPlayerMind;
 
 /**
  * <p>
@@ -26,6 +29,7 @@ import com.justdavis.karl.rpstourney.service.api.game.Throw;
 public final class LocalGameClient implements IGameResource {
 	private final Game game;
 	private final Player localPlayer;
+	private AiPlayerMind player2Mind;
 
 	/**
 	 * Constructs a new {@link LocalGameClient} instance.
@@ -56,6 +60,15 @@ public final class LocalGameClient implements IGameResource {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.api.game.IGameResource#getGameSummariesForPlayer(java.lang.String,
+	 *      java.lang.Integer)
+	 */
+	@Override
+	public GameSummaryPage getGameSummariesForPlayer(String cursor, Integer limit) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * @see com.justdavis.karl.rpstourney.service.api.game.IGameResource#getGame(java.lang.String)
 	 */
@@ -65,7 +78,33 @@ public final class LocalGameClient implements IGameResource {
 		if (gameId == null || !gameId.equals(game.getId()))
 			throw new IllegalArgumentException();
 
-		return new GameView(game, localPlayer);
+		return getGame(gameId, null, null);
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.api.game.IGameResource#getGame(java.lang.String,
+	 *      java.lang.Integer, java.lang.Integer)
+	 */
+	@Override
+	public GameView getGame(String gameId, Integer fromRound, Integer lastRounds) {
+		// The LocalGameClient only supports a single, local Game instance.
+		if (gameId == null || !gameId.equals(game.getId()))
+			throw new IllegalArgumentException();
+
+		return new GameView(game, localPlayer, fromRound, lastRounds);
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.api.game.IGameResource#getRounds(java.lang.String,
+	 *      int, java.lang.Integer)
+	 */
+	@Override
+	public List<GameRound> getRounds(String gameId, int fromRound, Integer limit) {
+		GameView gameView = getGame(gameId, fromRound, null);
+		List<GameRound> rounds = gameView.getRounds();
+		int fromIndex = Math.min(fromRound - gameView.getFirstRoundIndex(), rounds.size());
+		int toIndex = limit != null ? Math.min(rounds.size(), fromIndex + limit) : rounds.size();
+		return rounds.subList(fromIndex, toIndex);
 	}
 
 	/**
@@ -113,9 +152,9 @@ public final class LocalGameClient implements IGameResource {
 		game.submitThrow(roundIndex, localPlayer, throwToPlay);
 
 		// Calculate the Throw for the Player 2 AI.
-		GameView gameView = new GameView(game, game.getPlayer2());
-		Throw aiThrow = game.getPlayer2().getBuiltInAi().getPositronicBrain().calculateNextThrow(gameView,
-				PlayerRole.PLAYER_2);
+		if (player2Mind == null)
+			player2Mind = new AiPlayerMind(game.getPlayer2().getBuiltInAi().getPositronicBrain(), PlayerRole.PLAYER_2);
+		Throw aiThrow = player2Mind.calculateNextThrow(game);
 
 		// Submit the Throw.
 		game.submitThrow(roundIndex, game.getPlayer2(), aiThrow);
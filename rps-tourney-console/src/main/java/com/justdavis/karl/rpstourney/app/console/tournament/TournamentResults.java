@@ -0,0 +1,261 @@
+package com.justdavis.karl.rpstourney.app.console.tournament;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.justdavis.karl.rpstourney.app.console.i18n.IResourceBundleLoader;
+import com.justdavis.karl.rpstourney.service.api.game.ai.BuiltInAi;
+
+/**
+ * Stores the results of a {@link TournamentRunner} tournament, and can print
+ * them out as a win rate matrix.
+ */
+public final class TournamentResults {
+	/**
+	 * The index in each pairing's counts of the number of games won by the
+	 * first {@link BuiltInAi} in the pairing.
+	 */
+	static final int COUNT_FIRST_AI_WINS = 0;
+
+	/**
+	 * The index in each pairing's counts of the number of games won by the
+	 * second {@link BuiltInAi} in the pairing.
+	 */
+	static final int COUNT_SECOND_AI_WINS = 1;
+
+	/**
+	 * The index in each pairing's counts of the number of games that were
+	 * abandoned as draws.
+	 */
+	static final int COUNT_DRAWS = 2;
+
+	/**
+	 * The index in each pairing's counts of the total number of rounds played.
+	 */
+	static final int COUNT_ROUNDS = 3;
+
+	/**
+	 * The number of counts tracked for each pairing.
+	 */
+	static final int NUM_COUNTS = 4;
+
+	/**
+	 * The z-score for the 95% confidence intervals that are reported.
+	 */
+	private static final double Z_95 = 1.96;
+
+	private final List<BuiltInAi> ais;
+	private final int numGames;
+	private final int maxRounds;
+
+	/**
+	 * The number of games that each {@link BuiltInAi} won against each other
+	 * {@link BuiltInAi}, indexed by <code>[winner][loser]</code>.
+	 */
+	private final long[][] wins;
+
+	private long totalDraws;
+	private long totalRounds;
+	private long elapsedNanos;
+
+	/**
+	 * Constructs a new, empty {@link TournamentResults} instance.
+	 *
+	 * @param ais
+	 *            the value to use for {@link #getAis()}
+	 * @param numGames
+	 *            the value to use for {@link #getNumGames()}
+	 * @param maxRounds
+	 *            the value to use for {@link #getMaxRounds()}
+	 */
+	TournamentResults(List<BuiltInAi> ais, int numGames, int maxRounds) {
+		this.ais = new ArrayList<>(ais);
+		this.numGames = numGames;
+		this.maxRounds = maxRounds;
+		this.wins = new long[ais.size()][ais.size()];
+		this.totalDraws = 0;
+		this.totalRounds = 0;
+		this.elapsedNanos = 0;
+	}
+
+	/**
+	 * Records the results of a completed pairing.
+	 *
+	 * @param firstAiIndex
+	 *            the index of the first {@link BuiltInAi} in the pairing
+	 * @param secondAiIndex
+	 *            the index of the second {@link BuiltInAi} in the pairing
+	 * @param counts
+	 *            the results of the pairing, indexed by the
+	 *            <code>COUNT_*</code> constants here
+	 */
+	void record(int firstAiIndex, int secondAiIndex, long[] counts) {
+		wins[firstAiIndex][secondAiIndex] += counts[COUNT_FIRST_AI_WINS];
+		wins[secondAiIndex][firstAiIndex] += counts[COUNT_SECOND_AI_WINS];
+		totalDraws += counts[COUNT_DRAWS];
+		totalRounds += counts[COUNT_ROUNDS];
+	}
+
+	/**
+	 * @param elapsedNanos
+	 *            the value to use for {@link #getElapsedNanos()}
+	 */
+	void setElapsedNanos(long elapsedNanos) {
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * @return the {@link BuiltInAi}s that played in the tournament
+	 */
+	public List<BuiltInAi> getAis() {
+		return ais;
+	}
+
+	/**
+	 * @return the number of games played between each pair of
+	 *         {@link BuiltInAi}s
+	 */
+	public int getNumGames() {
+		return numGames;
+	}
+
+	/**
+	 * @return the maximum number of non-tied rounds in each game
+	 */
+	public int getMaxRounds() {
+		return maxRounds;
+	}
+
+	/**
+	 * @param winner
+	 *            the {@link BuiltInAi} to get the number of wins for
+	 * @param loser
+	 *            the {@link BuiltInAi} to get the number of losses for
+	 * @return the number of games that the specified winner won against the
+	 *         specified loser
+	 */
+	public long getWins(BuiltInAi winner, BuiltInAi loser) {
+		return wins[ais.indexOf(winner)][ais.indexOf(loser)];
+	}
+
+	/**
+	 * @return the total number of games in the tournament that were abandoned
+	 *         as draws, after too many tied rounds
+	 */
+	public long getTotalDraws() {
+		return totalDraws;
+	}
+
+	/**
+	 * @return the total number of rounds played in the tournament, including
+	 *         tied rounds
+	 */
+	public long getTotalRounds() {
+		return totalRounds;
+	}
+
+	/**
+	 * @return the wall clock time (in nanoseconds) that the tournament took to
+	 *         run
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * Prints out the tournament results, as a matrix of the win rates for each
+	 * row's {@link BuiltInAi} against each column's {@link BuiltInAi}, along
+	 * with their 95% confidence intervals.
+	 *
+	 * @param out
+	 *            the {@link PrintStream} to write the results to
+	 * @param resourceBundleLoader
+	 *            the {@link IResourceBundleLoader} to get the
+	 *            {@link BuiltInAi}s' display names from
+	 */
+	public void print(PrintStream out, IResourceBundleLoader resourceBundleLoader) {
+		List<String> names = new ArrayList<>();
+		int nameWidth = 0;
+		for (BuiltInAi ai : ais) {
+			String aiNameKey = "players.ai.name." + ai.getDisplayNameKey();
+			String name = resourceBundleLoader.getBundle().containsKey(aiNameKey)
+					? resourceBundleLoader.getBundle().getString(aiNameKey) : ai.name();
+			names.add(name);
+			nameWidth = Math.max(nameWidth, name.length());
+		}
+		int cellWidth = Math.max(nameWidth, "100.0% (100.0-100.0)".length()) + 2;
+		String rowHeaderFormat = "%-" + (nameWidth + 2) + "s";
+		String cellFormat = "%-" + cellWidth + "s";
+
+		out.println("AI Tournament");
+		out.println("=============");
+		out.println(String.format("%nPlayed %d games between each pair of AIs. Best out of %d wins!", numGames,
+				maxRounds));
+		out.println(String.format("Win rates (row vs. column), with 95%% confidence intervals:%n"));
+
+		out.print(String.format(rowHeaderFormat, ""));
+		for (String name : names)
+			out.print(String.format(cellFormat, name));
+		out.println();
+
+		for (int row = 0; row < ais.size(); row++) {
+			out.print(String.format(rowHeaderFormat, names.get(row)));
+			for (int column = 0; column < ais.size(); column++) {
+				String cell = row == column ? "-" : formatWinRate(wins[row][column], numGames);
+				out.print(String.format(cellFormat, cell));
+			}
+			out.println();
+		}
+
+		if (totalDraws > 0)
+			out.println(String.format("%n%d games were abandoned as draws, after too many tied rounds.", totalDraws));
+
+		double elapsedSeconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+		out.println(String.format("%nPlayed %,d rounds in %.2f seconds (%,.0f rounds/second).", totalRounds,
+				elapsedSeconds, totalRounds / Math.max(elapsedSeconds, Double.MIN_VALUE)));
+		out.flush();
+	}
+
+	/**
+	 * @param successes
+	 *            the number of games won
+	 * @param trials
+	 *            the number of games played
+	 * @return the win rate and its 95% confidence interval, formatted for
+	 *         display
+	 */
+	static String formatWinRate(long successes, long trials) {
+		double[] interval = computeWilsonInterval(successes, trials);
+		return String.format("%.1f%% (%.1f-%.1f)", 100.0 * successes / trials, 100.0 * interval[0],
+				100.0 * interval[1]);
+	}
+
+	/**
+	 * Computes the <a href=
+	 * "https://en.wikipedia.org/wiki/Binomial_proportion_confidence_interval#Wilson_score_interval"
+	 * >Wilson score interval</a> for the specified results. Unlike the simpler
+	 * "normal approximation" interval, this behaves well for win rates near 0%
+	 * or 100%, which are common here.
+	 *
+	 * @param successes
+	 *            the number of games won
+	 * @param trials
+	 *            the number of games played
+	 * @return the lower and upper bounds of the 95% confidence interval for
+	 *         the win rate
+	 */
+	static double[] computeWilsonInterval(long successes, long trials) {
+		if (trials < 1 || successes < 0 || successes > trials)
+			throw new IllegalArgumentException();
+
+		double p = successes / (double) trials;
+		double zSquared = Z_95 * Z_95;
+		double denominator = 1 + zSquared / trials;
+		double center = (p + zSquared / (2 * trials)) / denominator;
+		double halfWidth = Z_95 * Math.sqrt(p * (1 - p) / trials + zSquared / (4.0 * trials * trials)) / denominator;
+
+		return new double[] { Math.max(0.0, center - halfWidth), Math.min(1.0, center + halfWidth) };
+	}
+}
@@ -0,0 +1,216 @@
+package com.justdavis.karl.rpstourney.app.console.tournament;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import com.justdavis.karl.rpstourney.service.api.game.Game;
+import com.justdavis.karl.rpstourney.service.api.game.GameSimulator;
+import com.justdavis.karl.rpstourney.service.api.game.PlayerRole;
+import com.justdavis.karl.rpstourney.service.api.game.Throw;
+import com.justdavis.karl.rpstourney.service.api.game.ai.BuiltInAi;
+import com.justdavis.karl.rpstourney.service.api.game.ai.IPositronicMind;
+import com.justdavis.karl.rpstourney.service.api.game.ai.PositronicBrainAdapter;
+
+/**
+ * <p>
+ * Runs a round-robin tournament between {@link BuiltInAi}s: every pair of them
+ * plays the same number of games against each other. The games are played
+ * in-process via {@link GameSimulator} and {@link IPositronicMind}s, rather
+ * than {@link Game}s, and are spread across all of the available cores using
+ * a {@link ForkJoinPool}.
+ * </p>
+ * <p>
+ * Within each pairing, the AIs alternate between {@link PlayerRole#PLAYER_1}
+ * and {@link PlayerRole#PLAYER_2} from one game to the next.
+ * </p>
+ */
+public final class TournamentRunner {
+	/**
+	 * The (very rough) number of rounds that each {@link ForkJoinTask} should
+	 * play before it's worth splitting into smaller tasks.
+	 */
+	private static final int ROUNDS_PER_TASK = 20000;
+
+	/**
+	 * Games are abandoned as draws once this many rounds per
+	 * {@link Game#getMaxRounds()} have been played, as some pairs of AIs (e.g.
+	 * two that always throw {@link Throw#ROCK}) will otherwise tie forever.
+	 */
+	private static final int MAX_ROUNDS_FACTOR = 100;
+
+	private final List<BuiltInAi> ais;
+	private final int numGames;
+	private final int maxRounds;
+
+	/**
+	 * Constructs a new {@link TournamentRunner} instance.
+	 *
+	 * @param ais
+	 *            the {@link BuiltInAi}s to include in the tournament (at least
+	 *            two)
+	 * @param numGames
+	 *            the number of games to play between each pair of
+	 *            {@link BuiltInAi}s
+	 * @param maxRounds
+	 *            the {@link Game#getMaxRounds()} value to use for each game
+	 */
+	public TournamentRunner(List<BuiltInAi> ais, int numGames, int maxRounds) {
+		if (ais == null || ais.size() < 2)
+			throw new IllegalArgumentException();
+		if (numGames < 1)
+			throw new IllegalArgumentException();
+		Game.validateMaxRoundsValue(maxRounds);
+
+		this.ais = new ArrayList<>(ais);
+		this.numGames = numGames;
+		this.maxRounds = maxRounds;
+	}
+
+	/**
+	 * Runs the tournament, blocking until it's complete.
+	 *
+	 * @return the {@link TournamentResults} for the tournament
+	 */
+	public TournamentResults run() {
+		TournamentResults results = new TournamentResults(ais, numGames, maxRounds);
+
+		List<PairingTask> tasks = new ArrayList<>();
+		for (int i = 0; i < ais.size(); i++)
+			for (int j = i + 1; j < ais.size(); j++)
+				tasks.add(new PairingTask(i, j, 0, numGames));
+
+		long startTime = System.nanoTime();
+		ForkJoinPool pool = new ForkJoinPool();
+		try {
+			pool.invoke(new RecursiveTask<Void>() {
+				private static final long serialVersionUID = 1L;
+
+				/**
+				 * @see java.util.concurrent.RecursiveTask#compute()
+				 */
+				@Override
+				protected Void compute() {
+					invokeAll(tasks);
+					return null;
+				}
+			});
+		} finally {
+			pool.shutdown();
+		}
+		results.setElapsedNanos(System.nanoTime() - startTime);
+
+		for (PairingTask task : tasks)
+			results.record(task.firstAiIndex, task.secondAiIndex, task.join());
+
+		return results;
+	}
+
+	/**
+	 * Plays a single game.
+	 *
+	 * @param player1
+	 *            the {@link BuiltInAi} to play as {@link PlayerRole#PLAYER_1}
+	 * @param player2
+	 *            the {@link BuiltInAi} to play as {@link PlayerRole#PLAYER_2}
+	 * @param simulator
+	 *            the {@link GameSimulator} to play the game with, which will be
+	 *            reset first
+	 * @return the winner's {@link PlayerRole}, or <code>null</code> if the
+	 *         game was abandoned as a draw
+	 */
+	private PlayerRole playGame(BuiltInAi player1, BuiltInAi player2, GameSimulator simulator) {
+		IPositronicMind mind1 = PositronicBrainAdapter.createMind(player1.getPositronicBrain(), PlayerRole.PLAYER_1,
+				maxRounds);
+		IPositronicMind mind2 = PositronicBrainAdapter.createMind(player2.getPositronicBrain(), PlayerRole.PLAYER_2,
+				maxRounds);
+		int roundLimit = maxRounds * MAX_ROUNDS_FACTOR;
+
+		simulator.reset();
+		while (!simulator.isFinished() && simulator.getRoundCount() < roundLimit) {
+			Throw throwForPlayer1 = mind1.nextThrow();
+			Throw throwForPlayer2 = mind2.nextThrow();
+			simulator.playRound(GameSimulator.toThrowCode(throwForPlayer1),
+					GameSimulator.toThrowCode(throwForPlayer2));
+			mind1.observe(throwForPlayer1, throwForPlayer2);
+			mind2.observe(throwForPlayer2, throwForPlayer1);
+		}
+
+		return simulator.getWinner();
+	}
+
+	/**
+	 * A {@link RecursiveTask} that plays a range of the games between two
+	 * {@link BuiltInAi}s, splitting itself up as needed. Its result is a
+	 * <code>long[]</code> of counts, as described in
+	 * {@link TournamentResults#record(int, int, long[])}.
+	 */
+	private final class PairingTask extends RecursiveTask<long[]> {
+		private static final long serialVersionUID = 1L;
+
+		private final int firstAiIndex;
+		private final int secondAiIndex;
+		private final int fromGame;
+		private final int toGame;
+
+		/**
+		 * Constructs a new {@link PairingTask}.
+		 *
+		 * @param firstAiIndex
+		 *            the index of the first {@link BuiltInAi} to play
+		 * @param secondAiIndex
+		 *            the index of the second {@link BuiltInAi} to play
+		 * @param fromGame
+		 *            the index of the first game to play (inclusive)
+		 * @param toGame
+		 *            the index of the last game to play (exclusive)
+		 */
+		PairingTask(int firstAiIndex, int secondAiIndex, int fromGame, int toGame) {
+			this.firstAiIndex = firstAiIndex;
+			this.secondAiIndex = secondAiIndex;
+			this.fromGame = fromGame;
+			this.toGame = toGame;
+		}
+
+		/**
+		 * @see java.util.concurrent.RecursiveTask#compute()
+		 */
+		@Override
+		protected long[] compute() {
+			int gamesPerTask = Math.max(1, ROUNDS_PER_TASK / maxRounds);
+			if (toGame - fromGame > gamesPerTask) {
+				int middle = (fromGame + toGame) >>> 1;
+				PairingTask left = new PairingTask(firstAiIndex, secondAiIndex, fromGame, middle);
+				PairingTask right = new PairingTask(firstAiIndex, secondAiIndex, middle, toGame);
+				left.fork();
+				long[] counts = right.compute();
+				long[] leftCounts = left.join();
+				for (int i = 0; i < counts.length; i++)
+					counts[i] += leftCounts[i];
+				return counts;
+			}
+
+			BuiltInAi firstAi = ais.get(firstAiIndex);
+			BuiltInAi secondAi = ais.get(secondAiIndex);
+			GameSimulator simulator = new GameSimulator(maxRounds);
+			long[] counts = new long[TournamentResults.NUM_COUNTS];
+			for (int game = fromGame; game < toGame; game++) {
+				boolean firstAiIsPlayer1 = game % 2 == 0;
+				PlayerRole winner = firstAiIsPlayer1 ? playGame(firstAi, secondAi, simulator)
+						: playGame(secondAi, firstAi, simulator);
+
+				if (winner == null)
+					counts[TournamentResults.COUNT_DRAWS]++;
+				else if ((winner == PlayerRole.PLAYER_1) == firstAiIsPlayer1)
+					counts[TournamentResults.COUNT_FIRST_AI_WINS]++;
+				else
+					counts[TournamentResults.COUNT_SECOND_AI_WINS]++;
+				counts[TournamentResults.COUNT_ROUNDS] += simulator.getRoundCount();
+			}
+
+			return counts;
+		}
+	}
+}
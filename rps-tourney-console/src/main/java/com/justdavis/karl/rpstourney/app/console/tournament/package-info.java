@@ -0,0 +1,5 @@
+/**
+ * Contains the code for running tournaments between the built-in AIs, which
+ * are used to compare and tune them.
+ */
+package com.justdavis.karl.rpstourney.app.console.tournament;
@@ -41,4 +41,24 @@ public final class ConsoleAppTest {
 		Assert.assertNotEquals(0, appOutput.length());
 		Assert.assertTrue(appOutput.contains("-r"));
 	}
+
+	/**
+	 * Runs the app with the "<code>--tournament</code>" flag.
+	 * 
+	 * @throws UnsupportedEncodingException
+	 *             (should not occur)
+	 */
+	@Test
+	public void tournament() throws UnsupportedEncodingException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		ByteArrayInputStream inputStream = new ByteArrayInputStream(new byte[0]);
+
+		ConsoleApp app = new ConsoleApp();
+		app.runApp(new String[] { "--tournament", "-n", "10", "-r", "3" }, new PrintStream(outputStream),
+				inputStream);
+
+		String appOutput = outputStream.toString("US-ASCII");
+		Assert.assertTrue(appOutput.contains("AI Tournament"));
+		Assert.assertTrue(appOutput.contains("Played 10 games"));
+	}
 }
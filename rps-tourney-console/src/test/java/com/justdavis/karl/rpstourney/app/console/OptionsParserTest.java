@@ -39,6 +39,8 @@ public final class OptionsParserTest {
 		Assert.assertEquals(false, options.isDebugEnabled());
 		Assert.assertEquals(false, options.isHelpRequested());
 		Assert.assertEquals(3, options.getNumRounds());
+		Assert.assertEquals(false, options.isTournament());
+		Assert.assertEquals(1000, options.getNumGames());
 	}
 
 	/**
@@ -83,6 +85,35 @@ public final class OptionsParserTest {
 		Assert.assertEquals(1, options.getNumRounds());
 	}
 
+	/**
+	 * Verifies that the <code>--ai</code> option accepts "Expert" and
+	 * "Master".
+	 */
+	@Test
+	public void expertAndMasterAi() {
+		OptionsParser parser = new OptionsParser();
+		Options options = parser.parseCommandLineOptions(new String[] { "--ai", "expert" });
+		Assert.assertNotNull(options);
+		Assert.assertEquals(BuiltInAi.MARKOV_CHAIN_V1, options.getAiOpponent());
+
+		options = parser.parseCommandLineOptions(new String[] { "--ai", "Master" });
+		Assert.assertNotNull(options);
+		Assert.assertEquals(BuiltInAi.ENSEMBLE_V1, options.getAiOpponent());
+	}
+
+	/**
+	 * Parses a set of arguments for running an AI tournament.
+	 */
+	@Test
+	public void tournamentOptions() {
+		OptionsParser parser = new OptionsParser();
+		Options options = parser.parseCommandLineOptions(new String[] { "--tournament", "--numGames", "42" });
+
+		Assert.assertNotNull(options);
+		Assert.assertEquals(true, options.isTournament());
+		Assert.assertEquals(42, options.getNumGames());
+	}
+
 	/**
 	 * Makes sure that {@link OptionsParser#printUsage(java.io.PrintStream)}
 	 * works as expected.
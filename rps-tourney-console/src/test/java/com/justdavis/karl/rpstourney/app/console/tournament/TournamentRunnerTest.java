@@ -0,0 +1,85 @@
+package com.justdavis.karl.rpstourney.app.console.tournament;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.justdavis.karl.rpstourney.app.console.i18n.DefaultResourceBundleLoader;
+import com.justdavis.karl.rpstourney.service.api.game.ai.BuiltInAi;
+
+/**
+ * Unit tests for {@link TournamentRunner} and {@link TournamentResults}.
+ */
+public final class TournamentRunnerTest {
+	/**
+	 * Runs a tournament between AIs with completely predictable results.
+	 */
+	@Test
+	public void predictableTournament() {
+		TournamentRunner tournament = new TournamentRunner(
+				Arrays.asList(BuiltInAi.ONE_SIDED_DIE_ROCK, BuiltInAi.ONE_SIDED_DIE_PAPER), 101, 5);
+		TournamentResults results = tournament.run();
+
+		Assert.assertEquals(101, results.getWins(BuiltInAi.ONE_SIDED_DIE_PAPER, BuiltInAi.ONE_SIDED_DIE_ROCK));
+		Assert.assertEquals(0, results.getWins(BuiltInAi.ONE_SIDED_DIE_ROCK, BuiltInAi.ONE_SIDED_DIE_PAPER));
+		Assert.assertEquals(0, results.getTotalDraws());
+		Assert.assertEquals(101 * 3, results.getTotalRounds());
+	}
+
+	/**
+	 * Verifies that {@link TournamentRunner} abandons games that would
+	 * otherwise tie forever.
+	 */
+	@Test
+	public void endlessTies() {
+		TournamentRunner tournament = new TournamentRunner(
+				Arrays.asList(BuiltInAi.ONE_SIDED_DIE_ROCK, BuiltInAi.ONE_SIDED_DIE_ROCK), 10, 3);
+		TournamentResults results = tournament.run();
+
+		Assert.assertEquals(10, results.getTotalDraws());
+		Assert.assertEquals(0, results.getWins(BuiltInAi.ONE_SIDED_DIE_ROCK, BuiltInAi.ONE_SIDED_DIE_ROCK));
+	}
+
+	/**
+	 * Runs a tournament between all of the active {@link BuiltInAi}s, and
+	 * verifies that the results can be printed.
+	 * 
+	 * @throws UnsupportedEncodingException
+	 *             (should not occur)
+	 */
+	@Test
+	public void activeAis() throws UnsupportedEncodingException {
+		TournamentRunner tournament = new TournamentRunner(BuiltInAi.active(), 200, 3);
+		TournamentResults results = tournament.run();
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		results.print(new PrintStream(outputStream), new DefaultResourceBundleLoader(Locale.ENGLISH));
+		String output = outputStream.toString("US-ASCII");
+		Assert.assertTrue(output.contains("Easy"));
+		Assert.assertTrue(output.contains("Master"));
+
+		// The ensemble should have no trouble with the simplest strategies.
+		Assert.assertTrue(results.getWins(BuiltInAi.ENSEMBLE_V1,
+				BuiltInAi.WIN_STAY_LOSE_SHIFT_V1) > results.getWins(BuiltInAi.WIN_STAY_LOSE_SHIFT_V1,
+						BuiltInAi.ENSEMBLE_V1));
+	}
+
+	/**
+	 * Tests {@link TournamentResults#computeWilsonInterval(long, long)}.
+	 */
+	@Test
+	public void wilsonInterval() {
+		double[] interval = TournamentResults.computeWilsonInterval(50, 100);
+		Assert.assertEquals(0.404, interval[0], 0.001);
+		Assert.assertEquals(0.596, interval[1], 0.001);
+
+		interval = TournamentResults.computeWilsonInterval(100, 100);
+		Assert.assertEquals(0.963, interval[0], 0.001);
+		Assert.assertEquals(1.0, interval[1], 0.001);
+	}
+}
@@ -33,6 +33,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
 import org.hibernate.validator.constraints.SafeHtml;
@@ -52,7 +54,8 @@ import com.justdavis.karl.rpstourney.service.api.jaxb.InstantJaxbAdapter;
  * </p>
  * <p>
  * This class supports JPA. The JPA SQL-specific data (e.g. column names) is
- * specified in the <code>META-INF/orm.xml</code> file.
+ * specified in the <code>META-INF/orm.xml</code> file. {@link Account}s and
+ * their {@link #getRoles()} are kept in Hibernate's second-level cache.
  * </p>
  * <p>
  * This class supports JAX-B.
@@ -65,6 +68,7 @@ import com.justdavis.karl.rpstourney.service.api.jaxb.InstantJaxbAdapter;
 @XmlRootElement
 @Entity
 @Table(name = "`Accounts`")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @JsonAutoDetect(fieldVisibility = Visibility.ANY, getterVisibility = Visibility.NONE, isGetterVisibility = Visibility.NONE, setterVisibility = Visibility.NONE)
 public class Account implements Principal, Serializable {
 	private static final long serialVersionUID = 3016213188245722817L;
@@ -77,7 +81,7 @@ public class Account implements Principal, Serializable {
 	@Id
 	@Column(name = "`id`", nullable = false, updatable = false)
 	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "Accounts_id_seq")
-	@SequenceGenerator(name = "Accounts_id_seq", sequenceName = "`accounts_id_seq`", allocationSize = 1)
+	@SequenceGenerator(name = "Accounts_id_seq", sequenceName = "`accounts_id_seq`", allocationSize = 50)
 	private long id;
 
 	@Column(name = "`createdTimestamp`", nullable = false, updatable = false)
@@ -98,6 +102,7 @@ public class Account implements Principal, Serializable {
 	@CollectionTable(name = "`AccountRoles`", joinColumns = @JoinColumn(name = "`accountId`") )
 	@Column(name = "`role`")
 	@Enumerated(EnumType.STRING)
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 	private Set<SecurityRole> roles;
 
 	/**
@@ -0,0 +1,75 @@
+package com.justdavis.karl.rpstourney.service.api.auth.guest;
+
+import java.time.Instant;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import com.justdavis.karl.rpstourney.service.api.auth.Account;
+import com.justdavis.karl.rpstourney.service.api.auth.AuthToken;
+import com.justdavis.karl.rpstourney.service.api.game.Player;
+
+/**
+ * <p>
+ * Each {@link PooledGuestAccount} instance marks an {@link Account} that was
+ * created ahead of time (along with its {@link GuestLoginIdentity},
+ * {@link AuthToken}, and {@link Player}), and that hasn't yet been handed out
+ * to a new guest. Handing one out is just a matter of deleting its
+ * {@link PooledGuestAccount}: whichever transaction manages to do so has
+ * claimed that {@link Account}.
+ * </p>
+ * <p>
+ * This class supports JPA.
+ * </p>
+ */
+@Entity
+@Table(name = "`PooledGuestAccounts`")
+public class PooledGuestAccount {
+	@Id
+	@Column(name = "`accountId`", nullable = false, updatable = false)
+	private long accountId;
+
+	@Column(name = "`createdTimestamp`", nullable = false, updatable = false)
+	private Instant createdTimestamp;
+
+	/**
+	 * Constructs a new {@link PooledGuestAccount} instance.
+	 *
+	 * @param account
+	 *            the {@link Account} (which must already have been persisted)
+	 *            to mark as pooled
+	 */
+	public PooledGuestAccount(Account account) {
+		if (account == null)
+			throw new IllegalArgumentException();
+		if (!account.hasId())
+			throw new IllegalArgumentException();
+
+		this.accountId = account.getId();
+		this.createdTimestamp = Instant.now();
+	}
+
+	/**
+	 * <strong>Not intended for use:</strong> This constructor is only provided
+	 * to comply with the JPA spec.
+	 */
+	@Deprecated
+	PooledGuestAccount() {
+	}
+
+	/**
+	 * @return the {@link Account#getId()} of the pooled {@link Account}
+	 */
+	public long getAccountId() {
+		return accountId;
+	}
+
+	/**
+	 * @return the date-time that the {@link Account} was added to the pool
+	 */
+	public Instant getCreatedTimestamp() {
+		return createdTimestamp;
+	}
+}
@@ -19,11 +19,11 @@ import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
 import javax.persistence.OrderBy;
 import javax.persistence.OrderColumn;
+import javax.persistence.PostLoad;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
-
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.justdavis.karl.misc.exceptions.BadCodeMonkeyException;
 import com.justdavis.karl.rpstourney.service.api.auth.Account;
@@ -55,7 +55,16 @@ class AbstractGame {
 	@XmlElement
 	protected int maxRounds;
 
-	@OneToMany(mappedBy = "game", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+	/*
+	 * Design note: The rounds are lazy, as plenty of operations (e.g.
+	 * listings, or Game.setMaxRounds(...)) never need them. Callers that do
+	 * need them, possibly after the persistence context has closed, should
+	 * load the Game with one of the Game.GRAPH_* entity graphs that includes
+	 * them. The Players are left eager: their equals(...) methods are
+	 * class-based, and so don't play nicely with lazy-loading proxies.
+	 */
+
+	@OneToMany(mappedBy = "game", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
 	@OrderBy("roundIndex ASC")
 	@XmlElementWrapper(name = "rounds")
 	@XmlElement(name = "round")
@@ -73,6 +82,31 @@ class AbstractGame {
 	@XmlElement
 	protected Player player2;
 
+	/*
+	 * Design note: The following fields cache the results of the various
+	 * score/timestamp calculations, which would otherwise require a walk
+	 * through every one of the (possibly up to Game.MAX_MAX_ROUNDS) rounds,
+	 * every time they're needed. They only ever reflect completed rounds, as
+	 * those never change once completed. They're marked transient, as they're
+	 * not part of the state to persist or marshal: they're rebuilt on demand,
+	 * e.g. after a JPA load or JAXB/Jackson unmarshalling.
+	 */
+
+	private transient boolean roundStatsValid;
+	private transient int completedScoreForPlayer1;
+	private transient int completedScoreForPlayer2;
+	private transient Instant completedLastThrowTimestamp;
+
+	/*
+	 * Design note: These hold the scores as they were unmarshalled (by either
+	 * JAXB or Jackson), if at all. They're only used when rounds() doesn't
+	 * include all of the game's rounds (see includesAllRounds()), as the
+	 * scores can't be rebuilt from the rounds in that case.
+	 */
+
+	private transient Integer unmarshalledScoreForPlayer1;
+	private transient Integer unmarshalledScoreForPlayer2;
+
 	/**
 	 * Constructs a new {@link AbstractGame} instance.
 	 * 
@@ -112,6 +146,7 @@ class AbstractGame {
 		this.rounds = rounds;
 		this.player1 = player1;
 		this.player2 = player2;
+		this.roundStatsValid = false;
 	}
 
 	/**
@@ -166,7 +201,19 @@ class AbstractGame {
 	 *         {@link #getState()} is {@value State#WAITING_FOR_PLAYER}
 	 */
 	public List<GameRound> getRounds() {
-		return Collections.unmodifiableList(rounds);
+		return Collections.unmodifiableList(rounds());
+	}
+
+	/**
+	 * Subclasses that don't always keep their {@link GameRound}s in
+	 * {@link #rounds} (e.g. {@link Game}, once compacted) must override this.
+	 * 
+	 * @return the {@link List} of {@link GameRound}s that are part of this
+	 *         {@link AbstractGame}, which should be used in place of direct
+	 *         reads of {@link #rounds}
+	 */
+	protected List<GameRound> rounds() {
+		return rounds;
 	}
 
 	/**
@@ -183,6 +230,7 @@ class AbstractGame {
 		if (state == State.FINISHED)
 			return true;
 
+		List<GameRound> rounds = rounds();
 		int currentRoundIndex = rounds.size() - 1;
 		GameRound currentRound = rounds.get(currentRoundIndex);
 
@@ -220,20 +268,48 @@ class AbstractGame {
 	 *         made
 	 */
 	public Instant getLastThrowTimestamp() {
+		ensureRoundStatsValid();
+
 		Instant lastThrowTime = createdTimestamp;
-		for (GameRound round : rounds) {
-			Instant throwForPlayer1Timestamp = round.getThrowForPlayer1Timestamp();
-			if (throwForPlayer1Timestamp != null && lastThrowTime.compareTo(throwForPlayer1Timestamp) < 1)
-				lastThrowTime = throwForPlayer1Timestamp;
-
-			Instant throwForPlayer2Timestamp = round.getThrowForPlayer2Timestamp();
-			if (throwForPlayer2Timestamp != null && lastThrowTime.compareTo(throwForPlayer2Timestamp) < 1)
-				lastThrowTime = throwForPlayer2Timestamp;
+		if (completedLastThrowTimestamp != null && lastThrowTime.compareTo(completedLastThrowTimestamp) < 1)
+			lastThrowTime = completedLastThrowTimestamp;
+
+		/*
+		 * Only the last round can be incomplete, and the cached stats don't
+		 * cover incomplete rounds, so check that one here.
+		 */
+		List<GameRound> rounds = rounds();
+		if (!rounds.isEmpty()) {
+			GameRound lastRound = rounds.get(rounds.size() - 1);
+			if (lastRound.getResult() == null)
+				lastThrowTime = latestThrowTimestamp(lastThrowTime, lastRound);
 		}
 
 		return lastThrowTime;
 	}
 
+	/**
+	 * @param lastThrowTime
+	 *            the latest throw timestamp found so far
+	 * @param round
+	 *            the {@link GameRound} to check the throw timestamps of
+	 * @return the latest of the specified timestamp and the specified
+	 *         {@link GameRound}'s throw timestamps
+	 */
+	private static Instant latestThrowTimestamp(Instant lastThrowTime, GameRound round) {
+		Instant throwForPlayer1Timestamp = round.getThrowForPlayer1Timestamp();
+		if (throwForPlayer1Timestamp != null
+				&& (lastThrowTime == null || lastThrowTime.compareTo(throwForPlayer1Timestamp) < 1))
+			lastThrowTime = throwForPlayer1Timestamp;
+
+		Instant throwForPlayer2Timestamp = round.getThrowForPlayer2Timestamp();
+		if (throwForPlayer2Timestamp != null
+				&& (lastThrowTime == null || lastThrowTime.compareTo(throwForPlayer2Timestamp) < 1))
+			lastThrowTime = throwForPlayer2Timestamp;
+
+		return lastThrowTime;
+	}
+
 	/**
 	 * @return the number of {@link GameRound}s in {@link #getRounds()} that
 	 *         {@link #getPlayer1()} has won
@@ -241,9 +317,8 @@ class AbstractGame {
 	@XmlElement
 	@JsonProperty
 	public int getScoreForPlayer1() {
-		Result playerWonResult = Result.PLAYER_1_WON;
-		int playerWins = countRoundsWithResult(playerWonResult);
-		return playerWins;
+		ensureRoundStatsValid();
+		return completedScoreForPlayer1;
 	}
 
 	/**
@@ -253,32 +328,153 @@ class AbstractGame {
 	@XmlElement
 	@JsonProperty
 	public int getScoreForPlayer2() {
-		Result playerWonResult = Result.PLAYER_2_WON;
-		int playerWins = countRoundsWithResult(playerWonResult);
-		return playerWins;
+		ensureRoundStatsValid();
+		return completedScoreForPlayer2;
 	}
 
 	/**
-	 * @param result
-	 *            the {@link GameRound#getResult()} value to match
-	 * @return the number of {@link GameRound}s in {@link #getRounds()} with the
-	 *         specified {@link GameRound#getResult()} value
+	 * <strong>Not intended for use:</strong> This method is only provided so
+	 * that JAXB and Jackson can unmarshal {@link #getScoreForPlayer1()}. The
+	 * unmarshalled value will be ignored if {@link #includesAllRounds()}.
+	 * 
+	 * @param scoreForPlayer1
+	 *            the unmarshalled value for {@link #getScoreForPlayer1()}
 	 */
-	private int countRoundsWithResult(Result result) {
-		int playerWins = 0;
-		for (GameRound round : rounds) {
-			/*
-			 * If this round isn't complete, the game is still in-progress and
-			 * we can stop counting early.
-			 */
-			if (round.getResult() == null)
-				break;
+	@JsonProperty
+	@SuppressWarnings("unused")
+	private void setScoreForPlayer1(int scoreForPlayer1) {
+		this.unmarshalledScoreForPlayer1 = scoreForPlayer1;
+		this.roundStatsValid = false;
+	}
 
-			if (round.getResult() == result)
-				playerWins++;
+	/**
+	 * <strong>Not intended for use:</strong> This method is only provided so
+	 * that JAXB and Jackson can unmarshal {@link #getScoreForPlayer2()}. The
+	 * unmarshalled value will be ignored if {@link #includesAllRounds()}.
+	 * 
+	 * @param scoreForPlayer2
+	 *            the unmarshalled value for {@link #getScoreForPlayer2()}
+	 */
+	@JsonProperty
+	@SuppressWarnings("unused")
+	private void setScoreForPlayer2(int scoreForPlayer2) {
+		this.unmarshalledScoreForPlayer2 = scoreForPlayer2;
+		this.roundStatsValid = false;
+	}
+
+	/**
+	 * Subclasses that may not include all of their game's {@link GameRound}s
+	 * (e.g. {@link GameView}) must override this.
+	 * 
+	 * @return <code>true</code> if {@link #rounds()} includes all of the
+	 *         game's {@link GameRound}s, so that its scores can be rebuilt from
+	 *         them, or <code>false</code> if the unmarshalled
+	 *         {@link #getScoreForPlayer1()} and {@link #getScoreForPlayer2()}
+	 *         values must be used instead
+	 */
+	protected boolean includesAllRounds() {
+		return true;
+	}
+
+	/**
+	 * Rebuilds the cached round stats (scores, etc.) from {@link #rounds()}, if
+	 * they're not already valid. This is an O(n) operation, but should only be
+	 * needed once per instance. If {@link #rounds()} doesn't include all of the
+	 * game's rounds, the unmarshalled scores are used instead, and the last
+	 * throw timestamp is rebuilt from just the rounds that are included.
+	 */
+	private void ensureRoundStatsValid() {
+		if (roundStatsValid)
+			return;
+
+		int player1Wins = 0;
+		int player2Wins = 0;
+		Instant lastThrowTime = null;
+		List<GameRound> rounds = rounds();
+		if (rounds != null) {
+			for (GameRound round : rounds) {
+				Result result = round.getResult();
+
+				/*
+				 * If this round isn't complete, the game is still in-progress
+				 * and we can stop counting early.
+				 */
+				if (result == null)
+					break;
+
+				if (result == Result.PLAYER_1_WON)
+					player1Wins++;
+				else if (result == Result.PLAYER_2_WON)
+					player2Wins++;
+				lastThrowTime = latestThrowTimestamp(lastThrowTime, round);
+			}
+		}
+
+		if (!includesAllRounds() && unmarshalledScoreForPlayer1 != null && unmarshalledScoreForPlayer2 != null) {
+			player1Wins = unmarshalledScoreForPlayer1;
+			player2Wins = unmarshalledScoreForPlayer2;
 		}
 
-		return playerWins;
+		this.completedScoreForPlayer1 = player1Wins;
+		this.completedScoreForPlayer2 = player2Wins;
+		this.completedLastThrowTimestamp = lastThrowTime;
+		this.roundStatsValid = true;
+	}
+
+	/**
+	 * Updates the cached round stats to account for the specified
+	 * newly-completed {@link GameRound}. Must be called exactly once for each
+	 * {@link GameRound} as it is completed.
+	 * 
+	 * @param completedRound
+	 *            the {@link GameRound} that was just completed, which must be
+	 *            the last one in {@link #getRounds()}
+	 */
+	protected void roundCompleted(GameRound completedRound) {
+		Result result = completedRound.getResult();
+		if (result == null)
+			throw new IllegalArgumentException();
+
+		/*
+		 * If the stats haven't been built yet, there's nothing to update: the
+		 * eventual rebuild will include this round.
+		 */
+		if (!roundStatsValid)
+			return;
+
+		if (result == Result.PLAYER_1_WON)
+			completedScoreForPlayer1++;
+		else if (result == Result.PLAYER_2_WON)
+			completedScoreForPlayer2++;
+		completedLastThrowTimestamp = latestThrowTimestamp(completedLastThrowTimestamp, completedRound);
+	}
+
+	/**
+	 * Copies the cached round stats from the specified {@link AbstractGame},
+	 * which must have exactly the same completed {@link GameRound}s as this
+	 * one.
+	 * 
+	 * @param source
+	 *            the {@link AbstractGame} to copy the cached round stats from
+	 */
+	protected void copyRoundStats(AbstractGame source) {
+		source.ensureRoundStatsValid();
+
+		this.completedScoreForPlayer1 = source.completedScoreForPlayer1;
+		this.completedScoreForPlayer2 = source.completedScoreForPlayer2;
+		this.completedLastThrowTimestamp = source.completedLastThrowTimestamp;
+		this.roundStatsValid = true;
+	}
+
+	/**
+	 * A JPA lifecycle callback, which ensures that the cached round stats are
+	 * rebuilt after this instance is loaded or refreshed from the database.
+	 * Note that the rebuild is deferred until the stats are next needed, as
+	 * {@link #rounds} may not yet be fully initialized when this is called.
+	 */
+	@PostLoad
+	void invalidateRoundStats() {
+		this.roundStatsValid = false;
 	}
 
 	/**
@@ -308,7 +504,7 @@ class AbstractGame {
 		int player2Wins = getScoreForPlayer2();
 
 		// Is the game still in progress?
-		int numWinsNeeded = (maxRounds / 2) + 1;
+		int numWinsNeeded = Game.numWinsNeeded(maxRounds);
 		if (player1Wins < numWinsNeeded && player2Wins < numWinsNeeded)
 			return null;
 
@@ -498,7 +694,7 @@ class AbstractGame {
 		builder.append(", player2=");
 		builder.append(player2);
 		builder.append(", rounds=");
-		builder.append(rounds);
+		builder.append(rounds());
 		builder.append("]");
 		return builder.toString();
 	}
@@ -3,12 +3,21 @@ package com.justdavis.karl.rpstourney.service.api.game;
 import java.security.SecureRandom;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.regex.Pattern;
 
+import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedEntityGraphs;
+import javax.persistence.NamedSubgraph;
 import javax.persistence.Table;
+import javax.persistence.Version;
 
 import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Type;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -16,6 +25,7 @@ import com.justdavis.karl.misc.exceptions.BadCodeMonkeyException;
 import com.justdavis.karl.rpstourney.service.api.auth.Account;
 import com.justdavis.karl.rpstourney.service.api.game.GameConflictException.ConflictType;
 import com.justdavis.karl.rpstourney.service.api.game.GameRound.Result;
+import com.justdavis.karl.rpstourney.service.api.hibernate.GameRoundHistoryUserType;
 
 /**
  * <p>
@@ -49,9 +59,42 @@ import com.justdavis.karl.rpstourney.service.api.game.GameRound.Result;
 @Entity
 @Table(name = "`Games`")
 @DynamicUpdate(true)
+@NamedEntityGraphs({
+		@NamedEntityGraph(name = Game.GRAPH_SUMMARY, attributeNodes = { @NamedAttributeNode("player1"),
+				@NamedAttributeNode("player2") }),
+		@NamedEntityGraph(name = Game.GRAPH_PLAY, attributeNodes = { @NamedAttributeNode("player1"),
+				@NamedAttributeNode("player2"), @NamedAttributeNode("rounds") }),
+		@NamedEntityGraph(name = Game.GRAPH_FULL, attributeNodes = {
+				@NamedAttributeNode(value = "player1", subgraph = "player"),
+				@NamedAttributeNode(value = "player2", subgraph = "player"),
+				@NamedAttributeNode("rounds") }, subgraphs = @NamedSubgraph(name = "player", attributeNodes = {
+						@NamedAttributeNode("humanAccount") })) })
 public class Game extends AbstractGame {
 	private static final Logger LOGGER = LoggerFactory.getLogger(Game.class);
 
+	/**
+	 * The name of the JPA entity graph that fetches just the {@link Game} and
+	 * its {@link Player}s, but none of its {@link GameRound}s. This is enough
+	 * for anything that only needs to check who's playing, or to work with
+	 * the {@link GameSummary} columns.
+	 */
+	public static final String GRAPH_SUMMARY = "Game.summary";
+
+	/**
+	 * The name of the JPA entity graph that fetches the {@link Game}, its
+	 * {@link Player}s, and its {@link GameRound}s: everything needed to make
+	 * moves in it.
+	 */
+	public static final String GRAPH_PLAY = "Game.play";
+
+	/**
+	 * The name of the JPA entity graph that fetches everything in
+	 * {@link #GRAPH_PLAY}, plus the {@link Player#getHumanAccount()}s, all in
+	 * one go. This is everything that will be needed to build and return a
+	 * {@link GameView}, even after the persistence context has been closed.
+	 */
+	public static final String GRAPH_FULL = "Game.full";
+
 	/**
 	 * The maximum allowed value for {@link #getMaxRounds()}.
 	 */
@@ -69,6 +112,56 @@ public class Game extends AbstractGame {
 
 	private static final SecureRandom RANDOM = new SecureRandom();
 
+	/*
+	 * Design note: Once a Game is FINISHED, its rounds will never change
+	 * again, and storing each of them as a separate GameRound row is quite
+	 * wasteful. Instead, compactRounds() moves them into this field, which is
+	 * stored as a single column, and AbstractGame.rounds is left empty. The
+	 * GameRounds are then only decoded from it when/if they're actually
+	 * needed.
+	 */
+
+	@Column(name = "`roundHistory`")
+	@Type(type = GameRoundHistoryUserType.TYPE_NAME)
+	private GameRoundHistory roundHistory;
+
+	private transient GameRoundHistory decodedRoundHistory;
+	private transient List<GameRound> decodedRounds;
+
+	/*
+	 * Design note: These columns duplicate stats that can otherwise only be
+	 * computed from the rounds, so that listings of many Games (see
+	 * GameSummary) never have to load any GameRounds. They're refreshed by
+	 * updateSummary() at the end of every method here that can change them,
+	 * so they're always written in the same transaction as the change itself.
+	 */
+
+	@Column(name = "`score1`", nullable = false)
+	private int summaryScoreForPlayer1;
+
+	@Column(name = "`score2`", nullable = false)
+	private int summaryScoreForPlayer2;
+
+	@Column(name = "`roundCount`", nullable = false)
+	private int summaryRoundCount;
+
+	@Column(name = "`lastThrowTimestamp`", nullable = false)
+	private Instant summaryLastThrowTimestamp;
+
+	@Column(name = "`winnerId`")
+	private Long summaryWinnerId;
+
+	/*
+	 * Design note: This enables JPA's optimistic locking for Games: saving a
+	 * stale copy of a Game will fail, rather than silently overwriting
+	 * whatever another transaction changed in the meantime. The service is
+	 * expected to retry such failures against a fresh copy.
+	 */
+
+	@Version
+	@Column(name = "`version`", nullable = false)
+	private long version;
+
 	/**
 	 * Constructs a new {@link Game} instance.
 	 * 
@@ -78,6 +171,7 @@ public class Game extends AbstractGame {
 	public Game(Player player1) {
 		super(generateRandomId(), Instant.now(), State.WAITING_FOR_PLAYER, MAX_ROUNDS_DEFAULT,
 				new ArrayList<GameRound>(), player1, null);
+		updateSummary();
 	}
 
 	/**
@@ -113,6 +207,78 @@ public class Game extends AbstractGame {
 		return id.toString();
 	}
 
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.api.game.AbstractGame#rounds()
+	 */
+	@Override
+	protected List<GameRound> rounds() {
+		if (roundHistory == null)
+			return rounds;
+
+		// Only decode the history once (per loaded value).
+		if (decodedRoundHistory != roundHistory) {
+			decodedRounds = Collections.unmodifiableList(roundHistory.decode(this));
+			decodedRoundHistory = roundHistory;
+		}
+
+		return decodedRounds;
+	}
+
+	/**
+	 * @return <code>true</code> if {@link #compactRounds()} has been applied to
+	 *         this {@link Game}, <code>false</code> if it has not
+	 */
+	public boolean isRoundsCompacted() {
+		return roundHistory != null;
+	}
+
+	/**
+	 * Brings the summary columns (see {@link GameSummary}) up to date with
+	 * this {@link Game}'s current state. Must be called after any change that
+	 * might affect them.
+	 */
+	private void updateSummary() {
+		this.summaryScoreForPlayer1 = getScoreForPlayer1();
+		this.summaryScoreForPlayer2 = getScoreForPlayer2();
+		this.summaryRoundCount = roundHistory != null ? roundHistory.getRoundCount() : rounds.size();
+		this.summaryLastThrowTimestamp = getLastThrowTimestamp();
+
+		// Players that haven't been persisted yet can't be referenced.
+		Player winner = checkForWinner();
+		this.summaryWinnerId = winner != null && winner.hasId() ? winner.getId() : null;
+	}
+
+	/**
+	 * <p>
+	 * Moves all of this {@link Game}'s {@link GameRound}s into a single, compact
+	 * {@link GameRoundHistory}, which is much cheaper to store and load than
+	 * the individual {@link GameRound}s. {@link #getRounds()} and the other
+	 * methods here will continue to behave exactly as before.
+	 * </p>
+	 * <p>
+	 * If the {@link Game} is persistent, the individual {@link GameRound}
+	 * records will be deleted (as orphans) when it is next saved.
+	 * </p>
+	 * 
+	 * @throws IllegalStateException
+	 *             An {@link IllegalStateException} will be thrown if
+	 *             {@link #getState()} is not {@link State#FINISHED}, as only
+	 *             those {@link Game}s' rounds can no longer change.
+	 */
+	public void compactRounds() {
+		if (state != State.FINISHED)
+			throw new IllegalStateException();
+		if (roundHistory != null)
+			return;
+
+		// The existing GameRound instances are still valid; keep using them.
+		List<GameRound> completedRounds = Collections.unmodifiableList(new ArrayList<>(rounds));
+		this.roundHistory = GameRoundHistory.encode(completedRounds);
+		this.decodedRoundHistory = roundHistory;
+		this.decodedRounds = completedRounds;
+		this.rounds.clear();
+	}
+
 	/**
 	 * <p>
 	 * Sets a new value for {@link #getMaxRounds()}.
@@ -159,6 +325,16 @@ public class Game extends AbstractGame {
 		// It passes muster. Just return.
 	}
 
+	/**
+	 * @param maxRounds
+	 *            the {@link #getMaxRounds()} value for a game
+	 * @return the number of (non-tied) rounds that a player must win in order
+	 *         to win a game with the specified {@link #getMaxRounds()}
+	 */
+	static int numWinsNeeded(int maxRounds) {
+		return (maxRounds / 2) + 1;
+	}
+
 	/**
 	 * <p>
 	 * Before calling {@link #submitThrow(int, Player, Throw)} each
@@ -229,6 +405,8 @@ public class Game extends AbstractGame {
 				// Mark the game as finished.
 				state = State.FINISHED;
 			}
+
+			updateSummary();
 		}
 	}
 
@@ -258,6 +436,30 @@ public class Game extends AbstractGame {
 	 *             </ul>
 	 */
 	public void submitThrow(int roundIndex, Player player, Throw throwForPlayer) {
+		submitThrow(roundIndex, player, throwForPlayer, Instant.now());
+	}
+
+	/**
+	 * Submits the specified {@link Throw} for the specified {@link Player}, to
+	 * the current {@link GameRound}, as of the specified time. This is intended
+	 * for replaying {@link Throw}s that were already accepted earlier; see
+	 * {@link #submitThrow(int, Player, Throw)} otherwise.
+	 * 
+	 * @param roundIndex
+	 *            the {@link GameRound#getRoundIndex()} of the current round
+	 *            (used to verify that gameplay is correctly synchronized)
+	 * @param player
+	 *            the {@link Player} to submit the {@link Throw} for
+	 * @param throwForPlayer
+	 *            the {@link Throw} to submit for the {@link Player}
+	 * @param throwTimestamp
+	 *            the date-time that the {@link Throw} was made at
+	 * @throws GameConflictException
+	 *             See {@link #submitThrow(int, Player, Throw)}.
+	 */
+	public void submitThrow(int roundIndex, Player player, Throw throwForPlayer, Instant throwTimestamp) {
+		if (throwTimestamp == null)
+			throw new IllegalArgumentException();
 		if (state == State.WAITING_FOR_PLAYER)
 			throw new GameConflictException(ConflictType.THROW_BEFORE_START);
 		if (state == State.FINISHED)
@@ -285,12 +487,16 @@ public class Game extends AbstractGame {
 
 		// Add the Throw to the round.
 		if (player.equals(player1))
-			currentRound.setThrowForPlayer1(throwForPlayer);
+			currentRound.setThrowForPlayer1(throwForPlayer, throwTimestamp);
 		else if (player.equals(player2))
-			currentRound.setThrowForPlayer2(throwForPlayer);
+			currentRound.setThrowForPlayer2(throwForPlayer, throwTimestamp);
 		else
 			throw new IllegalArgumentException();
 
+		// Keep the cached scores, etc. up to date.
+		if (currentRound.getResult() != null)
+			roundCompleted(currentRound);
+
 		// Has the first throw been made?
 		if (state == State.WAITING_FOR_FIRST_THROW) {
 			state = State.STARTED;
@@ -306,6 +512,8 @@ public class Game extends AbstractGame {
 		 */
 		if (!isRoundPrepared())
 			prepareRound();
+
+		updateSummary();
 	}
 
 	/**
@@ -340,6 +548,7 @@ public class Game extends AbstractGame {
 
 		this.player2 = player2;
 		player2Joined();
+		updateSummary();
 	}
 
 	/**
@@ -360,6 +569,7 @@ public class Game extends AbstractGame {
 			throw new IllegalArgumentException();
 
 		this.player1 = player1;
+		updateSummary();
 	}
 
 	/**
@@ -384,6 +594,7 @@ public class Game extends AbstractGame {
 			throw new IllegalArgumentException();
 
 		this.player2 = player2;
+		updateSummary();
 	}
 
 	/**
@@ -24,6 +24,8 @@ import org.hibernate.annotations.DynamicUpdate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.justdavis.karl.misc.exceptions.BadCodeMonkeyException;
 import com.justdavis.karl.rpstourney.service.api.game.AbstractGame.GamePk;
 import com.justdavis.karl.rpstourney.service.api.game.GameConflictException.ConflictType;
@@ -70,9 +72,16 @@ public class GameRound {
 	@XmlElement
 	private int adjustedRoundIndex;
 
+	/*
+	 * Design note: The throws' setters are marked @JsonIgnore, so that Jackson
+	 * sets these fields directly when converting back from JSON, as those
+	 * setters reject the nulls of not-yet-thrown moves.
+	 */
+
 	@Column(name = "`throwForPlayer1`")
 	@Enumerated(EnumType.STRING)
 	@XmlElement
+	@JsonProperty
 	private Throw throwForPlayer1;
 
 	@Column(name = "`throwForPlayer1Timestamp`", nullable = true, updatable = true)
@@ -83,6 +92,7 @@ public class GameRound {
 	@Column(name = "`throwForPlayer2`")
 	@Enumerated(EnumType.STRING)
 	@XmlElement
+	@JsonProperty
 	private Throw throwForPlayer2;
 
 	@Column(name = "`throwForPlayer2Timestamp`", nullable = true, updatable = true)
@@ -182,13 +192,14 @@ public class GameRound {
 	 *             {@link GameRound}.
 	 * @see Game#submitThrow(int, Player, Throw)
 	 */
+	@JsonIgnore
 	void setThrowForPlayer1(Throw throwForPlayer1) {
 		setThrowForPlayer1(throwForPlayer1, Instant.now());
 	}
 
 	/**
 	 * Note: this method may only be called once, and should only be called by
-	 * {@link GameView}.
+	 * {@link Game} or {@link GameView}.
 	 * 
 	 * @param throwForPlayer1
 	 *            the value to use for {@link #getThrowForPlayer1()}
@@ -242,13 +253,14 @@ public class GameRound {
 	 *             {@link GameRound}.
 	 * @see Game#submitThrow(int, Player, Throw)
 	 */
+	@JsonIgnore
 	void setThrowForPlayer2(Throw throwForPlayer2) {
 		setThrowForPlayer2(throwForPlayer2, Instant.now());
 	}
 
 	/**
 	 * Note: this method may only be called once, and should only be called by
-	 * {@link GameView}.
+	 * {@link Game} or {@link GameView}.
 	 * 
 	 * @param throwForPlayer2
 	 *            the value to use for {@link #getThrowForPlayer2()}
@@ -299,6 +311,19 @@ public class GameRound {
 		if (throwForPlayer1 == null || throwForPlayer2 == null)
 			return null;
 
+		return determineResult(throwForPlayer1, throwForPlayer2);
+	}
+
+	/**
+	 * @param throwForPlayer1
+	 *            the (non-<code>null</code>) {@link Throw} made by player 1
+	 * @param throwForPlayer2
+	 *            the (non-<code>null</code>) {@link Throw} made by player 2
+	 * @return the {@link Result} of a {@link GameRound} with the specified
+	 *         {@link Throw}s
+	 * @see GameSimulator
+	 */
+	static Result determineResult(Throw throwForPlayer1, Throw throwForPlayer2) {
 		/*
 		 * Eventually, I may want to abstract out this logic to allow for custom
 		 * Throw types. For right now, though, this works.
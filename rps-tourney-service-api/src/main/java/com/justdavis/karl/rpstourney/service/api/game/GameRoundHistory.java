@@ -0,0 +1,592 @@
+package com.justdavis.karl.rpstourney.service.api.game;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.justdavis.karl.rpstourney.service.api.hibernate.GameRoundHistoryUserType;
+
+/**
+ * <p>
+ * An immutable, compact encoding of a {@link Game}'s {@link GameRound}s. This
+ * is used to store the history of {@link State#FINISHED} {@link Game}s, which
+ * can otherwise require up to {@link Game#MAX_MAX_ROUNDS} separate
+ * {@link GameRound} DB rows (and objects).
+ * </p>
+ * <p>
+ * The encoded format is as follows:
+ * </p>
+ * <ol>
+ * <li>A single format version byte, {@link #FORMAT_VERSION}.</li>
+ * <li>The number of rounds, as an unsigned varint.</li>
+ * <li>The {@link Throw}s for each round, packed at 2 bits per {@link Throw} (so
+ * two rounds per byte), with player 1's {@link Throw} in the lower bits. A
+ * value of <code>0</code> indicates that no {@link Throw} was made; otherwise
+ * the value is {@link Throw#ordinal()} + 1.</li>
+ * <li>The timestamp for each {@link Throw} that was made, in round order and
+ * then player order, as unsigned varints. Each value is the zig-zag encoded
+ * difference (in nanoseconds) from the previous timestamp, plus one. A value of
+ * <code>0</code> indicates a <code>null</code> timestamp.</li>
+ * </ol>
+ * <p>
+ * The {@link GameRound#getAdjustedRoundIndex()} values aren't stored, as they
+ * can be recomputed from the {@link GameRound#getResult()}s.
+ * </p>
+ *
+ * @see GameRoundHistoryUserType
+ */
+public final class GameRoundHistory {
+	/**
+	 * The current (and only) encoding format version.
+	 */
+	static final byte FORMAT_VERSION = 1;
+
+	private static final int BITS_PER_THROW = 2;
+	private static final int THROW_MASK = (1 << BITS_PER_THROW) - 1;
+	private static final int ROUNDS_PER_BYTE = 8 / (2 * BITS_PER_THROW);
+	private static final Throw[] THROWS = Throw.values();
+	private static final long NANOS_PER_SECOND = 1000000000L;
+
+	private final byte[] encoded;
+	private final int roundCount;
+
+	/**
+	 * Constructs a new {@link GameRoundHistory} instance.
+	 *
+	 * @param encoded
+	 *            the encoded form of this {@link GameRoundHistory}, which
+	 *            must have already been validated
+	 * @param roundCount
+	 *            the value to use for {@link #getRoundCount()}
+	 */
+	private GameRoundHistory(byte[] encoded, int roundCount) {
+		this.encoded = encoded;
+		this.roundCount = roundCount;
+	}
+
+	/**
+	 * @param rounds
+	 *            the {@link GameRound}s to encode, in order
+	 * @return a new {@link GameRoundHistory} for the specified
+	 *         {@link GameRound}s
+	 */
+	public static GameRoundHistory encode(List<GameRound> rounds) {
+		Builder builder = new Builder();
+		for (GameRound round : rounds)
+			builder.addRound(round.getThrowForPlayer1(), round.getThrowForPlayer1Timestamp(),
+					round.getThrowForPlayer2(), round.getThrowForPlayer2Timestamp());
+		return builder.build();
+	}
+
+	/**
+	 * @param encoded
+	 *            the encoded form of the {@link GameRoundHistory} to return, as
+	 *            produced by {@link #toBytes()}
+	 * @return the {@link GameRoundHistory} represented by the specified bytes
+	 * @throws IllegalArgumentException
+	 *             An {@link IllegalArgumentException} will be thrown if the
+	 *             specified bytes aren't a valid encoding.
+	 */
+	public static GameRoundHistory fromBytes(byte[] encoded) {
+		if (encoded == null)
+			throw new IllegalArgumentException();
+
+		byte[] copy = Arrays.copyOf(encoded, encoded.length);
+		Reader reader = new Reader(copy);
+		int roundCount = reader.readHeader();
+
+		/*
+		 * Walk the whole thing once here, so that corrupt data is caught now,
+		 * rather than whenever the rounds are eventually decoded.
+		 */
+		reader.skipThrows(roundCount);
+		for (int i = 0; i < roundCount; i++) {
+			for (int player = 0; player < 2; player++)
+				if (reader.readThrow(i, player) != null)
+					reader.readVarLong();
+		}
+		if (reader.position != copy.length)
+			throw new IllegalArgumentException("Trailing data in encoded history.");
+
+		return new GameRoundHistory(copy, roundCount);
+	}
+
+	/**
+	 * @return the encoded form of this {@link GameRoundHistory}, which can be
+	 *         passed to {@link #fromBytes(byte[])}
+	 */
+	public byte[] toBytes() {
+		return Arrays.copyOf(encoded, encoded.length);
+	}
+
+	/**
+	 * @return the number of {@link GameRound}s in this
+	 *         {@link GameRoundHistory}
+	 */
+	public int getRoundCount() {
+		return roundCount;
+	}
+
+	/**
+	 * @param game
+	 *            the {@link Game} that the decoded {@link GameRound}s will be
+	 *            part of
+	 * @return new {@link GameRound} instances for each of the rounds in this
+	 *         {@link GameRoundHistory}, in order
+	 */
+	List<GameRound> decode(Game game) {
+		List<GameRound> rounds = new ArrayList<>(roundCount);
+		Reader reader = new Reader(encoded);
+		reader.readHeader();
+		int throwsStart = reader.position;
+		reader.skipThrows(roundCount);
+
+		int adjustedRoundIndex = 0;
+		long previousNanos = 0L;
+		for (int i = 0; i < roundCount; i++) {
+			GameRound round = new GameRound(game, i, adjustedRoundIndex);
+
+			Throw throwForPlayer1 = readThrow(encoded, throwsStart, i, 0);
+			if (throwForPlayer1 != null) {
+				long timestampCode = reader.readVarLong();
+				Instant timestamp = null;
+				if (timestampCode != 0L) {
+					previousNanos += zigZagDecode(timestampCode - 1);
+					timestamp = fromEpochNanos(previousNanos);
+				}
+				round.setThrowForPlayer1(throwForPlayer1, timestamp);
+			}
+
+			Throw throwForPlayer2 = readThrow(encoded, throwsStart, i, 1);
+			if (throwForPlayer2 != null) {
+				long timestampCode = reader.readVarLong();
+				Instant timestamp = null;
+				if (timestampCode != 0L) {
+					previousNanos += zigZagDecode(timestampCode - 1);
+					timestamp = fromEpochNanos(previousNanos);
+				}
+				round.setThrowForPlayer2(throwForPlayer2, timestamp);
+			}
+
+			rounds.add(round);
+			if (round.getResult() != null && round.getResult() != GameRound.Result.TIED)
+				adjustedRoundIndex++;
+		}
+
+		return rounds;
+	}
+
+	/**
+	 * Computes the same scores, etc. that a {@link Game} with these rounds
+	 * would report, without having to decode any {@link GameRound}s.
+	 *
+	 * @return the {@link Stats} for the rounds in this {@link GameRoundHistory}
+	 */
+	public Stats computeStats() {
+		Reader reader = new Reader(encoded);
+		reader.readHeader();
+		int throwsStart = reader.position;
+		reader.skipThrows(roundCount);
+
+		int scoreForPlayer1 = 0;
+		int scoreForPlayer2 = 0;
+		Instant lastThrowTimestamp = null;
+		long previousNanos = 0L;
+		for (int i = 0; i < roundCount; i++) {
+			Throw[] roundThrows = new Throw[2];
+			for (int player = 0; player < 2; player++) {
+				roundThrows[player] = readThrow(encoded, throwsStart, i, player);
+				if (roundThrows[player] == null)
+					continue;
+
+				long timestampCode = reader.readVarLong();
+				if (timestampCode != 0L) {
+					previousNanos += zigZagDecode(timestampCode - 1);
+					Instant timestamp = fromEpochNanos(previousNanos);
+					if (lastThrowTimestamp == null || lastThrowTimestamp.compareTo(timestamp) < 0)
+						lastThrowTimestamp = timestamp;
+				}
+			}
+
+			if (roundThrows[0] == null || roundThrows[1] == null)
+				continue;
+			GameRound.Result result = GameRound.determineResult(roundThrows[0], roundThrows[1]);
+			if (result == GameRound.Result.PLAYER_1_WON)
+				scoreForPlayer1++;
+			else if (result == GameRound.Result.PLAYER_2_WON)
+				scoreForPlayer2++;
+		}
+
+		return new Stats(scoreForPlayer1, scoreForPlayer2, roundCount, lastThrowTimestamp);
+	}
+
+	/**
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(encoded);
+	}
+
+	/**
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		GameRoundHistory other = (GameRoundHistory) obj;
+		return Arrays.equals(encoded, other.encoded);
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("GameRoundHistory [roundCount=");
+		builder.append(roundCount);
+		builder.append(", encodedLength=");
+		builder.append(encoded.length);
+		builder.append("]");
+		return builder.toString();
+	}
+
+	/**
+	 * @param encoded
+	 *            the encoded {@link GameRoundHistory} bytes
+	 * @param throwsStart
+	 *            the offset of the packed {@link Throw}s in the encoded bytes
+	 * @param roundIndex
+	 *            the index of the round to read the {@link Throw} for
+	 * @param player
+	 *            <code>0</code> for player 1, <code>1</code> for player 2
+	 * @return the specified {@link Throw}, or <code>null</code> if none was
+	 *         made
+	 */
+	private static Throw readThrow(byte[] encoded, int throwsStart, int roundIndex, int player) {
+		int packed = encoded[throwsStart + (roundIndex / ROUNDS_PER_BYTE)] & 0xFF;
+		int shift = ((roundIndex % ROUNDS_PER_BYTE) * 2 + player) * BITS_PER_THROW;
+		int code = (packed >>> shift) & THROW_MASK;
+		return code == 0 ? null : THROWS[code - 1];
+	}
+
+	/**
+	 * @param instant
+	 *            the {@link Instant} to convert
+	 * @return the number of nanoseconds between the epoch and the specified
+	 *         {@link Instant}
+	 * @throws IllegalArgumentException
+	 *             An {@link IllegalArgumentException} will be thrown if the
+	 *             {@link Instant} is too far from the epoch to be represented
+	 *             (roughly, outside of the years 1678 to 2261).
+	 */
+	private static long toEpochNanos(Instant instant) {
+		try {
+			return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+		} catch (ArithmeticException e) {
+			throw new IllegalArgumentException("Timestamp out of range: " + instant, e);
+		}
+	}
+
+	/**
+	 * @param epochNanos
+	 *            the number of nanoseconds since the epoch
+	 * @return the corresponding {@link Instant}
+	 */
+	private static Instant fromEpochNanos(long epochNanos) {
+		return Instant.ofEpochSecond(Math.floorDiv(epochNanos, NANOS_PER_SECOND),
+				Math.floorMod(epochNanos, NANOS_PER_SECOND));
+	}
+
+	/**
+	 * @param value
+	 *            the signed value to encode
+	 * @return the zig-zag encoding of the specified value, such that values
+	 *         close to zero (positive or negative) become small unsigned values
+	 */
+	private static long zigZagEncode(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	/**
+	 * @param value
+	 *            the zig-zag encoded value to decode
+	 * @return the signed value that was encoded by
+	 *         {@link #zigZagEncode(long)}
+	 */
+	private static long zigZagDecode(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * @param out
+	 *            the {@link ByteArrayOutputStream} to write to
+	 * @param value
+	 *            the value to write, treated as unsigned, in 7-bit groups
+	 */
+	private static void writeVarLong(ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7FL) != 0L) {
+			out.write((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	/**
+	 * A builder for {@link GameRoundHistory} instances, which allows them to
+	 * be assembled one round at a time.
+	 */
+	public static final class Builder {
+		private final ByteArrayOutputStream packedThrows;
+		private final ByteArrayOutputStream timestamps;
+		private int roundCount;
+		private int pendingByte;
+		private long previousNanos;
+
+		/**
+		 * Constructs a new, empty {@link Builder} instance.
+		 */
+		public Builder() {
+			this.packedThrows = new ByteArrayOutputStream();
+			this.timestamps = new ByteArrayOutputStream();
+			this.roundCount = 0;
+			this.pendingByte = 0;
+			this.previousNanos = 0L;
+		}
+
+		/**
+		 * Appends the next round to the {@link GameRoundHistory} being built.
+		 *
+		 * @param throwForPlayer1
+		 *            the {@link GameRound#getThrowForPlayer1()} value, or
+		 *            <code>null</code>
+		 * @param throwForPlayer1Timestamp
+		 *            the {@link GameRound#getThrowForPlayer1Timestamp()} value,
+		 *            or <code>null</code>
+		 * @param throwForPlayer2
+		 *            the {@link GameRound#getThrowForPlayer2()} value, or
+		 *            <code>null</code>
+		 * @param throwForPlayer2Timestamp
+		 *            the {@link GameRound#getThrowForPlayer2Timestamp()} value,
+		 *            or <code>null</code>
+		 * @return this {@link Builder}
+		 */
+		public Builder addRound(Throw throwForPlayer1, Instant throwForPlayer1Timestamp, Throw throwForPlayer2,
+				Instant throwForPlayer2Timestamp) {
+			if (roundCount == Integer.MAX_VALUE)
+				throw new IllegalStateException();
+
+			int shift = (roundCount % ROUNDS_PER_BYTE) * 2 * BITS_PER_THROW;
+			pendingByte |= encodeThrow(throwForPlayer1, throwForPlayer1Timestamp) << shift;
+			pendingByte |= encodeThrow(throwForPlayer2, throwForPlayer2Timestamp) << (shift + BITS_PER_THROW);
+			roundCount++;
+			if (roundCount % ROUNDS_PER_BYTE == 0) {
+				packedThrows.write(pendingByte);
+				pendingByte = 0;
+			}
+
+			return this;
+		}
+
+		/**
+		 * @param throwToEncode
+		 *            the {@link Throw} to encode, or <code>null</code>
+		 * @param timestamp
+		 *            the timestamp of the {@link Throw}, which will be written
+		 *            out to {@link #timestamps} if the {@link Throw} is not
+		 *            <code>null</code>
+		 * @return the 2-bit code for the specified {@link Throw}
+		 */
+		private int encodeThrow(Throw throwToEncode, Instant timestamp) {
+			if (throwToEncode == null) {
+				if (timestamp != null)
+					throw new IllegalArgumentException();
+				return 0;
+			}
+
+			if (timestamp == null) {
+				writeVarLong(timestamps, 0L);
+			} else {
+				long nanos = toEpochNanos(timestamp);
+				long delta;
+				try {
+					delta = Math.subtractExact(nanos, previousNanos);
+				} catch (ArithmeticException e) {
+					throw new IllegalArgumentException("Timestamp out of range: " + timestamp, e);
+				}
+				// The +1 below would overflow for this one value.
+				if (delta == Long.MIN_VALUE)
+					throw new IllegalArgumentException("Timestamp out of range: " + timestamp);
+
+				writeVarLong(timestamps, zigZagEncode(delta) + 1);
+				previousNanos = nanos;
+			}
+
+			return throwToEncode.ordinal() + 1;
+		}
+
+		/**
+		 * @return a new {@link GameRoundHistory} containing all of the rounds
+		 *         that have been added to this {@link Builder}
+		 */
+		public GameRoundHistory build() {
+			ByteArrayOutputStream out = new ByteArrayOutputStream(
+					6 + packedThrows.size() + 1 + timestamps.size());
+			out.write(FORMAT_VERSION);
+			writeVarLong(out, roundCount);
+			byte[] packedThrowsBytes = packedThrows.toByteArray();
+			out.write(packedThrowsBytes, 0, packedThrowsBytes.length);
+			if (roundCount % ROUNDS_PER_BYTE != 0)
+				out.write(pendingByte);
+			byte[] timestampsBytes = timestamps.toByteArray();
+			out.write(timestampsBytes, 0, timestampsBytes.length);
+
+			return new GameRoundHistory(out.toByteArray(), roundCount);
+		}
+	}
+
+	/**
+	 * The scores, etc. for a set of rounds, as computed by
+	 * {@link GameRoundHistory#computeStats()}.
+	 */
+	public static final class Stats {
+		private final int scoreForPlayer1;
+		private final int scoreForPlayer2;
+		private final int roundCount;
+		private final Instant lastThrowTimestamp;
+
+		/**
+		 * Constructs a new {@link Stats} instance.
+		 *
+		 * @param scoreForPlayer1
+		 *            the value to use for {@link #getScoreForPlayer1()}
+		 * @param scoreForPlayer2
+		 *            the value to use for {@link #getScoreForPlayer2()}
+		 * @param roundCount
+		 *            the value to use for {@link #getRoundCount()}
+		 * @param lastThrowTimestamp
+		 *            the value to use for {@link #getLastThrowTimestamp()}
+		 */
+		private Stats(int scoreForPlayer1, int scoreForPlayer2, int roundCount, Instant lastThrowTimestamp) {
+			this.scoreForPlayer1 = scoreForPlayer1;
+			this.scoreForPlayer2 = scoreForPlayer2;
+			this.roundCount = roundCount;
+			this.lastThrowTimestamp = lastThrowTimestamp;
+		}
+
+		/**
+		 * @return the number of rounds won by player 1
+		 */
+		public int getScoreForPlayer1() {
+			return scoreForPlayer1;
+		}
+
+		/**
+		 * @return the number of rounds won by player 2
+		 */
+		public int getScoreForPlayer2() {
+			return scoreForPlayer2;
+		}
+
+		/**
+		 * @return the number of rounds, including tied and incomplete ones
+		 */
+		public int getRoundCount() {
+			return roundCount;
+		}
+
+		/**
+		 * @return the latest timestamp of any of the {@link Throw}s made, or
+		 *         <code>null</code> if there were none
+		 */
+		public Instant getLastThrowTimestamp() {
+			return lastThrowTimestamp;
+		}
+	}
+
+	/**
+	 * Sequentially reads the fields from an encoded {@link GameRoundHistory}.
+	 */
+	private static final class Reader {
+		private final byte[] encoded;
+		private int position;
+		private int throwsStart;
+
+		/**
+		 * Constructs a new {@link Reader} instance.
+		 *
+		 * @param encoded
+		 *            the encoded {@link GameRoundHistory} bytes to read
+		 */
+		Reader(byte[] encoded) {
+			this.encoded = encoded;
+			this.position = 0;
+			this.throwsStart = -1;
+		}
+
+		/**
+		 * @return the number of rounds in the encoded {@link GameRoundHistory}
+		 */
+		int readHeader() {
+			if (encoded.length < 1 || encoded[0] != FORMAT_VERSION)
+				throw new IllegalArgumentException("Unsupported history format.");
+			position = 1;
+
+			long roundCount = readVarLong();
+			if (roundCount < 0 || roundCount > Integer.MAX_VALUE)
+				throw new IllegalArgumentException("Invalid round count: " + roundCount);
+			return (int) roundCount;
+		}
+
+		/**
+		 * Advances past the packed {@link Throw}s.
+		 *
+		 * @param roundCount
+		 *            the number of rounds in the encoded
+		 *            {@link GameRoundHistory}
+		 */
+		void skipThrows(int roundCount) {
+			int throwsLength = (roundCount + ROUNDS_PER_BYTE - 1) / ROUNDS_PER_BYTE;
+			if (encoded.length - position < throwsLength)
+				throw new IllegalArgumentException("Truncated history.");
+			throwsStart = position;
+			position += throwsLength;
+		}
+
+		/**
+		 * @param roundIndex
+		 *            the index of the round to read the {@link Throw} for
+		 * @param player
+		 *            <code>0</code> for player 1, <code>1</code> for player 2
+		 * @return the specified {@link Throw}, or <code>null</code> if none
+		 *         was made
+		 */
+		Throw readThrow(int roundIndex, int player) {
+			return GameRoundHistory.readThrow(encoded, throwsStart, roundIndex, player);
+		}
+
+		/**
+		 * @return the next unsigned varint value
+		 */
+		long readVarLong() {
+			long value = 0L;
+			for (int shift = 0; shift < 64; shift += 7) {
+				if (position >= encoded.length)
+					throw new IllegalArgumentException("Truncated history.");
+				byte next = encoded[position++];
+				value |= (long) (next & 0x7F) << shift;
+				if ((next & 0x80) == 0)
+					return value;
+			}
+			throw new IllegalArgumentException("Malformed varint.");
+		}
+	}
+}
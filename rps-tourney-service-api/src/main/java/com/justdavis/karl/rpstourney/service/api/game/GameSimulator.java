@@ -0,0 +1,316 @@
+package com.justdavis.karl.rpstourney.service.api.game;
+
+import com.justdavis.karl.rpstourney.service.api.game.GameRound.Result;
+
+/**
+ * <p>
+ * A lightweight, allocation-free simulation of a {@link Game}, which plays
+ * rounds using <code>byte</code> {@link Throw} codes and <code>int</code>
+ * counters, rather than {@link GameRound}s, {@link Player}s, timestamps, etc.
+ * It's intended for use in AI evaluation, tournaments, load tests, and other
+ * places where many millions of rounds need to be played quickly.
+ * </p>
+ * <p>
+ * The rules applied here are exactly the same as those applied by
+ * {@link Game}: {@link GameRound#getResult()} decides each round, tied rounds
+ * don't advance {@link GameRound#getAdjustedRoundIndex()}, and the game ends as
+ * soon as either player has won a majority of {@link Game#getMaxRounds()}.
+ * </p>
+ * <p>
+ * <strong>Warning:</strong> This class is not at all immutable or thread-safe.
+ * </p>
+ */
+public final class GameSimulator {
+	/**
+	 * The <code>byte</code> code for {@link Throw#ROCK}.
+	 */
+	public static final byte ROCK = (byte) 0;
+
+	/**
+	 * The <code>byte</code> code for {@link Throw#PAPER}.
+	 */
+	public static final byte PAPER = (byte) 1;
+
+	/**
+	 * The <code>byte</code> code for {@link Throw#SCISSORS}.
+	 */
+	public static final byte SCISSORS = (byte) 2;
+
+	/**
+	 * A round result code, equivalent to {@link Result#TIED}.
+	 */
+	public static final int RESULT_TIED = 0;
+
+	/**
+	 * A round result code, equivalent to {@link Result#PLAYER_1_WON}.
+	 */
+	public static final int RESULT_PLAYER_1_WON = 1;
+
+	/**
+	 * A round result code, equivalent to {@link Result#PLAYER_2_WON}.
+	 */
+	public static final int RESULT_PLAYER_2_WON = 2;
+
+	private static final Throw[] THROWS = Throw.values();
+	private static final int NUM_THROWS = THROWS.length;
+
+	/**
+	 * The result codes for each possible pair of {@link Throw}s, indexed by
+	 * <code>(player1ThrowCode * NUM_THROWS) + player2ThrowCode</code>. This is
+	 * derived directly from {@link GameRound}'s rules, so the two can't
+	 * disagree.
+	 */
+	private static final byte[] RESULTS = buildResultsTable();
+
+	private final int maxRounds;
+	private final int numWinsNeeded;
+	private int roundCount;
+	private int adjustedRoundIndex;
+	private int scoreForPlayer1;
+	private int scoreForPlayer2;
+
+	/**
+	 * Constructs a new {@link GameSimulator} instance, for a game that hasn't
+	 * yet had any rounds played.
+	 *
+	 * @param maxRounds
+	 *            the value to use for {@link #getMaxRounds()}, which must be
+	 *            valid for {@link Game#setMaxRounds(int)}
+	 */
+	public GameSimulator(int maxRounds) {
+		Game.validateMaxRoundsValue(maxRounds);
+
+		this.maxRounds = maxRounds;
+		this.numWinsNeeded = Game.numWinsNeeded(maxRounds);
+		reset();
+	}
+
+	/**
+	 * @return the results table for {@link #RESULTS}
+	 */
+	private static byte[] buildResultsTable() {
+		byte[] results = new byte[NUM_THROWS * NUM_THROWS];
+		for (Throw throwForPlayer1 : THROWS) {
+			for (Throw throwForPlayer2 : THROWS) {
+				Result result = GameRound.determineResult(throwForPlayer1, throwForPlayer2);
+				results[throwForPlayer1.ordinal() * NUM_THROWS + throwForPlayer2.ordinal()] = (byte) toResultCode(
+						result);
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * @param throwToEncode
+	 *            the {@link Throw} to get the code for
+	 * @return the <code>byte</code> code for the specified {@link Throw}, as
+	 *         used by this class
+	 */
+	public static byte toThrowCode(Throw throwToEncode) {
+		return (byte) throwToEncode.ordinal();
+	}
+
+	/**
+	 * @param throwCode
+	 *            the <code>byte</code> code for the {@link Throw} to return
+	 * @return the {@link Throw} for the specified <code>byte</code> code
+	 * @throws IllegalArgumentException
+	 *             An {@link IllegalArgumentException} will be thrown if the
+	 *             specified code is not valid.
+	 */
+	public static Throw toThrow(byte throwCode) {
+		if (throwCode < 0 || throwCode >= NUM_THROWS)
+			throw new IllegalArgumentException("Invalid throw code: " + throwCode);
+		return THROWS[throwCode];
+	}
+
+	/**
+	 * @param result
+	 *            the {@link Result} to get the code for
+	 * @return the result code (e.g. {@link #RESULT_TIED}) for the specified
+	 *         {@link Result}
+	 */
+	public static int toResultCode(Result result) {
+		switch (result) {
+		case TIED:
+			return RESULT_TIED;
+		case PLAYER_1_WON:
+			return RESULT_PLAYER_1_WON;
+		case PLAYER_2_WON:
+			return RESULT_PLAYER_2_WON;
+		default:
+			throw new IllegalArgumentException();
+		}
+	}
+
+	/**
+	 * @param throwForPlayer1
+	 *            the <code>byte</code> code for player 1's {@link Throw}
+	 * @param throwForPlayer2
+	 *            the <code>byte</code> code for player 2's {@link Throw}
+	 * @return the result code (e.g. {@link #RESULT_TIED}) for a round with the
+	 *         specified {@link Throw}s
+	 * @throws IllegalArgumentException
+	 *             An {@link IllegalArgumentException} will be thrown if either
+	 *             of the specified codes is not valid.
+	 */
+	public static int determineResult(byte throwForPlayer1, byte throwForPlayer2) {
+		if (throwForPlayer1 < 0 || throwForPlayer1 >= NUM_THROWS)
+			throw new IllegalArgumentException("Invalid throw code: " + throwForPlayer1);
+		if (throwForPlayer2 < 0 || throwForPlayer2 >= NUM_THROWS)
+			throw new IllegalArgumentException("Invalid throw code: " + throwForPlayer2);
+
+		return RESULTS[throwForPlayer1 * NUM_THROWS + throwForPlayer2];
+	}
+
+	/**
+	 * Resets this {@link GameSimulator} to its initial state, so that it can
+	 * be reused for another game with the same {@link #getMaxRounds()}.
+	 */
+	public void reset() {
+		this.roundCount = 0;
+		this.adjustedRoundIndex = 0;
+		this.scoreForPlayer1 = 0;
+		this.scoreForPlayer2 = 0;
+	}
+
+	/**
+	 * Plays the next round of the simulated game.
+	 *
+	 * @param throwForPlayer1
+	 *            the <code>byte</code> code for player 1's {@link Throw}
+	 * @param throwForPlayer2
+	 *            the <code>byte</code> code for player 2's {@link Throw}
+	 * @return the result code (e.g. {@link #RESULT_TIED}) for the round
+	 * @throws IllegalStateException
+	 *             An {@link IllegalStateException} will be thrown if
+	 *             {@link #isFinished()} is already <code>true</code>.
+	 */
+	public int playRound(byte throwForPlayer1, byte throwForPlayer2) {
+		if (isFinished())
+			throw new IllegalStateException();
+
+		int result = determineResult(throwForPlayer1, throwForPlayer2);
+		roundCount++;
+		if (result == RESULT_PLAYER_1_WON) {
+			scoreForPlayer1++;
+			adjustedRoundIndex++;
+		} else if (result == RESULT_PLAYER_2_WON) {
+			scoreForPlayer2++;
+			adjustedRoundIndex++;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Plays rounds using the specified <code>byte</code> {@link Throw} codes,
+	 * until either the game is finished or the specified throws run out.
+	 *
+	 * @param throwsForPlayer1
+	 *            the <code>byte</code> codes for player 1's {@link Throw}s
+	 * @param throwsForPlayer2
+	 *            the <code>byte</code> codes for player 2's {@link Throw}s
+	 * @param offset
+	 *            the index of the first {@link Throw} code to use from each
+	 *            array
+	 * @param length
+	 *            the maximum number of rounds to play
+	 * @return the number of rounds actually played
+	 */
+	public int play(byte[] throwsForPlayer1, byte[] throwsForPlayer2, int offset, int length) {
+		if (offset < 0 || length < 0)
+			throw new IllegalArgumentException();
+		if (offset + length > throwsForPlayer1.length || offset + length > throwsForPlayer2.length)
+			throw new IllegalArgumentException();
+
+		int roundsPlayed = 0;
+		while (roundsPlayed < length && !isFinished()) {
+			playRound(throwsForPlayer1[offset + roundsPlayed], throwsForPlayer2[offset + roundsPlayed]);
+			roundsPlayed++;
+		}
+
+		return roundsPlayed;
+	}
+
+	/**
+	 * @return the maximum number of non-tied rounds, as in
+	 *         {@link Game#getMaxRounds()}
+	 */
+	public int getMaxRounds() {
+		return maxRounds;
+	}
+
+	/**
+	 * @return the number of rounds played so far, including tied rounds
+	 */
+	public int getRoundCount() {
+		return roundCount;
+	}
+
+	/**
+	 * @return the {@link GameRound#getAdjustedRoundIndex()} that the next
+	 *         round would have, which is also the number of non-tied rounds
+	 *         played so far
+	 */
+	public int getAdjustedRoundIndex() {
+		return adjustedRoundIndex;
+	}
+
+	/**
+	 * @return the number of rounds that player 1 has won, as in
+	 *         {@link Game#getScoreForPlayer1()}
+	 */
+	public int getScoreForPlayer1() {
+		return scoreForPlayer1;
+	}
+
+	/**
+	 * @return the number of rounds that player 2 has won, as in
+	 *         {@link Game#getScoreForPlayer2()}
+	 */
+	public int getScoreForPlayer2() {
+		return scoreForPlayer2;
+	}
+
+	/**
+	 * @return <code>true</code> if one of the players has won the simulated
+	 *         game, in which case a {@link Game} would be
+	 *         {@link State#FINISHED}, or <code>false</code> if it is still in
+	 *         progress
+	 */
+	public boolean isFinished() {
+		return scoreForPlayer1 >= numWinsNeeded || scoreForPlayer2 >= numWinsNeeded;
+	}
+
+	/**
+	 * @return the {@link PlayerRole} of the player that won the simulated
+	 *         game, or <code>null</code> if {@link #isFinished()} is
+	 *         <code>false</code>
+	 */
+	public PlayerRole getWinner() {
+		if (scoreForPlayer1 >= numWinsNeeded)
+			return PlayerRole.PLAYER_1;
+		if (scoreForPlayer2 >= numWinsNeeded)
+			return PlayerRole.PLAYER_2;
+		return null;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("GameSimulator [maxRounds=");
+		builder.append(maxRounds);
+		builder.append(", roundCount=");
+		builder.append(roundCount);
+		builder.append(", scoreForPlayer1=");
+		builder.append(scoreForPlayer1);
+		builder.append(", scoreForPlayer2=");
+		builder.append(scoreForPlayer2);
+		builder.append("]");
+		return builder.toString();
+	}
+}
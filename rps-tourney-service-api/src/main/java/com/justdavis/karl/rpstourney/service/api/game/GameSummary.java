@@ -0,0 +1,394 @@
+package com.justdavis.karl.rpstourney.service.api.game;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.justdavis.karl.rpstourney.service.api.auth.Account;
+import com.justdavis.karl.rpstourney.service.api.jaxb.InstantJaxbAdapter;
+
+/**
+ * <p>
+ * An immutable, point-in-time summary of a {@link Game}: its {@link Player}s,
+ * {@link State}, scores, etc., but none of its {@link GameRound}s.
+ * </p>
+ * <p>
+ * These are used when listing {@link Game}s, where loading every round of
+ * every {@link Game} (as a {@link GameView} would require) is far too
+ * expensive. On the service side, they're read straight from the summary
+ * columns that {@link Game} maintains, without touching the rounds at all.
+ * </p>
+ */
+@XmlRootElement
+@XmlAccessorType(XmlAccessType.FIELD)
+@JsonAutoDetect(fieldVisibility = Visibility.ANY, getterVisibility = Visibility.NONE, isGetterVisibility = Visibility.NONE, setterVisibility = Visibility.NONE)
+public final class GameSummary {
+	@XmlElement
+	private final String id;
+
+	@XmlElement
+	@XmlJavaTypeAdapter(InstantJaxbAdapter.class)
+	private final Instant createdTimestamp;
+
+	@XmlElement
+	private final State state;
+
+	@XmlElement
+	private final int maxRounds;
+
+	@XmlElement
+	private final Player player1;
+
+	@XmlElement
+	private final Player player2;
+
+	@XmlElement
+	private final int scoreForPlayer1;
+
+	@XmlElement
+	private final int scoreForPlayer2;
+
+	@XmlElement
+	private final int roundCount;
+
+	@XmlElement
+	@XmlJavaTypeAdapter(InstantJaxbAdapter.class)
+	private final Instant lastThrowTimestamp;
+
+	@XmlElement
+	private final Long winnerId;
+
+	/**
+	 * Constructs a new {@link GameSummary} instance. (This constructor is also
+	 * used by the service's summary query, so its parameters must match the
+	 * columns selected there.)
+	 *
+	 * @param id
+	 *            the value to use for {@link #getId()}
+	 * @param createdTimestamp
+	 *            the value to use for {@link #getCreatedTimestamp()}
+	 * @param state
+	 *            the value to use for {@link #getState()}
+	 * @param maxRounds
+	 *            the value to use for {@link #getMaxRounds()}
+	 * @param player1
+	 *            the value to use for {@link #getPlayer1()}
+	 * @param player2
+	 *            the value to use for {@link #getPlayer2()}
+	 * @param scoreForPlayer1
+	 *            the value to use for {@link #getScoreForPlayer1()}
+	 * @param scoreForPlayer2
+	 *            the value to use for {@link #getScoreForPlayer2()}
+	 * @param roundCount
+	 *            the value to use for {@link #getRoundCount()}
+	 * @param lastThrowTimestamp
+	 *            the value to use for {@link #getLastThrowTimestamp()}
+	 * @param winnerId
+	 *            the {@link Player#getId()} of the {@link Player} to use for
+	 *            {@link #getWinner()}, or <code>null</code>
+	 */
+	public GameSummary(String id, Instant createdTimestamp, State state, int maxRounds, Player player1,
+			Player player2, int scoreForPlayer1, int scoreForPlayer2, int roundCount, Instant lastThrowTimestamp,
+			Long winnerId) {
+		if (id == null)
+			throw new IllegalArgumentException();
+		if (createdTimestamp == null)
+			throw new IllegalArgumentException();
+		if (state == null)
+			throw new IllegalArgumentException();
+		if (player1 == null)
+			throw new IllegalArgumentException();
+		if (lastThrowTimestamp == null)
+			throw new IllegalArgumentException();
+
+		this.id = id;
+		this.createdTimestamp = createdTimestamp;
+		this.state = state;
+		this.maxRounds = maxRounds;
+		this.player1 = player1;
+		this.player2 = player2;
+		this.scoreForPlayer1 = scoreForPlayer1;
+		this.scoreForPlayer2 = scoreForPlayer2;
+		this.roundCount = roundCount;
+		this.lastThrowTimestamp = lastThrowTimestamp;
+		this.winnerId = winnerId;
+	}
+
+	/**
+	 * Constructs a new {@link GameSummary} instance.
+	 *
+	 * @param game
+	 *            the {@link Game} to summarize
+	 */
+	public GameSummary(Game game) {
+		this((AbstractGame) game);
+	}
+
+	/**
+	 * Constructs a new {@link GameSummary} instance.
+	 *
+	 * @param game
+	 *            the {@link Game} or {@link GameView} to summarize
+	 */
+	GameSummary(AbstractGame game) {
+		this(game.getId(), game.getCreatedTimestamp(), game.getState(), game.getMaxRounds(), game.getPlayer1(),
+				game.getPlayer2(), game.getScoreForPlayer1(), game.getScoreForPlayer2(), roundCount(game),
+				game.getLastThrowTimestamp(), winnerId(game));
+	}
+
+	/**
+	 * <strong>Not intended for use:</strong> This constructor is only provided
+	 * to comply with the JAXB spec.
+	 */
+	@Deprecated
+	GameSummary() {
+		this.id = null;
+		this.createdTimestamp = null;
+		this.state = null;
+		this.maxRounds = 0;
+		this.player1 = null;
+		this.player2 = null;
+		this.scoreForPlayer1 = 0;
+		this.scoreForPlayer2 = 0;
+		this.roundCount = 0;
+		this.lastThrowTimestamp = null;
+		this.winnerId = null;
+	}
+
+	/**
+	 * @param game
+	 *            the {@link Game} or {@link GameView} to count the rounds of
+	 * @return the total number of {@link GameRound}s in the specified game,
+	 *         including any that a {@link GameView} omitted
+	 */
+	private static int roundCount(AbstractGame game) {
+		int roundCount = game.rounds().size();
+		if (game instanceof GameView)
+			roundCount += ((GameView) game).getFirstRoundIndex();
+		return roundCount;
+	}
+
+	/**
+	 * @param game
+	 *            the {@link Game} or {@link GameView} to get the winner of
+	 * @return the {@link Player#getId()} of the specified game's
+	 *         {@link AbstractGame#getWinner()}, or <code>null</code> if it
+	 *         doesn't (yet) have one
+	 */
+	private static Long winnerId(AbstractGame game) {
+		Player winner = game.getWinner();
+		return winner != null && winner.hasId() ? winner.getId() : null;
+	}
+
+	/**
+	 * @return the {@link Game#getId()} of the summarized {@link Game}
+	 */
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * @return the {@link Game#getCreatedTimestamp()} of the summarized
+	 *         {@link Game}
+	 */
+	public Instant getCreatedTimestamp() {
+		return createdTimestamp;
+	}
+
+	/**
+	 * @return the {@link Game#getState()} of the summarized {@link Game}
+	 */
+	public State getState() {
+		return state;
+	}
+
+	/**
+	 * @return the {@link Game#getMaxRounds()} of the summarized {@link Game}
+	 */
+	public int getMaxRounds() {
+		return maxRounds;
+	}
+
+	/**
+	 * @return the {@link Game#getPlayer1()} of the summarized {@link Game}
+	 */
+	public Player getPlayer1() {
+		return player1;
+	}
+
+	/**
+	 * @return the {@link Game#getPlayer2()} of the summarized {@link Game},
+	 *         which will be <code>null</code> if they have not yet joined
+	 */
+	public Player getPlayer2() {
+		return player2;
+	}
+
+	/**
+	 * @return the {@link Game#getScoreForPlayer1()} of the summarized
+	 *         {@link Game}
+	 */
+	public int getScoreForPlayer1() {
+		return scoreForPlayer1;
+	}
+
+	/**
+	 * @return the {@link Game#getScoreForPlayer2()} of the summarized
+	 *         {@link Game}
+	 */
+	public int getScoreForPlayer2() {
+		return scoreForPlayer2;
+	}
+
+	/**
+	 * @return the number of {@link GameRound}s in the summarized {@link Game},
+	 *         including tied rounds and the current round (if any)
+	 */
+	public int getRoundCount() {
+		return roundCount;
+	}
+
+	/**
+	 * @return the {@link Game#getLastThrowTimestamp()} of the summarized
+	 *         {@link Game}
+	 */
+	public Instant getLastThrowTimestamp() {
+		return lastThrowTimestamp;
+	}
+
+	/**
+	 * @return the {@link Game#getWinner()} of the summarized {@link Game}, or
+	 *         <code>null</code> if it doesn't (yet) have one
+	 */
+	public Player getWinner() {
+		if (winnerId == null)
+			return null;
+		if (player1.hasId() && player1.getId() == winnerId)
+			return player1;
+		if (player2 != null && player2.hasId() && player2.getId() == winnerId)
+			return player2;
+		return null;
+	}
+
+	/**
+	 * A utility method for working with game {@link Player}s.
+	 *
+	 * @param player
+	 *            the {@link Player} to check
+	 * @return <code>true</code> if the specified {@link Player} represents
+	 *         {@link #getPlayer1()} or {@link #getPlayer2()},
+	 *         <code>false</code> otherwise
+	 * @see Game#isPlayer(Player)
+	 */
+	public boolean isPlayer(Player player) {
+		return getPlayerRoles(player).length > 0;
+	}
+
+	/**
+	 * A utility method for working with game {@link Player}s.
+	 *
+	 * @param account
+	 *            the {@link Account} to check
+	 * @return <code>true</code> if the specified {@link Account} represents
+	 *         {@link #getPlayer1()} or {@link #getPlayer2()},
+	 *         <code>false</code> otherwise
+	 * @see Game#isPlayer(Account)
+	 */
+	public boolean isPlayer(Account account) {
+		if (account == null)
+			return false;
+
+		return isHumanPlayer(player1, account) || isHumanPlayer(player2, account);
+	}
+
+	/**
+	 * A utility method for working with game {@link Player}s.
+	 *
+	 * @param player
+	 *            the {@link Player} to determine the {@link PlayerRole}s for in
+	 *            the summarized {@link Game}
+	 * @return the {@link PlayerRole}s represented by the specified
+	 *         {@link Player} in the summarized {@link Game}
+	 * @see Game#getPlayerRoles(Player)
+	 */
+	public PlayerRole[] getPlayerRoles(Player player) {
+		List<PlayerRole> roles = new ArrayList<>(2);
+		if (player1.equals(player))
+			roles.add(PlayerRole.PLAYER_1);
+		if (player2 != null && player2.equals(player))
+			roles.add(PlayerRole.PLAYER_2);
+		return roles.toArray(new PlayerRole[roles.size()]);
+	}
+
+	/**
+	 * A utility method for working with game {@link Player}s.
+	 *
+	 * @param account
+	 *            the {@link Account} to select the opponent of, which must be
+	 *            one of the two players
+	 * @return the other {@link Player} in the summarized {@link Game}, which
+	 *         may be <code>null</code> if they have not yet joined
+	 * @throws IllegalArgumentException
+	 *             An {@link IllegalArgumentException} will be thrown if
+	 *             {@link #isPlayer(Account)} returns <code>false</code> for the
+	 *             specified {@link Account}.
+	 * @see Game#determineOpponent(Account)
+	 */
+	public Player determineOpponent(Account account) {
+		if (isHumanPlayer(player1, account))
+			return player2;
+		if (isHumanPlayer(player2, account))
+			return player1;
+
+		// They're not one of the players.
+		throw new IllegalArgumentException("Invalid player: " + account);
+	}
+
+	/**
+	 * @param player
+	 *            the {@link Player} to check, or <code>null</code>
+	 * @param account
+	 *            the {@link Account} to check
+	 * @return <code>true</code> if the specified {@link Player} is the
+	 *         specified {@link Account}'s, <code>false</code> otherwise
+	 */
+	private static boolean isHumanPlayer(Player player, Account account) {
+		return player != null && player.getHumanAccount() != null && player.getHumanAccount().equals(account);
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("GameSummary [id=");
+		builder.append(id);
+		builder.append(", state=");
+		builder.append(state);
+		builder.append(", maxRounds=");
+		builder.append(maxRounds);
+		builder.append(", player1=");
+		builder.append(player1);
+		builder.append(", player2=");
+		builder.append(player2);
+		builder.append(", scoreForPlayer1=");
+		builder.append(scoreForPlayer1);
+		builder.append(", scoreForPlayer2=");
+		builder.append(scoreForPlayer2);
+		builder.append(", roundCount=");
+		builder.append(roundCount);
+		builder.append(", lastThrowTimestamp=");
+		builder.append(lastThrowTimestamp);
+		builder.append("]");
+		return builder.toString();
+	}
+}
@@ -0,0 +1,233 @@
+package com.justdavis.karl.rpstourney.service.api.game;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementWrapper;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+
+/**
+ * <p>
+ * A single page of {@link GameSummary}s, as returned by
+ * {@link IGameResource#getGameSummariesForPlayer(String, Integer)}.
+ * </p>
+ * <p>
+ * The summaries are listed by their
+ * {@link GameSummary#getLastThrowTimestamp()} values, latest first, with ties
+ * broken by their {@link GameSummary#getId()} values, in descending order.
+ * Pages are keyed by the last {@link GameSummary} they include (see
+ * {@link Cursor}), rather than by an offset, so that each page can be read
+ * straight from an index, no matter how far into a {@link Player}'s history
+ * it is.
+ * </p>
+ */
+@XmlRootElement
+@XmlAccessorType(XmlAccessType.FIELD)
+@JsonAutoDetect(fieldVisibility = Visibility.ANY, getterVisibility = Visibility.NONE, isGetterVisibility = Visibility.NONE, setterVisibility = Visibility.NONE)
+public final class GameSummaryPage {
+	/**
+	 * The number of {@link GameSummary}s that will be included in each page,
+	 * if the client doesn't specify a limit.
+	 */
+	public static final int DEFAULT_LIMIT = 20;
+
+	/**
+	 * The maximum number of {@link GameSummary}s that may be requested in a
+	 * single page.
+	 */
+	public static final int MAX_LIMIT = 100;
+
+	@XmlElementWrapper(name = "summaries")
+	@XmlElement(name = "summary")
+	private final List<GameSummary> summaries;
+
+	@XmlElement
+	private final String nextCursor;
+
+	/**
+	 * Constructs a new {@link GameSummaryPage} instance.
+	 *
+	 * @param summaries
+	 *            the value to use for {@link #getSummaries()}
+	 * @param nextCursor
+	 *            the value to use for {@link #getNextCursor()}
+	 */
+	public GameSummaryPage(List<GameSummary> summaries, String nextCursor) {
+		if (summaries == null)
+			throw new IllegalArgumentException();
+
+		this.summaries = new ArrayList<>(summaries);
+		this.nextCursor = nextCursor;
+	}
+
+	/**
+	 * <strong>Not intended for use:</strong> This constructor is only provided
+	 * to comply with the JAXB spec.
+	 */
+	@Deprecated
+	GameSummaryPage() {
+		this.summaries = new ArrayList<>();
+		this.nextCursor = null;
+	}
+
+	/**
+	 * @return the {@link GameSummary}s in this page, in listing order (which
+	 *         may be empty)
+	 */
+	public List<GameSummary> getSummaries() {
+		return Collections.unmodifiableList(summaries);
+	}
+
+	/**
+	 * @return the encoded {@link Cursor} to pass to
+	 *         {@link IGameResource#getGameSummariesForPlayer(String, Integer)}
+	 *         to get the next (older) page, or <code>null</code> if this is
+	 *         the last page
+	 */
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("GameSummaryPage [summaries=");
+		builder.append(summaries);
+		builder.append(", nextCursor=");
+		builder.append(nextCursor);
+		builder.append("]");
+		return builder.toString();
+	}
+
+	/**
+	 * Identifies a position in a {@link Player}'s listing of
+	 * {@link GameSummary}s: the last {@link GameSummary} in the previous page.
+	 */
+	public static final class Cursor {
+		private static final char SEPARATOR = '_';
+
+		private final Instant lastThrowTimestamp;
+		private final String gameId;
+
+		/**
+		 * Constructs a new {@link Cursor} instance.
+		 *
+		 * @param lastThrowTimestamp
+		 *            the value to use for {@link #getLastThrowTimestamp()}
+		 * @param gameId
+		 *            the value to use for {@link #getGameId()}
+		 */
+		public Cursor(Instant lastThrowTimestamp, String gameId) {
+			if (lastThrowTimestamp == null)
+				throw new IllegalArgumentException();
+			if (gameId == null)
+				throw new IllegalArgumentException();
+			if (!Game.ID_PATTERN.matcher(gameId).matches())
+				throw new IllegalArgumentException();
+
+			this.lastThrowTimestamp = lastThrowTimestamp;
+			this.gameId = gameId;
+		}
+
+		/**
+		 * Constructs a new {@link Cursor} instance, positioned right after the
+		 * specified {@link GameSummary}.
+		 *
+		 * @param summary
+		 *            the {@link GameSummary} to position the new {@link Cursor}
+		 *            after
+		 */
+		public Cursor(GameSummary summary) {
+			this(summary.getLastThrowTimestamp(), summary.getId());
+		}
+
+		/**
+		 * @return the {@link GameSummary#getLastThrowTimestamp()} of the last
+		 *         {@link GameSummary} in the previous page
+		 */
+		public Instant getLastThrowTimestamp() {
+			return lastThrowTimestamp;
+		}
+
+		/**
+		 * @return the {@link GameSummary#getId()} of the last
+		 *         {@link GameSummary} in the previous page
+		 */
+		public String getGameId() {
+			return gameId;
+		}
+
+		/**
+		 * @param summary
+		 *            the {@link GameSummary} to check
+		 * @return <code>true</code> if the specified {@link GameSummary} comes
+		 *         after this {@link Cursor} in listing order (and so belongs in
+		 *         the next page), <code>false</code> if it does not
+		 */
+		public boolean isBefore(GameSummary summary) {
+			int timestampComparison = summary.getLastThrowTimestamp().compareTo(lastThrowTimestamp);
+			if (timestampComparison != 0)
+				return timestampComparison < 0;
+			return summary.getId().compareTo(gameId) < 0;
+		}
+
+		/**
+		 * @return an opaque {@link String} representation of this
+		 *         {@link Cursor}, which can be parsed back via
+		 *         {@link #parse(String)}
+		 */
+		public String encode() {
+			/*
+			 * Game IDs are letters only, and the timestamp never contains the
+			 * separator, so it's unambiguous.
+			 */
+			return lastThrowTimestamp.toString() + SEPARATOR + gameId;
+		}
+
+		/**
+		 * @param encodedCursor
+		 *            a value produced by {@link #encode()}
+		 * @return the {@link Cursor} represented by the specified value
+		 * @throws IllegalArgumentException
+		 *             An {@link IllegalArgumentException} will be thrown if the
+		 *             specified value is not a valid encoded {@link Cursor}.
+		 */
+		public static Cursor parse(String encodedCursor) {
+			if (encodedCursor == null)
+				throw new IllegalArgumentException();
+
+			int separatorIndex = encodedCursor.lastIndexOf(SEPARATOR);
+			if (separatorIndex < 0)
+				throw new IllegalArgumentException("Invalid cursor: " + encodedCursor);
+
+			Instant lastThrowTimestamp;
+			try {
+				lastThrowTimestamp = Instant.parse(encodedCursor.substring(0, separatorIndex));
+			} catch (DateTimeParseException e) {
+				throw new IllegalArgumentException("Invalid cursor: " + encodedCursor, e);
+			}
+
+			return new Cursor(lastThrowTimestamp, encodedCursor.substring(separatorIndex + 1));
+		}
+
+		/**
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return encode();
+		}
+	}
+}
@@ -1,8 +1,8 @@
 package com.justdavis.karl.rpstourney.service.api.game;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.AbstractList;
 import java.util.List;
+import java.util.RandomAccess;
 
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -11,6 +11,8 @@ import javax.xml.bind.annotation.XmlRootElement;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 
 /**
  * <p>
@@ -26,6 +28,14 @@ import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
  * rather than going through the web service.</li>
  * <li>Hide moves made by players in rounds that aren't yet complete.</li>
  * </ul>
+ * <p>
+ * A {@link GameView} may optionally include only the most recent
+ * {@link GameRound}s of its {@link Game}, as a long game's full round history
+ * can be much larger than what clients actually need to (re-)display. In that
+ * case, {@link #getFirstRoundIndex()} will indicate where the included rounds
+ * start. The scores, state, winner, etc. are always those of the whole
+ * {@link Game}, regardless.
+ * </p>
  */
 @XmlRootElement
 @XmlAccessorType(XmlAccessType.FIELD)
@@ -34,8 +44,19 @@ public final class GameView extends AbstractGame {
 	@XmlElement
 	private final Player viewPlayer;
 
+	/*
+	 * Design note: This is left null unless some rounds have actually been
+	 * omitted, so that complete views are marshalled exactly as they always
+	 * have been.
+	 */
+
+	@XmlElement
+	@JsonInclude(Include.NON_NULL)
+	private final Integer firstRoundIndex;
+
 	/**
-	 * Constructs a new {@link GameView} instance.
+	 * Constructs a new {@link GameView} instance, which will include all of the
+	 * {@link Game}'s {@link GameRound}s.
 	 * 
 	 * @param gameToWrap
 	 *            the {@link Game} instance that the new {@link GameView} will
@@ -44,10 +65,59 @@ public final class GameView extends AbstractGame {
 	 *            the value to use for {@link #getViewPlayer()}
 	 */
 	public GameView(Game gameToWrap, Player viewPlayer) {
+		this(gameToWrap, viewPlayer, null, null);
+	}
+
+	/**
+	 * Constructs a new {@link GameView} instance, which may include only the
+	 * most recent of the {@link Game}'s {@link GameRound}s. The current (last)
+	 * round, if any, will always be included.
+	 * 
+	 * @param gameToWrap
+	 *            the {@link Game} instance that the new {@link GameView} will
+	 *            be a view of
+	 * @param viewPlayer
+	 *            the value to use for {@link #getViewPlayer()}
+	 * @param fromRound
+	 *            the {@link GameRound#getRoundIndex()} of the first round to
+	 *            include, or <code>null</code> to not restrict the rounds by
+	 *            index
+	 * @param lastRounds
+	 *            the maximum number of the most recent rounds to include, or
+	 *            <code>null</code> to not restrict the number of rounds
+	 * @throws IllegalArgumentException
+	 *             An {@link IllegalArgumentException} will be thrown if
+	 *             <code>fromRound</code> is negative or if
+	 *             <code>lastRounds</code> is less than <code>1</code>.
+	 */
+	public GameView(Game gameToWrap, Player viewPlayer, Integer fromRound, Integer lastRounds) {
+		this(gameToWrap, viewPlayer, computeFirstRoundIndex(gameToWrap, fromRound, lastRounds));
+	}
+
+	/**
+	 * Constructs a new {@link GameView} instance.
+	 * 
+	 * @param gameToWrap
+	 *            the {@link Game} instance that the new {@link GameView} will
+	 *            be a view of
+	 * @param viewPlayer
+	 *            the value to use for {@link #getViewPlayer()}
+	 * @param firstRoundIndex
+	 *            the value to use for {@link #getFirstRoundIndex()}
+	 */
+	private GameView(Game gameToWrap, Player viewPlayer, int firstRoundIndex) {
 		super(gameToWrap.getId(), gameToWrap.getCreatedTimestamp(), gameToWrap.getState(), gameToWrap.getMaxRounds(),
-				filterRoundsForPlayer(gameToWrap, viewPlayer), gameToWrap.getPlayer1(), gameToWrap.getPlayer2());
+				filterRoundsForPlayer(gameToWrap, viewPlayer, firstRoundIndex), gameToWrap.getPlayer1(),
+				gameToWrap.getPlayer2());
 
 		this.viewPlayer = viewPlayer;
+		this.firstRoundIndex = firstRoundIndex > 0 ? firstRoundIndex : null;
+
+		/*
+		 * Completed rounds aren't filtered, so their stats can be reused. This
+		 * also keeps the stats exact when some rounds have been omitted.
+		 */
+		copyRoundStats(gameToWrap);
 	}
 
 	/**
@@ -57,6 +127,36 @@ public final class GameView extends AbstractGame {
 	@Deprecated
 	GameView() {
 		this.viewPlayer = null;
+		this.firstRoundIndex = null;
+	}
+
+	/**
+	 * @param gameToWrap
+	 *            the {@link Game} to compute the first included round for
+	 * @param fromRound
+	 *            the {@link GameRound#getRoundIndex()} of the first round to
+	 *            include, or <code>null</code>
+	 * @param lastRounds
+	 *            the maximum number of the most recent rounds to include, or
+	 *            <code>null</code>
+	 * @return the {@link GameRound#getRoundIndex()} of the first round that a
+	 *         {@link GameView} of the specified {@link Game} should include
+	 */
+	private static int computeFirstRoundIndex(Game gameToWrap, Integer fromRound, Integer lastRounds) {
+		if (fromRound != null && fromRound < 0)
+			throw new IllegalArgumentException("Invalid fromRound: " + fromRound);
+		if (lastRounds != null && lastRounds < 1)
+			throw new IllegalArgumentException("Invalid lastRounds: " + lastRounds);
+
+		int roundCount = gameToWrap.rounds().size();
+		int firstRoundIndex = 0;
+		if (fromRound != null)
+			firstRoundIndex = Math.max(firstRoundIndex, fromRound);
+		if (lastRounds != null)
+			firstRoundIndex = Math.max(firstRoundIndex, roundCount - lastRounds);
+
+		// Always include the current round, if there is one.
+		return Math.max(0, Math.min(firstRoundIndex, roundCount - 1));
 	}
 
 	/**
@@ -67,37 +167,26 @@ public final class GameView extends AbstractGame {
 	 *            the {@link Player} who requested or will be shown the
 	 *            resulting {@link GameView}, or <code>null</code> if it's for
 	 *            someone other than one of the game's players
+	 * @param firstRoundIndex
+	 *            the {@link GameRound#getRoundIndex()} of the first round to
+	 *            include
 	 * @return the filtered {@link GameRound}s that should be visible to the
 	 *         specified {@link Player}
 	 */
-	private static List<GameRound> filterRoundsForPlayer(Game gameToWrap, Player player) {
-		boolean isPlayer1 = player != null && player.equals(gameToWrap.getPlayer1());
-		boolean isPlayer2 = player != null && gameToWrap.getPlayer2() != null && player.equals(gameToWrap.getPlayer2());
-
-		List<GameRound> rounds = gameToWrap.getRounds();
-		List<GameRound> filteredRounds = new ArrayList<GameRound>(rounds.size());
-		for (GameRound round : rounds) {
-			if (round.getResult() != null) {
-				// Any completed round should be visible to everyone.
-				filteredRounds.add(round);
-			} else {
-				// Otherwise, build a copy of the round and hide others' moves.
-				GameRound filteredRound = new GameRound(round.getGame(), round.getRoundIndex(),
-						round.getAdjustedRoundIndex());
-
-				Throw player1Throw = round.getThrowForPlayer1();
-				if (player1Throw != null && isPlayer1)
-					filteredRound.setThrowForPlayer1(player1Throw, round.getThrowForPlayer1Timestamp());
-
-				Throw player2Throw = round.getThrowForPlayer2();
-				if (player2Throw != null && isPlayer2)
-					filteredRound.setThrowForPlayer2(player2Throw, round.getThrowForPlayer2Timestamp());
-
-				filteredRounds.add(filteredRound);
-			}
-		}
+	private static List<GameRound> filterRoundsForPlayer(Game gameToWrap, Player player, int firstRoundIndex) {
+		return new FilteredRounds(gameToWrap, player, firstRoundIndex);
+	}
 
-		return Collections.unmodifiableList(filteredRounds);
+	/**
+	 * If some of the {@link Game}'s rounds were omitted from this
+	 * {@link GameView}, its scores can't be rebuilt from {@link #getRounds()},
+	 * so the unmarshalled ones are used instead.
+	 * 
+	 * @see com.justdavis.karl.rpstourney.service.api.game.AbstractGame#includesAllRounds()
+	 */
+	@Override
+	protected boolean includesAllRounds() {
+		return firstRoundIndex == null;
 	}
 
 	/**
@@ -110,4 +199,112 @@ public final class GameView extends AbstractGame {
 	public Player getViewPlayer() {
 		return viewPlayer;
 	}
+
+	/**
+	 * @return the {@link GameRound#getRoundIndex()} of the first
+	 *         {@link GameRound} in {@link #getRounds()}, which will be
+	 *         <code>0</code> unless this {@link GameView} only includes the
+	 *         most recent rounds of its {@link Game}
+	 */
+	public int getFirstRoundIndex() {
+		return firstRoundIndex != null ? firstRoundIndex : 0;
+	}
+
+	/**
+	 * <p>
+	 * A read-only, point-in-time {@link List} view of a {@link Game}'s
+	 * {@link GameRound}s, filtered to hide moves that shouldn't yet be revealed
+	 * to the view's {@link Player}.
+	 * </p>
+	 * <p>
+	 * Design note: Only the last round can be incomplete, and completed rounds
+	 * never change. Accordingly, this just remembers how many rounds there
+	 * were and makes a filtered copy of the last round (if it's incomplete).
+	 * All of the other rounds are shared with the {@link Game}. This makes
+	 * constructing a {@link GameView} an O(1) operation, rather than O(n).
+	 * </p>
+	 * <p>
+	 * The view may also skip over the {@link Game}'s earliest rounds, in which
+	 * case index <code>0</code> of this {@link List} will be the round at
+	 * <code>offset</code> in the {@link Game}.
+	 * </p>
+	 */
+	private static final class FilteredRounds extends AbstractList<GameRound> implements RandomAccess {
+		private final Game game;
+		private final int offset;
+		private final int size;
+		private final GameRound filteredLastRound;
+
+		/**
+		 * Constructs a new {@link FilteredRounds} instance.
+		 * 
+		 * @param game
+		 *            the {@link Game} whose {@link Game#getRounds()} are to be
+		 *            filtered
+		 * @param player
+		 *            the {@link Player} who requested or will be shown the
+		 *            filtered rounds, or <code>null</code> if it's for someone
+		 *            other than one of the game's players
+		 * @param offset
+		 *            the index of the first of the {@link Game}'s rounds to
+		 *            include
+		 */
+		FilteredRounds(Game game, Player player, int offset) {
+			List<GameRound> rounds = game.rounds();
+
+			this.game = game;
+			this.offset = offset;
+			this.size = rounds.size() - offset;
+
+			GameRound lastRound = size > 0 ? rounds.get(offset + size - 1) : null;
+			if (lastRound != null && lastRound.getResult() == null) {
+				// Build a copy of the round and hide others' moves.
+				boolean isPlayer1 = player != null && player.equals(game.getPlayer1());
+				boolean isPlayer2 = player != null && game.getPlayer2() != null && player.equals(game.getPlayer2());
+
+				GameRound filteredRound = new GameRound(lastRound.getGame(), lastRound.getRoundIndex(),
+						lastRound.getAdjustedRoundIndex());
+
+				Throw player1Throw = lastRound.getThrowForPlayer1();
+				if (player1Throw != null && isPlayer1)
+					filteredRound.setThrowForPlayer1(player1Throw, lastRound.getThrowForPlayer1Timestamp());
+
+				Throw player2Throw = lastRound.getThrowForPlayer2();
+				if (player2Throw != null && isPlayer2)
+					filteredRound.setThrowForPlayer2(player2Throw, lastRound.getThrowForPlayer2Timestamp());
+
+				this.filteredLastRound = filteredRound;
+			} else {
+				// Any completed round should be visible to everyone.
+				this.filteredLastRound = null;
+			}
+		}
+
+		/**
+		 * @see java.util.AbstractList#get(int)
+		 */
+		@Override
+		public GameRound get(int index) {
+			if (index < 0 || index >= size)
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+			if (filteredLastRound != null && index == size - 1)
+				return filteredLastRound;
+
+			/*
+			 * Note: this goes back through Game.rounds() on each call, rather
+			 * than holding on to the list, as the Game may have since been
+			 * compacted.
+			 */
+			return game.rounds().get(offset + index);
+		}
+
+		/**
+		 * @see java.util.AbstractCollection#size()
+		 */
+		@Override
+		public int size() {
+			return size;
+		}
+	}
 }
@@ -0,0 +1,66 @@
+package com.justdavis.karl.rpstourney.service.api.game;
+
+import javax.ws.rs.FormParam;
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import com.justdavis.karl.rpstourney.service.api.game.ai.BuiltInAi;
+
+/**
+ * <p>
+ * Extends the {@link IGameResource} service with exhibition games: games
+ * between two {@link BuiltInAi} {@link Player}s, which the service plays out
+ * in the background.
+ * </p>
+ * <p>
+ * Design Note: This is split out from {@link IGameResource} because only the
+ * actual web service (and clients of it) can support it: local
+ * implementations of {@link IGameResource} don't have persistent
+ * {@link Player}s to look up, or anywhere to play games out in the background.
+ * </p>
+ */
+@Path(IGameResource.SERVICE_PATH)
+public interface IExhibitionGameResource extends IGameResource {
+	/**
+	 * The {@link Path} for the {@link #createExhibitionGame(long, long, int)}
+	 * method.
+	 */
+	public static final String SERVICE_PATH_EXHIBITION = "/exhibition";
+
+	/**
+	 * <p>
+	 * Creates a new exhibition game between the two specified
+	 * {@link BuiltInAi} {@link Player}s, which the service will then play out
+	 * in the background. The user calling this method can watch its progress
+	 * via {@link #getGame(String, Integer, Integer)}, but isn't a
+	 * {@link Player} in it.
+	 * </p>
+	 *
+	 * @param player1Id
+	 *            the {@link Player#getId()} value of the {@link BuiltInAi}
+	 *            {@link Player} to use as {@link Game#getPlayer1()}, which
+	 *            must not be {@link BuiltInAi#isRetired()}
+	 * @param player2Id
+	 *            the {@link Player#getId()} value of the {@link BuiltInAi}
+	 *            {@link Player} to use as {@link Game#getPlayer2()}, which
+	 *            must be different from the first one, and also must not be
+	 *            {@link BuiltInAi#isRetired()}
+	 * @param maxRounds
+	 *            the value to use for {@link Game#getMaxRounds()}
+	 * @return a {@link GameView} of the new {@link Game} instance
+	 * @throws NotFoundException
+	 *             A {@link NotFoundException} will be thrown if either of the
+	 *             specified {@link Player}s can't be found.
+	 * @throws GameConflictException
+	 *             A {@link GameConflictException} will be thrown if the
+	 *             specified <code>maxRounds</code> value is invalid.
+	 */
+	@POST
+	@Path(IExhibitionGameResource.SERVICE_PATH_EXHIBITION)
+	@Produces(MediaType.TEXT_XML)
+	GameView createExhibitionGame(@FormParam("player1Id") long player1Id, @FormParam("player2Id") long player2Id,
+			@FormParam("maxRounds") int maxRounds) throws NotFoundException, GameConflictException;
+}
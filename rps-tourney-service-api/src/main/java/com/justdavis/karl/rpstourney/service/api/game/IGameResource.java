@@ -10,6 +10,7 @@ import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 
 import com.justdavis.karl.rpstourney.service.api.auth.SecurityRole;
@@ -38,6 +39,12 @@ public interface IGameResource {
 	 */
 	public static final String SERVICE_PATH_GAMES_FOR_PLAYER = "/";
 
+	/**
+	 * The {@link Path} for the
+	 * {@link #getGameSummariesForPlayer(String, Integer)} method.
+	 */
+	public static final String SERVICE_PATH_GAME_SUMMARIES_FOR_PLAYER = "/summaries";
+
 	/**
 	 * The {@link Path} variable for methods that take in {@link Game#getId()}
 	 * as a {@link PathParam}.
@@ -69,6 +76,11 @@ public interface IGameResource {
 	 */
 	public static final String SERVICE_PATH_THROW = "/throw";
 
+	/**
+	 * The {@link Path} for the {@link #getRounds(String, int, Integer)} method.
+	 */
+	public static final String SERVICE_PATH_ROUNDS = "/rounds";
+
 	/**
 	 * <p>
 	 * Creates a new game, with the first player set as the user calling this
@@ -88,6 +100,13 @@ public interface IGameResource {
 	 * Returns all games that the the user who calls this method is a
 	 * {@link Player} in.
 	 * </p>
+	 * <p>
+	 * Please note that this returns every {@link Game} the user has ever
+	 * played, with all of their {@link GameRound}s, and so gets slower as the
+	 * user's history grows. Where the rounds aren't needed,
+	 * {@link #getGameSummariesForPlayer(String, Integer)} should be used
+	 * instead.
+	 * </p>
 	 * 
 	 * @return a {@link List} of {@link GameView}s for the {@link Game}s that
 	 *         the the user who calls this method is a {@link Player} in, or an
@@ -102,7 +121,46 @@ public interface IGameResource {
 
 	/**
 	 * <p>
-	 * Returns a {@link GameView} of the specified {@link Game}.
+	 * Returns a page of summaries of the games that the the user who calls
+	 * this method is a {@link Player} in, sorted by their
+	 * {@link GameSummary#getLastThrowTimestamp()} values, latest first. See
+	 * {@link GameSummaryPage} for details.
+	 * </p>
+	 * <p>
+	 * This is much cheaper than {@link #getGamesForPlayer()}, as it doesn't
+	 * include (or have to load) any of the {@link Game}s' {@link GameRound}s,
+	 * and its cost doesn't grow with the number of {@link Game}s the user has
+	 * played. It should be preferred wherever those rounds aren't needed.
+	 * </p>
+	 * 
+	 * @param cursor
+	 *            the {@link GameSummaryPage#getNextCursor()} value from the
+	 *            previous page, or <code>null</code> to get the first page
+	 * @param limit
+	 *            the maximum number of {@link GameSummary}s to return, which
+	 *            must be between 1 and {@link GameSummaryPage#MAX_LIMIT}
+	 *            (inclusive), or <code>null</code> to use
+	 *            {@link GameSummaryPage#DEFAULT_LIMIT}
+	 * @return a {@link GameSummaryPage} with the {@link GameSummary}s for the
+	 *         {@link Game}s that the the user who calls this method is a
+	 *         {@link Player} in, which will be empty if there are no (more)
+	 *         such {@link Game}s or if the user is not authenticated
+	 */
+	@GET
+	@Path(IGameResource.SERVICE_PATH_GAME_SUMMARIES_FOR_PLAYER)
+	@Produces(MediaType.TEXT_XML)
+	GameSummaryPage getGameSummariesForPlayer(@QueryParam("cursor") String cursor,
+			@QueryParam("limit") Integer limit);
+
+	/**
+	 * <p>
+	 * Returns a {@link GameView} of the specified {@link Game}, including all
+	 * of its {@link GameRound}s.
+	 * </p>
+	 * <p>
+	 * This is not itself a web service method: it's equivalent to calling
+	 * {@link #getGame(String, Integer, Integer)} with <code>null</code>
+	 * <code>fromRound</code> and <code>lastRounds</code> values.
 	 * </p>
 	 * 
 	 * @param gameId
@@ -112,10 +170,68 @@ public interface IGameResource {
 	 *             A {@link NotFoundException} will be thrown if no matching
 	 *             {@link Game} can be found.
 	 */
+	GameView getGame(String gameId) throws NotFoundException;
+
+	/**
+	 * <p>
+	 * Returns a {@link GameView} of the specified {@link Game}, which will only
+	 * include its most recent {@link GameRound}s. This allows clients that poll
+	 * a game's state to avoid re-fetching its entire round history every time.
+	 * </p>
+	 * <p>
+	 * Regardless of which rounds are included, the current round (if any) will
+	 * always be included, and the scores, state, winner, etc. will always be
+	 * those of the whole {@link Game}. See
+	 * {@link GameView#getFirstRoundIndex()}.
+	 * </p>
+	 * 
+	 * @param gameId
+	 *            the {@link Game#getId()} value of the {@link Game} to return
+	 * @param fromRound
+	 *            the {@link GameRound#getRoundIndex()} of the first round to
+	 *            include, or <code>null</code> to not restrict the rounds by
+	 *            index
+	 * @param lastRounds
+	 *            the maximum number of the most recent rounds to include, or
+	 *            <code>null</code> to not restrict the number of rounds
+	 * @return a {@link GameView} of the matching {@link Game} instance
+	 * @throws NotFoundException
+	 *             A {@link NotFoundException} will be thrown if no matching
+	 *             {@link Game} can be found.
+	 */
 	@GET
 	@Path(IGameResource.SERVICE_PATH_GAME_ID)
 	@Produces(MediaType.TEXT_XML)
-	GameView getGame(@PathParam("gameId") String gameId) throws NotFoundException;
+	GameView getGame(@PathParam("gameId") String gameId, @QueryParam("fromRound") Integer fromRound,
+			@QueryParam("lastRounds") Integer lastRounds) throws NotFoundException;
+
+	/**
+	 * <p>
+	 * Returns some of the {@link GameRound}s of the specified {@link Game},
+	 * filtered in the same way as {@link GameView#getRounds()}.
+	 * </p>
+	 * 
+	 * @param gameId
+	 *            the {@link Game#getId()} value of the {@link Game} to return
+	 *            the rounds of
+	 * @param fromRound
+	 *            the {@link GameRound#getRoundIndex()} of the first round to
+	 *            return
+	 * @param limit
+	 *            the maximum number of rounds to return, or <code>null</code>
+	 *            to return all of the rounds from <code>fromRound</code> on
+	 * @return the matching {@link GameRound}s, which may be an empty
+	 *         {@link List} if there are no rounds at or after
+	 *         <code>fromRound</code>
+	 * @throws NotFoundException
+	 *             A {@link NotFoundException} will be thrown if no matching
+	 *             {@link Game} can be found.
+	 */
+	@GET
+	@Path(IGameResource.SERVICE_PATH_GAME_ID + IGameResource.SERVICE_PATH_ROUNDS)
+	@Produces(MediaType.TEXT_XML)
+	List<GameRound> getRounds(@PathParam("gameId") String gameId, @QueryParam("fromRound") int fromRound,
+			@QueryParam("limit") Integer limit) throws NotFoundException;
 
 	/**
 	 * <p>
@@ -1,6 +1,9 @@
 package com.justdavis.karl.rpstourney.service.api.game;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import javax.ws.rs.NotFoundException;
@@ -70,6 +73,34 @@ public class MockGameClient implements IGameResource {
 		return Arrays.asList(games);
 	}
 
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.api.game.IGameResource#getGameSummariesForPlayer(java.lang.String,
+	 *      java.lang.Integer)
+	 */
+	@Override
+	public GameSummaryPage getGameSummariesForPlayer(String cursor, Integer limit) {
+		GameSummaryPage.Cursor parsedCursor = cursor != null ? GameSummaryPage.Cursor.parse(cursor) : null;
+		int pageLimit = limit != null ? limit : GameSummaryPage.DEFAULT_LIMIT;
+
+		// Select the summaries after the cursor, in listing order.
+		List<GameSummary> summaries = new ArrayList<>(games.length);
+		for (GameView game : games) {
+			if (game == null)
+				continue;
+
+			GameSummary summary = new GameSummary(game);
+			if (parsedCursor == null || parsedCursor.isBefore(summary))
+				summaries.add(summary);
+		}
+		Collections.sort(summaries, new ListingOrderComparator());
+
+		if (summaries.size() <= pageLimit)
+			return new GameSummaryPage(summaries, null);
+		List<GameSummary> pageSummaries = summaries.subList(0, pageLimit);
+		return new GameSummaryPage(pageSummaries,
+				new GameSummaryPage.Cursor(pageSummaries.get(pageSummaries.size() - 1)).encode());
+	}
+
 	/**
 	 * @see com.justdavis.karl.rpstourney.service.api.game.IGameResource#getGame(java.lang.String)
 	 */
@@ -82,6 +113,31 @@ public class MockGameClient implements IGameResource {
 		throw new NotFoundException();
 	}
 
+	/**
+	 * Note: This mock ignores <code>fromRound</code> and
+	 * <code>lastRounds</code>, and always returns all of the
+	 * {@link GameRound}s.
+	 * 
+	 * @see com.justdavis.karl.rpstourney.service.api.game.IGameResource#getGame(java.lang.String,
+	 *      java.lang.Integer, java.lang.Integer)
+	 */
+	@Override
+	public GameView getGame(String gameId, Integer fromRound, Integer lastRounds) {
+		return getGame(gameId);
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.api.game.IGameResource#getRounds(java.lang.String,
+	 *      int, java.lang.Integer)
+	 */
+	@Override
+	public List<GameRound> getRounds(String gameId, int fromRound, Integer limit) {
+		List<GameRound> rounds = getGame(gameId).getRounds();
+		int fromIndex = Math.min(fromRound, rounds.size());
+		int toIndex = limit != null ? Math.min(rounds.size(), fromIndex + limit) : rounds.size();
+		return rounds.subList(fromIndex, toIndex);
+	}
+
 	/**
 	 * @see com.justdavis.karl.rpstourney.service.api.game.IGameResource#setMaxRounds(java.lang.String,
 	 *      int, int)
@@ -132,4 +188,21 @@ public class MockGameClient implements IGameResource {
 	public void deleteGame(String gameId) throws NotFoundException {
 		throw new UnsupportedOperationException();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Sorts {@link GameSummary} instances into the order described by
+	 * {@link GameSummaryPage}.
+	 */
+	private static final class ListingOrderComparator implements Comparator<GameSummary> {
+		/**
+		 * @see java.util.Comparator#compare(java.lang.Object, java.lang.Object)
+		 */
+		@Override
+		public int compare(GameSummary o1, GameSummary o2) {
+			int timestampComparison = o2.getLastThrowTimestamp().compareTo(o1.getLastThrowTimestamp());
+			if (timestampComparison != 0)
+				return timestampComparison;
+			return o2.getId().compareTo(o1.getId());
+		}
+	}
+}
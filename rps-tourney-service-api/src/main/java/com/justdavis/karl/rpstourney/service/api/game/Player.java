@@ -15,6 +15,9 @@ import javax.persistence.Table;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -22,15 +25,22 @@ import com.justdavis.karl.rpstourney.service.api.auth.Account;
 import com.justdavis.karl.rpstourney.service.api.game.ai.BuiltInAi;
 
 /**
+ * <p>
  * Models a player in a {@link Game}. This class allows other code to abstract
  * away the difference between human and AI players. While it's not enforced by
  * database constraints, whatever logic is used to create {@link Player}
  * instances should ensure that no more than one {@link Player} instance exists
  * for a given human or AI player; {@link Player} instances should be shared
  * between {@link Game}s.
+ * </p>
+ * <p>
+ * {@link Player}s never change once created, and are read on nearly every
+ * request, so they're kept in Hibernate's second-level cache.
+ * </p>
  */
 @Entity
 @Table(name = "`Players`")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @XmlRootElement
 @JsonAutoDetect(fieldVisibility = Visibility.ANY, getterVisibility = Visibility.NONE, isGetterVisibility = Visibility.NONE, setterVisibility = Visibility.NONE)
 public class Player {
@@ -45,7 +55,7 @@ public class Player {
 	@Id
 	@Column(name = "`id`", nullable = false, updatable = false)
 	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "Players_id_seq")
-	@SequenceGenerator(name = "Players_id_seq", sequenceName = "`players_id_seq`", allocationSize = 1)
+	@SequenceGenerator(name = "Players_id_seq", sequenceName = "`players_id_seq`", allocationSize = 50)
 	@XmlElement
 	private long id;
 
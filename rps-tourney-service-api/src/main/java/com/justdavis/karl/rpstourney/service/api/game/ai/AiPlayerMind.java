@@ -0,0 +1,209 @@
+package com.justdavis.karl.rpstourney.service.api.game.ai;
+
+import java.util.List;
+
+import com.justdavis.karl.rpstourney.service.api.game.Game;
+import com.justdavis.karl.rpstourney.service.api.game.GameRound;
+import com.justdavis.karl.rpstourney.service.api.game.PlayerRole;
+import com.justdavis.karl.rpstourney.service.api.game.Throw;
+
+/**
+ * <p>
+ * Drives an {@link IPositronicMind} for a single AI player in a single
+ * {@link Game}: each time a {@link Throw} is needed, only the rounds completed
+ * since the last one are fed to the {@link IPositronicMind}. As long as the
+ * same {@link AiPlayerMind} instance is kept around for the length of a game,
+ * each AI move is an O(1) operation, rather than O(rounds).
+ * </p>
+ * <p>
+ * If the {@link IPositronicBrain} is an {@link ILearningPositronicBrain}, an
+ * opponent model from an earlier {@link Game} against the same opponent can
+ * be provided, and the model learned in this {@link Game} can be exported
+ * afterwards, via {@link #exportOpponentModel(Game)}.
+ * </p>
+ * <p>
+ * <strong>Warning:</strong> This class is not thread-safe.
+ * </p>
+ */
+public final class AiPlayerMind {
+	private final IPositronicBrain brain;
+	private final PlayerRole role;
+	private byte[] opponentModel;
+	private IPositronicMind mind;
+	private int maxRounds;
+	private int roundsObserved;
+	private int nextThrowRoundIndex;
+	private Throw nextThrow;
+
+	/**
+	 * Constructs a new {@link AiPlayerMind} instance.
+	 * 
+	 * @param brain
+	 *            the {@link IPositronicBrain} to play with
+	 * @param role
+	 *            the {@link PlayerRole} of the AI player in its {@link Game}
+	 */
+	public AiPlayerMind(IPositronicBrain brain, PlayerRole role) {
+		this(brain, role, null);
+	}
+
+	/**
+	 * Constructs a new {@link AiPlayerMind} instance.
+	 * 
+	 * @param brain
+	 *            the {@link IPositronicBrain} to play with
+	 * @param role
+	 *            the {@link PlayerRole} of the AI player in its {@link Game}
+	 * @param opponentModel
+	 *            an {@link ILearningPositronicMind#exportOpponentModel()}
+	 *            result from an earlier {@link Game} against the same
+	 *            opponent, or <code>null</code> to start from scratch (will be
+	 *            ignored if the {@link IPositronicBrain} isn't an
+	 *            {@link ILearningPositronicBrain} or can't use it)
+	 */
+	public AiPlayerMind(IPositronicBrain brain, PlayerRole role, byte[] opponentModel) {
+		if (brain == null)
+			throw new IllegalArgumentException();
+		if (role == null)
+			throw new IllegalArgumentException();
+
+		this.brain = brain;
+		this.role = role;
+		this.opponentModel = brain instanceof ILearningPositronicBrain ? opponentModel : null;
+		this.mind = null;
+		this.nextThrowRoundIndex = -1;
+		this.nextThrow = null;
+	}
+
+	/**
+	 * @return the {@link PlayerRole} of the AI player in its {@link Game}
+	 */
+	public PlayerRole getRole() {
+		return role;
+	}
+
+	/**
+	 * @param game
+	 *            the {@link Game} to calculate a {@link Throw} for the current
+	 *            {@link GameRound} of, which must always be the same game (or
+	 *            a copy of it) for any given {@link AiPlayerMind}
+	 * @return the {@link Throw} chosen by the {@link IPositronicBrain} for the
+	 *         specified {@link Game}'s current round (which will be the same
+	 *         {@link Throw} each time this is called for that round)
+	 */
+	public Throw calculateNextThrow(Game game) {
+		int currentRoundIndex = game.getRounds().size() - 1;
+		observeRounds(game, currentRoundIndex);
+
+		/*
+		 * The same round's Throw may be asked for more than once, e.g. if it
+		 * was calculated ahead of time via precalculateNextThrow(...). Once
+		 * chosen, it mustn't change.
+		 */
+		if (nextThrowRoundIndex != currentRoundIndex) {
+			this.nextThrow = mind.nextThrow();
+			this.nextThrowRoundIndex = currentRoundIndex;
+		}
+
+		return nextThrow;
+	}
+
+	/**
+	 * Calculates (and remembers) the {@link Throw} for the specified
+	 * {@link Game}'s current round ahead of time, so that a later
+	 * {@link #calculateNextThrow(Game)} call for that same round can just
+	 * return it. Unlike {@link #calculateNextThrow(Game)}, this will do nothing
+	 * if passed a copy of the {@link Game} that's older than the one last
+	 * seen, as it's likely just out of date.
+	 * 
+	 * @param game
+	 *            the {@link Game} to calculate a {@link Throw} for the current
+	 *            {@link GameRound} of, which must always be the same game (or
+	 *            a copy of it) for any given {@link AiPlayerMind}
+	 */
+	public void precalculateNextThrow(Game game) {
+		int currentRoundIndex = game.getRounds().size() - 1;
+		if (mind != null && (roundsObserved > currentRoundIndex || maxRounds != game.getMaxRounds()))
+			return;
+
+		calculateNextThrow(game);
+	}
+
+	/**
+	 * @param game
+	 *            the {@link Game} to export the opponent model from, which
+	 *            must always be the same game (or a copy of it) for any given
+	 *            {@link AiPlayerMind}, and which may be finished
+	 * @return the {@link ILearningPositronicMind#exportOpponentModel()} result
+	 *         after all of the specified {@link Game}'s completed
+	 *         {@link GameRound}s have been observed, or <code>null</code> if
+	 *         the {@link IPositronicBrain} isn't an
+	 *         {@link ILearningPositronicBrain}
+	 */
+	public byte[] exportOpponentModel(Game game) {
+		if (!(brain instanceof ILearningPositronicBrain))
+			return null;
+
+		List<GameRound> rounds = game.getRounds();
+		int numCompletedRounds = rounds.size();
+		if (numCompletedRounds > 0 && rounds.get(numCompletedRounds - 1).getResult() == null)
+			numCompletedRounds--;
+
+		observeRounds(game, numCompletedRounds);
+		return ((ILearningPositronicMind) mind).exportOpponentModel();
+	}
+
+	/**
+	 * Ensures that the {@link IPositronicMind} has observed exactly the
+	 * specified number of the {@link Game}'s rounds.
+	 * 
+	 * @param game
+	 *            the {@link Game} being played
+	 * @param numRounds
+	 *            the number of the {@link Game}'s {@link GameRound}s (all of
+	 *            which must be completed) that should be observed
+	 */
+	private void observeRounds(Game game, int numRounds) {
+		List<GameRound> rounds = game.getRounds();
+
+		/*
+		 * If the game looks to have gone "backwards" (e.g. a stale copy of it
+		 * was passed in), the mind's state can't be trusted, so start over.
+		 */
+		if (mind == null || roundsObserved > numRounds || maxRounds != game.getMaxRounds()) {
+			this.mind = createMind(game.getMaxRounds());
+			this.maxRounds = game.getMaxRounds();
+			this.roundsObserved = 0;
+			this.nextThrowRoundIndex = -1;
+		}
+
+		// Feed the mind any rounds completed since it was last used.
+		PlayerRole opponentRole = role.getOpponentRole();
+		for (; roundsObserved < numRounds; roundsObserved++) {
+			GameRound round = rounds.get(roundsObserved);
+			mind.observe(round.getThrowForPlayer(role), round.getThrowForPlayer(opponentRole));
+		}
+	}
+
+	/**
+	 * @param maxRounds
+	 *            the {@link Game#getMaxRounds()} value of the game being played
+	 * @return a new {@link IPositronicMind} for the {@link IPositronicBrain},
+	 *         seeded with the opponent model (if any)
+	 */
+	private IPositronicMind createMind(int maxRounds) {
+		if (opponentModel != null) {
+			try {
+				return ((ILearningPositronicBrain) brain).createMind(opponentModel);
+			} catch (IllegalArgumentException e) {
+				/*
+				 * The model was likely saved by an older version of the brain.
+				 * It's not worth failing the game over: just start fresh.
+				 */
+				this.opponentModel = null;
+			}
+		}
+
+		return PositronicBrainAdapter.createMind(brain, role, maxRounds);
+	}
+}
@@ -2,6 +2,7 @@ package com.justdavis.karl.rpstourney.service.api.game.ai;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -52,7 +53,19 @@ public enum BuiltInAi {
 	 * Represents the {@link MetaWinStayLoseShiftBrain} {@link IPositronicBrain}
 	 * implementation.
 	 */
-	META_WIN_STAY_LOSE_SHIFT_V1("metaWinStayLoseShift", false, new MetaWinStayLoseShiftBrain());
+	META_WIN_STAY_LOSE_SHIFT_V1("metaWinStayLoseShift", false, new MetaWinStayLoseShiftBrain()),
+
+	/**
+	 * Represents the {@link MarkovChainBrain} {@link IPositronicBrain}
+	 * implementation, with a second-order model.
+	 */
+	MARKOV_CHAIN_V1("markovChain", false, new MarkovChainBrain(2)),
+
+	/**
+	 * Represents the {@link EnsembleBrain} {@link IPositronicBrain}
+	 * implementation, with a 100 microsecond budget per move.
+	 */
+	ENSEMBLE_V1("ensemble", false, new EnsembleBrain(TimeUnit.MICROSECONDS.toNanos(100)));
 
 	private final String displayNameKey;
 	private final boolean retired;
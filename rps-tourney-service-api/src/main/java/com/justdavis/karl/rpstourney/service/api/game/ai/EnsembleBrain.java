@@ -0,0 +1,587 @@
+package com.justdavis.karl.rpstourney.service.api.game.ai;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import com.justdavis.karl.rpstourney.service.api.game.GameRound;
+import com.justdavis.karl.rpstourney.service.api.game.GameView;
+import com.justdavis.karl.rpstourney.service.api.game.PlayerRole;
+import com.justdavis.karl.rpstourney.service.api.game.Throw;
+
+/**
+ * <p>
+ * This {@link IPositronicBrain} is an ensemble of simpler strategies, in the
+ * style of the <a href="http://ofb.net/~egnor/iocaine.html">Iocaine Powder</a>
+ * bot. It runs a number of predictors over the game's history, each of which
+ * guesses at the opponent's next {@link Throw}: frequency analysis and
+ * {@link MarkovModel}s (of both players' {@link Throw}s), mirroring,
+ * repeating, and "win-stay, lose-shift". Each of those predictions is then used three ways:
+ * to play what beats the prediction, and also the two "second-guess"
+ * rotations of that, in case the opponent is a step ahead. Every one of these
+ * candidate strategies is scored as the game goes on, and the brain plays
+ * whichever candidate has been doing the best lately. If none of them are
+ * doing well, it just plays randomly, like {@link ThreeSidedDieBrain}.
+ * </p>
+ * <p>
+ * All of the predictors keep fixed-size, primitive state, so each move takes
+ * constant time and makes no allocations, no matter how long the game runs.
+ * In addition, the predictions for each move are subject to a hard time
+ * budget (see {@link #getMoveBudgetNanos()}): any predictors that haven't been
+ * consulted when it runs out simply sit that move out, and if none of them
+ * were consulted, the move will be random.
+ * </p>
+ * <p>
+ * The predictors' long-term state (e.g. the {@link MarkovModel} counters) and
+ * the candidate strategies' scores can also be exported and used to seed later
+ * games against the same opponent (see {@link ILearningPositronicBrain}).
+ * </p>
+ */
+public final class EnsembleBrain implements ILearningPositronicBrain {
+	private static final Throw[] THROWS = Throw.values();
+	private static final int NUM_THROWS = THROWS.length;
+
+	/**
+	 * The {@link Throw#ordinal()} of the {@link Throw} that beats each
+	 * {@link Throw}, indexed by {@link Throw#ordinal()}.
+	 */
+	private static final int[] BEATS = buildBeatsTable();
+
+	/**
+	 * The number of candidate strategies derived from each predictor: the
+	 * naive one, and its two "second-guess" rotations.
+	 */
+	private static final int NUM_ROTATIONS = 3;
+
+	/**
+	 * The score awarded (or deducted) for each round that a candidate
+	 * strategy would have won (or lost).
+	 */
+	private static final int SCORE_UNIT = 1 << 8;
+
+	/**
+	 * Each candidate strategy's score is reduced by
+	 * <code>1/2<sup>SCORE_DECAY_SHIFT</sup></code> every round, so that recent
+	 * rounds count for more than older ones.
+	 */
+	private static final int SCORE_DECAY_SHIFT = 4;
+
+	/**
+	 * The largest magnitude that a candidate strategy's score can reach, given
+	 * {@link #SCORE_UNIT} and {@link #SCORE_DECAY_SHIFT}.
+	 */
+	private static final int MAX_SCORE = SCORE_UNIT << SCORE_DECAY_SHIFT;
+
+	/**
+	 * The first byte of every exported opponent model, which should be changed
+	 * if the format ever is.
+	 */
+	private static final byte MODEL_FORMAT_VERSION = 1;
+
+	private final long moveBudgetNanos;
+
+	/**
+	 * Constructs a new {@link EnsembleBrain} instance.
+	 *
+	 * @param moveBudgetNanos
+	 *            the value to use for {@link #getMoveBudgetNanos()}
+	 */
+	public EnsembleBrain(long moveBudgetNanos) {
+		if (moveBudgetNanos < 0)
+			throw new IllegalArgumentException("Invalid move budget: " + moveBudgetNanos);
+
+		this.moveBudgetNanos = moveBudgetNanos;
+	}
+
+	/**
+	 * @return the {@link #BEATS} table
+	 */
+	private static int[] buildBeatsTable() {
+		int[] beats = new int[NUM_THROWS];
+		for (Throw throwValue : THROWS)
+			beats[throwValue.ordinal()] = throwValue.getOppositeThrow().ordinal();
+		return beats;
+	}
+
+	/**
+	 * @return the maximum amount of time (in nanoseconds) that will be spent
+	 *         consulting the predictors for each move
+	 */
+	public long getMoveBudgetNanos() {
+		return moveBudgetNanos;
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.api.game.ai.IPositronicBrain#calculateNextThrow(com.justdavis.karl.rpstourney.service.api.game.GameView,
+	 *      com.justdavis.karl.rpstourney.service.api.game.PlayerRole)
+	 */
+	@Override
+	public Throw calculateNextThrow(GameView game, PlayerRole role) {
+		/*
+		 * Without an IPositronicMind to keep the predictors in, they have to be
+		 * rebuilt from scratch, which takes time proportional to the number of
+		 * rounds. AiPlayerMind avoids that by using createMind(), instead.
+		 */
+		EnsembleMind mind = new EnsembleMind();
+		for (GameRound round : game.getRounds()) {
+			Throw ownThrow = round.getThrowForPlayer(role);
+			Throw opponentThrow = round.getThrowForPlayer(role.getOpponentRole());
+			if (ownThrow != null && opponentThrow != null)
+				mind.observe(ownThrow, opponentThrow);
+		}
+
+		return mind.nextThrow();
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.api.game.ai.IIncrementalPositronicBrain#createMind()
+	 */
+	@Override
+	public ILearningPositronicMind createMind() {
+		return new EnsembleMind();
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.api.game.ai.ILearningPositronicBrain#createMind(byte[])
+	 */
+	@Override
+	public ILearningPositronicMind createMind(byte[] opponentModel) {
+		if (opponentModel == null)
+			throw new IllegalArgumentException();
+
+		EnsembleMind mind = new EnsembleMind();
+		try {
+			mind.importOpponentModel(ByteBuffer.wrap(opponentModel));
+		} catch (BufferUnderflowException e) {
+			throw new IllegalArgumentException("Model is too short.", e);
+		}
+
+		return mind;
+	}
+
+	/**
+	 * The {@link IPositronicMind} for {@link EnsembleBrain}, which holds the
+	 * predictors and scores for a single game.
+	 */
+	private final class EnsembleMind implements ILearningPositronicMind {
+		private final Predictor[] predictors;
+
+		/**
+		 * The {@link Throw#ordinal()} that each candidate strategy suggests for
+		 * the next round (or <code>-1</code> if it has no suggestion), indexed
+		 * by <code>(predictorIndex * NUM_ROTATIONS) + rotation</code>.
+		 */
+		private final int[] candidateThrows;
+
+		/**
+		 * The current score for each candidate strategy, indexed the same as
+		 * {@link #candidateThrows}.
+		 */
+		private final int[] scores;
+
+		/**
+		 * Constructs a new {@link EnsembleMind}.
+		 */
+		EnsembleMind() {
+			/*
+			 * The predictors are ordered roughly by how useful they're expected
+			 * to be, as the later ones are the first to be skipped when the
+			 * move budget runs out.
+			 */
+			this.predictors = new Predictor[] { new MarkovPredictor(1, false), new FrequencyPredictor(false),
+					new WinStayLoseShiftPredictor(), new MarkovPredictor(2, false), new MarkovPredictor(1, true),
+					new MarkovPredictor(2, true), new LastThrowPredictor(false), new LastThrowPredictor(true),
+					new FrequencyPredictor(true) };
+			this.candidateThrows = new int[predictors.length * NUM_ROTATIONS];
+			this.scores = new int[candidateThrows.length];
+
+			for (int i = 0; i < candidateThrows.length; i++)
+				candidateThrows[i] = -1;
+		}
+
+		/**
+		 * @see com.justdavis.karl.rpstourney.service.api.game.ai.IPositronicMind#observe(com.justdavis.karl.rpstourney.service.api.game.Throw,
+		 *      com.justdavis.karl.rpstourney.service.api.game.Throw)
+		 */
+		@Override
+		public void observe(Throw ownThrow, Throw opponentThrow) {
+			int own = ownThrow.ordinal();
+			int opponent = opponentThrow.ordinal();
+
+			// Score each candidate strategy's suggestion for the round.
+			for (int i = 0; i < candidateThrows.length; i++) {
+				int score = scores[i] - (scores[i] >> SCORE_DECAY_SHIFT);
+				int candidateThrow = candidateThrows[i];
+				if (candidateThrow >= 0) {
+					if (candidateThrow == BEATS[opponent])
+						score += SCORE_UNIT;
+					else if (opponent == BEATS[candidateThrow])
+						score -= SCORE_UNIT;
+				}
+				scores[i] = score;
+			}
+
+			/*
+			 * Every predictor has to see every round (which is cheap), or else
+			 * its state would be wrong for later rounds.
+			 */
+			for (Predictor predictor : predictors)
+				predictor.observe(own, opponent);
+
+			/*
+			 * Collect the predictions for the next round, for as long as the
+			 * budget allows.
+			 */
+			long start = System.nanoTime();
+			for (int p = 0; p < predictors.length; p++) {
+				int prediction = -1;
+				if (System.nanoTime() - start < moveBudgetNanos)
+					prediction = predictors[p].predict();
+
+				for (int r = 0; r < NUM_ROTATIONS; r++) {
+					int candidateIndex = p * NUM_ROTATIONS + r;
+					if (prediction < 0) {
+						candidateThrows[candidateIndex] = -1;
+					} else {
+						// Each rotation is one more step of second-guessing.
+						prediction = BEATS[prediction];
+						candidateThrows[candidateIndex] = prediction;
+					}
+				}
+			}
+		}
+
+		/**
+		 * @see com.justdavis.karl.rpstourney.service.api.game.ai.IPositronicMind#nextThrow()
+		 */
+		@Override
+		public Throw nextThrow() {
+			int bestCandidate = -1;
+			int bestScore = 0;
+			for (int i = 0; i < candidateThrows.length; i++) {
+				if (candidateThrows[i] >= 0 && scores[i] > bestScore) {
+					bestCandidate = i;
+					bestScore = scores[i];
+				}
+			}
+
+			if (bestCandidate < 0)
+				return ThreeSidedDieBrain.calculateRandomThrow();
+			return THROWS[candidateThrows[bestCandidate]];
+		}
+
+		/**
+		 * @see com.justdavis.karl.rpstourney.service.api.game.ai.ILearningPositronicMind#exportOpponentModel()
+		 */
+		@Override
+		public byte[] exportOpponentModel() {
+			int modelSize = 2 + scores.length * Integer.BYTES;
+			for (Predictor predictor : predictors)
+				modelSize += predictor.getModelSize();
+
+			ByteBuffer buffer = ByteBuffer.allocate(modelSize);
+			buffer.put(MODEL_FORMAT_VERSION);
+			buffer.put((byte) predictors.length);
+			for (Predictor predictor : predictors)
+				predictor.writeModel(buffer);
+			for (int score : scores)
+				buffer.putInt(score);
+			return buffer.array();
+		}
+
+		/**
+		 * Replaces this (fresh) {@link EnsembleMind}'s predictor state and
+		 * scores with those from an exported opponent model.
+		 *
+		 * @param buffer
+		 *            the {@link ByteBuffer} containing the
+		 *            {@link #exportOpponentModel()} result to import
+		 */
+		void importOpponentModel(ByteBuffer buffer) {
+			if (buffer.get() != MODEL_FORMAT_VERSION)
+				throw new IllegalArgumentException("Unsupported model format.");
+			if (buffer.get() != predictors.length)
+				throw new IllegalArgumentException("Model is for different predictors.");
+
+			for (Predictor predictor : predictors)
+				predictor.readModel(buffer);
+			for (int i = 0; i < scores.length; i++) {
+				int score = buffer.getInt();
+				if (Math.abs(score) > MAX_SCORE)
+					throw new IllegalArgumentException("Invalid score: " + score);
+				scores[i] = score;
+			}
+
+			if (buffer.hasRemaining())
+				throw new IllegalArgumentException("Model is too long.");
+		}
+	}
+
+	/**
+	 * Predicts an opponent's next {@link Throw}, based on the rounds that it's
+	 * been shown. Implementations must take constant time and must not
+	 * allocate anything, in either {@link #observe(int, int)} or
+	 * {@link #predict()}. Any long-term state that's worth carrying over to
+	 * later games should be handled by overriding {@link #getModelSize()},
+	 * {@link #writeModel(ByteBuffer)}, and {@link #readModel(ByteBuffer)}.
+	 */
+	private static abstract class Predictor {
+		/**
+		 * @param ownThrow
+		 *            the {@link Throw#ordinal()} of the {@link Throw} that was
+		 *            made by the AI in the latest round
+		 * @param opponentThrow
+		 *            the {@link Throw#ordinal()} of the {@link Throw} that was
+		 *            made by the opponent in the latest round
+		 */
+		abstract void observe(int ownThrow, int opponentThrow);
+
+		/**
+		 * @return the {@link Throw#ordinal()} of the opponent's predicted next
+		 *         {@link Throw}, or <code>-1</code> if no prediction can be
+		 *         made
+		 */
+		abstract int predict();
+
+		/**
+		 * @return the number of bytes that {@link #writeModel(ByteBuffer)} will
+		 *         write
+		 */
+		int getModelSize() {
+			return 0;
+		}
+
+		/**
+		 * @param buffer
+		 *            the {@link ByteBuffer} to write this {@link Predictor}'s
+		 *            long-term state to
+		 */
+		void writeModel(ByteBuffer buffer) {
+			// Nothing to write, by default.
+		}
+
+		/**
+		 * @param buffer
+		 *            the {@link ByteBuffer} to read this {@link Predictor}'s
+		 *            long-term state from, as written by
+		 *            {@link #writeModel(ByteBuffer)}
+		 */
+		void readModel(ByteBuffer buffer) {
+			// Nothing to read, by default.
+		}
+	}
+
+	/**
+	 * A {@link Predictor} backed by a {@link MarkovModel}, which can either
+	 * model the opponent's {@link Throw}s directly, or can model the AI's own
+	 * {@link Throw}s and assume that the opponent is doing the same (and will
+	 * counter accordingly).
+	 */
+	private static final class MarkovPredictor extends Predictor {
+		private final MarkovModel model;
+		private final boolean modelOwnThrows;
+
+		/**
+		 * @param order
+		 *            the order of the {@link MarkovModel} to use
+		 * @param modelOwnThrows
+		 *            <code>true</code> to model the AI's own {@link Throw}s, or
+		 *            <code>false</code> to model the opponent's
+		 */
+		MarkovPredictor(int order, boolean modelOwnThrows) {
+			this.model = new MarkovModel(order);
+			this.modelOwnThrows = modelOwnThrows;
+		}
+
+		/**
+		 * @see com.justdavis.karl.rpstourney.service.api.game.ai.EnsembleBrain.Predictor#observe(int, int)
+		 */
+		@Override
+		void observe(int ownThrow, int opponentThrow) {
+			if (modelOwnThrows)
+				model.observe(opponentThrow, ownThrow);
+			else
+				model.observe(ownThrow, opponentThrow);
+		}
+
+		/**
+		 * @see com.justdavis.karl.rpstourney.service.api.game.ai.EnsembleBrain.Predictor#predict()
+		 */
+		@Override
+		int predict() {
+			int prediction = model.predict();
+			if (prediction < 0 || !modelOwnThrows)
+				return prediction;
+			return BEATS[prediction];
+		}
+
+		/**
+		 * @see com.justdavis.karl.rpstourney.service.api.game.ai.EnsembleBrain.Predictor#getModelSize()
+		 */
+		@Override
+		int getModelSize() {
+			return model.getCountsSize();
+		}
+
+		/**
+		 * @see com.justdavis.karl.rpstourney.service.api.game.ai.EnsembleBrain.Predictor#writeModel(java.nio.ByteBuffer)
+		 */
+		@Override
+		void writeModel(ByteBuffer buffer) {
+			model.writeCounts(buffer);
+		}
+
+		/**
+		 * @see com.justdavis.karl.rpstourney.service.api.game.ai.EnsembleBrain.Predictor#readModel(java.nio.ByteBuffer)
+		 */
+		@Override
+		void readModel(ByteBuffer buffer) {
+			model.readCounts(buffer);
+		}
+	}
+
+	/**
+	 * A {@link Predictor} that assumes the opponent will either make their
+	 * most frequent {@link Throw}, or will counter the AI's most frequent
+	 * {@link Throw}. Like {@link MarkovModel}, the counters are halved
+	 * periodically, to favor recent rounds.
+	 */
+	private static final class FrequencyPredictor extends Predictor {
+		private final boolean countOwnThrows;
+		private final int[] counts = new int[NUM_THROWS];
+
+		/**
+		 * @param countOwnThrows
+		 *            <code>true</code> to assume that the opponent will counter
+		 *            the AI's most frequent {@link Throw}, or <code>false</code>
+		 *            to assume that they'll repeat their own most frequent
+		 *            {@link Throw}
+		 */
+		FrequencyPredictor(boolean countOwnThrows) {
+			this.countOwnThrows = countOwnThrows;
+		}
+
+		/**
+		 * @see com.justdavis.karl.rpstourney.service.api.game.ai.EnsembleBrain.Predictor#observe(int, int)
+		 */
+		@Override
+		void observe(int ownThrow, int opponentThrow) {
+			if (++counts[countOwnThrows ? ownThrow : opponentThrow] >= MarkovModel.MAX_COUNT)
+				for (int i = 0; i < NUM_THROWS; i++)
+					counts[i] >>= 1;
+		}
+
+		/**
+		 * @see com.justdavis.karl.rpstourney.service.api.game.ai.EnsembleBrain.Predictor#predict()
+		 */
+		@Override
+		int predict() {
+			int mostFrequent = -1;
+			int bestCount = 0;
+			for (int i = 0; i < NUM_THROWS; i++) {
+				if (counts[i] > bestCount) {
+					mostFrequent = i;
+					bestCount = counts[i];
+				}
+			}
+
+			if (mostFrequent < 0)
+				return -1;
+			return countOwnThrows ? BEATS[mostFrequent] : mostFrequent;
+		}
+
+		/**
+		 * @see com.justdavis.karl.rpstourney.service.api.game.ai.EnsembleBrain.Predictor#getModelSize()
+		 */
+		@Override
+		int getModelSize() {
+			return counts.length * Short.BYTES;
+		}
+
+		/**
+		 * @see com.justdavis.karl.rpstourney.service.api.game.ai.EnsembleBrain.Predictor#writeModel(java.nio.ByteBuffer)
+		 */
+		@Override
+		void writeModel(ByteBuffer buffer) {
+			for (int count : counts)
+				buffer.putShort((short) count);
+		}
+
+		/**
+		 * @see com.justdavis.karl.rpstourney.service.api.game.ai.EnsembleBrain.Predictor#readModel(java.nio.ByteBuffer)
+		 */
+		@Override
+		void readModel(ByteBuffer buffer) {
+			for (int i = 0; i < counts.length; i++) {
+				int count = buffer.getShort();
+				if (count < 0 || count >= MarkovModel.MAX_COUNT)
+					throw new IllegalArgumentException("Invalid count: " + count);
+				counts[i] = count;
+			}
+		}
+	}
+
+	/**
+	 * A {@link Predictor} that assumes the opponent will either repeat their
+	 * last {@link Throw}, or will mirror the AI's last {@link Throw}.
+	 */
+	private static final class LastThrowPredictor extends Predictor {
+		private final boolean mirror;
+		private int lastThrow = -1;
+
+		/**
+		 * @param mirror
+		 *            <code>true</code> to assume that the opponent will copy
+		 *            the AI's last {@link Throw}, or <code>false</code> to
+		 *            assume that they'll repeat their own
+		 */
+		LastThrowPredictor(boolean mirror) {
+			this.mirror = mirror;
+		}
+
+		/**
+		 * @see com.justdavis.karl.rpstourney.service.api.game.ai.EnsembleBrain.Predictor#observe(int, int)
+		 */
+		@Override
+		void observe(int ownThrow, int opponentThrow) {
+			this.lastThrow = mirror ? ownThrow : opponentThrow;
+		}
+
+		/**
+		 * @see com.justdavis.karl.rpstourney.service.api.game.ai.EnsembleBrain.Predictor#predict()
+		 */
+		@Override
+		int predict() {
+			return lastThrow;
+		}
+	}
+
+	/**
+	 * A {@link Predictor} that assumes the opponent is playing the same way
+	 * as {@link WinStayLoseShiftBrain}.
+	 */
+	private static final class WinStayLoseShiftPredictor extends Predictor {
+		private int lastOwnThrow = -1;
+		private int lastOpponentThrow = -1;
+
+		/**
+		 * @see com.justdavis.karl.rpstourney.service.api.game.ai.EnsembleBrain.Predictor#observe(int, int)
+		 */
+		@Override
+		void observe(int ownThrow, int opponentThrow) {
+			this.lastOwnThrow = ownThrow;
+			this.lastOpponentThrow = opponentThrow;
+		}
+
+		/**
+		 * @see com.justdavis.karl.rpstourney.service.api.game.ai.EnsembleBrain.Predictor#predict()
+		 */
+		@Override
+		int predict() {
+			if (lastOwnThrow < 0)
+				return -1;
+
+			boolean opponentWon = lastOpponentThrow == BEATS[lastOwnThrow];
+			return opponentWon ? lastOpponentThrow : BEATS[lastOwnThrow];
+		}
+	}
+}
@@ -0,0 +1,19 @@
+package com.justdavis.karl.rpstourney.service.api.game.ai;
+
+import com.justdavis.karl.rpstourney.service.api.game.GameView;
+import com.justdavis.karl.rpstourney.service.api.game.PlayerRole;
+
+/**
+ * An {@link IPositronicBrain} that can also play incrementally, via
+ * {@link IPositronicMind}s. Implementations must ensure that their
+ * {@link IPositronicMind}s make the same decisions that
+ * {@link #calculateNextThrow(GameView, PlayerRole)} would.
+ */
+public interface IIncrementalPositronicBrain extends IPositronicBrain {
+	/**
+	 * @return a new {@link IPositronicMind} for this
+	 *         {@link IIncrementalPositronicBrain}, that has not yet observed
+	 *         any rounds
+	 */
+	IPositronicMind createMind();
+}
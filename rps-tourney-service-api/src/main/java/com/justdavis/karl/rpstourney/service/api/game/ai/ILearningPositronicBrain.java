@@ -0,0 +1,43 @@
+package com.justdavis.karl.rpstourney.service.api.game.ai;
+
+import com.justdavis.karl.rpstourney.service.api.game.Game;
+
+/**
+ * <p>
+ * An {@link IIncrementalPositronicBrain} whose {@link IPositronicMind}s learn a
+ * model of their opponent as they play, and which can carry that model over
+ * from one {@link Game} to the next: the model is exported (as an opaque
+ * <code>byte[]</code>) via
+ * {@link ILearningPositronicMind#exportOpponentModel()} and then used to seed
+ * a later {@link Game}'s {@link IPositronicMind} via
+ * {@link #createMind(byte[])}.
+ * </p>
+ * <p>
+ * Exported models are only meaningful to {@link ILearningPositronicBrain}s
+ * that are configured the same as the one that exported them.
+ * </p>
+ */
+public interface ILearningPositronicBrain extends IIncrementalPositronicBrain {
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.api.game.ai.IIncrementalPositronicBrain#createMind()
+	 */
+	@Override
+	ILearningPositronicMind createMind();
+
+	/**
+	 * @param opponentModel
+	 *            a model previously returned by
+	 *            {@link ILearningPositronicMind#exportOpponentModel()} for an
+	 *            {@link ILearningPositronicMind} of an equivalent
+	 *            {@link ILearningPositronicBrain}
+	 * @return a new {@link ILearningPositronicMind} for this
+	 *         {@link ILearningPositronicBrain}, that has not yet observed any
+	 *         rounds of its game, but that starts out with the specified
+	 *         opponent model
+	 * @throws IllegalArgumentException
+	 *             An {@link IllegalArgumentException} will be thrown if the
+	 *             specified model is <code>null</code>, corrupt, or was
+	 *             exported by a differently configured brain.
+	 */
+	ILearningPositronicMind createMind(byte[] opponentModel);
+}
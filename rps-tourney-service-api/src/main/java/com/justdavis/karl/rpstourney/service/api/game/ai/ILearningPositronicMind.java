@@ -0,0 +1,22 @@
+package com.justdavis.karl.rpstourney.service.api.game.ai;
+
+import com.justdavis.karl.rpstourney.service.api.game.Game;
+
+/**
+ * The {@link IPositronicMind}s of {@link ILearningPositronicBrain}s, which can
+ * export what they've learned about their opponent, for use in later
+ * {@link Game}s against the same opponent.
+ *
+ * @see ILearningPositronicBrain
+ */
+public interface ILearningPositronicMind extends IPositronicMind {
+	/**
+	 * Note that only what's been learned about the opponent is exported: the
+	 * state of the current {@link Game} (e.g. the most recent rounds) is not.
+	 *
+	 * @return a compact, opaque encoding of this
+	 *         {@link ILearningPositronicMind}'s current opponent model, which
+	 *         can be passed to {@link ILearningPositronicBrain#createMind(byte[])}
+	 */
+	byte[] exportOpponentModel();
+}
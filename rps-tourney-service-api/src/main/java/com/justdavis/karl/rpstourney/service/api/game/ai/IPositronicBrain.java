@@ -6,9 +6,16 @@ import com.justdavis.karl.rpstourney.service.api.game.PlayerRole;
 import com.justdavis.karl.rpstourney.service.api.game.Throw;
 
 /**
+ * <p>
  * Implementations of {@link IPositronicBrain} provide the logic used by the
  * game's AI players, capable of analyzing game history and deciding which
  * {@link Throw} to make next.
+ * </p>
+ * <p>
+ * Gameplay should generally go through {@link AiPlayerMind}, which also
+ * supports {@link IIncrementalPositronicBrain}s: those don't need to re-analyze
+ * a game's entire history for every {@link Throw}.
+ * </p>
  */
 public interface IPositronicBrain {
 	/**
@@ -0,0 +1,47 @@
+package com.justdavis.karl.rpstourney.service.api.game.ai;
+
+import com.justdavis.karl.rpstourney.service.api.game.Game;
+import com.justdavis.karl.rpstourney.service.api.game.GameRound;
+import com.justdavis.karl.rpstourney.service.api.game.Throw;
+
+/**
+ * <p>
+ * An {@link IPositronicMind} is the stateful, incremental counterpart of an
+ * {@link IPositronicBrain}: rather than analyzing a game's entire history each
+ * time it needs to make a {@link Throw}, it's fed each completed
+ * {@link GameRound} once, via {@link #observe(Throw, Throw)}, and keeps
+ * whatever (compact) state it needs to answer {@link #nextThrow()}.
+ * </p>
+ * <p>
+ * Each {@link IPositronicMind} instance is only good for a single player in a
+ * single {@link Game}. Instances are not expected to be thread-safe.
+ * </p>
+ * 
+ * @see IIncrementalPositronicBrain
+ * @see AiPlayerMind
+ */
+public interface IPositronicMind {
+	/**
+	 * Updates this {@link IPositronicMind}'s state to account for the next
+	 * completed {@link GameRound} of its game. Must be called exactly once for
+	 * each round, in order.
+	 * 
+	 * @param ownThrow
+	 *            the {@link Throw} made in the round by the player that this
+	 *            {@link IPositronicMind} is playing for
+	 * @param opponentThrow
+	 *            the {@link Throw} made in the round by that player's opponent
+	 */
+	void observe(Throw ownThrow, Throw opponentThrow);
+
+	/**
+	 * Implementations may assume that this method will only be called when
+	 * there is a valid {@link Throw} to be made (i.e. not after the game has
+	 * finished).
+	 * 
+	 * @return the {@link Throw} chosen by this {@link IPositronicMind} for the
+	 *         round after the last one passed to
+	 *         {@link #observe(Throw, Throw)}
+	 */
+	Throw nextThrow();
+}
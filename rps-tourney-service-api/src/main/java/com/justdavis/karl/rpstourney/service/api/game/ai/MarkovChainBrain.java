@@ -0,0 +1,163 @@
+package com.justdavis.karl.rpstourney.service.api.game.ai;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import com.justdavis.karl.rpstourney.service.api.game.GameRound;
+import com.justdavis.karl.rpstourney.service.api.game.GameView;
+import com.justdavis.karl.rpstourney.service.api.game.PlayerRole;
+import com.justdavis.karl.rpstourney.service.api.game.Throw;
+
+/**
+ * <p>
+ * This {@link IPositronicBrain} predicts the opponent's next {@link Throw} from
+ * an order-<code>k</code> Markov model: it counts which {@link Throw} the
+ * opponent made after each sequence of <code>k</code> previous rounds (both
+ * players' {@link Throw}s), and then plays whatever beats the opponent's most
+ * frequent follow-up to the most recent <code>k</code> rounds. Until it has
+ * seen enough rounds (or when it has no data for the current sequence), it
+ * just plays randomly, like {@link ThreeSidedDieBrain}.
+ * </p>
+ * <p>
+ * The model itself is a {@link MarkovModel}, which is stored in a fixed-size
+ * <code>int[]</code> counter table, so each move takes constant time and makes
+ * no allocations, no matter how long the game runs. Its counters can also be
+ * exported and used to seed later games against the same opponent (see
+ * {@link ILearningPositronicBrain}).
+ * </p>
+ */
+public final class MarkovChainBrain implements ILearningPositronicBrain {
+	/**
+	 * The largest Markov model order supported, which keeps the counter table
+	 * at a reasonable size (about 700 KB per game for an order of 5).
+	 */
+	public static final int MAX_ORDER = MarkovModel.MAX_ORDER;
+
+	private static final Throw[] THROWS = Throw.values();
+
+	/**
+	 * The first byte of every exported opponent model, which should be changed
+	 * if the format ever is.
+	 */
+	private static final byte MODEL_FORMAT_VERSION = 1;
+
+	private final int order;
+
+	/**
+	 * Constructs a new {@link MarkovChainBrain} instance.
+	 *
+	 * @param order
+	 *            the value to use for {@link #getOrder()}, which must be
+	 *            between <code>1</code> and {@link #MAX_ORDER}, inclusive
+	 */
+	public MarkovChainBrain(int order) {
+		if (order < 1 || order > MAX_ORDER)
+			throw new IllegalArgumentException("Invalid order: " + order);
+
+		this.order = order;
+	}
+
+	/**
+	 * @return the number of previous rounds that this {@link MarkovChainBrain}
+	 *         bases its predictions on
+	 */
+	public int getOrder() {
+		return order;
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.api.game.ai.IPositronicBrain#calculateNextThrow(com.justdavis.karl.rpstourney.service.api.game.GameView,
+	 *      com.justdavis.karl.rpstourney.service.api.game.PlayerRole)
+	 */
+	@Override
+	public Throw calculateNextThrow(GameView game, PlayerRole role) {
+		/*
+		 * Without an IPositronicMind to keep the model in, it has to be rebuilt
+		 * from scratch, which takes time proportional to the number of rounds.
+		 * AiPlayerMind avoids that by using createMind(), instead.
+		 */
+		MarkovChainMind mind = new MarkovChainMind();
+		for (GameRound round : game.getRounds()) {
+			Throw ownThrow = round.getThrowForPlayer(role);
+			Throw opponentThrow = round.getThrowForPlayer(role.getOpponentRole());
+			if (ownThrow != null && opponentThrow != null)
+				mind.observe(ownThrow, opponentThrow);
+		}
+
+		return mind.nextThrow();
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.api.game.ai.IIncrementalPositronicBrain#createMind()
+	 */
+	@Override
+	public ILearningPositronicMind createMind() {
+		return new MarkovChainMind();
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.api.game.ai.ILearningPositronicBrain#createMind(byte[])
+	 */
+	@Override
+	public ILearningPositronicMind createMind(byte[] opponentModel) {
+		if (opponentModel == null)
+			throw new IllegalArgumentException();
+
+		MarkovChainMind mind = new MarkovChainMind();
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(opponentModel);
+			if (buffer.get() != MODEL_FORMAT_VERSION)
+				throw new IllegalArgumentException("Unsupported model format.");
+			if (buffer.get() != order)
+				throw new IllegalArgumentException("Model is for a different order.");
+			mind.model.readCounts(buffer);
+			if (buffer.hasRemaining())
+				throw new IllegalArgumentException("Model is too long.");
+		} catch (BufferUnderflowException e) {
+			throw new IllegalArgumentException("Model is too short.", e);
+		}
+
+		return mind;
+	}
+
+	/**
+	 * The {@link IPositronicMind} for {@link MarkovChainBrain}, which holds the
+	 * {@link MarkovModel} for a single game.
+	 */
+	private final class MarkovChainMind implements ILearningPositronicMind {
+		private final MarkovModel model = new MarkovModel(order);
+
+		/**
+		 * @see com.justdavis.karl.rpstourney.service.api.game.ai.IPositronicMind#observe(com.justdavis.karl.rpstourney.service.api.game.Throw,
+		 *      com.justdavis.karl.rpstourney.service.api.game.Throw)
+		 */
+		@Override
+		public void observe(Throw ownThrow, Throw opponentThrow) {
+			model.observe(ownThrow.ordinal(), opponentThrow.ordinal());
+		}
+
+		/**
+		 * @see com.justdavis.karl.rpstourney.service.api.game.ai.IPositronicMind#nextThrow()
+		 */
+		@Override
+		public Throw nextThrow() {
+			int predictedThrow = model.predict();
+			if (predictedThrow < 0)
+				return ThreeSidedDieBrain.calculateRandomThrow();
+
+			return THROWS[predictedThrow].getOppositeThrow();
+		}
+
+		/**
+		 * @see com.justdavis.karl.rpstourney.service.api.game.ai.ILearningPositronicMind#exportOpponentModel()
+		 */
+		@Override
+		public byte[] exportOpponentModel() {
+			ByteBuffer buffer = ByteBuffer.allocate(2 + model.getCountsSize());
+			buffer.put(MODEL_FORMAT_VERSION);
+			buffer.put((byte) order);
+			model.writeCounts(buffer);
+			return buffer.array();
+		}
+	}
+}
@@ -0,0 +1,205 @@
+package com.justdavis.karl.rpstourney.service.api.game.ai;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.justdavis.karl.rpstourney.service.api.game.Throw;
+
+/**
+ * <p>
+ * An order-<code>k</code> Markov model of an opponent's {@link Throw}s: it
+ * counts which {@link Throw} the opponent made after each sequence of
+ * <code>k</code> previous rounds (both players' {@link Throw}s), and predicts
+ * that the opponent will make their most frequent follow-up to the most recent
+ * <code>k</code> rounds.
+ * </p>
+ * <p>
+ * The model is stored in a fixed-size <code>int[]</code> counter table (with
+ * <code>9<sup>k</sup> * 3</code> entries), so updates and predictions take
+ * constant time and make no allocations, no matter how many rounds have been
+ * observed. To keep the model responsive to opponents that change their
+ * strategy (and to prevent overflow), each sequence's counters are halved
+ * whenever one of them reaches {@link #MAX_COUNT}.
+ * </p>
+ * <p>
+ * The counters can be written out and read back in (see
+ * {@link #writeCounts(ByteBuffer)} and {@link #readCounts(ByteBuffer)}), so
+ * that what's been learned about an opponent can be carried over to later
+ * games. As the counters are always less than {@link #MAX_COUNT}, each one is
+ * written as a <code>short</code>.
+ * </p>
+ * <p>
+ * <strong>Warning:</strong> This class is not at all thread-safe.
+ * </p>
+ */
+final class MarkovModel {
+	/**
+	 * The largest Markov model order supported, which keeps the counter table
+	 * at a reasonable size (about 700 KB for an order of 5).
+	 */
+	static final int MAX_ORDER = 5;
+
+	/**
+	 * Once any of a sequence's counters reach this value, all of that
+	 * sequence's counters will be halved.
+	 */
+	static final int MAX_COUNT = 1 << 10;
+
+	private static final int NUM_THROWS = Throw.values().length;
+	private static final int NUM_THROW_PAIRS = NUM_THROWS * NUM_THROWS;
+
+	private final int order;
+	private final int numContexts;
+
+	/**
+	 * The number of times that the opponent has made each {@link Throw} after
+	 * each sequence of rounds, indexed by
+	 * <code>(context * NUM_THROWS) + opponentThrow.ordinal()</code>.
+	 */
+	private final int[] counts;
+
+	/**
+	 * The base-9 encoding of the most recent {@link #order} rounds, where each
+	 * digit is <code>(ownThrow * NUM_THROWS) + opponentThrow</code>.
+	 */
+	private int context;
+
+	/**
+	 * The number of rounds observed so far, capped at {@link #order}.
+	 */
+	private int roundsObserved;
+
+	/**
+	 * Constructs a new {@link MarkovModel} instance.
+	 *
+	 * @param order
+	 *            the number of previous rounds to base predictions on, which
+	 *            must be between <code>1</code> and {@link #MAX_ORDER},
+	 *            inclusive
+	 */
+	MarkovModel(int order) {
+		if (order < 1 || order > MAX_ORDER)
+			throw new IllegalArgumentException("Invalid order: " + order);
+
+		this.order = order;
+		this.numContexts = numContexts(order);
+		this.counts = new int[numContexts * NUM_THROWS];
+		this.context = 0;
+		this.roundsObserved = 0;
+	}
+
+	/**
+	 * @param order
+	 *            the Markov model order to calculate for
+	 * @return the number of distinct sequences of <code>order</code> rounds
+	 */
+	private static int numContexts(int order) {
+		int numContexts = 1;
+		for (int i = 0; i < order; i++)
+			numContexts *= NUM_THROW_PAIRS;
+		return numContexts;
+	}
+
+	/**
+	 * Updates the model with a newly completed round.
+	 *
+	 * @param ownThrow
+	 *            the {@link Throw#ordinal()} of the {@link Throw} that was made
+	 *            by the player doing the predicting
+	 * @param opponentThrow
+	 *            the {@link Throw#ordinal()} of the {@link Throw} that was made
+	 *            by the opponent being predicted
+	 */
+	void observe(int ownThrow, int opponentThrow) {
+		if (roundsObserved >= order) {
+			int row = context * NUM_THROWS;
+			if (++counts[row + opponentThrow] >= MAX_COUNT)
+				for (int i = row; i < row + NUM_THROWS; i++)
+					counts[i] >>= 1;
+		} else {
+			roundsObserved++;
+		}
+
+		int throwPair = ownThrow * NUM_THROWS + opponentThrow;
+		context = (context * NUM_THROW_PAIRS + throwPair) % numContexts;
+	}
+
+	/**
+	 * @return the {@link Throw#ordinal()} of the opponent's most likely next
+	 *         {@link Throw} (with ties broken randomly), or <code>-1</code> if
+	 *         the model doesn't have any data for the most recent rounds
+	 */
+	int predict() {
+		if (roundsObserved < order)
+			return -1;
+
+		/*
+		 * Ties are broken via reservoir sampling, to avoid favoring any
+		 * particular Throw.
+		 */
+		int row = context * NUM_THROWS;
+		int bestCount = 0;
+		int bestThrow = -1;
+		int numTied = 0;
+		for (int i = 0; i < NUM_THROWS; i++) {
+			int count = counts[row + i];
+			if (count == 0)
+				continue;
+
+			if (count > bestCount) {
+				bestCount = count;
+				bestThrow = i;
+				numTied = 1;
+			} else if (count == bestCount) {
+				numTied++;
+				if (ThreadLocalRandom.current().nextInt(numTied) == 0)
+					bestThrow = i;
+			}
+		}
+
+		return bestThrow;
+	}
+
+	/**
+	 * @return the number of bytes that {@link #writeCounts(ByteBuffer)} will
+	 *         write
+	 */
+	int getCountsSize() {
+		return counts.length * Short.BYTES;
+	}
+
+	/**
+	 * Writes out this model's counters (but not its most recent rounds).
+	 *
+	 * @param buffer
+	 *            the {@link ByteBuffer} to write the counters to, which must
+	 *            have at least {@link #getCountsSize()} bytes remaining
+	 */
+	void writeCounts(ByteBuffer buffer) {
+		for (int count : counts)
+			buffer.putShort((short) count);
+	}
+
+	/**
+	 * Replaces this model's counters with ones previously written by
+	 * {@link #writeCounts(ByteBuffer)} for a model of the same order. The most
+	 * recent rounds are left alone, as they're specific to each game.
+	 *
+	 * @param buffer
+	 *            the {@link ByteBuffer} to read the counters from
+	 * @throws IllegalArgumentException
+	 *             An {@link IllegalArgumentException} will be thrown if any of
+	 *             the counters are out of range.
+	 * @throws java.nio.BufferUnderflowException
+	 *             A {@link java.nio.BufferUnderflowException} will be thrown if
+	 *             the {@link ByteBuffer} doesn't have enough bytes remaining.
+	 */
+	void readCounts(ByteBuffer buffer) {
+		for (int i = 0; i < counts.length; i++) {
+			int count = buffer.getShort();
+			if (count < 0 || count >= MAX_COUNT)
+				throw new IllegalArgumentException("Invalid count: " + count);
+			counts[i] = count;
+		}
+	}
+}
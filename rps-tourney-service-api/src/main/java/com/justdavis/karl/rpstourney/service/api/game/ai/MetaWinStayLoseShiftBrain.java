@@ -13,7 +13,7 @@ import com.justdavis.karl.rpstourney.service.api.game.Throw;
  * this <strong>isn't</strong> the "win-stay, lose-shift" strategy that is
  * referred to there; it's the strategy designed to beat that one.
  */
-public final class MetaWinStayLoseShiftBrain implements IPositronicBrain {
+public final class MetaWinStayLoseShiftBrain implements IIncrementalPositronicBrain {
 	/**
 	 * @see com.justdavis.karl.rpstourney.service.api.game.ai.IPositronicBrain#calculateNextThrow(com.justdavis.karl.rpstourney.service.api.game.GameView,
 	 *      com.justdavis.karl.rpstourney.service.api.game.PlayerRole)
@@ -42,4 +42,48 @@ public final class MetaWinStayLoseShiftBrain implements IPositronicBrain {
 			return previousOpponentThrow.getOppositeThrow();
 		}
 	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.api.game.ai.IIncrementalPositronicBrain#createMind()
+	 */
+	@Override
+	public IPositronicMind createMind() {
+		return new MetaWinStayLoseShiftMind();
+	}
+
+	/**
+	 * The {@link IPositronicMind} for {@link MetaWinStayLoseShiftBrain}, which
+	 * only needs to remember the previous round's {@link Throw}s.
+	 */
+	private static final class MetaWinStayLoseShiftMind implements IPositronicMind {
+		private Throw previousOwnThrow;
+		private Throw previousOpponentThrow;
+
+		/**
+		 * @see com.justdavis.karl.rpstourney.service.api.game.ai.IPositronicMind#observe(com.justdavis.karl.rpstourney.service.api.game.Throw,
+		 *      com.justdavis.karl.rpstourney.service.api.game.Throw)
+		 */
+		@Override
+		public void observe(Throw ownThrow, Throw opponentThrow) {
+			this.previousOwnThrow = ownThrow;
+			this.previousOpponentThrow = opponentThrow;
+		}
+
+		/**
+		 * @see com.justdavis.karl.rpstourney.service.api.game.ai.IPositronicMind#nextThrow()
+		 */
+		@Override
+		public Throw nextThrow() {
+			// Select a random Throw for the first round.
+			if (previousOwnThrow == null)
+				return ThreeSidedDieBrain.calculateRandomThrow();
+
+			// Same logic as calculateNextThrow(...).
+			boolean wonPreviousRound = previousOwnThrow == previousOpponentThrow.getOppositeThrow();
+			if (wonPreviousRound)
+				return previousOwnThrow.getOppositeThrow();
+			else
+				return previousOpponentThrow.getOppositeThrow();
+		}
+	}
 }
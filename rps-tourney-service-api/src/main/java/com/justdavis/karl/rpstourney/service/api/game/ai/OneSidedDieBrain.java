@@ -9,7 +9,7 @@ import com.justdavis.karl.rpstourney.service.api.game.Throw;
  * {@link Throw} to make (that's a joke: it always throws the same thing). As
  * might be expected, this is really only useful in tests.
  */
-public final class OneSidedDieBrain implements IPositronicBrain {
+public final class OneSidedDieBrain implements IIncrementalPositronicBrain {
 	private final Throw throwToMakeOverAndOverAndOverEtc;
 
 	/**
@@ -31,4 +31,29 @@ public final class OneSidedDieBrain implements IPositronicBrain {
 	public Throw calculateNextThrow(GameView game, PlayerRole role) {
 		return throwToMakeOverAndOverAndOverEtc;
 	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.api.game.ai.IIncrementalPositronicBrain#createMind()
+	 */
+	@Override
+	public IPositronicMind createMind() {
+		return new IPositronicMind() {
+			/**
+			 * @see com.justdavis.karl.rpstourney.service.api.game.ai.IPositronicMind#observe(com.justdavis.karl.rpstourney.service.api.game.Throw,
+			 *      com.justdavis.karl.rpstourney.service.api.game.Throw)
+			 */
+			@Override
+			public void observe(Throw ownThrow, Throw opponentThrow) {
+				// Nothing to remember.
+			}
+
+			/**
+			 * @see com.justdavis.karl.rpstourney.service.api.game.ai.IPositronicMind#nextThrow()
+			 */
+			@Override
+			public Throw nextThrow() {
+				return throwToMakeOverAndOverAndOverEtc;
+			}
+		};
+	}
 }
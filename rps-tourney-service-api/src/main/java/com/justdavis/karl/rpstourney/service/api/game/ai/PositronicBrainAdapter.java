@@ -0,0 +1,99 @@
+package com.justdavis.karl.rpstourney.service.api.game.ai;
+
+import com.justdavis.karl.rpstourney.service.api.auth.Account;
+import com.justdavis.karl.rpstourney.service.api.game.Game;
+import com.justdavis.karl.rpstourney.service.api.game.GameView;
+import com.justdavis.karl.rpstourney.service.api.game.Player;
+import com.justdavis.karl.rpstourney.service.api.game.PlayerRole;
+import com.justdavis.karl.rpstourney.service.api.game.Throw;
+
+/**
+ * <p>
+ * Adapts an {@link IPositronicBrain} that doesn't implement
+ * {@link IIncrementalPositronicBrain} into an {@link IPositronicMind}.
+ * </p>
+ * <p>
+ * Design note: This keeps a private "mirror" {@link Game} with the same
+ * {@link Game#getMaxRounds()}, to which each observed round is added. That
+ * way, the adapted {@link IPositronicBrain} sees exactly the same rounds,
+ * roles, etc. that it would have seen in the real {@link Game}. Building its
+ * {@link GameView} is an O(1) operation, so this is only as expensive as the
+ * adapted {@link IPositronicBrain} itself is.
+ * </p>
+ */
+public final class PositronicBrainAdapter implements IPositronicMind {
+	private final IPositronicBrain brain;
+	private final PlayerRole role;
+	private final Player ownPlayer;
+	private final Player opponentPlayer;
+	private final Game mirrorGame;
+
+	/**
+	 * Constructs a new {@link PositronicBrainAdapter} instance.
+	 * 
+	 * @param brain
+	 *            the {@link IPositronicBrain} to adapt
+	 * @param role
+	 *            the {@link PlayerRole} that the {@link IPositronicBrain} is
+	 *            playing as
+	 * @param maxRounds
+	 *            the {@link Game#getMaxRounds()} value of the game being
+	 *            played
+	 */
+	public PositronicBrainAdapter(IPositronicBrain brain, PlayerRole role, int maxRounds) {
+		if (brain == null)
+			throw new IllegalArgumentException();
+		if (role == null)
+			throw new IllegalArgumentException();
+
+		this.brain = brain;
+		this.role = role;
+		this.ownPlayer = new Player(new Account());
+		this.opponentPlayer = new Player(new Account());
+
+		this.mirrorGame = new Game(role == PlayerRole.PLAYER_1 ? ownPlayer : opponentPlayer);
+		this.mirrorGame.setMaxRounds(maxRounds);
+		this.mirrorGame.setPlayer2(role == PlayerRole.PLAYER_1 ? opponentPlayer : ownPlayer);
+	}
+
+	/**
+	 * @param brain
+	 *            the {@link IPositronicBrain} to create an
+	 *            {@link IPositronicMind} for
+	 * @param role
+	 *            the {@link PlayerRole} that the {@link IPositronicBrain} is
+	 *            playing as
+	 * @param maxRounds
+	 *            the {@link Game#getMaxRounds()} value of the game being
+	 *            played
+	 * @return the {@link IIncrementalPositronicBrain#createMind()} result, if
+	 *         the specified {@link IPositronicBrain} supports that, or a new
+	 *         {@link PositronicBrainAdapter} for it, if not
+	 */
+	public static IPositronicMind createMind(IPositronicBrain brain, PlayerRole role, int maxRounds) {
+		if (brain instanceof IIncrementalPositronicBrain)
+			return ((IIncrementalPositronicBrain) brain).createMind();
+
+		return new PositronicBrainAdapter(brain, role, maxRounds);
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.api.game.ai.IPositronicMind#observe(com.justdavis.karl.rpstourney.service.api.game.Throw,
+	 *      com.justdavis.karl.rpstourney.service.api.game.Throw)
+	 */
+	@Override
+	public void observe(Throw ownThrow, Throw opponentThrow) {
+		// Note: Game.submitThrow(...) will prepare the next round on its own.
+		int roundIndex = mirrorGame.getCurrentRound().getRoundIndex();
+		mirrorGame.submitThrow(roundIndex, ownPlayer, ownThrow);
+		mirrorGame.submitThrow(roundIndex, opponentPlayer, opponentThrow);
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.api.game.ai.IPositronicMind#nextThrow()
+	 */
+	@Override
+	public Throw nextThrow() {
+		return brain.calculateNextThrow(new GameView(mirrorGame, ownPlayer), role);
+	}
+}
@@ -11,7 +11,7 @@ import com.justdavis.karl.rpstourney.service.api.game.Throw;
  * {@link Throw} to make. It's just random; history and tactics are completely
  * ignored.
  */
-public final class ThreeSidedDieBrain implements IPositronicBrain {
+public final class ThreeSidedDieBrain implements IIncrementalPositronicBrain {
 	/**
 	 * @see com.justdavis.karl.rpstourney.service.api.game.ai.IPositronicBrain#calculateNextThrow(com.justdavis.karl.rpstourney.service.api.game.GameView,
 	 *      com.justdavis.karl.rpstourney.service.api.game.PlayerRole)
@@ -21,6 +21,31 @@ public final class ThreeSidedDieBrain implements IPositronicBrain {
 		return calculateRandomThrow();
 	}
 
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.api.game.ai.IIncrementalPositronicBrain#createMind()
+	 */
+	@Override
+	public IPositronicMind createMind() {
+		return new IPositronicMind() {
+			/**
+			 * @see com.justdavis.karl.rpstourney.service.api.game.ai.IPositronicMind#observe(com.justdavis.karl.rpstourney.service.api.game.Throw,
+			 *      com.justdavis.karl.rpstourney.service.api.game.Throw)
+			 */
+			@Override
+			public void observe(Throw ownThrow, Throw opponentThrow) {
+				// Nothing to remember.
+			}
+
+			/**
+			 * @see com.justdavis.karl.rpstourney.service.api.game.ai.IPositronicMind#nextThrow()
+			 */
+			@Override
+			public Throw nextThrow() {
+				return calculateRandomThrow();
+			}
+		};
+	}
+
 	/**
 	 * This has been extracted into a static method for the convenience of other
 	 * {@link IPositronicBrain} implementations, as many of them will sometimes
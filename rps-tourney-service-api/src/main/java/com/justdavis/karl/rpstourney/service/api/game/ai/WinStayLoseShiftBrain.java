@@ -14,7 +14,7 @@ import com.justdavis.karl.rpstourney.service.api.game.Throw;
  * "the best way to win"; it's the strategy that other, best way is designed to
  * beat. Instead, this strategy is analogous to how most humans play.
  */
-public final class WinStayLoseShiftBrain implements IPositronicBrain {
+public final class WinStayLoseShiftBrain implements IIncrementalPositronicBrain {
 	/**
 	 * @see com.justdavis.karl.rpstourney.service.api.game.ai.IPositronicBrain#calculateNextThrow(com.justdavis.karl.rpstourney.service.api.game.GameView,
 	 *      com.justdavis.karl.rpstourney.service.api.game.PlayerRole)
@@ -25,6 +25,14 @@ public final class WinStayLoseShiftBrain implements IPositronicBrain {
 		return calculateThrowForRound(game, role, currentRoundIndex);
 	}
 
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.api.game.ai.IIncrementalPositronicBrain#createMind()
+	 */
+	@Override
+	public IPositronicMind createMind() {
+		return new WinStayLoseShiftMind();
+	}
+
 	/**
 	 * This has been extracted into a static method for the convenience of other
 	 * {@link IPositronicBrain} implementations, as some of them will want to
@@ -61,4 +69,40 @@ public final class WinStayLoseShiftBrain implements IPositronicBrain {
 			return previousWinningThrow.getOppositeThrow();
 		}
 	}
+
+	/**
+	 * The {@link IPositronicMind} for {@link WinStayLoseShiftBrain}, which only
+	 * needs to remember the previous round's {@link Throw}s.
+	 */
+	private static final class WinStayLoseShiftMind implements IPositronicMind {
+		private Throw previousOwnThrow;
+		private Throw previousOpponentThrow;
+
+		/**
+		 * @see com.justdavis.karl.rpstourney.service.api.game.ai.IPositronicMind#observe(com.justdavis.karl.rpstourney.service.api.game.Throw,
+		 *      com.justdavis.karl.rpstourney.service.api.game.Throw)
+		 */
+		@Override
+		public void observe(Throw ownThrow, Throw opponentThrow) {
+			this.previousOwnThrow = ownThrow;
+			this.previousOpponentThrow = opponentThrow;
+		}
+
+		/**
+		 * @see com.justdavis.karl.rpstourney.service.api.game.ai.IPositronicMind#nextThrow()
+		 */
+		@Override
+		public Throw nextThrow() {
+			// Select a random Throw for the first round.
+			if (previousOwnThrow == null)
+				return ThreeSidedDieBrain.calculateRandomThrow();
+
+			// Same logic as calculateThrowForRound(...).
+			boolean wonPreviousRound = previousOwnThrow == previousOpponentThrow.getOppositeThrow();
+			if (wonPreviousRound)
+				return previousOwnThrow;
+			else
+				return previousOpponentThrow.getOppositeThrow();
+		}
+	}
 }
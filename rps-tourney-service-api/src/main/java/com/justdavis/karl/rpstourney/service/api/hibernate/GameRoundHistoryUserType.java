@@ -0,0 +1,172 @@
+package com.justdavis.karl.rpstourney.service.api.hibernate;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.hibernate.HibernateException;
+import org.hibernate.annotations.Type;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.compare.EqualsHelper;
+import org.hibernate.type.descriptor.sql.VarbinaryTypeDescriptor;
+import org.hibernate.usertype.UserType;
+
+import com.justdavis.karl.misc.exceptions.BadCodeMonkeyException;
+import com.justdavis.karl.rpstourney.service.api.game.GameRoundHistory;
+
+/**
+ * <p>
+ * A Hibernate {@link UserType} for persisting {@link GameRoundHistory} fields
+ * as a single binary column. Any JPA field that's a {@link GameRoundHistory}
+ * will have to add a Hibernate {@link Type} annotation referencing this class,
+ * e.g.:
+ * </p>
+ *
+ * <pre>
+ * &#64;Entity
+ * public class SomeEntity {
+ *   &#64;org.hibernate.annotations.Type(type = GameRoundHistoryUserType.TYPE_NAME)
+ *   private GameRoundHistory roundHistory;
+ *   ...
+ * }
+ * </pre>
+ * <p>
+ * (A JPA <code>AttributeConverter</code> to <code>byte[]</code> can't be used
+ * for this, as Hibernate maps those to <code>LONGVARBINARY</code> columns,
+ * which fails schema validation against HSQL's <code>VARBINARY</code>
+ * column.)
+ * </p>
+ */
+public class GameRoundHistoryUserType implements UserType {
+	/**
+	 * The same as {@code GameRoundHistoryUserType.class.getName()}, but a
+	 * constant expression that can be referenced in annotations.
+	 */
+	public static final String TYPE_NAME = "com.justdavis.karl.rpstourney.service.api.hibernate.GameRoundHistoryUserType";
+
+	/**
+	 * @see org.hibernate.usertype.UserType#sqlTypes()
+	 */
+	@Override
+	public int[] sqlTypes() {
+		return new int[] { VarbinaryTypeDescriptor.INSTANCE.getSqlType() };
+	}
+
+	/**
+	 * @see org.hibernate.usertype.UserType#returnedClass()
+	 */
+	@Override
+	public Class<?> returnedClass() {
+		return GameRoundHistory.class;
+	}
+
+	/**
+	 * @see org.hibernate.usertype.UserType#equals(java.lang.Object,
+	 *      java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object x, Object y) throws HibernateException {
+		return EqualsHelper.equals(x, y);
+	}
+
+	/**
+	 * @see org.hibernate.usertype.UserType#hashCode(java.lang.Object)
+	 */
+	@Override
+	public int hashCode(Object x) throws HibernateException {
+		return x.hashCode();
+	}
+
+	/**
+	 * @see org.hibernate.usertype.UserType#nullSafeGet(java.sql.ResultSet,
+	 *      java.lang.String[],
+	 *      org.hibernate.engine.spi.SharedSessionContractImplementor,
+	 *      java.lang.Object)
+	 */
+	@Override
+	public Object nullSafeGet(ResultSet rs, String[] names, SharedSessionContractImplementor session, Object owner)
+			throws HibernateException, SQLException {
+		if (names.length != 1)
+			throw new BadCodeMonkeyException();
+
+		byte[] roundHistoryValue = rs.getBytes(names[0]);
+		if (roundHistoryValue != null)
+			return GameRoundHistory.fromBytes(roundHistoryValue);
+		else
+			return null;
+	}
+
+	/**
+	 * @see org.hibernate.usertype.UserType#nullSafeSet(java.sql.PreparedStatement,
+	 *      java.lang.Object, int,
+	 *      org.hibernate.engine.spi.SharedSessionContractImplementor)
+	 */
+	@Override
+	public void nullSafeSet(PreparedStatement st, Object value, int index, SharedSessionContractImplementor session)
+			throws HibernateException, SQLException {
+		if (value != null) {
+			if (!(value instanceof GameRoundHistory))
+				throw new HibernateException("Unexpected value type: " + value);
+
+			GameRoundHistory roundHistory = (GameRoundHistory) value;
+			st.setBytes(index, roundHistory.toBytes());
+		} else {
+			st.setNull(index, VarbinaryTypeDescriptor.INSTANCE.getSqlType());
+		}
+	}
+
+	/**
+	 * @see org.hibernate.usertype.UserType#deepCopy(java.lang.Object)
+	 */
+	@Override
+	public Object deepCopy(Object value) throws HibernateException {
+		// GameRoundHistory instances are immutable.
+		return value;
+	}
+
+	/**
+	 * @see org.hibernate.usertype.UserType#isMutable()
+	 */
+	@Override
+	public boolean isMutable() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.usertype.UserType#disassemble(java.lang.Object)
+	 */
+	@Override
+	public Serializable disassemble(Object value) throws HibernateException {
+		if (value == null)
+			return null;
+		if (!(value instanceof GameRoundHistory))
+			throw new HibernateException("Unexpected value type: " + value);
+
+		GameRoundHistory roundHistory = (GameRoundHistory) value;
+		return roundHistory.toBytes();
+	}
+
+	/**
+	 * @see org.hibernate.usertype.UserType#assemble(java.io.Serializable,
+	 *      java.lang.Object)
+	 */
+	@Override
+	public Object assemble(Serializable cached, Object owner) throws HibernateException {
+		if (cached == null)
+			return null;
+		if (!(cached instanceof byte[]))
+			throw new HibernateException("Unexpected cached type: " + cached);
+
+		return GameRoundHistory.fromBytes((byte[]) cached);
+	}
+
+	/**
+	 * @see org.hibernate.usertype.UserType#replace(java.lang.Object,
+	 *      java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public Object replace(Object original, Object target, Object owner) throws HibernateException {
+		return original;
+	}
+}
@@ -0,0 +1,170 @@
+package com.justdavis.karl.rpstourney.service.api.game;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.justdavis.karl.rpstourney.service.api.auth.Account;
+
+/**
+ * Unit tests for {@link GameRoundHistory}.
+ */
+public final class GameRoundHistoryTest {
+	/**
+	 * Tests {@link GameRoundHistory#encode(List)} and
+	 * {@link GameRoundHistory#decode(Game)} with a complete {@link Game}.
+	 */
+	@Test
+	public void roundTrip() {
+		Game game = playRandomGame(101, new Random(42L));
+		List<GameRound> rounds = game.getRounds();
+
+		GameRoundHistory history = GameRoundHistory.encode(rounds);
+		Assert.assertEquals(rounds.size(), history.getRoundCount());
+
+		GameRoundHistory historyFromBytes = GameRoundHistory.fromBytes(history.toBytes());
+		Assert.assertEquals(history, historyFromBytes);
+		assertRoundsEqual(rounds, historyFromBytes.decode(game));
+	}
+
+	/**
+	 * Verifies that {@link GameRoundHistory} is actually compact: roughly a
+	 * half byte per round, plus the timestamps.
+	 */
+	@Test
+	public void encodingIsCompact() {
+		Game game = playRandomGame(1001, new Random(42L));
+		int roundCount = game.getRounds().size();
+
+		byte[] encoded = GameRoundHistory.encode(game.getRounds()).toBytes();
+
+		/*
+		 * The throws in this test are made in quick succession, so each
+		 * timestamp delta should fit in (at most) 5 bytes.
+		 */
+		int maxExpectedLength = 1 + 5 + (roundCount / 2 + 1) + (2 * roundCount * 5) + 10;
+		Assert.assertTrue(encoded.length < maxExpectedLength);
+	}
+
+	/**
+	 * Tests {@link GameRoundHistory.Builder} with some unusual values:
+	 * missing throws, <code>null</code> timestamps, and out-of-order
+	 * timestamps.
+	 */
+	@Test
+	public void unusualValues() {
+		Game game = new Game(new Player(new Account()));
+		Instant now = Instant.now();
+		GameRoundHistory history = new GameRoundHistory.Builder()
+				.addRound(Throw.ROCK, now, Throw.ROCK, now.minusNanos(1))
+				.addRound(Throw.PAPER, null, Throw.SCISSORS, Instant.EPOCH)
+				.addRound(Throw.SCISSORS, now.plusSeconds(60), null, null).build();
+
+		List<GameRound> rounds = GameRoundHistory.fromBytes(history.toBytes()).decode(game);
+		Assert.assertEquals(3, rounds.size());
+		Assert.assertEquals(now.minusNanos(1), rounds.get(0).getThrowForPlayer2Timestamp());
+		Assert.assertEquals(0, rounds.get(1).getAdjustedRoundIndex());
+		Assert.assertNull(rounds.get(1).getThrowForPlayer1Timestamp());
+		Assert.assertEquals(Instant.EPOCH, rounds.get(1).getThrowForPlayer2Timestamp());
+		Assert.assertEquals(1, rounds.get(2).getAdjustedRoundIndex());
+		Assert.assertEquals(Throw.SCISSORS, rounds.get(2).getThrowForPlayer1());
+		Assert.assertEquals(now.plusSeconds(60), rounds.get(2).getThrowForPlayer1Timestamp());
+		Assert.assertNull(rounds.get(2).getThrowForPlayer2());
+		Assert.assertNull(rounds.get(2).getResult());
+	}
+
+	/**
+	 * Verifies that {@link GameRoundHistory#fromBytes(byte[])} rejects
+	 * truncated data.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void fromBytes_truncated() {
+		Game game = playRandomGame(3, new Random(42L));
+		byte[] encoded = GameRoundHistory.encode(game.getRounds()).toBytes();
+
+		byte[] truncated = new byte[encoded.length - 1];
+		System.arraycopy(encoded, 0, truncated, 0, truncated.length);
+		GameRoundHistory.fromBytes(truncated);
+	}
+
+	/**
+	 * Verifies that {@link GameRoundHistory#fromBytes(byte[])} rejects data
+	 * in an unknown format.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void fromBytes_unknownVersion() {
+		GameRoundHistory.fromBytes(new byte[] { 42, 0 });
+	}
+
+	/**
+	 * Verifies that {@link GameRoundHistory#computeStats()} agrees with the
+	 * {@link Game} that the {@link GameRoundHistory} was encoded from.
+	 */
+	@Test
+	public void computeStats() {
+		Game game = playRandomGame(11, new Random(42L));
+		GameRoundHistory.Stats stats = GameRoundHistory.encode(game.getRounds()).computeStats();
+
+		Assert.assertEquals(game.getScoreForPlayer1(), stats.getScoreForPlayer1());
+		Assert.assertEquals(game.getScoreForPlayer2(), stats.getScoreForPlayer2());
+		Assert.assertEquals(game.getRounds().size(), stats.getRoundCount());
+		Assert.assertEquals(game.getLastThrowTimestamp(), stats.getLastThrowTimestamp());
+
+		GameRoundHistory.Stats emptyStats = GameRoundHistory.encode(new Game(new Player(new Account())).getRounds())
+				.computeStats();
+		Assert.assertEquals(0, emptyStats.getRoundCount());
+		Assert.assertNull(emptyStats.getLastThrowTimestamp());
+	}
+
+	/**
+	 * @param maxRounds
+	 *            the {@link Game#getMaxRounds()} value to use
+	 * @param random
+	 *            the {@link Random} to select {@link Throw}s with
+	 * @return a new {@link State#FINISHED} {@link Game}, played with random
+	 *         {@link Throw}s
+	 */
+	static Game playRandomGame(int maxRounds, Random random) {
+		Player player1 = new Player(new Account());
+		Player player2 = new Player(new Account());
+		Game game = new Game(player1);
+		game.setMaxRounds(maxRounds);
+		game.setPlayer2(player2);
+
+		Throw[] throwValues = Throw.values();
+		while (game.getState() != State.FINISHED) {
+			int roundIndex = game.getCurrentRound().getRoundIndex();
+			game.submitThrow(roundIndex, player1, throwValues[random.nextInt(throwValues.length)]);
+			game.submitThrow(roundIndex, player2, throwValues[random.nextInt(throwValues.length)]);
+			if (!game.isRoundPrepared())
+				game.prepareRound();
+		}
+
+		return game;
+	}
+
+	/**
+	 * @param expected
+	 *            the expected {@link GameRound}s
+	 * @param actual
+	 *            the actual {@link GameRound}s
+	 */
+	static void assertRoundsEqual(List<GameRound> expected, List<GameRound> actual) {
+		Assert.assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			GameRound expectedRound = expected.get(i);
+			GameRound actualRound = actual.get(i);
+			Assert.assertEquals(expectedRound.getRoundIndex(), actualRound.getRoundIndex());
+			Assert.assertEquals(expectedRound.getAdjustedRoundIndex(), actualRound.getAdjustedRoundIndex());
+			Assert.assertEquals(expectedRound.getThrowForPlayer1(), actualRound.getThrowForPlayer1());
+			Assert.assertEquals(expectedRound.getThrowForPlayer1Timestamp(),
+					actualRound.getThrowForPlayer1Timestamp());
+			Assert.assertEquals(expectedRound.getThrowForPlayer2(), actualRound.getThrowForPlayer2());
+			Assert.assertEquals(expectedRound.getThrowForPlayer2Timestamp(),
+					actualRound.getThrowForPlayer2Timestamp());
+		}
+	}
+}
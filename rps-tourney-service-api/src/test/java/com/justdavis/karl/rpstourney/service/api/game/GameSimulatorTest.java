@@ -0,0 +1,162 @@
+package com.justdavis.karl.rpstourney.service.api.game;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.justdavis.karl.rpstourney.service.api.auth.Account;
+import com.justdavis.karl.rpstourney.service.api.game.GameRound.Result;
+
+/**
+ * Unit tests for {@link GameSimulator}, which mostly verify that it agrees with
+ * {@link Game}.
+ */
+public final class GameSimulatorTest {
+	/**
+	 * Tests {@link GameSimulator#determineResult(byte, byte)} against
+	 * {@link GameRound#getResult()}, for every possible pair of {@link Throw}s.
+	 */
+	@Test
+	public void resultsMatchGameRound() {
+		Game game = new Game(new Player(new Account()));
+		for (Throw throwForPlayer1 : Throw.values()) {
+			for (Throw throwForPlayer2 : Throw.values()) {
+				GameRound round = new GameRound(game, 0, 0);
+				round.setThrowForPlayer1(throwForPlayer1);
+				round.setThrowForPlayer2(throwForPlayer2);
+
+				Assert.assertEquals(GameSimulator.toResultCode(round.getResult()),
+						GameSimulator.determineResult(GameSimulator.toThrowCode(throwForPlayer1),
+								GameSimulator.toThrowCode(throwForPlayer2)));
+			}
+		}
+	}
+
+	/**
+	 * Tests {@link GameSimulator#toThrowCode(Throw)} and
+	 * {@link GameSimulator#toThrow(byte)}.
+	 */
+	@Test
+	public void throwCodes() {
+		Assert.assertEquals(GameSimulator.ROCK, GameSimulator.toThrowCode(Throw.ROCK));
+		Assert.assertEquals(GameSimulator.PAPER, GameSimulator.toThrowCode(Throw.PAPER));
+		Assert.assertEquals(GameSimulator.SCISSORS, GameSimulator.toThrowCode(Throw.SCISSORS));
+		for (Throw throwValue : Throw.values())
+			Assert.assertEquals(throwValue, GameSimulator.toThrow(GameSimulator.toThrowCode(throwValue)));
+	}
+
+	/**
+	 * Replays many random games through both {@link Game} and
+	 * {@link GameSimulator}, and verifies that they agree on every round.
+	 */
+	@Test
+	public void crossCheckRandomGames() {
+		Random random = new Random(42L);
+		for (int i = 0; i < 500; i++) {
+			int maxRounds = 1 + 2 * random.nextInt(25);
+
+			/*
+			 * Bias some of the games towards ties, to make sure that those are
+			 * handled the same way, too.
+			 */
+			int throwRange = (i % 3 == 0) ? 1 + random.nextInt(3) : 3;
+
+			crossCheck(maxRounds, random, throwRange);
+		}
+	}
+
+	/**
+	 * Verifies that {@link GameSimulator#play(byte[], byte[], int, int)} stops
+	 * once the game is finished.
+	 */
+	@Test
+	public void playStopsWhenFinished() {
+		byte[] throwsForPlayer1 = new byte[] { GameSimulator.ROCK, GameSimulator.PAPER, GameSimulator.PAPER,
+				GameSimulator.PAPER, GameSimulator.PAPER };
+		byte[] throwsForPlayer2 = new byte[] { GameSimulator.ROCK, GameSimulator.ROCK, GameSimulator.ROCK,
+				GameSimulator.ROCK, GameSimulator.ROCK };
+
+		GameSimulator simulator = new GameSimulator(3);
+		Assert.assertEquals(3, simulator.play(throwsForPlayer1, throwsForPlayer2, 0, throwsForPlayer1.length));
+		Assert.assertTrue(simulator.isFinished());
+		Assert.assertEquals(PlayerRole.PLAYER_1, simulator.getWinner());
+		Assert.assertEquals(2, simulator.getScoreForPlayer1());
+		Assert.assertEquals(2, simulator.getAdjustedRoundIndex());
+
+		simulator.reset();
+		Assert.assertFalse(simulator.isFinished());
+		Assert.assertEquals(0, simulator.getRoundCount());
+	}
+
+	/**
+	 * Verifies that {@link GameSimulator#playRound(byte, byte)} rejects rounds
+	 * after the game is finished.
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void playRound_afterFinish() {
+		GameSimulator simulator = new GameSimulator(1);
+		simulator.playRound(GameSimulator.ROCK, GameSimulator.SCISSORS);
+		simulator.playRound(GameSimulator.ROCK, GameSimulator.SCISSORS);
+	}
+
+	/**
+	 * Plays a single random game through both {@link Game} and
+	 * {@link GameSimulator}, and verifies that they agree.
+	 *
+	 * @param maxRounds
+	 *            the {@link Game#getMaxRounds()} value to use
+	 * @param random
+	 *            the {@link Random} to select {@link Throw}s with
+	 * @param throwRange
+	 *            the number of different {@link Throw}s to select from
+	 */
+	private static void crossCheck(int maxRounds, Random random, int throwRange) {
+		Player player1 = new Player(new Account());
+		Player player2 = new Player(new Account());
+		Game game = new Game(player1);
+		game.setMaxRounds(maxRounds);
+		game.setPlayer2(player2);
+		GameSimulator simulator = new GameSimulator(maxRounds);
+
+		/*
+		 * Games limited to a single throw value will never end, so cap the
+		 * number of rounds played.
+		 */
+		int roundsPlayed = 0;
+		while (game.getState() != State.FINISHED && roundsPlayed < 1000) {
+			Throw throwForPlayer1 = Throw.values()[random.nextInt(throwRange)];
+			Throw throwForPlayer2 = Throw.values()[random.nextInt(throwRange)];
+
+			GameRound round = game.getCurrentRound();
+			Assert.assertEquals(round.getRoundIndex(), simulator.getRoundCount());
+			Assert.assertEquals(round.getAdjustedRoundIndex(), simulator.getAdjustedRoundIndex());
+			Assert.assertFalse(simulator.isFinished());
+
+			game.submitThrow(round.getRoundIndex(), player1, throwForPlayer1);
+			game.submitThrow(round.getRoundIndex(), player2, throwForPlayer2);
+			if (!game.isRoundPrepared())
+				game.prepareRound();
+			Result result = round.getResult();
+			int simulatedResult = simulator.playRound(GameSimulator.toThrowCode(throwForPlayer1),
+					GameSimulator.toThrowCode(throwForPlayer2));
+			roundsPlayed++;
+
+			Assert.assertEquals(GameSimulator.toResultCode(result), simulatedResult);
+			Assert.assertEquals(game.getScoreForPlayer1(), simulator.getScoreForPlayer1());
+			Assert.assertEquals(game.getScoreForPlayer2(), simulator.getScoreForPlayer2());
+			Assert.assertEquals(game.getState() == State.FINISHED, simulator.isFinished());
+		}
+
+		if (game.getState() == State.FINISHED) {
+			Assert.assertEquals(game.getRounds().size(), simulator.getRoundCount());
+			PlayerRole[] winnerRoles = game.getPlayerRoles(game.getWinner());
+			Assert.assertEquals(1, winnerRoles.length);
+			Assert.assertEquals(winnerRoles[0], simulator.getWinner());
+		} else {
+			// The Game will have already prepared its next round.
+			Assert.assertEquals(game.getRounds().size(), simulator.getRoundCount() + 1);
+			Assert.assertNull(simulator.getWinner());
+		}
+	}
+}
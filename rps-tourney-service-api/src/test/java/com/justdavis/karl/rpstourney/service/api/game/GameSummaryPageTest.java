@@ -0,0 +1,112 @@
+package com.justdavis.karl.rpstourney.service.api.game;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.Arrays;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.justdavis.karl.rpstourney.service.api.auth.Account;
+
+/**
+ * Unit tests for {@link GameSummaryPage}.
+ */
+public final class GameSummaryPageTest {
+	/**
+	 * Tests {@link GameSummaryPage.Cursor#encode()} and
+	 * {@link GameSummaryPage.Cursor#parse(String)}.
+	 */
+	@Test
+	public void cursorRoundTrip() {
+		GameSummaryPage.Cursor cursor = new GameSummaryPage.Cursor(Instant.parse("2007-12-03T10:15:30.123456Z"),
+				"abcdeFGHIJ");
+		GameSummaryPage.Cursor parsedCursor = GameSummaryPage.Cursor.parse(cursor.encode());
+		Assert.assertEquals(cursor.getLastThrowTimestamp(), parsedCursor.getLastThrowTimestamp());
+		Assert.assertEquals(cursor.getGameId(), parsedCursor.getGameId());
+	}
+
+	/**
+	 * Verifies that {@link GameSummaryPage.Cursor#parse(String)} rejects
+	 * invalid values.
+	 */
+	@Test
+	public void cursorParseInvalid() {
+		for (String invalidCursor : new String[] { "", "foo", "foo_abc", "2007-12-03T10:15:30Z_",
+				"2007-12-03T10:15:30Z_abc123" }) {
+			try {
+				GameSummaryPage.Cursor.parse(invalidCursor);
+				Assert.fail("Accepted invalid cursor: " + invalidCursor);
+			} catch (IllegalArgumentException e) {
+				// Expected.
+			}
+		}
+	}
+
+	/**
+	 * Tests {@link GameSummaryPage.Cursor#isBefore(GameSummary)}.
+	 */
+	@Test
+	public void cursorIsBefore() {
+		Player player = new Player(new Account());
+		Instant timestamp = Instant.parse("2007-12-03T10:15:30Z");
+		GameSummaryPage.Cursor cursor = new GameSummaryPage.Cursor(timestamp, "bbbbbbbbbb");
+
+		Assert.assertTrue(cursor.isBefore(createSummary(player, timestamp.minusMillis(1), "cccccccccc")));
+		Assert.assertTrue(cursor.isBefore(createSummary(player, timestamp, "aaaaaaaaaa")));
+		Assert.assertFalse(cursor.isBefore(createSummary(player, timestamp, "bbbbbbbbbb")));
+		Assert.assertFalse(cursor.isBefore(createSummary(player, timestamp, "cccccccccc")));
+		Assert.assertFalse(cursor.isBefore(createSummary(player, timestamp.plusMillis(1), "aaaaaaaaaa")));
+	}
+
+	/**
+	 * Ensures that {@link GameSummaryPage} instances can be marshalled and
+	 * then unmarshalled again.
+	 *
+	 * @throws JAXBException
+	 *             (shouldn't be thrown if things are working)
+	 */
+	@Test
+	public void jaxbRoundTrip() throws JAXBException {
+		// Create the Marshaller and Unmarshaller needed.
+		JAXBContext jaxbContext = JAXBContext.newInstance(GameSummaryPage.class);
+		Marshaller marshaller = jaxbContext.createMarshaller();
+		Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+
+		// Create the instance to be converted to XML.
+		GameSummary summary = new GameSummary(new Game(new Player(new Account())));
+		GameSummaryPage page = new GameSummaryPage(Arrays.asList(summary),
+				new GameSummaryPage.Cursor(summary).encode());
+
+		// Convert it to XML and back.
+		StringWriter writer = new StringWriter();
+		marshaller.marshal(page, writer);
+		GameSummaryPage parsedPage = (GameSummaryPage) unmarshaller.unmarshal(new StringReader(writer.toString()));
+
+		// Verify the results.
+		Assert.assertEquals(1, parsedPage.getSummaries().size());
+		Assert.assertEquals(summary.getId(), parsedPage.getSummaries().get(0).getId());
+		Assert.assertEquals(page.getNextCursor(), parsedPage.getNextCursor());
+	}
+
+	/**
+	 * @param player
+	 *            the value to use for {@link GameSummary#getPlayer1()}
+	 * @param lastThrowTimestamp
+	 *            the value to use for
+	 *            {@link GameSummary#getLastThrowTimestamp()}
+	 * @param id
+	 *            the value to use for {@link GameSummary#getId()}
+	 * @return a new {@link GameSummary} with the specified values
+	 */
+	private static GameSummary createSummary(Player player, Instant lastThrowTimestamp, String id) {
+		return new GameSummary(id, lastThrowTimestamp, State.WAITING_FOR_PLAYER, 3, player, null, 0, 0, 0,
+				lastThrowTimestamp, null);
+	}
+}
@@ -0,0 +1,102 @@
+package com.justdavis.karl.rpstourney.service.api.game;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.justdavis.karl.rpstourney.service.api.auth.Account;
+
+/**
+ * Unit tests for {@link GameSummary}.
+ */
+public final class GameSummaryTest {
+	/**
+	 * Ensures that {@link GameSummary#GameSummary(Game)} matches the
+	 * {@link Game} it summarizes.
+	 */
+	@Test
+	public void fromGame() {
+		Game game = GameRoundHistoryTest.playRandomGame(5, new Random(42L));
+		GameSummary summary = new GameSummary(game);
+
+		Assert.assertEquals(game.getId(), summary.getId());
+		Assert.assertEquals(game.getCreatedTimestamp(), summary.getCreatedTimestamp());
+		Assert.assertEquals(State.FINISHED, summary.getState());
+		Assert.assertEquals(5, summary.getMaxRounds());
+		Assert.assertSame(game.getPlayer1(), summary.getPlayer1());
+		Assert.assertSame(game.getPlayer2(), summary.getPlayer2());
+		Assert.assertEquals(game.getScoreForPlayer1(), summary.getScoreForPlayer1());
+		Assert.assertEquals(game.getScoreForPlayer2(), summary.getScoreForPlayer2());
+		Assert.assertEquals(game.getRounds().size(), summary.getRoundCount());
+		Assert.assertEquals(game.getLastThrowTimestamp(), summary.getLastThrowTimestamp());
+
+		// The Players don't have IDs here, so the winner can't be recorded.
+		Assert.assertNull(summary.getWinner());
+	}
+
+	/**
+	 * Ensures that the {@link Player}-related utility methods in
+	 * {@link GameSummary} work as expected.
+	 */
+	@Test
+	public void players() {
+		Account player1Account = new Account();
+		Account player2Account = new Account();
+		Game game = new Game(new Player(player1Account));
+		GameSummary waitingSummary = new GameSummary(game);
+		Assert.assertTrue(waitingSummary.isPlayer(player1Account));
+		Assert.assertFalse(waitingSummary.isPlayer(player2Account));
+		Assert.assertNull(waitingSummary.determineOpponent(player1Account));
+
+		game.setPlayer2(new Player(player2Account));
+		GameSummary startedSummary = new GameSummary(game);
+		Assert.assertTrue(startedSummary.isPlayer(game.getPlayer2()));
+		Assert.assertSame(game.getPlayer2(), startedSummary.determineOpponent(player1Account));
+		Assert.assertArrayEquals(new PlayerRole[] { PlayerRole.PLAYER_2 },
+				startedSummary.getPlayerRoles(game.getPlayer2()));
+	}
+
+	/**
+	 * Ensures that {@link GameSummary} instances can be marshalled and then
+	 * unmarshalled again.
+	 *
+	 * @throws JAXBException
+	 *             (shouldn't be thrown if things are working)
+	 */
+	@Test
+	public void jaxbRoundTrip() throws JAXBException {
+		// Create the Marshaller and Unmarshaller needed.
+		JAXBContext jaxbContext = JAXBContext.newInstance(GameSummary.class);
+		Marshaller marshaller = jaxbContext.createMarshaller();
+		Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+
+		// Create the instance to be converted to XML.
+		Game game = GameRoundHistoryTest.playRandomGame(3, new Random(42L));
+		GameSummary summary = new GameSummary(game);
+
+		// Convert it to XML and back.
+		StringWriter writer = new StringWriter();
+		marshaller.marshal(summary, writer);
+		GameSummary parsedSummary = (GameSummary) unmarshaller.unmarshal(new StringReader(writer.toString()));
+
+		// Verify the results.
+		Assert.assertEquals(summary.getId(), parsedSummary.getId());
+		Assert.assertEquals(summary.getCreatedTimestamp(), parsedSummary.getCreatedTimestamp());
+		Assert.assertEquals(summary.getState(), parsedSummary.getState());
+		Assert.assertEquals(summary.getMaxRounds(), parsedSummary.getMaxRounds());
+		Assert.assertNotNull(parsedSummary.getPlayer1());
+		Assert.assertNotNull(parsedSummary.getPlayer2());
+		Assert.assertEquals(summary.getScoreForPlayer1(), parsedSummary.getScoreForPlayer1());
+		Assert.assertEquals(summary.getScoreForPlayer2(), parsedSummary.getScoreForPlayer2());
+		Assert.assertEquals(summary.getRoundCount(), parsedSummary.getRoundCount());
+		Assert.assertEquals(summary.getLastThrowTimestamp(), parsedSummary.getLastThrowTimestamp());
+	}
+}
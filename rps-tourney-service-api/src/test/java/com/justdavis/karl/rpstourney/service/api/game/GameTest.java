@@ -1,5 +1,10 @@
 package com.justdavis.karl.rpstourney.service.api.game;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import javax.xml.bind.JAXBException;
 import javax.xml.xpath.XPathExpressionException;
 
@@ -276,6 +281,23 @@ public final class GameTest {
 		game.submitThrow(1, player1, Throw.ROCK);
 	}
 
+	/**
+	 * Tests {@link Game#submitThrow(int, Player, Throw, Instant)}.
+	 */
+	@Test
+	public void submitThrow_withTimestamp() {
+		Player player1 = new Player(new Account());
+		Player player2 = new Player(new Account());
+		Game game = new Game(player1);
+		game.setPlayer2(player2);
+
+		Instant throwTimestamp = Instant.parse("2007-12-03T10:15:30.123Z");
+		game.submitThrow(0, player2, Throw.PAPER, throwTimestamp);
+		Assert.assertEquals(State.STARTED, game.getState());
+		Assert.assertEquals(Throw.PAPER, game.getRounds().get(0).getThrowForPlayer2());
+		Assert.assertEquals(throwTimestamp, game.getRounds().get(0).getThrowForPlayer2Timestamp());
+	}
+
 	/**
 	 * Tests {@link Game#getLastThrowTimestamp()}.
 	 */
@@ -326,4 +348,104 @@ public final class GameTest {
 		game.submitThrow(2, player2, Throw.ROCK);
 		Assert.assertEquals(2, game.getRounds().get(3).getAdjustedRoundIndex());
 	}
+
+	/**
+	 * Verifies that the cached scores, winner, and
+	 * {@link Game#getLastThrowTimestamp()} maintained by {@link Game} always
+	 * agree with the values calculated directly from {@link Game#getRounds()},
+	 * across a long game.
+	 */
+	@Test
+	public void roundStatsStayInSyncWithRounds() {
+		Player player1 = new Player(new Account());
+		Player player2 = new Player(new Account());
+		Game game = new Game(player1);
+		game.setMaxRounds(201);
+		game.setPlayer2(player2);
+
+		Random random = new Random(42L);
+		Throw[] throwValues = Throw.values();
+		while (game.getState() != State.FINISHED) {
+			int roundIndex = game.getCurrentRound().getRoundIndex();
+			game.submitThrow(roundIndex, player1, throwValues[random.nextInt(throwValues.length)]);
+			assertRoundStats(game);
+			game.submitThrow(roundIndex, player2, throwValues[random.nextInt(throwValues.length)]);
+			if (!game.isRoundPrepared())
+				game.prepareRound();
+			assertRoundStats(game);
+
+			// Views should agree, too.
+			assertRoundStats(new GameView(game, player1));
+		}
+
+		Assert.assertNotNull(game.getWinner());
+	}
+
+	/**
+	 * Tests {@link Game#compactRounds()}.
+	 */
+	@Test
+	public void compactRounds() {
+		Game game = GameRoundHistoryTest.playRandomGame(11, new Random(42L));
+		List<GameRound> rounds = new ArrayList<>(game.getRounds());
+		Player winner = game.getWinner();
+
+		game.compactRounds();
+		Assert.assertTrue(game.isRoundsCompacted());
+		Assert.assertTrue(game.rounds.isEmpty());
+		GameRoundHistoryTest.assertRoundsEqual(rounds, game.getRounds());
+		Assert.assertEquals(winner, game.getWinner());
+		assertRoundStats(game);
+		assertRoundStats(new GameView(game, null));
+	}
+
+	/**
+	 * Verifies that {@link Game#compactRounds()} can't be used on in-progress
+	 * {@link Game}s.
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void compactRounds_notFinished() {
+		Player player1 = new Player(new Account());
+		Game game = new Game(player1);
+		game.setPlayer2(new Player(new Account()));
+		game.submitThrow(0, player1, Throw.ROCK);
+
+		game.compactRounds();
+	}
+
+	/**
+	 * @param game
+	 *            the {@link Game} or {@link GameView} to verify the cached round
+	 *            stats of
+	 */
+	private static void assertRoundStats(AbstractGame game) {
+		int player1Wins = 0;
+		int player2Wins = 0;
+		Instant lastThrowTime = game.getCreatedTimestamp();
+		for (GameRound round : game.getRounds()) {
+			if (round.getResult() == Result.PLAYER_1_WON)
+				player1Wins++;
+			else if (round.getResult() == Result.PLAYER_2_WON)
+				player2Wins++;
+
+			if (round.getThrowForPlayer1Timestamp() != null
+					&& lastThrowTime.compareTo(round.getThrowForPlayer1Timestamp()) < 1)
+				lastThrowTime = round.getThrowForPlayer1Timestamp();
+			if (round.getThrowForPlayer2Timestamp() != null
+					&& lastThrowTime.compareTo(round.getThrowForPlayer2Timestamp()) < 1)
+				lastThrowTime = round.getThrowForPlayer2Timestamp();
+		}
+
+		Assert.assertEquals(player1Wins, game.getScoreForPlayer1());
+		Assert.assertEquals(player2Wins, game.getScoreForPlayer2());
+		Assert.assertEquals(lastThrowTime, game.getLastThrowTimestamp());
+
+		int numWinsNeeded = (game.getMaxRounds() / 2) + 1;
+		if (player1Wins >= numWinsNeeded)
+			Assert.assertEquals(game.getPlayer1(), game.getWinner());
+		else if (player2Wins >= numWinsNeeded)
+			Assert.assertEquals(game.getPlayer2(), game.getWinner());
+		else
+			Assert.assertNull(game.getWinner());
+	}
 }
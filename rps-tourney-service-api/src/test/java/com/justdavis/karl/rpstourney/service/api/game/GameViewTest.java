@@ -1,8 +1,12 @@
 package com.justdavis.karl.rpstourney.service.api.game;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.net.URL;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -18,6 +22,13 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.w3c.dom.Node;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.justdavis.karl.misc.xml.SimpleNamespaceContext;
 import com.justdavis.karl.rpstourney.service.api.XmlNamespace;
 import com.justdavis.karl.rpstourney.service.api.auth.Account;
@@ -208,4 +219,248 @@ public final class GameViewTest {
 		Assert.assertNotNull(gameViewForNullPlayer.getRounds().get(0).getThrowForPlayer2());
 		Assert.assertNull(gameViewForPlayer1.getRounds().get(1).getThrowForPlayer2());
 	}
+
+	/**
+	 * Ensures that {@link GameView} shares completed {@link GameRound}s with
+	 * the wrapped {@link Game}, rather than copying them, and that it still
+	 * acts as a point-in-time view as the {@link Game} moves on.
+	 */
+	@Test
+	public void roundsSharedButPointInTime() {
+		Player player1 = new Player(new Account());
+		Player player2 = new Player(new Account());
+		Game game = new Game(player1);
+		game.setPlayer2(player2);
+		game.submitThrow(0, player1, Throw.ROCK);
+		game.submitThrow(0, player2, Throw.PAPER);
+		game.submitThrow(1, player1, Throw.SCISSORS);
+
+		GameView gameView = new GameView(game, player2);
+		Assert.assertEquals(2, gameView.getRounds().size());
+		Assert.assertSame(game.getRounds().get(0), gameView.getRounds().get(0));
+		Assert.assertNotSame(game.getRounds().get(1), gameView.getRounds().get(1));
+		Assert.assertNull(gameView.getRounds().get(1).getThrowForPlayer1());
+
+		// Advance the game, and verify that the view doesn't change.
+		game.submitThrow(1, player2, Throw.SCISSORS);
+		game.submitThrow(2, player1, Throw.PAPER);
+		Assert.assertEquals(2, gameView.getRounds().size());
+		Assert.assertNull(gameView.getRounds().get(1).getThrowForPlayer1());
+		Assert.assertNull(gameView.getRounds().get(1).getResult());
+		Assert.assertEquals(1, gameView.getScoreForPlayer2());
+	}
+
+	/**
+	 * Ensures that the JAXB output for a {@link GameView} is the same as for
+	 * an equivalent {@link GameView} with a plain {@link List} of
+	 * {@link GameRound}s (as produced by unmarshalling).
+	 * 
+	 * @throws JAXBException
+	 *             (shouldn't be thrown if things are working)
+	 */
+	@Test
+	public void jaxbMarshallingMatchesUnmarshalled() throws JAXBException {
+		// Create the Marshaller and Unmarshaller needed.
+		JAXBContext jaxbContext = JAXBContext.newInstance(GameView.class);
+		Marshaller marshaller = jaxbContext.createMarshaller();
+		Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+
+		// Create the instances to be converted to XML.
+		Player player1 = new Player(new Account());
+		Player player2 = new Player(new Account());
+		Game game = new Game(player1);
+		game.setPlayer2(player2);
+		game.submitThrow(0, player1, Throw.ROCK);
+		game.submitThrow(0, player2, Throw.ROCK);
+		game.submitThrow(1, player1, Throw.PAPER);
+		game.submitThrow(1, player2, Throw.ROCK);
+		game.submitThrow(2, player2, Throw.ROCK);
+		GameView gameView = new GameView(game, player1);
+
+		// Convert it to XML, back again, and then to XML again.
+		StringWriter xmlWriter = new StringWriter();
+		marshaller.marshal(gameView, xmlWriter);
+		String xml = xmlWriter.toString();
+		GameView parsedGameView = (GameView) unmarshaller.unmarshal(new StringReader(xml));
+		StringWriter parsedXmlWriter = new StringWriter();
+		marshaller.marshal(parsedGameView, parsedXmlWriter);
+
+		// Verify the results.
+		Assert.assertEquals(xml, parsedXmlWriter.toString());
+		Assert.assertTrue(xml.contains("<rps:throwForPlayer1>PAPER</rps:throwForPlayer1>"));
+		Assert.assertTrue(xml.contains("<rps:adjustedRoundIndex>1</rps:adjustedRoundIndex></rps:round></rps:rounds>"));
+	}
+
+	/**
+	 * Tests {@link GameView#GameView(Game, Player, Integer, Integer)}, to
+	 * verify that it only includes the requested rounds, but still has the
+	 * scores for the whole {@link Game}.
+	 */
+	@Test
+	public void roundWindows() {
+		Player player1 = new Player(new Account());
+		Player player2 = new Player(new Account());
+		Game game = createGameInProgress(player1, player2);
+		int roundCount = game.getRounds().size();
+
+		// Request just the last two rounds.
+		GameView lastRoundsView = new GameView(game, player1, null, 2);
+		Assert.assertEquals(roundCount - 2, lastRoundsView.getFirstRoundIndex());
+		Assert.assertEquals(2, lastRoundsView.getRounds().size());
+		Assert.assertEquals(roundCount - 2, lastRoundsView.getRounds().get(0).getRoundIndex());
+		Assert.assertNull(lastRoundsView.getCurrentRound().getThrowForPlayer2());
+		Assert.assertEquals(game.getScoreForPlayer1(), lastRoundsView.getScoreForPlayer1());
+		Assert.assertEquals(game.getScoreForPlayer2(), lastRoundsView.getScoreForPlayer2());
+
+		// Request rounds past the end: the current round is still included.
+		GameView pastEndView = new GameView(game, player1, roundCount + 10, null);
+		Assert.assertEquals(1, pastEndView.getRounds().size());
+		Assert.assertEquals(roundCount - 1, pastEndView.getCurrentRound().getRoundIndex());
+
+		// Request all of the rounds.
+		GameView allRoundsView = new GameView(game, player1, 0, roundCount + 10);
+		Assert.assertEquals(0, allRoundsView.getFirstRoundIndex());
+		Assert.assertEquals(roundCount, allRoundsView.getRounds().size());
+	}
+
+	/**
+	 * Tests {@link GameView#GameView(Game, Player, Integer, Integer)} with an
+	 * invalid value.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void roundWindows_invalid() {
+		Player player1 = new Player(new Account());
+		Game game = createGameInProgress(player1, new Player(new Account()));
+		new GameView(game, player1, null, 0);
+	}
+
+	/**
+	 * Ensures that {@link GameView} instances that only include some rounds
+	 * still have the correct scores after being marshalled and unmarshalled,
+	 * and that complete {@link GameView}s are marshalled as they always were.
+	 * 
+	 * @throws JAXBException
+	 *             (shouldn't be thrown if things are working)
+	 */
+	@Test
+	public void jaxbRoundWindows() throws JAXBException {
+		// Create the Marshaller and Unmarshaller needed.
+		JAXBContext jaxbContext = JAXBContext.newInstance(GameView.class);
+		Marshaller marshaller = jaxbContext.createMarshaller();
+		Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+
+		// Create the instances to be converted to XML.
+		Player player1 = new Player(new Account());
+		Player player2 = new Player(new Account());
+		Game game = createGameInProgress(player1, player2);
+		int roundCount = game.getRounds().size();
+		GameView windowedView = new GameView(game, player1, null, 1);
+		GameView completeView = new GameView(game, player1);
+
+		// Convert them to XML and back again.
+		StringWriter windowedXmlWriter = new StringWriter();
+		marshaller.marshal(windowedView, windowedXmlWriter);
+		GameView parsedWindowedView = (GameView) unmarshaller
+				.unmarshal(new StringReader(windowedXmlWriter.toString()));
+		StringWriter completeXmlWriter = new StringWriter();
+		marshaller.marshal(completeView, completeXmlWriter);
+		GameView parsedCompleteView = (GameView) unmarshaller
+				.unmarshal(new StringReader(completeXmlWriter.toString()));
+
+		// Verify the results.
+		Assert.assertEquals(roundCount - 1, parsedWindowedView.getFirstRoundIndex());
+		Assert.assertEquals(1, parsedWindowedView.getRounds().size());
+		Assert.assertEquals(game.getScoreForPlayer1(), parsedWindowedView.getScoreForPlayer1());
+		Assert.assertEquals(game.getScoreForPlayer2(), parsedWindowedView.getScoreForPlayer2());
+		Assert.assertTrue(game.getScoreForPlayer1() > 0);
+		Assert.assertFalse(completeXmlWriter.toString().contains("firstRoundIndex"));
+		Assert.assertEquals(0, parsedCompleteView.getFirstRoundIndex());
+		Assert.assertEquals(game.getScoreForPlayer1(), parsedCompleteView.getScoreForPlayer1());
+		Assert.assertEquals(game.getScoreForPlayer2(), parsedCompleteView.getScoreForPlayer2());
+	}
+
+	/**
+	 * Ensures that {@link GameView} instances that only include some rounds
+	 * still have the correct scores after being converted to JSON (via
+	 * Jackson) and back.
+	 *
+	 * @throws JAXBException
+	 *             (shouldn't be thrown if things are working)
+	 * @throws IOException
+	 *             (shouldn't be thrown if things are working)
+	 */
+	@Test
+	public void jsonRoundWindows() throws JAXBException, IOException {
+		/*
+		 * The web application serializes GameViews to JSON after they've been
+		 * unmarshalled from the web service's XML, so do the same here.
+		 */
+		JAXBContext jaxbContext = JAXBContext.newInstance(GameView.class);
+		Marshaller marshaller = jaxbContext.createMarshaller();
+		Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+		Player player1 = new Player(new Account());
+		Player player2 = new Player(new Account());
+		Game game = createGameInProgress(player1, player2);
+		StringWriter xmlWriter = new StringWriter();
+		marshaller.marshal(new GameView(game, player1, null, 1), xmlWriter);
+		GameView windowedView = (GameView) unmarshaller.unmarshal(new StringReader(xmlWriter.toString()));
+
+		/*
+		 * Jackson can't handle Instants out of the box, and the derived
+		 * properties (e.g. GameRound.getResult()) are output-only.
+		 */
+		SimpleModule instantModule = new SimpleModule();
+		instantModule.addDeserializer(Instant.class, new JsonDeserializer<Instant>() {
+			/**
+			 * @see com.fasterxml.jackson.databind.JsonDeserializer#deserialize(com.fasterxml.jackson.core.JsonParser,
+			 *      com.fasterxml.jackson.databind.DeserializationContext)
+			 */
+			@Override
+			public Instant deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+				JsonNode instantJson = parser.readValueAsTree();
+				return Instant.ofEpochSecond(instantJson.get("epochSecond").asLong(), instantJson.get("nano").asLong());
+			}
+		});
+		ObjectMapper jacksonMapper = new ObjectMapper().registerModule(instantModule)
+				.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+		// Convert it to JSON and back again.
+		String json = jacksonMapper.writeValueAsString(windowedView);
+		GameView parsedView = jacksonMapper.readValue(json, GameView.class);
+
+		// Verify the results.
+		Assert.assertEquals(game.getRounds().size() - 1, parsedView.getFirstRoundIndex());
+		Assert.assertEquals(1, parsedView.getRounds().size());
+		Assert.assertEquals(game.getScoreForPlayer1(), parsedView.getScoreForPlayer1());
+		Assert.assertEquals(game.getScoreForPlayer2(), parsedView.getScoreForPlayer2());
+		Assert.assertTrue(game.getScoreForPlayer1() > 0);
+	}
+
+	/**
+	 * @param player1
+	 *            the value to use for {@link Game#getPlayer1()}
+	 * @param player2
+	 *            the value to use for {@link Game#getPlayer2()}
+	 * @return a new {@link State#STARTED} {@link Game}, with several completed
+	 *         rounds (including some ties), and a current round in which only
+	 *         player 2 has thrown
+	 */
+	private static Game createGameInProgress(Player player1, Player player2) {
+		Game game = new Game(player1);
+		game.setMaxRounds(41);
+		game.setPlayer2(player2);
+
+		Throw[] throwsForPlayer2 = new Throw[] { Throw.PAPER, Throw.ROCK, Throw.SCISSORS, Throw.PAPER, Throw.ROCK,
+				Throw.SCISSORS };
+		for (Throw throwForPlayer2 : throwsForPlayer2) {
+			int roundIndex = game.getCurrentRound().getRoundIndex();
+			game.submitThrow(roundIndex, player1, Throw.ROCK);
+			game.submitThrow(roundIndex, player2, throwForPlayer2);
+			if (!game.isRoundPrepared())
+				game.prepareRound();
+		}
+		game.submitThrow(game.getCurrentRound().getRoundIndex(), player2, Throw.ROCK);
+
+		return game;
+	}
 }
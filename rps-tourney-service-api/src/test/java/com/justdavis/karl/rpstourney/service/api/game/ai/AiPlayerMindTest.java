@@ -0,0 +1,240 @@
+package com.justdavis.karl.rpstourney.service.api.game.ai;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.justdavis.karl.rpstourney.service.api.auth.Account;
+import com.justdavis.karl.rpstourney.service.api.game.Game;
+import com.justdavis.karl.rpstourney.service.api.game.GameRound;
+import com.justdavis.karl.rpstourney.service.api.game.GameView;
+import com.justdavis.karl.rpstourney.service.api.game.Player;
+import com.justdavis.karl.rpstourney.service.api.game.PlayerRole;
+import com.justdavis.karl.rpstourney.service.api.game.State;
+import com.justdavis.karl.rpstourney.service.api.game.Throw;
+
+/**
+ * Unit tests for {@link AiPlayerMind}, {@link PositronicBrainAdapter}, and the
+ * built-in {@link IPositronicMind}s.
+ */
+public final class AiPlayerMindTest {
+	/**
+	 * Verifies that the {@link IPositronicMind}s of the deterministic built-in
+	 * {@link IIncrementalPositronicBrain}s make the same decisions as their
+	 * {@link IPositronicBrain#calculateNextThrow(GameView, PlayerRole)}
+	 * methods.
+	 */
+	@Test
+	public void builtInMindsMatchBrains() {
+		Random random = new Random(42L);
+		for (int i = 0; i < 20; i++) {
+			crossCheck(new WinStayLoseShiftBrain(), PlayerRole.PLAYER_2, random);
+			crossCheck(new WinStayLoseShiftBrain(), PlayerRole.PLAYER_1, random);
+			crossCheck(new MetaWinStayLoseShiftBrain(), PlayerRole.PLAYER_2, random);
+			crossCheck(new MetaWinStayLoseShiftBrain(), PlayerRole.PLAYER_1, random);
+			crossCheck(new OneSidedDieBrain(Throw.SCISSORS), PlayerRole.PLAYER_2, random);
+		}
+	}
+
+	/**
+	 * Verifies that {@link PositronicBrainAdapter} lets
+	 * {@link IPositronicBrain}s that don't implement
+	 * {@link IIncrementalPositronicBrain} make the same decisions as they would
+	 * when given the real {@link Game}.
+	 */
+	@Test
+	public void adapterMatchesBrain() {
+		Random random = new Random(42L);
+		for (int i = 0; i < 20; i++) {
+			crossCheck(new HistoryCountingBrain(), PlayerRole.PLAYER_2, random);
+			crossCheck(new HistoryCountingBrain(), PlayerRole.PLAYER_1, random);
+		}
+	}
+
+	/**
+	 * Verifies that {@link AiPlayerMind#precalculateNextThrow(Game)} works as
+	 * expected: the {@link Throw} it picks is the one that
+	 * {@link AiPlayerMind#calculateNextThrow(Game)} then returns for that
+	 * round, and stale copies of the {@link Game} are ignored.
+	 */
+	@Test
+	public void precalculatedThrow() {
+		Player player1 = new Player(new Account());
+		Player player2 = new Player(BuiltInAi.THREE_SIDED_DIE_V1);
+		Game olderGame = createGame(player1, player2, 101);
+		Game newerGame = createGame(player1, player2, 101);
+		playRound(newerGame, Throw.ROCK, Throw.PAPER);
+
+		// The brain is random, so any recalculation would likely show up here.
+		AiPlayerMind mind = new AiPlayerMind(new ThreeSidedDieBrain(), PlayerRole.PLAYER_2);
+		mind.precalculateNextThrow(newerGame);
+		Throw precalculatedThrow = mind.calculateNextThrow(newerGame);
+		for (int i = 0; i < 20; i++) {
+			mind.precalculateNextThrow(newerGame);
+			mind.precalculateNextThrow(olderGame);
+			Assert.assertEquals(precalculatedThrow, mind.calculateNextThrow(newerGame));
+		}
+	}
+
+	/**
+	 * Verifies that {@link AiPlayerMind} copes with being handed an older copy
+	 * of its {@link Game}, which has fewer rounds than it's already seen.
+	 */
+	@Test
+	public void staleGame() {
+		Random random = new Random(42L);
+		Player player1 = new Player(new Account());
+		Player player2 = new Player(BuiltInAi.WIN_STAY_LOSE_SHIFT_V1);
+		Game olderGame = createGame(player1, player2, 101);
+		Game newerGame = createGame(player1, player2, 101);
+		for (int i = 0; i < 5; i++) {
+			Throw throwForPlayer1 = Throw.values()[random.nextInt(3)];
+			Throw throwForPlayer2 = Throw.values()[random.nextInt(3)];
+			if (i < 2)
+				playRound(olderGame, throwForPlayer1, throwForPlayer2);
+			playRound(newerGame, throwForPlayer1, throwForPlayer2);
+		}
+
+		WinStayLoseShiftBrain brain = new WinStayLoseShiftBrain();
+		AiPlayerMind mind = new AiPlayerMind(brain, PlayerRole.PLAYER_2);
+		Assert.assertEquals(brain.calculateNextThrow(new GameView(newerGame, player2), PlayerRole.PLAYER_2),
+				mind.calculateNextThrow(newerGame));
+		Assert.assertEquals(brain.calculateNextThrow(new GameView(olderGame, player2), PlayerRole.PLAYER_2),
+				mind.calculateNextThrow(olderGame));
+	}
+
+	/**
+	 * Verifies that {@link AiPlayerMind#exportOpponentModel(Game)} can be used
+	 * to carry what an {@link ILearningPositronicBrain} learned in one
+	 * {@link Game} over to the next one against the same opponent.
+	 */
+	@Test
+	public void opponentModel() {
+		MarkovChainBrain brain = new MarkovChainBrain(1);
+		Player player1 = new Player(new Account());
+		Player player2 = new Player(BuiltInAi.MARKOV_CHAIN_V1);
+
+		// Play a game against an opponent that only throws ROCK.
+		Game firstGame = createGame(player1, player2, 101);
+		AiPlayerMind firstMind = new AiPlayerMind(brain, PlayerRole.PLAYER_2);
+		for (int i = 0; i < 30 && firstGame.getState() != State.FINISHED; i++)
+			playRound(firstGame, Throw.ROCK, Throw.values()[i % 3]);
+		firstMind.calculateNextThrow(firstGame);
+		byte[] opponentModel = firstMind.exportOpponentModel(firstGame);
+		Assert.assertNotNull(opponentModel);
+
+		// The next game's AiPlayerMind should know what to expect.
+		Game secondGame = createGame(player1, player2, 101);
+		AiPlayerMind secondMind = new AiPlayerMind(brain, PlayerRole.PLAYER_2, opponentModel);
+		playRound(secondGame, Throw.ROCK, secondMind.calculateNextThrow(secondGame));
+		Assert.assertEquals(Throw.PAPER, secondMind.calculateNextThrow(secondGame));
+
+		// Brains that don't learn don't have opponent models.
+		Assert.assertNull(new AiPlayerMind(new WinStayLoseShiftBrain(), PlayerRole.PLAYER_2)
+				.exportOpponentModel(secondGame));
+	}
+
+	/**
+	 * Verifies that {@link AiPlayerMind} ignores opponent models that its
+	 * {@link ILearningPositronicBrain} can't use, rather than failing the
+	 * {@link Game}.
+	 */
+	@Test
+	public void invalidOpponentModel() {
+		Player player1 = new Player(new Account());
+		Player player2 = new Player(BuiltInAi.MARKOV_CHAIN_V1);
+		Game game = createGame(player1, player2, 101);
+
+		AiPlayerMind mind = new AiPlayerMind(new MarkovChainBrain(1), PlayerRole.PLAYER_2, new byte[] { 42 });
+		Assert.assertNotNull(mind.calculateNextThrow(game));
+		Assert.assertNotNull(mind.exportOpponentModel(game));
+	}
+
+	/**
+	 * Plays a random {@link Game}, and verifies that an {@link AiPlayerMind}
+	 * for the specified {@link IPositronicBrain} agrees with it for every round
+	 * after the first.
+	 *
+	 * @param brain
+	 *            the {@link IPositronicBrain} to test
+	 * @param role
+	 *            the {@link PlayerRole} to test the {@link IPositronicBrain} as
+	 * @param random
+	 *            the {@link Random} to select the opponent's {@link Throw}s
+	 *            with
+	 */
+	private static void crossCheck(IPositronicBrain brain, PlayerRole role, Random random) {
+		Player player1 = new Player(new Account());
+		Player player2 = new Player(new Account());
+		Game game = createGame(player1, player2, 21);
+		Player aiPlayer = role == PlayerRole.PLAYER_1 ? player1 : player2;
+
+		AiPlayerMind mind = new AiPlayerMind(brain, role);
+		while (game.getState() != State.FINISHED) {
+			Throw aiThrow = mind.calculateNextThrow(game);
+			if (game.getCurrentRound().getRoundIndex() > 0)
+				Assert.assertEquals(brain.calculateNextThrow(new GameView(game, aiPlayer), role), aiThrow);
+
+			Throw opponentThrow = Throw.values()[random.nextInt(3)];
+			if (role == PlayerRole.PLAYER_1)
+				playRound(game, aiThrow, opponentThrow);
+			else
+				playRound(game, opponentThrow, aiThrow);
+		}
+	}
+
+	/**
+	 * @param player1
+	 *            the value to use for {@link Game#getPlayer1()}
+	 * @param player2
+	 *            the value to use for {@link Game#getPlayer2()}
+	 * @param maxRounds
+	 *            the value to use for {@link Game#getMaxRounds()}
+	 * @return a new {@link State#WAITING_FOR_FIRST_THROW} {@link Game}
+	 */
+	private static Game createGame(Player player1, Player player2, int maxRounds) {
+		Game game = new Game(player1);
+		game.setMaxRounds(maxRounds);
+		game.setPlayer2(player2);
+		return game;
+	}
+
+	/**
+	 * @param game
+	 *            the {@link Game} to play the current round of
+	 * @param throwForPlayer1
+	 *            the {@link Throw} to make for {@link Game#getPlayer1()}
+	 * @param throwForPlayer2
+	 *            the {@link Throw} to make for {@link Game#getPlayer2()}
+	 */
+	private static void playRound(Game game, Throw throwForPlayer1, Throw throwForPlayer2) {
+		int roundIndex = game.getCurrentRound().getRoundIndex();
+		game.submitThrow(roundIndex, game.getPlayer1(), throwForPlayer1);
+		game.submitThrow(roundIndex, game.getPlayer2(), throwForPlayer2);
+		if (!game.isRoundPrepared())
+			game.prepareRound();
+	}
+
+	/**
+	 * A deterministic {@link IPositronicBrain} that doesn't implement
+	 * {@link IIncrementalPositronicBrain}, and whose decisions depend on the
+	 * whole game history, the scores, and its {@link PlayerRole}.
+	 */
+	private static final class HistoryCountingBrain implements IPositronicBrain {
+		/**
+		 * @see com.justdavis.karl.rpstourney.service.api.game.ai.IPositronicBrain#calculateNextThrow(com.justdavis.karl.rpstourney.service.api.game.GameView,
+		 *      com.justdavis.karl.rpstourney.service.api.game.PlayerRole)
+		 */
+		@Override
+		public Throw calculateNextThrow(GameView game, PlayerRole role) {
+			int rockCount = 0;
+			for (GameRound round : game.getRounds())
+				if (round.getThrowForPlayer(role.getOpponentRole()) == Throw.ROCK)
+					rockCount++;
+
+			int score = game.getScoreForPlayer(role == PlayerRole.PLAYER_1 ? game.getPlayer1() : game.getPlayer2());
+			return Throw.values()[(rockCount + score + role.ordinal()) % 3];
+		}
+	}
+}
@@ -0,0 +1,142 @@
+package com.justdavis.karl.rpstourney.service.api.game.ai;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.justdavis.karl.rpstourney.service.api.game.Throw;
+
+/**
+ * Unit tests for {@link EnsembleBrain}.
+ */
+public final class EnsembleBrainTest {
+	/**
+	 * A move budget that's plenty for all of the predictors, even on a slow
+	 * build machine.
+	 */
+	private static final long GENEROUS_BUDGET = TimeUnit.SECONDS.toNanos(1);
+
+	/**
+	 * Verifies that {@link EnsembleBrain} learns to beat an opponent that just
+	 * cycles through the {@link Throw}s.
+	 */
+	@Test
+	public void beatsCyclingOpponent() {
+		IPositronicMind mind = new EnsembleBrain(GENEROUS_BUDGET).createMind();
+		Throw[] throwValues = Throw.values();
+
+		int wins = 0;
+		for (int i = 0; i < 300; i++) {
+			Throw opponentThrow = throwValues[i % throwValues.length];
+			Throw ownThrow = mind.nextThrow();
+			if (i >= 100 && ownThrow == opponentThrow.getOppositeThrow())
+				wins++;
+			mind.observe(ownThrow, opponentThrow);
+		}
+
+		Assert.assertEquals(200, wins);
+	}
+
+	/**
+	 * Verifies that {@link EnsembleBrain} soundly beats each of the simpler,
+	 * non-learning built-in {@link IIncrementalPositronicBrain}s.
+	 */
+	@Test
+	public void beatsSimplerBrains() {
+		EnsembleBrain brain = new EnsembleBrain(GENEROUS_BUDGET);
+		IIncrementalPositronicBrain[] opponents = new IIncrementalPositronicBrain[] { new OneSidedDieBrain(Throw.PAPER),
+				new WinStayLoseShiftBrain(), new MetaWinStayLoseShiftBrain() };
+		for (IIncrementalPositronicBrain opponent : opponents) {
+			int[] results = play(brain.createMind(), opponent.createMind(), 1000);
+			Assert.assertTrue(opponent.getClass().getSimpleName(), results[0] > 10 * results[1]);
+		}
+	}
+
+	/**
+	 * Verifies that {@link EnsembleBrain} beats {@link MarkovChainBrain}, which
+	 * is also learning as the game goes on.
+	 */
+	@Test
+	public void beatsMarkovChainBrain() {
+		int[] results = play(new EnsembleBrain(GENEROUS_BUDGET).createMind(), new MarkovChainBrain(1).createMind(),
+				1000);
+		Assert.assertTrue(results[0] > results[1] + 100);
+	}
+
+	/**
+	 * Verifies that {@link EnsembleBrain} falls back to random {@link Throw}s
+	 * when its move budget is exhausted.
+	 */
+	@Test
+	public void exhaustedBudget() {
+		int[] results = play(new EnsembleBrain(0L).createMind(), new OneSidedDieBrain(Throw.ROCK).createMind(), 3000);
+
+		// If it weren't random, it'd win (nearly) every round.
+		Assert.assertTrue(results[0] < 1500);
+		Assert.assertTrue(results[1] > 500);
+	}
+
+	/**
+	 * Verifies that an {@link EnsembleBrain} {@link IPositronicMind} that's
+	 * seeded with an exported opponent model picks up right where the
+	 * exporting {@link IPositronicMind} left off.
+	 */
+	@Test
+	public void resumesOpponentModel() {
+		EnsembleBrain brain = new EnsembleBrain(GENEROUS_BUDGET);
+		ILearningPositronicMind trainedMind = brain.createMind();
+		play(trainedMind, new OneSidedDieBrain(Throw.ROCK).createMind(), 100);
+
+		int[] results = play(brain.createMind(trainedMind.exportOpponentModel()),
+				new OneSidedDieBrain(Throw.ROCK).createMind(), 21);
+
+		// The first round of each game has no previous round to go on.
+		Assert.assertTrue(results[0] >= 20);
+	}
+
+	/**
+	 * Verifies that {@link EnsembleBrain#createMind(byte[])} rejects corrupt
+	 * opponent models.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void corruptOpponentModel() {
+		byte[] opponentModel = new EnsembleBrain(GENEROUS_BUDGET).createMind().exportOpponentModel();
+		// The first Markov counter is now far too large.
+		opponentModel[2] = Byte.MAX_VALUE;
+		new EnsembleBrain(GENEROUS_BUDGET).createMind(opponentModel);
+	}
+
+	/**
+	 * Verifies that {@link EnsembleBrain#EnsembleBrain(long)} rejects invalid
+	 * budgets.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidBudget() {
+		new EnsembleBrain(-1L);
+	}
+
+	/**
+	 * @param mind
+	 *            the {@link IPositronicMind} being tested
+	 * @param opponentMind
+	 *            the {@link IPositronicMind} to play against
+	 * @param numRounds
+	 *            the number of rounds to play
+	 * @return the number of rounds won by each of the {@link IPositronicMind}s
+	 */
+	private static int[] play(IPositronicMind mind, IPositronicMind opponentMind, int numRounds) {
+		int[] results = new int[2];
+		for (int i = 0; i < numRounds; i++) {
+			Throw ownThrow = mind.nextThrow();
+			Throw opponentThrow = opponentMind.nextThrow();
+			if (ownThrow == opponentThrow.getOppositeThrow())
+				results[0]++;
+			else if (opponentThrow == ownThrow.getOppositeThrow())
+				results[1]++;
+			mind.observe(ownThrow, opponentThrow);
+			opponentMind.observe(opponentThrow, ownThrow);
+		}
+		return results;
+	}
+}
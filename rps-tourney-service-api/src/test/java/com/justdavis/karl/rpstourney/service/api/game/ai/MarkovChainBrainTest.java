@@ -0,0 +1,188 @@
+package com.justdavis.karl.rpstourney.service.api.game.ai;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.justdavis.karl.rpstourney.service.api.auth.Account;
+import com.justdavis.karl.rpstourney.service.api.game.Game;
+import com.justdavis.karl.rpstourney.service.api.game.GameView;
+import com.justdavis.karl.rpstourney.service.api.game.Player;
+import com.justdavis.karl.rpstourney.service.api.game.PlayerRole;
+import com.justdavis.karl.rpstourney.service.api.game.Throw;
+
+/**
+ * Unit tests for {@link MarkovChainBrain}.
+ */
+public final class MarkovChainBrainTest {
+	/**
+	 * Verifies that {@link MarkovChainBrain} learns to beat an opponent that
+	 * just cycles through the {@link Throw}s.
+	 */
+	@Test
+	public void beatsCyclingOpponent() {
+		IPositronicMind mind = new MarkovChainBrain(2).createMind();
+		Throw[] throwValues = Throw.values();
+
+		int wins = 0;
+		for (int i = 0; i < 300; i++) {
+			Throw opponentThrow = throwValues[i % throwValues.length];
+			Throw ownThrow = mind.nextThrow();
+			if (i >= 100 && ownThrow == opponentThrow.getOppositeThrow())
+				wins++;
+			mind.observe(ownThrow, opponentThrow);
+		}
+
+		Assert.assertEquals(200, wins);
+	}
+
+	/**
+	 * Verifies that {@link MarkovChainBrain} learns to beat
+	 * {@link WinStayLoseShiftBrain}, which is what most humans do.
+	 */
+	@Test
+	public void beatsWinStayLoseShift() {
+		IPositronicMind mind = new MarkovChainBrain(1).createMind();
+		IPositronicMind opponentMind = new WinStayLoseShiftBrain().createMind();
+
+		int wins = 0;
+		int losses = 0;
+		for (int i = 0; i < 1000; i++) {
+			Throw ownThrow = mind.nextThrow();
+			Throw opponentThrow = opponentMind.nextThrow();
+			if (ownThrow == opponentThrow.getOppositeThrow())
+				wins++;
+			else if (opponentThrow == ownThrow.getOppositeThrow())
+				losses++;
+			mind.observe(ownThrow, opponentThrow);
+			opponentMind.observe(opponentThrow, ownThrow);
+		}
+
+		Assert.assertTrue(wins > 2 * losses);
+	}
+
+	/**
+	 * Verifies that {@link MarkovChainBrain} adapts when its opponent switches
+	 * strategies partway through a long game, rather than being anchored to
+	 * the older history.
+	 */
+	@Test
+	public void adaptsToNewStrategy() {
+		IPositronicMind mind = new MarkovChainBrain(1).createMind();
+
+		// Train it on a very long stretch of an opponent that only throws ROCK.
+		for (int i = 0; i < 100000; i++)
+			mind.observe(Throw.SCISSORS, Throw.ROCK);
+
+		// Now switch to an opponent that only throws SCISSORS.
+		int wins = 0;
+		for (int i = 0; i < 2 * MarkovModel.MAX_COUNT; i++) {
+			Throw ownThrow = mind.nextThrow();
+			if (ownThrow == Throw.ROCK)
+				wins++;
+			mind.observe(ownThrow, Throw.SCISSORS);
+		}
+
+		Assert.assertTrue(wins > MarkovModel.MAX_COUNT);
+	}
+
+	/**
+	 * Verifies that {@link MarkovChainBrain#calculateNextThrow(GameView, PlayerRole)}
+	 * replays the {@link Game} history the same way its
+	 * {@link IPositronicMind} does, once the model's prediction is
+	 * unambiguous.
+	 */
+	@Test
+	public void calculateNextThrowMatchesMind() {
+		MarkovChainBrain brain = new MarkovChainBrain(1);
+		IPositronicMind mind = brain.createMind();
+		Player player1 = new Player(new Account());
+		Player player2 = new Player(BuiltInAi.MARKOV_CHAIN_V1);
+		Game game = new Game(player1);
+		game.setMaxRounds(101);
+		game.setPlayer2(player2);
+
+		// Player 1 always ties, so the game never ends.
+		for (int i = 0; i < 30; i++) {
+			Throw throwForPlayer1 = Throw.values()[i % 3];
+			int roundIndex = game.getCurrentRound().getRoundIndex();
+			game.submitThrow(roundIndex, player1, throwForPlayer1);
+			game.submitThrow(roundIndex, player2, throwForPlayer1);
+			mind.observe(throwForPlayer1, throwForPlayer1);
+		}
+
+		Throw expected = mind.nextThrow();
+		Assert.assertEquals(Throw.values()[30 % 3].getOppositeThrow(), expected);
+		Assert.assertEquals(expected, brain.calculateNextThrow(new GameView(game, player2), PlayerRole.PLAYER_2));
+	}
+
+	/**
+	 * Verifies that a {@link MarkovChainBrain} {@link IPositronicMind} that's
+	 * seeded with an exported opponent model picks up right where the
+	 * exporting {@link IPositronicMind} left off.
+	 */
+	@Test
+	public void resumesOpponentModel() {
+		MarkovChainBrain brain = new MarkovChainBrain(1);
+		ILearningPositronicMind trainedMind = brain.createMind();
+		for (int i = 0; i < 99; i++)
+			trainedMind.observe(Throw.values()[i % 3], Throw.ROCK);
+
+		IPositronicMind mind = brain.createMind(trainedMind.exportOpponentModel());
+
+		// The first round of each game has no previous round to go on.
+		mind.observe(mind.nextThrow(), Throw.ROCK);
+		for (int i = 0; i < 10; i++) {
+			Throw ownThrow = mind.nextThrow();
+			Assert.assertEquals(Throw.PAPER, ownThrow);
+			mind.observe(ownThrow, Throw.ROCK);
+		}
+	}
+
+	/**
+	 * Verifies that {@link MarkovChainBrain#createMind(byte[])} rejects opponent
+	 * models that were exported by a {@link MarkovChainBrain} with a different
+	 * {@link MarkovChainBrain#getOrder()}.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void opponentModelForDifferentOrder() {
+		byte[] opponentModel = new MarkovChainBrain(1).createMind().exportOpponentModel();
+		new MarkovChainBrain(2).createMind(opponentModel);
+	}
+
+	/**
+	 * Verifies that {@link MarkovChainBrain#createMind(byte[])} rejects
+	 * truncated opponent models.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void truncatedOpponentModel() {
+		byte[] opponentModel = new MarkovChainBrain(1).createMind().exportOpponentModel();
+		new MarkovChainBrain(1).createMind(Arrays.copyOf(opponentModel, opponentModel.length - 1));
+	}
+
+	/**
+	 * Verifies that {@link MarkovChainBrain#MarkovChainBrain(int)} rejects
+	 * invalid orders.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidOrder() {
+		new MarkovChainBrain(MarkovChainBrain.MAX_ORDER + 1);
+	}
+
+	/**
+	 * Verifies that every supported {@link MarkovChainBrain#getOrder()} works,
+	 * even against a random opponent.
+	 */
+	@Test
+	public void allOrders() {
+		Random random = new Random(42L);
+		for (int order = 1; order <= MarkovChainBrain.MAX_ORDER; order++) {
+			IPositronicMind mind = new MarkovChainBrain(order).createMind();
+			for (int i = 0; i < 1000; i++)
+				mind.observe(mind.nextThrow(), Throw.values()[random.nextInt(3)]);
+			Assert.assertNotNull(mind.nextThrow());
+		}
+	}
+}
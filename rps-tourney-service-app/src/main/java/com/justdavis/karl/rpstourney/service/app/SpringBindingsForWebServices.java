@@ -21,9 +21,11 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.EnableMBeanExport;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Scope;
 import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.jmx.support.RegistrationPolicy;
 import org.springframework.web.context.WebApplicationContext;
 
 import com.justdavis.karl.misc.datasources.DataSourceConnectorsManager;
@@ -37,11 +39,20 @@ import com.justdavis.karl.rpstourney.service.app.demo.HelloWorldServiceImpl;
 import com.justdavis.karl.rpstourney.service.app.jpa.SpringBindingsForJpa;
 
 /**
+ * <p>
  * Provides the primary Spring {@link Configuration} for the JAX-RS application.
+ * </p>
+ * <p>
+ * Any beans annotated with
+ * {@link org.springframework.jmx.export.annotation.ManagedResource} will have
+ * their metrics exported via JMX. (Existing registrations are replaced, as the
+ * tests may start more than one application context in the same JVM.)
+ * </p>
  */
 @Configuration
 @ComponentScan(basePackageClasses = { ServiceApplication.class })
 @Import({ SpringBindingsForDaos.class, SpringBindingsForJpa.class })
+@EnableMBeanExport(registration = RegistrationPolicy.REPLACE_EXISTING)
 public class SpringBindingsForWebServices {
 	/**
 	 * @return Returns the {@link SpringBus} that the CXF application uses. Such
@@ -15,7 +15,6 @@ import org.springframework.stereotype.Component;
 
 import com.justdavis.karl.misc.exceptions.BadCodeMonkeyException;
 import com.justdavis.karl.rpstourney.service.api.auth.Account;
-import com.justdavis.karl.rpstourney.service.api.auth.Account_;
 import com.justdavis.karl.rpstourney.service.api.auth.AuditAccountMerge;
 import com.justdavis.karl.rpstourney.service.api.auth.AuditAccountMerge_;
 import com.justdavis.karl.rpstourney.service.api.auth.AuthToken;
@@ -99,26 +98,8 @@ public final class AccountsDaoImpl implements IAccountsDao {
 	 */
 	@Override
 	public Account getAccountById(long id) {
-		// Build a query for the matching ID.
-		CriteriaBuilder criteriaBuilder = entityManager.getEntityManagerFactory().getCriteriaBuilder();
-		CriteriaQuery<Account> criteria = criteriaBuilder.createQuery(Account.class);
-		criteria.where(criteriaBuilder.equal(criteria.from(Account.class).get(Account_.id), id));
-
-		// Run the query.
-		TypedQuery<Account> query = entityManager.createQuery(criteria);
-		List<Account> results = query.getResultList();
-
-		/*
-		 * The Account.id field should have a UNIQUE constraint.
-		 */
-		if (results.isEmpty())
-			return null;
-		else if (results.size() != 1)
-			throw new BadCodeMonkeyException();
-
-		// Return the result.
-		Account account = results.get(0);
-		return account;
+		// This will be served from the second-level cache, when possible.
+		return entityManager.find(Account.class, id);
 	}
 
 	/**
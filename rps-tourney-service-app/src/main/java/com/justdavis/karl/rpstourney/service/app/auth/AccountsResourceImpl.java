@@ -181,7 +181,11 @@ public class AccountsResourceImpl implements IAccountsResource {
 			accountToUpdate.getLogins().add(login);
 		}
 
-		// Save the modified Account to the database, and echo it back.
+		/*
+		 * Save the modified Account to the database, and echo it back. Note
+		 * that this must go through JPA: it's what keeps the second-level
+		 * cache's copies of the Account and its roles up to date.
+		 */
 		Account mergedAccount = accountsDao.merge(accountToUpdate);
 		return mergedAccount;
 	}
@@ -291,7 +295,10 @@ public class AccountsResourceImpl implements IAccountsResource {
 
 		/*
 		 * Save the audit entries and the target Account, then delete the (now
-		 * empty) source Account.
+		 * empty) source Account. As with updateAccount(...), these must all go
+		 * through JPA, so that the second-level cache's copies of the Accounts
+		 * and source Player are updated or evicted, along with any cached
+		 * Player lookups.
 		 */
 		accountsDao.save(targetAccount);
 		accountsDao.save(auditAccountEntry);
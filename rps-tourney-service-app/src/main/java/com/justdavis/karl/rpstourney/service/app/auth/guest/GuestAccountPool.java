@@ -0,0 +1,354 @@
+package com.justdavis.karl.rpstourney.service.app.auth.guest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.justdavis.karl.rpstourney.service.api.auth.Account;
+import com.justdavis.karl.rpstourney.service.api.auth.AuthToken;
+import com.justdavis.karl.rpstourney.service.api.auth.guest.GuestLoginIdentity;
+import com.justdavis.karl.rpstourney.service.api.auth.guest.PooledGuestAccount;
+import com.justdavis.karl.rpstourney.service.api.game.Player;
+import com.justdavis.karl.rpstourney.service.app.auth.IAccountsDao;
+import com.justdavis.karl.rpstourney.service.app.config.GuestAccountPoolConfig;
+import com.justdavis.karl.rpstourney.service.app.config.ServiceConfig;
+import com.justdavis.karl.rpstourney.service.app.game.IPlayersDao;
+
+/**
+ * <p>
+ * An optional pool of guest {@link Account}s that were created ahead of time
+ * (each with its {@link GuestLoginIdentity}, {@link AuthToken}, and
+ * {@link Player}), so that {@link GuestAuthResourceImpl#loginAsGuest()} only
+ * has to {@link #claim()} one, rather than inserting all of those while the
+ * new guest waits. A background refiller thread tops the pool back up to
+ * {@link GuestAccountPoolConfig#getSize()} every
+ * {@link GuestAccountPoolConfig#getRefillIntervalMillis()}.
+ * </p>
+ * <p>
+ * The pool is kept in the database, as {@link PooledGuestAccount}s, which are
+ * read back in at startup. The IDs of those are also queued up in memory, so
+ * that each {@link #claim()} is just a single conditional delete. If several
+ * instances of the service share a database, they may queue up the same
+ * {@link Account}s, but only one of them will be able to claim each.
+ * </p>
+ * <p>
+ * Note that pooled {@link Account}s will have the
+ * {@link Account#getCreatedTimestamp()} of when they were added to the pool,
+ * rather than when they were claimed. Also, if the transaction that claimed
+ * an {@link Account} is rolled back, that {@link Account} won't be claimed
+ * again until the service is restarted.
+ * </p>
+ * <p>
+ * Unless {@link GuestAccountPoolConfig#isEnabled()}, this does nothing: no
+ * threads are started, and {@link #claim()} will always return
+ * <code>null</code>.
+ * </p>
+ */
+@Component
+@ManagedResource(objectName = "com.justdavis.karl.rpstourney.service:name=GuestAccountPool")
+public class GuestAccountPool {
+	private static final Logger LOGGER = LoggerFactory.getLogger(GuestAccountPool.class);
+
+	/**
+	 * The maximum number of {@link Account}s that will be added to the pool
+	 * per database transaction. Matches the entities' ID allocation sizes and
+	 * the JDBC batch size.
+	 */
+	static final int MAX_REFILL_BATCH_SIZE = 50;
+
+	private final int size;
+	private final IAccountsDao accountsDao;
+	private final IGuestLoginIndentitiesDao loginsDao;
+	private final IPlayersDao playersDao;
+	private final TransactionTemplate transactionTemplate;
+	private final ScheduledExecutorService refiller;
+
+	private final BlockingQueue<Long> pooledAccountIds;
+	private volatile boolean loaded;
+
+	private final AtomicLong claimedCount = new AtomicLong(0);
+	private final AtomicLong emptyCount = new AtomicLong(0);
+	private final AtomicLong createdCount = new AtomicLong(0);
+	private final AtomicLong refillFailureCount = new AtomicLong(0);
+
+	/**
+	 * Constructs a new {@link GuestAccountPool} instance.
+	 *
+	 * @param config
+	 *            the injected {@link ServiceConfig} to use
+	 * @param accountsDao
+	 *            the injected {@link IAccountsDao} to use
+	 * @param loginsDao
+	 *            the injected {@link IGuestLoginIndentitiesDao} to use
+	 * @param playersDao
+	 *            the injected {@link IPlayersDao} to use
+	 * @param transactionManager
+	 *            the injected {@link PlatformTransactionManager} to use
+	 */
+	@Inject
+	public GuestAccountPool(ServiceConfig config, IAccountsDao accountsDao, IGuestLoginIndentitiesDao loginsDao,
+			IPlayersDao playersDao, PlatformTransactionManager transactionManager) {
+		this(config.getGuestAccountPoolConfig(), accountsDao, loginsDao, playersDao, transactionManager);
+	}
+
+	/**
+	 * Constructs a new {@link GuestAccountPool} instance. If it's enabled, its
+	 * background refiller thread will be started, which will first read in
+	 * any {@link PooledGuestAccount}s left in the database.
+	 *
+	 * @param config
+	 *            the {@link GuestAccountPoolConfig} to use
+	 * @param accountsDao
+	 *            the {@link IAccountsDao} to use
+	 * @param loginsDao
+	 *            the {@link IGuestLoginIndentitiesDao} to use
+	 * @param playersDao
+	 *            the {@link IPlayersDao} to use
+	 * @param transactionManager
+	 *            the {@link PlatformTransactionManager} to run each refill
+	 *            with
+	 */
+	public GuestAccountPool(GuestAccountPoolConfig config, IAccountsDao accountsDao,
+			IGuestLoginIndentitiesDao loginsDao, IPlayersDao playersDao, PlatformTransactionManager transactionManager) {
+		if (config == null)
+			throw new IllegalArgumentException();
+		if (accountsDao == null)
+			throw new IllegalArgumentException();
+		if (loginsDao == null)
+			throw new IllegalArgumentException();
+		if (playersDao == null)
+			throw new IllegalArgumentException();
+		if (transactionManager == null)
+			throw new IllegalArgumentException();
+
+		this.size = config.getSize();
+		this.accountsDao = accountsDao;
+		this.loginsDao = loginsDao;
+		this.playersDao = playersDao;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.pooledAccountIds = new LinkedBlockingQueue<>();
+
+		if (!config.isEnabled()) {
+			this.refiller = null;
+			this.loaded = true;
+			return;
+		}
+
+		this.loaded = false;
+		this.refiller = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			/**
+			 * @see java.util.concurrent.ThreadFactory#newThread(java.lang.Runnable)
+			 */
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "guest-account-pool-refiller");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		this.refiller.scheduleWithFixedDelay(new Runnable() {
+			/**
+			 * @see java.lang.Runnable#run()
+			 */
+			@Override
+			public void run() {
+				try {
+					refill();
+				} catch (RuntimeException e) {
+					refillFailureCount.incrementAndGet();
+					LOGGER.warn("Unable to refill the guest account pool. Will retry.", e);
+				}
+			}
+		}, 0, config.getRefillIntervalMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * @return <code>true</code> if {@link #claim()} may return pooled
+	 *         {@link Account}s, <code>false</code> if it never will
+	 */
+	@ManagedAttribute
+	public boolean isEnabled() {
+		return size > 0;
+	}
+
+	/**
+	 * @return the number of pooled {@link Account}s that the
+	 *         {@link GuestAccountPool} tries to keep on hand
+	 */
+	@ManagedAttribute
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * @return the number of pooled {@link Account}s that are currently queued
+	 *         up to be claimed
+	 */
+	@ManagedAttribute
+	public int getAvailableCount() {
+		return pooledAccountIds.size();
+	}
+
+	/**
+	 * @return the number of {@link Account}s that have been claimed from the
+	 *         pool since startup
+	 */
+	@ManagedAttribute
+	public long getClaimedCount() {
+		return claimedCount.get();
+	}
+
+	/**
+	 * @return the number of {@link #claim()} calls that found the pool empty
+	 *         since startup (excluding those made while it's disabled)
+	 */
+	@ManagedAttribute
+	public long getEmptyCount() {
+		return emptyCount.get();
+	}
+
+	/**
+	 * @return the number of {@link Account}s that have been added to the pool
+	 *         since startup
+	 */
+	@ManagedAttribute
+	public long getCreatedCount() {
+		return createdCount.get();
+	}
+
+	/**
+	 * @return the number of refills that have failed (and will be retried)
+	 *         since startup
+	 */
+	@ManagedAttribute
+	public long getRefillFailureCount() {
+		return refillFailureCount.get();
+	}
+
+	/**
+	 * Claims one of the pooled {@link Account}s, if any are available. Must be
+	 * called from within a transaction, which the claim will be part of.
+	 *
+	 * @return a pooled {@link Account} (along with its
+	 *         {@link GuestLoginIdentity}, {@link AuthToken}, and {@link Player})
+	 *         that now belongs to the caller, or <code>null</code> if none
+	 *         were available, in which case the caller must create its own
+	 */
+	public Account claim() {
+		if (!isEnabled())
+			return null;
+
+		Long accountId;
+		while ((accountId = pooledAccountIds.poll()) != null) {
+			// Skip any that were already claimed by another service instance.
+			if (!loginsDao.claimPooledAccount(accountId))
+				continue;
+
+			claimedCount.incrementAndGet();
+			return accountsDao.getAccountById(accountId);
+		}
+
+		emptyCount.incrementAndGet();
+		return null;
+	}
+
+	/**
+	 * Reads in the {@link PooledGuestAccount}s left in the database (if that
+	 * hasn't already been done), and then tops the pool back up to
+	 * {@link #getSize()}. Called periodically by the background refiller
+	 * thread.
+	 */
+	void refill() {
+		if (!loaded) {
+			List<Long> existingAccountIds = transactionTemplate.execute(new TransactionCallback<List<Long>>() {
+				/**
+				 * @see org.springframework.transaction.support.TransactionCallback#doInTransaction(org.springframework.transaction.TransactionStatus)
+				 */
+				@Override
+				public List<Long> doInTransaction(TransactionStatus status) {
+					return loginsDao.getPooledAccountIds(size);
+				}
+			});
+			pooledAccountIds.addAll(existingAccountIds);
+			loaded = true;
+			LOGGER.info("Read in {} pooled guest accounts.", existingAccountIds.size());
+		}
+
+		int deficit;
+		while ((deficit = size - pooledAccountIds.size()) > 0) {
+			final int batchSize = Math.min(deficit, MAX_REFILL_BATCH_SIZE);
+			List<Long> createdAccountIds = transactionTemplate.execute(new TransactionCallback<List<Long>>() {
+				/**
+				 * @see org.springframework.transaction.support.TransactionCallback#doInTransaction(org.springframework.transaction.TransactionStatus)
+				 */
+				@Override
+				public List<Long> doInTransaction(TransactionStatus status) {
+					List<Long> accountIds = new ArrayList<>(batchSize);
+					for (int i = 0; i < batchSize; i++)
+						accountIds.add(createPooledAccount().getId());
+					return accountIds;
+				}
+			});
+
+			// Only hand these out once they've been committed.
+			pooledAccountIds.addAll(createdAccountIds);
+			createdCount.addAndGet(createdAccountIds.size());
+		}
+	}
+
+	/**
+	 * Must be called from within a transaction.
+	 *
+	 * @return a new guest {@link Account}, along with its
+	 *         {@link GuestLoginIdentity}, {@link AuthToken}, {@link Player},
+	 *         and {@link PooledGuestAccount}
+	 */
+	private Account createPooledAccount() {
+		Account account = new Account();
+		GuestLoginIdentity login = new GuestLoginIdentity(account);
+		loginsDao.save(login);
+		accountsDao.selectOrCreateAuthToken(account);
+		playersDao.findOrCreatePlayerForAccount(account);
+		loginsDao.save(new PooledGuestAccount(account));
+
+		return account;
+	}
+
+	/**
+	 * Stops the background refiller thread. Any pooled {@link Account}s that
+	 * haven't been claimed will be left in the database, to be read back in at
+	 * the next startup.
+	 */
+	@PreDestroy
+	public void close() {
+		if (refiller == null)
+			return;
+
+		refiller.shutdown();
+		try {
+			if (!refiller.awaitTermination(10, TimeUnit.SECONDS))
+				LOGGER.warn("Guest account pool refiller did not stop in time.");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
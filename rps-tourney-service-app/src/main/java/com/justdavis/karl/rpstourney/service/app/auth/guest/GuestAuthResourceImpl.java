@@ -30,6 +30,7 @@ public class GuestAuthResourceImpl implements IGuestAuthResource {
 	private AccountSecurityContext securityContext;
 	private IAccountsDao accountsDao;
 	private IGuestLoginIndentitiesDao loginsDao;
+	private GuestAccountPool guestAccountPool;
 
 	/**
 	 * This public, default, no-arg constructor is required by Spring (for
@@ -92,6 +93,19 @@ public class GuestAuthResourceImpl implements IGuestAuthResource {
 		this.loginsDao = loginsDao;
 	}
 
+	/**
+	 * @param guestAccountPool
+	 *            the injected {@link GuestAccountPool} to use
+	 */
+	@Inject
+	public void setGuestAccountPool(GuestAccountPool guestAccountPool) {
+		// Sanity check: null GuestAccountPool?
+		if (guestAccountPool == null)
+			throw new IllegalArgumentException();
+
+		this.guestAccountPool = guestAccountPool;
+	}
+
 	/**
 	 * @see com.justdavis.karl.rpstourney.service.api.auth.guest.IGuestAuthResource#loginAsGuest()
 	 */
@@ -105,9 +119,15 @@ public class GuestAuthResourceImpl implements IGuestAuthResource {
 		if (securityContext.getUserPrincipal() != null)
 			throw new WebApplicationException("User already logged in.", Status.CONFLICT);
 
-		// Create the new login and auth token.
-		GuestLoginIdentity login = createLogin();
-		AuthToken authTokenForLogin = accountsDao.selectOrCreateAuthToken(login.getAccount());
+		/*
+		 * Claim a pre-created account (with its login, auth token, and
+		 * player), if one's available. Otherwise, create the new login and
+		 * auth token here.
+		 */
+		Account account = guestAccountPool != null ? guestAccountPool.claim() : null;
+		if (account == null)
+			account = createLogin().getAccount();
+		AuthToken authTokenForLogin = accountsDao.selectOrCreateAuthToken(account);
 
 		/*
 		 * Store the new login's auth token in the HTTP request, so the response
@@ -119,7 +139,7 @@ public class GuestAuthResourceImpl implements IGuestAuthResource {
 		 * Return a response with the new account that's associated with the
 		 * login.
 		 */
-		return login.getAccount();
+		return account;
 	}
 
 	/**
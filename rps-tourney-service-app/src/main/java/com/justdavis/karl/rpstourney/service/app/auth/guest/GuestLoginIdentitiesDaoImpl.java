@@ -6,11 +6,15 @@ import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaDelete;
 import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
 
 import org.springframework.stereotype.Component;
 
 import com.justdavis.karl.rpstourney.service.api.auth.guest.GuestLoginIdentity;
+import com.justdavis.karl.rpstourney.service.api.auth.guest.PooledGuestAccount;
+import com.justdavis.karl.rpstourney.service.api.auth.guest.PooledGuestAccount_;
 
 /**
  * The default {@link IGuestLoginIndentitiesDao} implementation.
@@ -63,4 +67,41 @@ public class GuestLoginIdentitiesDaoImpl implements IGuestLoginIndentitiesDao {
 
 		return results;
 	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.app.auth.guest.IGuestLoginIndentitiesDao#save(com.justdavis.karl.rpstourney.service.api.auth.guest.PooledGuestAccount)
+	 */
+	@Override
+	public void save(PooledGuestAccount pooledAccount) {
+		entityManager.persist(pooledAccount);
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.app.auth.guest.IGuestLoginIndentitiesDao#getPooledAccountIds(int)
+	 */
+	@Override
+	public List<Long> getPooledAccountIds(int maxResults) {
+		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Long> criteria = criteriaBuilder.createQuery(Long.class);
+		Root<PooledGuestAccount> pooledAccountRoot = criteria.from(PooledGuestAccount.class);
+		criteria.select(pooledAccountRoot.get(PooledGuestAccount_.accountId));
+		criteria.orderBy(criteriaBuilder.asc(pooledAccountRoot.get(PooledGuestAccount_.accountId)));
+
+		TypedQuery<Long> query = entityManager.createQuery(criteria);
+		query.setMaxResults(maxResults);
+		return query.getResultList();
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.app.auth.guest.IGuestLoginIndentitiesDao#claimPooledAccount(long)
+	 */
+	@Override
+	public boolean claimPooledAccount(long accountId) {
+		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+		CriteriaDelete<PooledGuestAccount> criteria = criteriaBuilder.createCriteriaDelete(PooledGuestAccount.class);
+		Root<PooledGuestAccount> pooledAccountRoot = criteria.from(PooledGuestAccount.class);
+		criteria.where(criteriaBuilder.equal(pooledAccountRoot.get(PooledGuestAccount_.accountId), accountId));
+
+		return entityManager.createQuery(criteria).executeUpdate() == 1;
+	}
 }
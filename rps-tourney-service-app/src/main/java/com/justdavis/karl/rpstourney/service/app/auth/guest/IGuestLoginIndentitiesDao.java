@@ -2,10 +2,13 @@ package com.justdavis.karl.rpstourney.service.app.auth.guest;
 
 import java.util.List;
 
+import com.justdavis.karl.rpstourney.service.api.auth.Account;
 import com.justdavis.karl.rpstourney.service.api.auth.guest.GuestLoginIdentity;
+import com.justdavis.karl.rpstourney.service.api.auth.guest.PooledGuestAccount;
 
 /**
- * A DAO for {@link GuestLoginIdentity} JPA entities.
+ * A DAO for {@link GuestLoginIdentity} and {@link PooledGuestAccount} JPA
+ * entities.
  */
 public interface IGuestLoginIndentitiesDao {
 	/**
@@ -22,4 +25,32 @@ public interface IGuestLoginIndentitiesDao {
 	 * @return all of the {@link GuestLoginIdentity} instances in the database
 	 */
 	List<GuestLoginIdentity> getLogins();
+
+	/**
+	 * @param pooledAccount
+	 *            the {@link PooledGuestAccount} instance to be inserted in the
+	 *            database
+	 */
+	void save(PooledGuestAccount pooledAccount);
+
+	/**
+	 * @param maxResults
+	 *            the maximum number of IDs to return
+	 * @return the {@link PooledGuestAccount#getAccountId()} values of the
+	 *         (oldest) {@link PooledGuestAccount}s in the database
+	 */
+	List<Long> getPooledAccountIds(int maxResults);
+
+	/**
+	 * Claims the specified pooled {@link Account}, by deleting its
+	 * {@link PooledGuestAccount} with a single conditional statement. Only one
+	 * transaction can successfully claim each {@link Account}.
+	 * 
+	 * @param accountId
+	 *            the {@link PooledGuestAccount#getAccountId()} of the
+	 *            {@link PooledGuestAccount} to claim
+	 * @return <code>true</code> if the {@link Account} was claimed,
+	 *         <code>false</code> if it wasn't (or is no longer) pooled
+	 */
+	boolean claimPooledAccount(long accountId);
 }
@@ -0,0 +1,95 @@
+package com.justdavis.karl.rpstourney.service.app.config;
+
+import javax.xml.bind.annotation.XmlElement;
+
+import com.justdavis.karl.rpstourney.service.app.game.AiWorkerPool;
+
+/**
+ * Models the configuration of the application's {@link AiWorkerPool}.
+ *
+ * @see ServiceConfig
+ */
+public final class AiWorkerPoolConfig {
+	/**
+	 * The default value for {@link #getThreads()}.
+	 */
+	public static final int DEFAULT_THREADS = 2;
+
+	/**
+	 * The default value for {@link #getMaxActiveGames()}.
+	 */
+	public static final int DEFAULT_MAX_ACTIVE_GAMES = 100;
+
+	/**
+	 * The default value for {@link #getMovesPerBatch()}.
+	 */
+	public static final int DEFAULT_MOVES_PER_BATCH = 20;
+
+	@XmlElement(required = false)
+	private final int threads;
+
+	@XmlElement(required = false)
+	private final int maxActiveGames;
+
+	@XmlElement(required = false)
+	private final int movesPerBatch;
+
+	/**
+	 * Constructs a new {@link AiWorkerPoolConfig} instance, with the default
+	 * settings. (This no-arg constructor is also required by JAX-B.)
+	 */
+	public AiWorkerPoolConfig() {
+		this.threads = DEFAULT_THREADS;
+		this.maxActiveGames = DEFAULT_MAX_ACTIVE_GAMES;
+		this.movesPerBatch = DEFAULT_MOVES_PER_BATCH;
+	}
+
+	/**
+	 * Constructs a new {@link AiWorkerPoolConfig} instance.
+	 *
+	 * @param threads
+	 *            the value to use for {@link #getThreads()}
+	 * @param maxActiveGames
+	 *            the value to use for {@link #getMaxActiveGames()}
+	 * @param movesPerBatch
+	 *            the value to use for {@link #getMovesPerBatch()}
+	 */
+	public AiWorkerPoolConfig(int threads, int maxActiveGames, int movesPerBatch) {
+		if (threads < 1)
+			throw new IllegalArgumentException();
+		if (maxActiveGames < 1)
+			throw new IllegalArgumentException();
+		if (movesPerBatch < 1)
+			throw new IllegalArgumentException();
+
+		this.threads = threads;
+		this.maxActiveGames = maxActiveGames;
+		this.movesPerBatch = movesPerBatch;
+	}
+
+	/**
+	 * @return the number of background threads that the {@link AiWorkerPool}
+	 *         will advance games on
+	 */
+	public int getThreads() {
+		return threads;
+	}
+
+	/**
+	 * @return the maximum number of games that the {@link AiWorkerPool} will
+	 *         accept at once, past which new ones will be turned away until
+	 *         some of those have finished
+	 */
+	public int getMaxActiveGames() {
+		return maxActiveGames;
+	}
+
+	/**
+	 * @return the maximum number of AI moves that the {@link AiWorkerPool} will
+	 *         make in a game per database transaction, before saving it and
+	 *         letting other games have a turn
+	 */
+	public int getMovesPerBatch() {
+		return movesPerBatch;
+	}
+}
@@ -0,0 +1,72 @@
+package com.justdavis.karl.rpstourney.service.app.config;
+
+import javax.xml.bind.annotation.XmlElement;
+
+import com.justdavis.karl.rpstourney.service.app.game.GameCommandExecutor;
+
+/**
+ * Models the configuration of the application's {@link GameCommandExecutor}.
+ *
+ * @see ServiceConfig
+ */
+public final class GameCommandExecutorConfig {
+	/**
+	 * The default value for {@link #getMailboxCapacity()}.
+	 */
+	public static final int DEFAULT_MAILBOX_CAPACITY = 16;
+
+	/**
+	 * The default value for {@link #getIdleEvictionMillis()}.
+	 */
+	public static final long DEFAULT_IDLE_EVICTION_MILLIS = 60 * 1000;
+
+	@XmlElement(required = false)
+	private final int mailboxCapacity;
+
+	@XmlElement(required = false)
+	private final long idleEvictionMillis;
+
+	/**
+	 * Constructs a new {@link GameCommandExecutorConfig} instance, with the
+	 * default settings. (This no-arg constructor is also required by JAX-B.)
+	 */
+	public GameCommandExecutorConfig() {
+		this.mailboxCapacity = DEFAULT_MAILBOX_CAPACITY;
+		this.idleEvictionMillis = DEFAULT_IDLE_EVICTION_MILLIS;
+	}
+
+	/**
+	 * Constructs a new {@link GameCommandExecutorConfig} instance.
+	 *
+	 * @param mailboxCapacity
+	 *            the value to use for {@link #getMailboxCapacity()}
+	 * @param idleEvictionMillis
+	 *            the value to use for {@link #getIdleEvictionMillis()}
+	 */
+	public GameCommandExecutorConfig(int mailboxCapacity, long idleEvictionMillis) {
+		if (mailboxCapacity < 1)
+			throw new IllegalArgumentException();
+		if (idleEvictionMillis < 1)
+			throw new IllegalArgumentException();
+
+		this.mailboxCapacity = mailboxCapacity;
+		this.idleEvictionMillis = idleEvictionMillis;
+	}
+
+	/**
+	 * @return the maximum number of commands that may be waiting to run for
+	 *         any one game, past which new ones for that game will be turned
+	 *         away
+	 */
+	public int getMailboxCapacity() {
+		return mailboxCapacity;
+	}
+
+	/**
+	 * @return how long (in milliseconds) a game's mailbox will be kept around
+	 *         after its last command, before it's evicted
+	 */
+	public long getIdleEvictionMillis() {
+		return idleEvictionMillis;
+	}
+}
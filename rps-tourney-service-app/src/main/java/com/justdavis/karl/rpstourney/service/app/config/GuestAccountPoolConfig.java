@@ -0,0 +1,78 @@
+package com.justdavis.karl.rpstourney.service.app.config;
+
+import javax.xml.bind.annotation.XmlElement;
+
+import com.justdavis.karl.rpstourney.service.app.auth.guest.GuestAccountPool;
+
+/**
+ * Models the configuration of the application's {@link GuestAccountPool},
+ * which is disabled unless a {@link #getSize()} is specified.
+ *
+ * @see ServiceConfig
+ */
+public final class GuestAccountPoolConfig {
+	/**
+	 * The default value for {@link #getRefillIntervalMillis()}.
+	 */
+	public static final long DEFAULT_REFILL_INTERVAL_MILLIS = 1000;
+
+	@XmlElement(required = false)
+	private final int size;
+
+	@XmlElement(required = false)
+	private final long refillIntervalMillis;
+
+	/**
+	 * Constructs a new {@link GuestAccountPoolConfig} instance, with the
+	 * default settings (which leave the {@link GuestAccountPool} disabled).
+	 * (This no-arg constructor is also required by JAX-B.)
+	 */
+	public GuestAccountPoolConfig() {
+		this.size = 0;
+		this.refillIntervalMillis = DEFAULT_REFILL_INTERVAL_MILLIS;
+	}
+
+	/**
+	 * Constructs a new {@link GuestAccountPoolConfig} instance.
+	 *
+	 * @param size
+	 *            the value to use for {@link #getSize()}
+	 * @param refillIntervalMillis
+	 *            the value to use for {@link #getRefillIntervalMillis()}
+	 */
+	public GuestAccountPoolConfig(int size, long refillIntervalMillis) {
+		if (size < 0)
+			throw new IllegalArgumentException();
+		if (refillIntervalMillis < 1)
+			throw new IllegalArgumentException();
+
+		this.size = size;
+		this.refillIntervalMillis = refillIntervalMillis;
+	}
+
+	/**
+	 * @return <code>true</code> if the {@link GuestAccountPool} should be
+	 *         used, <code>false</code> if all guest accounts should be created
+	 *         as they're needed
+	 */
+	public boolean isEnabled() {
+		return size > 0;
+	}
+
+	/**
+	 * @return the number of unclaimed guest accounts that the
+	 *         {@link GuestAccountPool} will try to keep on hand, or
+	 *         <code>0</code> if it's disabled
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * @return how often (in milliseconds) the {@link GuestAccountPool} will
+	 *         top itself back up to its {@link #getSize()}
+	 */
+	public long getRefillIntervalMillis() {
+		return refillIntervalMillis;
+	}
+}
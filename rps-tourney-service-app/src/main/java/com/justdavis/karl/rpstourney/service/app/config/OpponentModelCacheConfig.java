@@ -0,0 +1,74 @@
+package com.justdavis.karl.rpstourney.service.app.config;
+
+import javax.xml.bind.annotation.XmlElement;
+
+import com.justdavis.karl.rpstourney.service.app.game.OpponentModelCache;
+
+/**
+ * Models the configuration of the application's {@link OpponentModelCache}.
+ *
+ * @see ServiceConfig
+ */
+public final class OpponentModelCacheConfig {
+	/**
+	 * The default value for {@link #getMaxSizeBytes()}: 16 MB, which is enough
+	 * for over ten thousand opponent models.
+	 */
+	public static final long DEFAULT_MAX_SIZE_BYTES = 16L * 1024 * 1024;
+
+	/**
+	 * The default value for {@link #getPersistIntervalSeconds()}.
+	 */
+	public static final long DEFAULT_PERSIST_INTERVAL_SECONDS = 60;
+
+	@XmlElement(required = false)
+	private final long maxSizeBytes;
+
+	@XmlElement(required = false)
+	private final long persistIntervalSeconds;
+
+	/**
+	 * Constructs a new {@link OpponentModelCacheConfig} instance, with the
+	 * default settings. (This no-arg constructor is also required by JAX-B.)
+	 */
+	public OpponentModelCacheConfig() {
+		this.maxSizeBytes = DEFAULT_MAX_SIZE_BYTES;
+		this.persistIntervalSeconds = DEFAULT_PERSIST_INTERVAL_SECONDS;
+	}
+
+	/**
+	 * Constructs a new {@link OpponentModelCacheConfig} instance.
+	 *
+	 * @param maxSizeBytes
+	 *            the value to use for {@link #getMaxSizeBytes()}
+	 * @param persistIntervalSeconds
+	 *            the value to use for {@link #getPersistIntervalSeconds()}
+	 */
+	public OpponentModelCacheConfig(long maxSizeBytes, long persistIntervalSeconds) {
+		if (maxSizeBytes < 0)
+			throw new IllegalArgumentException();
+		if (persistIntervalSeconds < 0)
+			throw new IllegalArgumentException();
+
+		this.maxSizeBytes = maxSizeBytes;
+		this.persistIntervalSeconds = persistIntervalSeconds;
+	}
+
+	/**
+	 * @return the (approximate) maximum amount of memory, in bytes, that the
+	 *         {@link OpponentModelCache} may use, no matter how many players
+	 *         there are
+	 */
+	public long getMaxSizeBytes() {
+		return maxSizeBytes;
+	}
+
+	/**
+	 * @return how often (in seconds) the {@link OpponentModelCache} should save
+	 *         its updated opponent models to the database, or <code>0</code>
+	 *         if they should only be kept in memory
+	 */
+	public long getPersistIntervalSeconds() {
+		return persistIntervalSeconds;
+	}
+}
@@ -8,6 +8,11 @@ import com.justdavis.karl.misc.datasources.IDataSourceCoordinates;
 import com.justdavis.karl.rpstourney.service.api.auth.Account;
 import com.justdavis.karl.rpstourney.service.api.auth.SecurityRole;
 import com.justdavis.karl.rpstourney.service.app.auth.AdminAccountInitializer;
+import com.justdavis.karl.rpstourney.service.app.auth.guest.GuestAccountPool;
+import com.justdavis.karl.rpstourney.service.app.game.AiWorkerPool;
+import com.justdavis.karl.rpstourney.service.app.game.GameCommandExecutor;
+import com.justdavis.karl.rpstourney.service.app.game.OpponentModelCache;
+import com.justdavis.karl.rpstourney.service.app.game.ThrowJournal;
 
 /**
  * Represents the game web service application's configuration data. Please note
@@ -23,6 +28,21 @@ public final class ServiceConfig {
 	@XmlElement(name = "admin")
 	private final AdminAccountConfig adminAccountConfig;
 
+	@XmlElement(name = "opponentModelCache", required = false)
+	private final OpponentModelCacheConfig opponentModelCacheConfig;
+
+	@XmlElement(name = "aiWorkerPool", required = false)
+	private final AiWorkerPoolConfig aiWorkerPoolConfig;
+
+	@XmlElement(name = "gameCommandExecutor", required = false)
+	private final GameCommandExecutorConfig gameCommandExecutorConfig;
+
+	@XmlElement(name = "throwJournal", required = false)
+	private final ThrowJournalConfig throwJournalConfig;
+
+	@XmlElement(name = "guestAccountPool", required = false)
+	private final GuestAccountPoolConfig guestAccountPoolConfig;
+
 	/**
 	 * This private no-arg constructor is required by JAX-B.
 	 */
@@ -30,6 +50,11 @@ public final class ServiceConfig {
 	private ServiceConfig() {
 		this.dataSourceCoordinates = null;
 		this.adminAccountConfig = null;
+		this.opponentModelCacheConfig = null;
+		this.aiWorkerPoolConfig = null;
+		this.gameCommandExecutorConfig = null;
+		this.throwJournalConfig = null;
+		this.guestAccountPoolConfig = null;
 	}
 
 	/**
@@ -41,8 +66,132 @@ public final class ServiceConfig {
 	 *            the value to use for {@link #getAdminAccountConfig()}
 	 */
 	public ServiceConfig(IDataSourceCoordinates dataSourceCoordinates, AdminAccountConfig adminAccountConfig) {
+		this(dataSourceCoordinates, adminAccountConfig, null);
+	}
+
+	/**
+	 * Constructs a new {@link ServiceConfig} instance.
+	 * 
+	 * @param dataSourceCoordinates
+	 *            the value to use for {@link #getDataSourceCoordinates()}
+	 * @param adminAccountConfig
+	 *            the value to use for {@link #getAdminAccountConfig()}
+	 * @param opponentModelCacheConfig
+	 *            the value to use for {@link #getOpponentModelCacheConfig()},
+	 *            or <code>null</code> to use the defaults
+	 */
+	public ServiceConfig(IDataSourceCoordinates dataSourceCoordinates, AdminAccountConfig adminAccountConfig,
+			OpponentModelCacheConfig opponentModelCacheConfig) {
+		this(dataSourceCoordinates, adminAccountConfig, opponentModelCacheConfig, null);
+	}
+
+	/**
+	 * Constructs a new {@link ServiceConfig} instance.
+	 * 
+	 * @param dataSourceCoordinates
+	 *            the value to use for {@link #getDataSourceCoordinates()}
+	 * @param adminAccountConfig
+	 *            the value to use for {@link #getAdminAccountConfig()}
+	 * @param opponentModelCacheConfig
+	 *            the value to use for {@link #getOpponentModelCacheConfig()},
+	 *            or <code>null</code> to use the defaults
+	 * @param aiWorkerPoolConfig
+	 *            the value to use for {@link #getAiWorkerPoolConfig()}, or
+	 *            <code>null</code> to use the defaults
+	 */
+	public ServiceConfig(IDataSourceCoordinates dataSourceCoordinates, AdminAccountConfig adminAccountConfig,
+			OpponentModelCacheConfig opponentModelCacheConfig, AiWorkerPoolConfig aiWorkerPoolConfig) {
+		this(dataSourceCoordinates, adminAccountConfig, opponentModelCacheConfig, aiWorkerPoolConfig, null);
+	}
+
+	/**
+	 * Constructs a new {@link ServiceConfig} instance.
+	 * 
+	 * @param dataSourceCoordinates
+	 *            the value to use for {@link #getDataSourceCoordinates()}
+	 * @param adminAccountConfig
+	 *            the value to use for {@link #getAdminAccountConfig()}
+	 * @param opponentModelCacheConfig
+	 *            the value to use for {@link #getOpponentModelCacheConfig()},
+	 *            or <code>null</code> to use the defaults
+	 * @param aiWorkerPoolConfig
+	 *            the value to use for {@link #getAiWorkerPoolConfig()}, or
+	 *            <code>null</code> to use the defaults
+	 * @param gameCommandExecutorConfig
+	 *            the value to use for
+	 *            {@link #getGameCommandExecutorConfig()}, or <code>null</code>
+	 *            to use the defaults
+	 */
+	public ServiceConfig(IDataSourceCoordinates dataSourceCoordinates, AdminAccountConfig adminAccountConfig,
+			OpponentModelCacheConfig opponentModelCacheConfig, AiWorkerPoolConfig aiWorkerPoolConfig,
+			GameCommandExecutorConfig gameCommandExecutorConfig) {
+		this(dataSourceCoordinates, adminAccountConfig, opponentModelCacheConfig, aiWorkerPoolConfig,
+				gameCommandExecutorConfig, null);
+	}
+
+	/**
+	 * Constructs a new {@link ServiceConfig} instance.
+	 * 
+	 * @param dataSourceCoordinates
+	 *            the value to use for {@link #getDataSourceCoordinates()}
+	 * @param adminAccountConfig
+	 *            the value to use for {@link #getAdminAccountConfig()}
+	 * @param opponentModelCacheConfig
+	 *            the value to use for {@link #getOpponentModelCacheConfig()},
+	 *            or <code>null</code> to use the defaults
+	 * @param aiWorkerPoolConfig
+	 *            the value to use for {@link #getAiWorkerPoolConfig()}, or
+	 *            <code>null</code> to use the defaults
+	 * @param gameCommandExecutorConfig
+	 *            the value to use for
+	 *            {@link #getGameCommandExecutorConfig()}, or <code>null</code>
+	 *            to use the defaults
+	 * @param throwJournalConfig
+	 *            the value to use for {@link #getThrowJournalConfig()}, or
+	 *            <code>null</code> to use the defaults
+	 */
+	public ServiceConfig(IDataSourceCoordinates dataSourceCoordinates, AdminAccountConfig adminAccountConfig,
+			OpponentModelCacheConfig opponentModelCacheConfig, AiWorkerPoolConfig aiWorkerPoolConfig,
+			GameCommandExecutorConfig gameCommandExecutorConfig, ThrowJournalConfig throwJournalConfig) {
+		this(dataSourceCoordinates, adminAccountConfig, opponentModelCacheConfig, aiWorkerPoolConfig,
+				gameCommandExecutorConfig, throwJournalConfig, null);
+	}
+
+	/**
+	 * Constructs a new {@link ServiceConfig} instance.
+	 * 
+	 * @param dataSourceCoordinates
+	 *            the value to use for {@link #getDataSourceCoordinates()}
+	 * @param adminAccountConfig
+	 *            the value to use for {@link #getAdminAccountConfig()}
+	 * @param opponentModelCacheConfig
+	 *            the value to use for {@link #getOpponentModelCacheConfig()},
+	 *            or <code>null</code> to use the defaults
+	 * @param aiWorkerPoolConfig
+	 *            the value to use for {@link #getAiWorkerPoolConfig()}, or
+	 *            <code>null</code> to use the defaults
+	 * @param gameCommandExecutorConfig
+	 *            the value to use for
+	 *            {@link #getGameCommandExecutorConfig()}, or <code>null</code>
+	 *            to use the defaults
+	 * @param throwJournalConfig
+	 *            the value to use for {@link #getThrowJournalConfig()}, or
+	 *            <code>null</code> to use the defaults
+	 * @param guestAccountPoolConfig
+	 *            the value to use for {@link #getGuestAccountPoolConfig()}, or
+	 *            <code>null</code> to use the defaults
+	 */
+	public ServiceConfig(IDataSourceCoordinates dataSourceCoordinates, AdminAccountConfig adminAccountConfig,
+			OpponentModelCacheConfig opponentModelCacheConfig, AiWorkerPoolConfig aiWorkerPoolConfig,
+			GameCommandExecutorConfig gameCommandExecutorConfig, ThrowJournalConfig throwJournalConfig,
+			GuestAccountPoolConfig guestAccountPoolConfig) {
 		this.dataSourceCoordinates = dataSourceCoordinates;
 		this.adminAccountConfig = adminAccountConfig;
+		this.opponentModelCacheConfig = opponentModelCacheConfig;
+		this.aiWorkerPoolConfig = aiWorkerPoolConfig;
+		this.gameCommandExecutorConfig = gameCommandExecutorConfig;
+		this.throwJournalConfig = throwJournalConfig;
+		this.guestAccountPoolConfig = guestAccountPoolConfig;
 	}
 
 	/**
@@ -62,4 +211,52 @@ public final class ServiceConfig {
 	public AdminAccountConfig getAdminAccountConfig() {
 		return adminAccountConfig;
 	}
+
+	/**
+	 * @return the {@link OpponentModelCacheConfig} that specifies how the
+	 *         application's {@link OpponentModelCache} should be sized and
+	 *         persisted (which will have the default settings, if none were
+	 *         specified)
+	 */
+	public OpponentModelCacheConfig getOpponentModelCacheConfig() {
+		return opponentModelCacheConfig != null ? opponentModelCacheConfig : new OpponentModelCacheConfig();
+	}
+
+	/**
+	 * @return the {@link AiWorkerPoolConfig} that specifies how the
+	 *         application's {@link AiWorkerPool} should be sized (which will
+	 *         have the default settings, if none were specified)
+	 */
+	public AiWorkerPoolConfig getAiWorkerPoolConfig() {
+		return aiWorkerPoolConfig != null ? aiWorkerPoolConfig : new AiWorkerPoolConfig();
+	}
+
+	/**
+	 * @return the {@link GameCommandExecutorConfig} that specifies how the
+	 *         application's {@link GameCommandExecutor} should be tuned (which
+	 *         will have the default settings, if none were specified)
+	 */
+	public GameCommandExecutorConfig getGameCommandExecutorConfig() {
+		return gameCommandExecutorConfig != null ? gameCommandExecutorConfig : new GameCommandExecutorConfig();
+	}
+
+	/**
+	 * @return the {@link ThrowJournalConfig} that specifies whether and how
+	 *         the application's {@link ThrowJournal} should be used (which will
+	 *         have the default settings, leaving it disabled, if none were
+	 *         specified)
+	 */
+	public ThrowJournalConfig getThrowJournalConfig() {
+		return throwJournalConfig != null ? throwJournalConfig : new ThrowJournalConfig();
+	}
+
+	/**
+	 * @return the {@link GuestAccountPoolConfig} that specifies whether and
+	 *         how the application's {@link GuestAccountPool} should be used
+	 *         (which will have the default settings, leaving it disabled, if
+	 *         none were specified)
+	 */
+	public GuestAccountPoolConfig getGuestAccountPoolConfig() {
+		return guestAccountPoolConfig != null ? guestAccountPoolConfig : new GuestAccountPoolConfig();
+	}
 }
@@ -0,0 +1,99 @@
+package com.justdavis.karl.rpstourney.service.app.config;
+
+import javax.xml.bind.annotation.XmlElement;
+
+import com.justdavis.karl.rpstourney.service.app.game.ThrowJournal;
+
+/**
+ * Models the configuration of the application's {@link ThrowJournal}, which
+ * is disabled unless a {@link #getDirectory()} is specified.
+ *
+ * @see ServiceConfig
+ */
+public final class ThrowJournalConfig {
+	/**
+	 * The default value for {@link #getFlushIntervalMillis()}.
+	 */
+	public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 100;
+
+	/**
+	 * The default value for {@link #getMaxBatchSize()}.
+	 */
+	public static final int DEFAULT_MAX_BATCH_SIZE = 500;
+
+	@XmlElement(required = false)
+	private final String directory;
+
+	@XmlElement(required = false)
+	private final long flushIntervalMillis;
+
+	@XmlElement(required = false)
+	private final int maxBatchSize;
+
+	/**
+	 * Constructs a new {@link ThrowJournalConfig} instance, with the default
+	 * settings (which leave the {@link ThrowJournal} disabled). (This no-arg
+	 * constructor is also required by JAX-B.)
+	 */
+	public ThrowJournalConfig() {
+		this.directory = null;
+		this.flushIntervalMillis = DEFAULT_FLUSH_INTERVAL_MILLIS;
+		this.maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+	}
+
+	/**
+	 * Constructs a new {@link ThrowJournalConfig} instance.
+	 *
+	 * @param directory
+	 *            the value to use for {@link #getDirectory()}
+	 * @param flushIntervalMillis
+	 *            the value to use for {@link #getFlushIntervalMillis()}
+	 * @param maxBatchSize
+	 *            the value to use for {@link #getMaxBatchSize()}
+	 */
+	public ThrowJournalConfig(String directory, long flushIntervalMillis, int maxBatchSize) {
+		if (directory == null)
+			throw new IllegalArgumentException();
+		if (flushIntervalMillis < 1)
+			throw new IllegalArgumentException();
+		if (maxBatchSize < 1)
+			throw new IllegalArgumentException();
+
+		this.directory = directory;
+		this.flushIntervalMillis = flushIntervalMillis;
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * @return <code>true</code> if the {@link ThrowJournal} should be used,
+	 *         <code>false</code> if all throws should be written straight to
+	 *         the database
+	 */
+	public boolean isEnabled() {
+		return directory != null;
+	}
+
+	/**
+	 * @return the path of the local directory that the {@link ThrowJournal}
+	 *         will keep its files in, or <code>null</code> if it's disabled
+	 */
+	public String getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * @return how often (in milliseconds) the {@link ThrowJournal} will flush
+	 *         its pending throws to the database
+	 */
+	public long getFlushIntervalMillis() {
+		return flushIntervalMillis;
+	}
+
+	/**
+	 * @return the maximum number of throws that the {@link ThrowJournal} will
+	 *         flush to the database in a single transaction
+	 */
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+}
@@ -1,14 +1,27 @@
 package com.justdavis.karl.rpstourney.service.app.game;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.justdavis.karl.rpstourney.service.api.game.Game;
 import com.justdavis.karl.rpstourney.service.api.game.GameRound;
-import com.justdavis.karl.rpstourney.service.api.game.GameView;
 import com.justdavis.karl.rpstourney.service.api.game.Player;
 import com.justdavis.karl.rpstourney.service.api.game.PlayerRole;
 import com.justdavis.karl.rpstourney.service.api.game.State;
 import com.justdavis.karl.rpstourney.service.api.game.Throw;
+import com.justdavis.karl.rpstourney.service.api.game.ai.AiPlayerMind;
+import com.justdavis.karl.rpstourney.service.api.game.ai.ILearningPositronicBrain;
 
 /**
  * <p>
@@ -20,9 +33,97 @@ import com.justdavis.karl.rpstourney.service.api.game.Throw;
  * implementation is likely to change wildly over time. Separating it will make
  * tracking those changes easier.
  * </p>
+ * <p>
+ * If an {@link OpponentModelCache} has been provided, the AIs with an
+ * {@link ILearningPositronicBrain} will remember what they've learned about
+ * each human {@link Player} from one {@link Game} to the next.
+ * </p>
+ * <p>
+ * When playing against a human, the AIs don't throw for a new round until the
+ * human has (see {@link #respondToThrow(Game)}). Instead, their next
+ * {@link Throw} is calculated ahead of time in the background, via
+ * {@link #precalculateThrows(Game)}, and just kept in memory until it's
+ * needed. That keeps the AIs' thinking time out of the human's requests, and
+ * as it isn't saved until the round is complete, the {@link Throw} can't be
+ * seen early, either.
+ * </p>
  */
 @Component
 public class AiGameplayHelper {
+	/**
+	 * The maximum number of {@link Game}s to keep {@link AiPlayerMind}s around
+	 * for. Past this, the least recently used ones will be discarded (and will
+	 * have to be rebuilt from the game's history, if needed again).
+	 */
+	private static final int MAX_CACHED_GAMES = 1000;
+
+	/**
+	 * The number of background threads to precalculate AI {@link Throw}s on.
+	 */
+	private static final int PRECALCULATION_THREADS = 2;
+
+	/**
+	 * The maximum number of precalculations that can be waiting for a thread.
+	 * Past this, new ones are just skipped: those {@link Throw}s will instead
+	 * be calculated when they're needed.
+	 */
+	private static final int PRECALCULATION_QUEUE_SIZE = 1000;
+
+	/*
+	 * Design note: The AiPlayerMinds are cached here across requests, keyed by
+	 * Game.getId(), as each request will have its own copy of the Game. Each
+	 * array is indexed by PlayerRole.ordinal(). All access to the map must
+	 * synchronize on it, and all access to each AiPlayerMind must synchronize
+	 * on that AiPlayerMind.
+	 */
+
+	private final Map<String, AiPlayerMind[]> mindsByGameId = new LinkedHashMap<String, AiPlayerMind[]>(16, 0.75f,
+			true) {
+		private static final long serialVersionUID = 6414960475012343839L;
+
+		/**
+		 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+		 */
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, AiPlayerMind[]> eldest) {
+			return size() > MAX_CACHED_GAMES;
+		}
+	};
+
+	private final ThreadPoolExecutor precalculationExecutor;
+	private OpponentModelCache opponentModelCache;
+
+	/**
+	 * Constructs a new {@link AiGameplayHelper} instance.
+	 */
+	public AiGameplayHelper() {
+		this.precalculationExecutor = new ThreadPoolExecutor(PRECALCULATION_THREADS, PRECALCULATION_THREADS, 60,
+				TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(PRECALCULATION_QUEUE_SIZE), new ThreadFactory() {
+					/**
+					 * @see java.util.concurrent.ThreadFactory#newThread(java.lang.Runnable)
+					 */
+					@Override
+					public Thread newThread(Runnable runnable) {
+						Thread thread = new Thread(runnable, "ai-throw-precalculation");
+						thread.setDaemon(true);
+						return thread;
+					}
+				}, new ThreadPoolExecutor.DiscardPolicy());
+		this.precalculationExecutor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * @param opponentModelCache
+	 *            the injected {@link OpponentModelCache} to use
+	 */
+	@Inject
+	public void setOpponentModelCache(OpponentModelCache opponentModelCache) {
+		if (opponentModelCache == null)
+			throw new IllegalArgumentException();
+
+		this.opponentModelCache = opponentModelCache;
+	}
+
 	/**
 	 * Evaluates the specified {@link Game} to see if it has an AI
 	 * {@link Player} or {@link Player}s that can currently make a move. If so,
@@ -35,27 +136,238 @@ public class AiGameplayHelper {
 	 *            the {@link Game} to (possibly) manipulate
 	 */
 	public void advanceGameForAiPlayers(Game game) {
+		advanceGameForAiPlayers(game, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Works just like {@link #advanceGameForAiPlayers(Game)}, except that it
+	 * will stop after the specified number of moves, even if the AI
+	 * {@link Player}(s) could keep going. This allows long {@link Game}s
+	 * between two AI {@link Player}s to be played (and saved) in batches.
+	 * 
+	 * @param game
+	 *            the {@link Game} to (possibly) manipulate
+	 * @param maxMoves
+	 *            the maximum number of moves to make
+	 * @return <code>true</code> if the AI {@link Player}(s) stopped only
+	 *         because <code>maxMoves</code> was reached, and could make more
+	 *         moves if called again, <code>false</code> if not
+	 */
+	public boolean advanceGameForAiPlayers(Game game, int maxMoves) {
 		if (game == null)
 			throw new IllegalArgumentException();
 		if (game.getState() == State.WAITING_FOR_PLAYER)
 			throw new IllegalArgumentException();
 		if (game.getState() == State.FINISHED)
 			throw new IllegalArgumentException();
+		if (maxMoves < 1)
+			throw new IllegalArgumentException();
 
 		/*
-		 * Loop forever, until the AI was unable to make a move for either
-		 * player in the game. Will ignore non-AI players, so if neither player
-		 * is an AI, this will do nothing and not loop.
+		 * Loop until the AI was unable to make a move for either player in the
+		 * game, or has made as many moves as allowed. Will ignore non-AI
+		 * players, so if neither player is an AI, this will do nothing and not
+		 * loop.
 		 */
+		int movesMade = 0;
 		boolean player1AiMadeMove = false;
 		boolean player2AiMadeMove = false;
 		do {
-			if (!game.getPlayer1().isHuman())
+			player1AiMadeMove = false;
+			player2AiMadeMove = false;
+
+			if (!game.getPlayer1().isHuman() && movesMade < maxMoves) {
 				player1AiMadeMove = advanceGame(game, PlayerRole.PLAYER_1);
+				if (player1AiMadeMove)
+					movesMade++;
+			}
 
-			if (!game.getPlayer2().isHuman())
+			if (!game.getPlayer2().isHuman() && movesMade < maxMoves) {
 				player2AiMadeMove = advanceGame(game, PlayerRole.PLAYER_2);
-		} while (player1AiMadeMove || player2AiMadeMove);
+				if (player2AiMadeMove)
+					movesMade++;
+			}
+		} while ((player1AiMadeMove || player2AiMadeMove) && movesMade < maxMoves);
+
+		if (game.getState() == State.FINISHED) {
+			recordFinishedGame(game);
+			return false;
+		}
+
+		/*
+		 * If the limit was hit, there may or may not be more moves to make.
+		 * It's simplest to just let the caller find out next time.
+		 */
+		return movesMade >= maxMoves;
+	}
+
+	/**
+	 * Should be called after a human {@link Player} has submitted a
+	 * {@link Throw} in the specified {@link Game}. Any AI opponent that hasn't
+	 * yet thrown in that round will do so now (using its precalculated
+	 * {@link Throw}, if it's ready), and if that starts a new round, the AI's
+	 * {@link Throw} for it will be precalculated in the background, via
+	 * {@link #precalculateThrows(Game)}. If the {@link Game} is now
+	 * {@link State#FINISHED}, this will instead call
+	 * {@link #recordFinishedGame(Game)}.
+	 * 
+	 * @param game
+	 *            the {@link Game} to (possibly) manipulate
+	 */
+	public void respondToThrow(Game game) {
+		if (game == null)
+			throw new IllegalArgumentException();
+		if (game.getState() == State.WAITING_FOR_PLAYER)
+			throw new IllegalArgumentException();
+
+		if (game.getState() != State.FINISHED) {
+			GameRound currentRound = game.getRounds().get(game.getRounds().size() - 1);
+			for (PlayerRole playerRole : PlayerRole.values()) {
+				Player player = playerRole == PlayerRole.PLAYER_1 ? game.getPlayer1() : game.getPlayer2();
+				boolean opponentThrown = currentRound.getThrowForPlayer(playerRole.getOpponentRole()) != null;
+				if (!player.isHuman() && opponentThrown && game.getState() != State.FINISHED)
+					advanceGame(game, playerRole);
+			}
+		}
+
+		if (game.getState() == State.FINISHED)
+			recordFinishedGame(game);
+		else
+			precalculateThrows(game);
+	}
+
+	/**
+	 * <p>
+	 * Starts calculating the {@link Throw}s that the AI {@link Player}(s) in
+	 * the specified {@link Game} (if any) will make in its current round, in
+	 * the background. Those {@link Throw}s aren't submitted to the
+	 * {@link Game}: they're just remembered until the next
+	 * {@link #respondToThrow(Game)} or
+	 * {@link #advanceGameForAiPlayers(Game)} call for it. If an AI's
+	 * {@link AiPlayerMind} isn't cached yet (e.g. at the start of the
+	 * {@link Game}, or after it was evicted), it's built in the background,
+	 * too, along with what the AI remembers about its opponent.
+	 * </p>
+	 * <p>
+	 * If this is called within a transaction, the calculations won't start
+	 * until (and unless) that transaction commits, as the specified
+	 * {@link Game} instance may still change until then. They're also skipped
+	 * if the background threads are too far behind, in which case the
+	 * {@link Throw}s will just be calculated when needed.
+	 * </p>
+	 * 
+	 * @param game
+	 *            the {@link Game} to precalculate AI {@link Throw}s for
+	 */
+	public void precalculateThrows(final Game game) {
+		if (game == null)
+			throw new IllegalArgumentException();
+		if (!(game.getState() == State.WAITING_FOR_FIRST_THROW || game.getState() == State.STARTED))
+			return;
+		if (!game.isRoundPrepared())
+			return;
+
+		GameRound currentRound = game.getRounds().get(game.getRounds().size() - 1);
+		for (final PlayerRole playerRole : PlayerRole.values()) {
+			final Player player = playerRole == PlayerRole.PLAYER_1 ? game.getPlayer1() : game.getPlayer2();
+			if (player.isHuman() || currentRound.getThrowForPlayer(playerRole) != null)
+				continue;
+
+			final Runnable precalculation = new Runnable() {
+				/**
+				 * @see java.lang.Runnable#run()
+				 */
+				@Override
+				public void run() {
+					/*
+					 * Getting the AiPlayerMind is done here, rather than up
+					 * front, as building it may require loading its opponent
+					 * model from the database.
+					 */
+					AiPlayerMind mind = getMind(game, playerRole, player);
+					synchronized (mind) {
+						mind.precalculateNextThrow(game);
+					}
+				}
+			};
+			if (TransactionSynchronizationManager.isSynchronizationActive()) {
+				TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+					/**
+					 * @see org.springframework.transaction.support.TransactionSynchronizationAdapter#afterCommit()
+					 */
+					@Override
+					public void afterCommit() {
+						precalculationExecutor.execute(precalculation);
+					}
+				});
+			} else {
+				precalculationExecutor.execute(precalculation);
+			}
+		}
+	}
+
+	/**
+	 * @return the number of {@link Game}s that {@link AiPlayerMind}s are
+	 *         currently cached for
+	 */
+	int getCachedGameCount() {
+		synchronized (mindsByGameId) {
+			return mindsByGameId.size();
+		}
+	}
+
+	/**
+	 * Stops the background threads used by {@link #precalculateThrows(Game)}.
+	 */
+	@PreDestroy
+	public void close() {
+		precalculationExecutor.shutdownNow();
+	}
+
+	/**
+	 * Lets the AI {@link Player}(s) in the specified {@link Game} (if any)
+	 * know that it's over, which allows them to remember what they learned
+	 * about their opponent, and to release the resources they were using for
+	 * it. Must be called once each {@link Game} with an AI {@link Player} is
+	 * {@link State#FINISHED}, unless that happened during
+	 * {@link #advanceGameForAiPlayers(Game)} (which calls this itself).
+	 * 
+	 * @param game
+	 *            the {@link State#FINISHED} {@link Game} to record
+	 */
+	public void recordFinishedGame(Game game) {
+		if (game == null)
+			throw new IllegalArgumentException();
+		if (game.getState() != State.FINISHED)
+			throw new IllegalArgumentException();
+
+		// The AIs won't need to move in this game again.
+		AiPlayerMind[] minds;
+		synchronized (mindsByGameId) {
+			minds = mindsByGameId.remove(game.getId());
+		}
+
+		/*
+		 * If the AiPlayerMinds aren't around anymore (e.g. they were evicted),
+		 * what they learned in this game is just lost. Rebuilding them here
+		 * would risk learning from the same game twice.
+		 */
+		if (minds == null)
+			return;
+
+		for (PlayerRole playerRole : PlayerRole.values()) {
+			AiPlayerMind mind = minds[playerRole.ordinal()];
+			OpponentModelKey opponentModelKey = getOpponentModelKey(game, playerRole);
+			if (mind == null || opponentModelKey == null)
+				continue;
+
+			byte[] opponentModel;
+			synchronized (mind) {
+				opponentModel = mind.exportOpponentModel(game);
+			}
+			if (opponentModel != null)
+				opponentModelCache.put(opponentModelKey, opponentModel);
+		}
 	}
 
 	/**
@@ -89,11 +401,88 @@ public class AiGameplayHelper {
 			return false;
 
 		// Calculate the Throw that the AI would like to make.
-		GameView gameView = new GameView(game, /* FIXME */null);
-		Throw aiThrow = player.getBuiltInAi().getPositronicBrain().calculateNextThrow(gameView, playerRole);
+		AiPlayerMind mind = getMind(game, playerRole, player);
+		Throw aiThrow;
+		synchronized (mind) {
+			aiThrow = mind.calculateNextThrow(game);
+		}
 
 		// Submit the Throw.
 		game.submitThrow(currentRoundIndex, player, aiThrow);
 		return true;
 	}
+
+	/**
+	 * @param game
+	 *            the {@link Game} to get the {@link AiPlayerMind} for
+	 * @param playerRole
+	 *            the {@link PlayerRole} of the AI {@link Player} to get the
+	 *            {@link AiPlayerMind} for
+	 * @param player
+	 *            the AI {@link Player} to get the {@link AiPlayerMind} for
+	 * @return the cached {@link AiPlayerMind} for the specified AI
+	 *         {@link Player} in the specified {@link Game}, which will be
+	 *         created if it's not already cached
+	 */
+	private AiPlayerMind getMind(Game game, PlayerRole playerRole, Player player) {
+		synchronized (mindsByGameId) {
+			AiPlayerMind[] minds = mindsByGameId.get(game.getId());
+			if (minds != null && minds[playerRole.ordinal()] != null)
+				return minds[playerRole.ordinal()];
+		}
+
+		/*
+		 * Create the AiPlayerMind without holding the lock, as its opponent
+		 * model may have to be loaded from the database.
+		 */
+		OpponentModelKey opponentModelKey = getOpponentModelKey(game, playerRole);
+		byte[] opponentModel = opponentModelKey != null ? opponentModelCache.get(opponentModelKey) : null;
+		AiPlayerMind newMind = new AiPlayerMind(player.getBuiltInAi().getPositronicBrain(), playerRole,
+				opponentModel);
+
+		synchronized (mindsByGameId) {
+			AiPlayerMind[] minds = mindsByGameId.get(game.getId());
+			if (minds == null) {
+				minds = new AiPlayerMind[PlayerRole.values().length];
+				mindsByGameId.put(game.getId(), minds);
+			}
+
+			// Another request may have beaten this one to it.
+			AiPlayerMind mind = minds[playerRole.ordinal()];
+			if (mind == null) {
+				mind = newMind;
+				minds[playerRole.ordinal()] = mind;
+			}
+
+			return mind;
+		}
+	}
+
+	/**
+	 * @param game
+	 *            the {@link Game} being played
+	 * @param playerRole
+	 *            the {@link PlayerRole} of the AI {@link Player} in the
+	 *            {@link Game}
+	 * @return the {@link OpponentModelKey} for what the specified AI
+	 *         {@link Player} has learned about its opponent, or
+	 *         <code>null</code> if that shouldn't be remembered: there's no
+	 *         {@link OpponentModelCache}, the AI doesn't learn, or its opponent
+	 *         isn't a (saved) human {@link Player}
+	 */
+	private OpponentModelKey getOpponentModelKey(Game game, PlayerRole playerRole) {
+		if (opponentModelCache == null)
+			return null;
+
+		Player player = playerRole == PlayerRole.PLAYER_1 ? game.getPlayer1() : game.getPlayer2();
+		Player opponent = playerRole == PlayerRole.PLAYER_1 ? game.getPlayer2() : game.getPlayer1();
+		if (player == null || player.isHuman())
+			return null;
+		if (!(player.getBuiltInAi().getPositronicBrain() instanceof ILearningPositronicBrain))
+			return null;
+		if (opponent == null || !opponent.isHuman() || !opponent.hasId())
+			return null;
+
+		return new OpponentModelKey(player.getBuiltInAi(), opponent.getId());
+	}
 }
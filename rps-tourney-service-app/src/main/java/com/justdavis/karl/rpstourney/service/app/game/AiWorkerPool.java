@@ -0,0 +1,444 @@
+package com.justdavis.karl.rpstourney.service.app.game;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.justdavis.karl.rpstourney.service.api.game.Game;
+import com.justdavis.karl.rpstourney.service.api.game.Player;
+import com.justdavis.karl.rpstourney.service.api.game.State;
+import com.justdavis.karl.rpstourney.service.api.game.Throw;
+import com.justdavis.karl.rpstourney.service.app.config.AiWorkerPoolConfig;
+import com.justdavis.karl.rpstourney.service.app.config.ServiceConfig;
+
+/**
+ * <p>
+ * Makes the moves for AI {@link Player}s in the background, so that they don't
+ * tie up web service request threads. {@link Game}s between two AI
+ * {@link Player}s are played out here in full, without holding a database
+ * transaction open for however many rounds they go on for. In {@link Game}s
+ * against a human {@link Player}, the AI responds here to each of the human's
+ * {@link Throw}s (see {@link AiGameplayHelper#respondToThrow(Game)}), so that
+ * the human's request can return as soon as their move has been saved.
+ * </p>
+ * <p>
+ * Each {@link Game} is advanced in batches of
+ * {@link AiWorkerPoolConfig#getMovesPerBatch()} moves, each of which is saved
+ * and committed in its own transaction. After each batch, the {@link Game}
+ * goes to the back of the line, so that long {@link Game}s can't starve short
+ * ones. At most {@link AiWorkerPoolConfig#getMaxActiveGames()} {@link Game}s
+ * will be accepted at once: past that, {@link #submit(String)} will turn new
+ * ones away until some of the current ones have finished. (As each accepted
+ * {@link Game} has at most one batch queued at a time, that also bounds the
+ * size of the work queue.)
+ * </p>
+ * <p>
+ * If a {@link Game} is submitted again while one of its batches is already
+ * running, another batch will be run for it afterwards, so that the new move
+ * isn't missed.
+ * </p>
+ * <p>
+ * Some pairs of AIs could tie forever. So that those don't hog the pool, it
+ * stops advancing any AI-only {@link Game} that has played more than
+ * {@link #MAX_ROUNDS_FACTOR} times its {@link Game#getMaxRounds()}, and logs a
+ * warning. Such {@link Game}s are just left as-is, unfinished.
+ * </p>
+ */
+@Component
+@ManagedResource(objectName = "com.justdavis.karl.rpstourney.service:name=AiWorkerPool")
+public class AiWorkerPool {
+	private static final Logger LOGGER = LoggerFactory.getLogger(AiWorkerPool.class);
+
+	/**
+	 * The multiple of {@link Game#getMaxRounds()} that a {@link Game} may run
+	 * to before the pool gives up on it. (Same as the one used for console
+	 * tournaments.)
+	 */
+	static final int MAX_ROUNDS_FACTOR = 100;
+
+	private final IGamesDao gamesDao;
+	private final AiGameplayHelper aiHelper;
+	private final GameWriteRetrier writeRetrier;
+	private final int maxActiveGames;
+	private final int movesPerBatch;
+	private final ThreadPoolExecutor executor;
+
+	/*
+	 * Design note: All access to these fields must synchronize on
+	 * activeGameIds. A Game is "active" from when it's accepted by submit(...)
+	 * until the pool is done advancing it, and "scheduled" once its first
+	 * batch has been queued (i.e. once the submitting transaction has
+	 * committed). Scheduled Games that are submitted again are marked for a
+	 * "rerun", as their current batch may have loaded them before the change.
+	 */
+
+	private final Set<String> activeGameIds = new HashSet<>();
+	private final Set<String> scheduledGameIds = new HashSet<>();
+	private final Set<String> rerunGameIds = new HashSet<>();
+	private long rejectedCount;
+
+	private final AtomicLong batchCount = new AtomicLong(0);
+	private final AtomicLong failedBatchCount = new AtomicLong(0);
+	private final AtomicLong cappedGameCount = new AtomicLong(0);
+
+	/**
+	 * Constructs a new {@link AiWorkerPool} instance.
+	 *
+	 * @param config
+	 *            the injected {@link ServiceConfig} to use
+	 * @param gamesDao
+	 *            the injected {@link IGamesDao} to use
+	 * @param aiHelper
+	 *            the injected {@link AiGameplayHelper} to use
+	 * @param writeRetrier
+	 *            the injected {@link GameWriteRetrier} to use
+	 */
+	@Inject
+	public AiWorkerPool(ServiceConfig config, IGamesDao gamesDao, AiGameplayHelper aiHelper,
+			GameWriteRetrier writeRetrier) {
+		this(config.getAiWorkerPoolConfig(), gamesDao, aiHelper, writeRetrier);
+	}
+
+	/**
+	 * Constructs a new {@link AiWorkerPool} instance.
+	 *
+	 * @param config
+	 *            the {@link AiWorkerPoolConfig} to use
+	 * @param gamesDao
+	 *            the {@link IGamesDao} to load and save {@link Game}s with
+	 * @param aiHelper
+	 *            the {@link AiGameplayHelper} to advance {@link Game}s with
+	 * @param writeRetrier
+	 *            the {@link GameWriteRetrier} to run (and, if needed, retry)
+	 *            each batch's transaction with
+	 */
+	public AiWorkerPool(AiWorkerPoolConfig config, IGamesDao gamesDao, AiGameplayHelper aiHelper,
+			GameWriteRetrier writeRetrier) {
+		if (config == null)
+			throw new IllegalArgumentException();
+		if (gamesDao == null)
+			throw new IllegalArgumentException();
+		if (aiHelper == null)
+			throw new IllegalArgumentException();
+		if (writeRetrier == null)
+			throw new IllegalArgumentException();
+
+		this.gamesDao = gamesDao;
+		this.aiHelper = aiHelper;
+		this.writeRetrier = writeRetrier;
+		this.maxActiveGames = config.getMaxActiveGames();
+		this.movesPerBatch = config.getMovesPerBatch();
+		this.rejectedCount = 0;
+		this.executor = new ThreadPoolExecutor(config.getThreads(), config.getThreads(), 0L, TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+					private final AtomicInteger threadCount = new AtomicInteger(0);
+
+					/**
+					 * @see java.util.concurrent.ThreadFactory#newThread(java.lang.Runnable)
+					 */
+					@Override
+					public Thread newThread(Runnable runnable) {
+						Thread thread = new Thread(runnable, "ai-worker-" + threadCount.incrementAndGet());
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+	}
+
+	/**
+	 * <p>
+	 * Asks the pool to make the moves for the AI {@link Player}(s) in the
+	 * specified {@link Game} in the background: playing it out, if it's
+	 * between two AI {@link Player}s, or responding to the latest human
+	 * {@link Throw}, if not.
+	 * </p>
+	 * <p>
+	 * If this is called within a transaction, the pool won't start on the
+	 * {@link Game} until (and unless) that transaction commits, as it wouldn't
+	 * be able to see the {@link Game}'s current state before then.
+	 * </p>
+	 *
+	 * @param gameId
+	 *            the {@link Game#getId()} of the {@link Game} to advance
+	 * @return <code>true</code> if the {@link Game} was accepted (or had
+	 *         already been), or <code>false</code> if the pool is already
+	 *         handling as many {@link Game}s as it's allowed to, and the
+	 *         caller should try again later
+	 */
+	public boolean submit(final String gameId) {
+		if (gameId == null)
+			throw new IllegalArgumentException();
+
+		final boolean alreadyActive;
+		synchronized (activeGameIds) {
+			alreadyActive = activeGameIds.contains(gameId);
+			if (alreadyActive && !scheduledGameIds.contains(gameId)) {
+				// Its first batch will see this change, once it's committed.
+				return true;
+			} else if (!alreadyActive && activeGameIds.size() >= maxActiveGames) {
+				rejectedCount++;
+				return false;
+			}
+
+			activeGameIds.add(gameId);
+		}
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				/**
+				 * @see org.springframework.transaction.support.TransactionSynchronizationAdapter#afterCompletion(int)
+				 */
+				@Override
+				public void afterCompletion(int status) {
+					if (status == TransactionSynchronization.STATUS_COMMITTED)
+						start(gameId, alreadyActive);
+					else if (!alreadyActive)
+						release(gameId);
+				}
+			});
+		} else {
+			start(gameId, alreadyActive);
+		}
+
+		return true;
+	}
+
+	/**
+	 * @return the number of {@link Game}s that the pool is currently making
+	 *         moves in
+	 */
+	@ManagedAttribute
+	public int getActiveGameCount() {
+		synchronized (activeGameIds) {
+			return activeGameIds.size();
+		}
+	}
+
+	/**
+	 * @return the number of {@link Game}s that {@link #submit(String)} has
+	 *         turned away, as the pool was already full
+	 */
+	@ManagedAttribute
+	public long getRejectedCount() {
+		synchronized (activeGameIds) {
+			return rejectedCount;
+		}
+	}
+
+	/**
+	 * @return the number of batches that are currently queued up, waiting for
+	 *         a free background thread
+	 */
+	@ManagedAttribute
+	public int getQueueDepth() {
+		return executor.getQueue().size();
+	}
+
+	/**
+	 * @return the number of batches that have been run (whether or not they
+	 *         succeeded)
+	 */
+	@ManagedAttribute
+	public long getBatchCount() {
+		return batchCount.get();
+	}
+
+	/**
+	 * @return the number of batches that failed, leaving their {@link Game}
+	 *         unfinished
+	 */
+	@ManagedAttribute
+	public long getFailedBatchCount() {
+		return failedBatchCount.get();
+	}
+
+	/**
+	 * @return the number of {@link Game}s that the pool has given up on, as
+	 *         they hit the round cap (see {@link #MAX_ROUNDS_FACTOR})
+	 */
+	@ManagedAttribute
+	public long getCappedGameCount() {
+		return cappedGameCount.get();
+	}
+
+	/**
+	 * Stops the pool's background threads. Any {@link Game}s that haven't been
+	 * finished yet will be left as-is, as of their last completed batch.
+	 */
+	@PreDestroy
+	public void close() {
+		executor.shutdownNow();
+		try {
+			if (!executor.awaitTermination(10, TimeUnit.SECONDS))
+				LOGGER.warn("AI workers did not stop in time.");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Queues up the first batch for the specified (active) {@link Game}, or,
+	 * if it already has one running, marks it to be rerun.
+	 *
+	 * @param gameId
+	 *            the {@link Game#getId()} of the {@link Game} to advance
+	 * @param alreadyActive
+	 *            <code>true</code> if the {@link Game} was already active when
+	 *            it was submitted, <code>false</code> if not
+	 */
+	private void start(String gameId, boolean alreadyActive) {
+		synchronized (activeGameIds) {
+			if (alreadyActive && scheduledGameIds.contains(gameId)) {
+				rerunGameIds.add(gameId);
+				return;
+			}
+
+			/*
+			 * If it was released in the meantime, it just needs to be picked
+			 * back up. (This can briefly go past maxActiveGames.)
+			 */
+			activeGameIds.add(gameId);
+			scheduledGameIds.add(gameId);
+		}
+
+		schedule(gameId);
+	}
+
+	/**
+	 * Queues up the next batch for the specified (scheduled) {@link Game}.
+	 *
+	 * @param gameId
+	 *            the {@link Game#getId()} of the {@link Game} to advance
+	 */
+	private void schedule(final String gameId) {
+		try {
+			executor.execute(new Runnable() {
+				/**
+				 * @see java.lang.Runnable#run()
+				 */
+				@Override
+				public void run() {
+					runBatch(gameId);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			// The pool has been shut down.
+			release(gameId);
+		}
+	}
+
+	/**
+	 * Advances the specified {@link Game} by (at most) one batch of moves, in
+	 * its own transaction, and then either queues up its next batch (if it has
+	 * more moves to make, or was submitted again in the meantime) or releases
+	 * it. {@link Game}s that have run past the round cap (see
+	 * {@link #MAX_ROUNDS_FACTOR}) are released without being finished.
+	 *
+	 * @param gameId
+	 *            the {@link Game#getId()} of the {@link Game} to advance
+	 */
+	private void runBatch(final String gameId) {
+		batchCount.incrementAndGet();
+		boolean moreMoves;
+		try {
+			moreMoves = writeRetrier.execute("aiWorkerPool", new TransactionCallback<Boolean>() {
+				/**
+				 * @see org.springframework.transaction.support.TransactionCallback#doInTransaction(org.springframework.transaction.TransactionStatus)
+				 */
+				@Override
+				public Boolean doInTransaction(TransactionStatus status) {
+					Game game = gamesDao.findById(gameId, GameFetchProfile.PLAY);
+
+					// Was the Game deleted or otherwise already dealt with?
+					if (game == null)
+						return false;
+					if (game.getState() == State.WAITING_FOR_PLAYER)
+						return false;
+
+					// Games against a human just need the AI to respond.
+					if (game.getPlayer1().isHuman() || game.getPlayer2().isHuman()) {
+						aiHelper.respondToThrow(game);
+						gamesDao.save(game);
+						return false;
+					}
+
+					if (game.getState() == State.FINISHED)
+						return false;
+					if (isRoundCapReached(game))
+						return false;
+
+					boolean gameMoreMoves = aiHelper.advanceGameForAiPlayers(game, movesPerBatch);
+					gamesDao.save(game);
+					return gameMoreMoves && !isRoundCapReached(game);
+				}
+			});
+		} catch (RuntimeException e) {
+			// Must not throw, or the Game would never be released.
+			LOGGER.error("Unable to advance game '{}' for its AI players.", gameId, e);
+			failedBatchCount.incrementAndGet();
+			moreMoves = false;
+		}
+
+		synchronized (activeGameIds) {
+			boolean rerun = rerunGameIds.remove(gameId);
+			if (!moreMoves && !rerun) {
+				activeGameIds.remove(gameId);
+				scheduledGameIds.remove(gameId);
+				return;
+			}
+		}
+
+		schedule(gameId);
+	}
+
+	/**
+	 * @param game
+	 *            the {@link Game} to check
+	 * @return <code>true</code> if the specified {@link Game} has gone on for
+	 *         too many rounds to keep advancing it, <code>false</code> if not
+	 */
+	private boolean isRoundCapReached(Game game) {
+		if (game.getState() == State.FINISHED)
+			return false;
+		if (game.getRounds().size() < game.getMaxRounds() * MAX_ROUNDS_FACTOR)
+			return false;
+
+		LOGGER.warn("Game '{}' hit the cap of {} rounds without a winner. No longer advancing it.", game.getId(),
+				game.getMaxRounds() * MAX_ROUNDS_FACTOR);
+		cappedGameCount.incrementAndGet();
+		return true;
+	}
+
+	/**
+	 * @param gameId
+	 *            the {@link Game#getId()} of the {@link Game} that the pool is
+	 *            done with
+	 */
+	private void release(String gameId) {
+		synchronized (activeGameIds) {
+			activeGameIds.remove(gameId);
+			scheduledGameIds.remove(gameId);
+			rerunGameIds.remove(gameId);
+		}
+	}
+}
@@ -0,0 +1,390 @@
+package com.justdavis.karl.rpstourney.service.app.game;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Component;
+
+import com.justdavis.karl.rpstourney.service.api.game.Game;
+import com.justdavis.karl.rpstourney.service.app.config.GameCommandExecutorConfig;
+import com.justdavis.karl.rpstourney.service.app.config.ServiceConfig;
+
+/**
+ * <p>
+ * Runs commands (writes) against {@link Game}s one at a time per
+ * {@link Game}, while commands for different {@link Game}s run in parallel.
+ * Writes to a single {@link Game} are inherently sequential, so this lets them
+ * queue up in memory rather than racing each other to the database (and
+ * colliding there).
+ * </p>
+ * <p>
+ * Each {@link Game} gets its own "mailbox", created on demand, which holds a
+ * fair (first-come, first-served) lock. Each command is run right on the
+ * calling thread, while it holds its {@link Game}'s lock, so there's no hand
+ * off to (or pool of) background threads. At most
+ * {@link GameCommandExecutorConfig#getMailboxCapacity()} commands may be
+ * waiting for any one {@link Game}'s lock: past that, new ones are turned
+ * away. Mailboxes that have been idle for longer than
+ * {@link GameCommandExecutorConfig#getIdleEvictionMillis()} are evicted.
+ * </p>
+ * <p>
+ * Design Note: This only serializes the writes that go through it, within this
+ * one JVM. Anything else (e.g. another instance of the service) is still
+ * caught by {@link Game}'s optimistic locking and {@link GameWriteRetrier}.
+ * </p>
+ */
+@Component
+@ManagedResource(objectName = "com.justdavis.karl.rpstourney.service:name=GameCommandExecutor")
+public class GameCommandExecutor {
+	private final int mailboxCapacity;
+	private final long idleEvictionNanos;
+	private final ScheduledExecutorService evictor;
+	private final Map<String, Mailbox> mailboxes;
+	private volatile boolean closed;
+
+	private final AtomicInteger queueDepth = new AtomicInteger(0);
+	private final AtomicInteger maxQueueDepth = new AtomicInteger(0);
+	private final AtomicLong commandCount = new AtomicLong(0);
+	private final AtomicLong rejectedCount = new AtomicLong(0);
+	private final AtomicLong evictedCount = new AtomicLong(0);
+	private final AtomicLong totalWaitNanos = new AtomicLong(0);
+	private final AtomicLong maxWaitNanos = new AtomicLong(0);
+
+	/**
+	 * Constructs a new {@link GameCommandExecutor} instance.
+	 *
+	 * @param config
+	 *            the injected {@link ServiceConfig} to use
+	 */
+	@Inject
+	public GameCommandExecutor(ServiceConfig config) {
+		this(config.getGameCommandExecutorConfig());
+	}
+
+	/**
+	 * Constructs a new {@link GameCommandExecutor} instance.
+	 *
+	 * @param config
+	 *            the {@link GameCommandExecutorConfig} to use
+	 */
+	public GameCommandExecutor(GameCommandExecutorConfig config) {
+		if (config == null)
+			throw new IllegalArgumentException();
+
+		this.mailboxCapacity = config.getMailboxCapacity();
+		this.idleEvictionNanos = TimeUnit.MILLISECONDS.toNanos(config.getIdleEvictionMillis());
+		this.mailboxes = new ConcurrentHashMap<>();
+		this.closed = false;
+		this.evictor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			/**
+			 * @see java.util.concurrent.ThreadFactory#newThread(java.lang.Runnable)
+			 */
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "game-command-evictor");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+
+		long evictionPeriodMillis = Math.max(1, config.getIdleEvictionMillis() / 2);
+		this.evictor.scheduleWithFixedDelay(new Runnable() {
+			/**
+			 * @see java.lang.Runnable#run()
+			 */
+			@Override
+			public void run() {
+				evictIdleMailboxes();
+			}
+		}, evictionPeriodMillis, evictionPeriodMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Runs the specified command on the calling thread, after any others
+	 * already waiting for the same {@link Game}.
+	 *
+	 * @param gameId
+	 *            the {@link Game#getId()} of the {@link Game} that the command
+	 *            is for
+	 * @param command
+	 *            the command to run
+	 * @return the result of the command
+	 * @throws RejectedExecutionException
+	 *             A {@link RejectedExecutionException} will be thrown if the
+	 *             {@link Game}'s mailbox is already full, or if the executor
+	 *             has been shut down. The caller should try again later.
+	 * @throws RuntimeException
+	 *             Any {@link RuntimeException}s thrown by the command will be
+	 *             passed through as-is.
+	 */
+	public <T> T execute(String gameId, Supplier<T> command) {
+		if (gameId == null)
+			throw new IllegalArgumentException();
+		if (command == null)
+			throw new IllegalArgumentException();
+		if (closed)
+			throw new RejectedExecutionException("Executor was shut down.");
+
+		Mailbox mailbox;
+		while (true) {
+			mailbox = mailboxes.get(gameId);
+			if (mailbox == null) {
+				Mailbox newMailbox = new Mailbox(gameId);
+				mailbox = mailboxes.putIfAbsent(gameId, newMailbox);
+				if (mailbox == null)
+					mailbox = newMailbox;
+			}
+
+			// If it was just evicted, try again with a new one.
+			if (mailbox.enter())
+				break;
+		}
+
+		long queuedNanos = System.nanoTime();
+		mailbox.lock.lock();
+		try {
+			mailbox.started();
+			long waitNanos = System.nanoTime() - queuedNanos;
+			totalWaitNanos.addAndGet(waitNanos);
+			updateMax(maxWaitNanos, waitNanos);
+			commandCount.incrementAndGet();
+
+			return command.get();
+		} finally {
+			mailbox.lock.unlock();
+			mailbox.exit();
+		}
+	}
+
+	/**
+	 * @return the number of {@link Game}s that currently have a mailbox (which
+	 *         will include ones that are idle, but haven't been evicted yet)
+	 */
+	@ManagedAttribute
+	public int getMailboxCount() {
+		return mailboxes.size();
+	}
+
+	/**
+	 * @return the total number of commands that are currently waiting to run,
+	 *         across all {@link Game}s
+	 */
+	@ManagedAttribute
+	public int getQueueDepth() {
+		return queueDepth.get();
+	}
+
+	/**
+	 * @return the largest value that {@link #getQueueDepth()} has reached
+	 */
+	@ManagedAttribute
+	public int getMaxQueueDepth() {
+		return maxQueueDepth.get();
+	}
+
+	/**
+	 * @return the number of commands that have been run
+	 */
+	@ManagedAttribute
+	public long getCommandCount() {
+		return commandCount.get();
+	}
+
+	/**
+	 * @return the number of commands that have been turned away, as their
+	 *         {@link Game}'s mailbox was full
+	 */
+	@ManagedAttribute
+	public long getRejectedCount() {
+		return rejectedCount.get();
+	}
+
+	/**
+	 * @return the number of idle mailboxes that have been evicted
+	 */
+	@ManagedAttribute
+	public long getEvictedCount() {
+		return evictedCount.get();
+	}
+
+	/**
+	 * @return the average amount of time (in milliseconds) that commands have
+	 *         waited for their {@link Game}'s lock before being run
+	 */
+	@ManagedAttribute
+	public double getAverageWaitMillis() {
+		long commands = commandCount.get();
+		if (commands == 0)
+			return 0.0;
+		return (double) totalWaitNanos.get() / commands / TimeUnit.MILLISECONDS.toNanos(1);
+	}
+
+	/**
+	 * @return the longest amount of time (in milliseconds) that any command
+	 *         has waited for its {@link Game}'s lock before being run
+	 */
+	@ManagedAttribute
+	public long getMaxWaitMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get());
+	}
+
+	/**
+	 * Stops the executor's background eviction thread. Any new commands will
+	 * fail with a {@link RejectedExecutionException}, though the ones already
+	 * waiting will still be run.
+	 */
+	@PreDestroy
+	public void close() {
+		closed = true;
+		evictor.shutdownNow();
+	}
+
+	/**
+	 * Evicts any mailboxes that have been idle for longer than
+	 * {@link GameCommandExecutorConfig#getIdleEvictionMillis()}.
+	 */
+	void evictIdleMailboxes() {
+		long now = System.nanoTime();
+		for (Mailbox mailbox : mailboxes.values()) {
+			if (mailbox.evictIfIdle(now) && mailboxes.remove(mailbox.gameId, mailbox))
+				evictedCount.incrementAndGet();
+		}
+	}
+
+	/**
+	 * @param maxValue
+	 *            the high-water mark to update
+	 * @param value
+	 *            the latest value, which will replace the high-water mark if
+	 *            it's larger
+	 */
+	private static void updateMax(AtomicInteger maxValue, int value) {
+		int currentMax;
+		do {
+			currentMax = maxValue.get();
+		} while (value > currentMax && !maxValue.compareAndSet(currentMax, value));
+	}
+
+	/**
+	 * @param maxValue
+	 *            the high-water mark to update
+	 * @param value
+	 *            the latest value, which will replace the high-water mark if
+	 *            it's larger
+	 */
+	private static void updateMax(AtomicLong maxValue, long value) {
+		long currentMax;
+		do {
+			currentMax = maxValue.get();
+		} while (value > currentMax && !maxValue.compareAndSet(currentMax, value));
+	}
+
+	/**
+	 * The lock and bookkeeping for the commands of a single {@link Game}.
+	 */
+	private final class Mailbox {
+		private final String gameId;
+
+		/**
+		 * The lock that each command for this {@link Mailbox}'s {@link Game}
+		 * is run while holding. It's fair, so that commands run in the order
+		 * they arrived.
+		 */
+		private final ReentrantLock lock = new ReentrantLock(true);
+
+		/*
+		 * Design note: All access to these fields must synchronize on this
+		 * Mailbox. A command is "waiting" from when it enters the Mailbox
+		 * until it has the lock, and "active" until it's done.
+		 */
+
+		private int waitingCount = 0;
+		private int activeCount = 0;
+		private boolean evicted = false;
+		private long lastActiveNanos = System.nanoTime();
+
+		/**
+		 * Constructs a new {@link Mailbox} instance.
+		 *
+		 * @param gameId
+		 *            the {@link Game#getId()} of the {@link Game} that the
+		 *            {@link Mailbox} is for
+		 */
+		Mailbox(String gameId) {
+			this.gameId = gameId;
+		}
+
+		/**
+		 * Registers a new command as waiting for this {@link Mailbox}.
+		 *
+		 * @return <code>true</code> if the command was accepted, or
+		 *         <code>false</code> if this {@link Mailbox} has been evicted
+		 *         (and so a new one is needed)
+		 * @throws RejectedExecutionException
+		 *             A {@link RejectedExecutionException} will be thrown if
+		 *             this {@link Mailbox} is full.
+		 */
+		synchronized boolean enter() {
+			if (evicted)
+				return false;
+			if (waitingCount >= mailboxCapacity) {
+				rejectedCount.incrementAndGet();
+				throw new RejectedExecutionException("Too many commands waiting for game: " + gameId);
+			}
+
+			waitingCount++;
+			activeCount++;
+			updateMax(maxQueueDepth, queueDepth.incrementAndGet());
+			return true;
+		}
+
+		/**
+		 * Records that a command (which must have called {@link #enter()})
+		 * now holds {@link #lock}, and so is no longer waiting.
+		 */
+		synchronized void started() {
+			waitingCount--;
+			queueDepth.decrementAndGet();
+		}
+
+		/**
+		 * Records that a command (which must have called {@link #enter()}) is
+		 * done.
+		 */
+		synchronized void exit() {
+			activeCount--;
+			lastActiveNanos = System.nanoTime();
+		}
+
+		/**
+		 * @param now
+		 *            the current {@link System#nanoTime()} value
+		 * @return <code>true</code> if this {@link Mailbox} was idle for long
+		 *         enough, and has now been marked as evicted (in which case
+		 *         the caller must remove it), or <code>false</code> if not
+		 */
+		synchronized boolean evictIfIdle(long now) {
+			if (activeCount > 0)
+				return false;
+			if (now - lastActiveNanos < idleEvictionNanos)
+				return false;
+
+			evicted = true;
+			return true;
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.justdavis.karl.rpstourney.service.app.game;
+
+import com.justdavis.karl.rpstourney.service.api.game.Game;
+import com.justdavis.karl.rpstourney.service.api.game.GameRound;
+import com.justdavis.karl.rpstourney.service.api.game.GameView;
+
+/**
+ * Enumerates the ways that {@link IGamesDao} can load a {@link Game}, from the
+ * lightest to the heaviest. Callers should pick the lightest one that covers
+ * everything they'll need from the {@link Game}.
+ */
+public enum GameFetchProfile {
+	/**
+	 * Loads the {@link Game} and its players, but not its {@link GameRound}s
+	 * (which will only be loaded if/when they're accessed, within the same
+	 * transaction).
+	 */
+	SUMMARY(Game.GRAPH_SUMMARY),
+
+	/**
+	 * Loads the {@link Game}, its players, and its {@link GameRound}s: what's
+	 * needed to make moves in it.
+	 */
+	PLAY(Game.GRAPH_PLAY),
+
+	/**
+	 * Loads everything that will be needed to build a {@link GameView} for the
+	 * {@link Game}, even outside of a transaction.
+	 */
+	FULL(Game.GRAPH_FULL);
+
+	private final String entityGraphName;
+
+	/**
+	 * Enum constant constructor.
+	 *
+	 * @param entityGraphName
+	 *            the value to use for {@link #getEntityGraphName()}
+	 */
+	private GameFetchProfile(String entityGraphName) {
+		this.entityGraphName = entityGraphName;
+	}
+
+	/**
+	 * @return the name of the JPA entity graph (as declared on {@link Game})
+	 *         to load the {@link Game} with
+	 */
+	public String getEntityGraphName() {
+		return entityGraphName;
+	}
+}
@@ -1,13 +1,18 @@
 package com.justdavis.karl.rpstourney.service.app.game;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 import javax.annotation.security.RolesAllowed;
 import javax.inject.Inject;
 import javax.ws.rs.ForbiddenException;
 import javax.ws.rs.NotFoundException;
+import javax.ws.rs.ServiceUnavailableException;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response.Status;
@@ -18,7 +23,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Scope;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionCallbackWithoutResult;
 import org.springframework.web.context.WebApplicationContext;
 
 import com.justdavis.karl.misc.exceptions.BadCodeMonkeyException;
@@ -26,27 +34,76 @@ import com.justdavis.karl.rpstourney.service.api.auth.Account;
 import com.justdavis.karl.rpstourney.service.api.auth.SecurityRole;
 import com.justdavis.karl.rpstourney.service.api.game.Game;
 import com.justdavis.karl.rpstourney.service.api.game.GameConflictException;
+import com.justdavis.karl.rpstourney.service.api.game.GameRound;
+import com.justdavis.karl.rpstourney.service.api.game.GameSummary;
+import com.justdavis.karl.rpstourney.service.api.game.GameSummaryPage;
 import com.justdavis.karl.rpstourney.service.api.game.GameView;
+import com.justdavis.karl.rpstourney.service.api.game.IExhibitionGameResource;
 import com.justdavis.karl.rpstourney.service.api.game.IGameResource;
 import com.justdavis.karl.rpstourney.service.api.game.Player;
+import com.justdavis.karl.rpstourney.service.api.game.PlayerRole;
 import com.justdavis.karl.rpstourney.service.api.game.State;
 import com.justdavis.karl.rpstourney.service.api.game.Throw;
 import com.justdavis.karl.rpstourney.service.app.auth.AccountSecurityContext;
 import com.justdavis.karl.rpstourney.service.app.auth.AuthenticationFilter;
 
 /**
- * The web service implementation of {@link IGameResource}, which is the primary
- * service for gameplay interactions.
+ * <p>
+ * The web service implementation of {@link IGameResource} (and
+ * {@link IExhibitionGameResource}), which is the primary service for gameplay
+ * interactions.
+ * </p>
+ * <p>
+ * Design Note: The methods that modify existing {@link Game}s are run one at
+ * a time per {@link Game} (on the calling thread, while holding that
+ * {@link Game}'s lock) via the {@link GameCommandExecutor}, and run their
+ * transactions via the {@link GameWriteRetrier}, rather than
+ * <code>@Transactional</code>, so that they'll be retried (against a freshly
+ * loaded {@link Game}) if they still collide with a concurrent write to the
+ * same {@link Game}. Methods that only create new {@link Game}s can't collide
+ * like that, and so are left as-is.
+ * </p>
+ * <p>
+ * Design Note: If the {@link ThrowJournal} is enabled, {@link Throw}s that
+ * don't complete their round (in {@link Game}s between two human players) are
+ * only recorded there, and written to the database a moment later. Every
+ * other write flushes the {@link Game}'s pending {@link Throw} first, and the
+ * methods that read {@link Game}s apply it to what they return.
+ * </p>
+ * <p>
+ * Design Note: AI {@link Player}s don't move in the requests that modify their
+ * {@link Game}s. Instead, those {@link Game}s are handed to the
+ * {@link AiWorkerPool} once the request's changes are saved, and the clients
+ * poll for the AI's moves (just as they would for a human opponent's).
+ * </p>
  */
 @Component
 @Scope(value = WebApplicationContext.SCOPE_REQUEST, proxyMode = ScopedProxyMode.TARGET_CLASS)
-public class GameResourceImpl implements IGameResource {
+public class GameResourceImpl implements IExhibitionGameResource {
 	private static final Logger LOGGER = LoggerFactory.getLogger(GameResourceImpl.class);
 
+	/**
+	 * How long (in seconds) clients should wait before retrying
+	 * {@link #createExhibitionGame(long, long, int)}, if the
+	 * {@link AiWorkerPool} is full.
+	 */
+	private static final long EXHIBITION_RETRY_AFTER_SECONDS = 30;
+
+	/**
+	 * How long (in seconds) clients should wait before retrying a write to a
+	 * {@link Game}, if the {@link GameCommandExecutor} has too many writes
+	 * waiting for it already.
+	 */
+	private static final long WRITE_RETRY_AFTER_SECONDS = 1;
+
 	private AccountSecurityContext securityContext;
 	private IPlayersDao playersDao;
 	private IGamesDao gamesDao;
 	private AiGameplayHelper aiHelper;
+	private AiWorkerPool aiWorkerPool;
+	private GameWriteRetrier writeRetrier;
+	private GameCommandExecutor commandExecutor;
+	private ThrowJournal throwJournal;
 
 	/**
 	 * This public, default/no-arg constructor is required by Spring (for
@@ -104,6 +161,54 @@ public class GameResourceImpl implements IGameResource {
 		this.aiHelper = aiHelper;
 	}
 
+	/**
+	 * @param aiWorkerPool
+	 *            the injected {@link AiWorkerPool} to use
+	 */
+	@Inject
+	public void setAiWorkerPool(AiWorkerPool aiWorkerPool) {
+		if (aiWorkerPool == null)
+			throw new IllegalArgumentException();
+
+		this.aiWorkerPool = aiWorkerPool;
+	}
+
+	/**
+	 * @param writeRetrier
+	 *            the injected {@link GameWriteRetrier} to use
+	 */
+	@Inject
+	public void setGameWriteRetrier(GameWriteRetrier writeRetrier) {
+		if (writeRetrier == null)
+			throw new IllegalArgumentException();
+
+		this.writeRetrier = writeRetrier;
+	}
+
+	/**
+	 * @param commandExecutor
+	 *            the injected {@link GameCommandExecutor} to use
+	 */
+	@Inject
+	public void setGameCommandExecutor(GameCommandExecutor commandExecutor) {
+		if (commandExecutor == null)
+			throw new IllegalArgumentException();
+
+		this.commandExecutor = commandExecutor;
+	}
+
+	/**
+	 * @param throwJournal
+	 *            the injected {@link ThrowJournal} to use
+	 */
+	@Inject
+	public void setThrowJournal(ThrowJournal throwJournal) {
+		if (throwJournal == null)
+			throw new IllegalArgumentException();
+
+		this.throwJournal = throwJournal;
+	}
+
 	/**
 	 * @see com.justdavis.karl.rpstourney.service.api.game.IGameResource#createGame()
 	 */
@@ -124,6 +229,50 @@ public class GameResourceImpl implements IGameResource {
 		return gameView;
 	}
 
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.api.game.IExhibitionGameResource#createExhibitionGame(long,
+	 *      long, int)
+	 */
+	@RolesAllowed({ SecurityRole.ID_USERS })
+	@Transactional
+	@Override
+	public GameView createExhibitionGame(long player1Id, long player2Id, int maxRounds) {
+		if (player1Id < 0 || player2Id < 0)
+			throw new WebApplicationException(Status.BAD_REQUEST);
+
+		// Verify that both players exist and are (active) BuiltInAis.
+		Player player1 = playersDao.getPlayer(player1Id);
+		Player player2 = playersDao.getPlayer(player2Id);
+		if (player1 == null || player2 == null)
+			throw new NotFoundException("Player not found.");
+		if (player1.getBuiltInAi() == null || player2.getBuiltInAi() == null)
+			throw new ForbiddenException();
+		if (player1.getBuiltInAi().isRetired() || player2.getBuiltInAi().isRetired())
+			throw new ForbiddenException();
+
+		// Create the new game.
+		Game game = new Game(player1);
+		game.setMaxRounds(maxRounds);
+		try {
+			game.setPlayer2(player2);
+		} catch (IllegalArgumentException e) {
+			// Trying to set the same AI as both players.
+			throw new WebApplicationException(e, Status.BAD_REQUEST);
+		}
+		gamesDao.save(game);
+
+		/*
+		 * Have the game played out in the background, once it's committed. If
+		 * the pool is full, this exception will roll back the game's creation.
+		 */
+		if (!aiWorkerPool.submit(game.getId()))
+			throw new ServiceUnavailableException(EXHIBITION_RETRY_AFTER_SECONDS);
+
+		// Create and return a GameView for the game.
+		GameView gameView = new GameView(game, getUserPlayerIfAny());
+		return gameView;
+	}
+
 	/**
 	 * @see com.justdavis.karl.rpstourney.service.api.game.IGameResource#getGamesForPlayer()
 	 */
@@ -139,6 +288,7 @@ public class GameResourceImpl implements IGameResource {
 		Player userPlayer = playersDao.findPlayerForAccount(userAccount);
 
 		// Get the games for that Player.
+		Map<String, JournaledThrow> pendingThrows = throwJournal.getPendingThrows();
 		List<Game> games;
 		if (userPlayer != null)
 			games = gamesDao.getGamesForPlayer(userPlayer);
@@ -147,52 +297,137 @@ public class GameResourceImpl implements IGameResource {
 
 		// Create and return the GameViews for the Games.
 		List<GameView> gameViews = new ArrayList<GameView>(games.size());
-		for (Game game : games)
+		for (Game game : games) {
+			JournaledThrow pendingThrow = pendingThrows.get(game.getId());
+			if (pendingThrow != null)
+				pendingThrow.applyTo(game);
 			gameViews.add(new GameView(game, userPlayer));
+		}
 		return gameViews;
 	}
 
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.api.game.IGameResource#getGameSummariesForPlayer(java.lang.String,
+	 *      java.lang.Integer)
+	 */
+	@Override
+	public GameSummaryPage getGameSummariesForPlayer(String cursor, Integer limit) {
+		if (limit != null && (limit < 1 || limit > GameSummaryPage.MAX_LIMIT))
+			throw new WebApplicationException(Status.BAD_REQUEST);
+		GameSummaryPage.Cursor parsedCursor;
+		try {
+			parsedCursor = cursor != null ? GameSummaryPage.Cursor.parse(cursor) : null;
+		} catch (IllegalArgumentException e) {
+			throw new WebApplicationException(e, Status.BAD_REQUEST);
+		}
+		int pageLimit = limit != null ? limit : GameSummaryPage.DEFAULT_LIMIT;
+
+		// Return an empty page for unauthenticated users.
+		if (securityContext.getUserPrincipal() == null) {
+			return new GameSummaryPage(Collections.<GameSummary> emptyList(), null);
+		}
+
+		// Determine the current user/player.
+		Account userAccount = getUserAccount();
+		Player userPlayer = playersDao.findPlayerForAccount(userAccount);
+		if (userPlayer == null)
+			return new GameSummaryPage(Collections.<GameSummary> emptyList(), null);
+
+		/*
+		 * Get the game summaries for that Player. One extra is requested, just
+		 * to find out whether or not there's another page after this one.
+		 */
+		List<GameSummary> summaries = gamesDao.getGameSummariesForPlayer(userPlayer, parsedCursor, pageLimit + 1);
+		if (summaries.size() <= pageLimit)
+			return new GameSummaryPage(summaries, null);
+		List<GameSummary> pageSummaries = summaries.subList(0, pageLimit);
+		return new GameSummaryPage(pageSummaries,
+				new GameSummaryPage.Cursor(pageSummaries.get(pageSummaries.size() - 1)).encode());
+	}
+
 	/**
 	 * @see com.justdavis.karl.rpstourney.service.api.game.IGameResource#getGame(java.lang.String)
 	 */
 	@Override
 	public GameView getGame(String gameId) {
-		// Look up the specified game.
-		Game game = gamesDao.findById(gameId);
-		if (game == null)
-			throw new NotFoundException("Game not found: " + gameId);
+		return getGame(gameId, null, null);
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.api.game.IGameResource#getGame(java.lang.String,
+	 *      java.lang.Integer, java.lang.Integer)
+	 */
+	@Override
+	public GameView getGame(String gameId, Integer fromRound, Integer lastRounds) {
+		Game game = getCurrentGame(gameId);
 
 		// Create and return a GameView for the game.
-		Account userAccount = securityContext.getUserPrincipal();
-		Player userPlayer = userAccount != null ? playersDao.findPlayerForAccount(userAccount) : null;
-		GameView gameView = new GameView(game, userPlayer);
-		return gameView;
+		Player userPlayer = getUserPlayerIfAny();
+		try {
+			return new GameView(game, userPlayer, fromRound, lastRounds);
+		} catch (IllegalArgumentException e) {
+			// Invalid fromRound or lastRounds value.
+			throw new WebApplicationException(e, Status.BAD_REQUEST);
+		}
 	}
 
 	/**
-	 * @see com.justdavis.karl.rpstourney.service.api.game.IGameResource#setMaxRounds(java.lang.String,
-	 *      int, int)
+	 * @see com.justdavis.karl.rpstourney.service.api.game.IGameResource#getRounds(java.lang.String,
+	 *      int, java.lang.Integer)
 	 */
-	@RolesAllowed({ SecurityRole.ID_USERS })
-	@Transactional
 	@Override
-	public GameView setMaxRounds(String gameId, int oldMaxRoundsValue, int newMaxRoundsValue) {
-		Game game = getRawGame(gameId);
+	public List<GameRound> getRounds(String gameId, int fromRound, Integer limit) {
+		if (fromRound < 0)
+			throw new WebApplicationException(Status.BAD_REQUEST);
+		if (limit != null && limit < 0)
+			throw new WebApplicationException(Status.BAD_REQUEST);
+
+		Game game = getCurrentGame(gameId);
 
 		/*
-		 * Check to make sure that the requesting user is one of the two
-		 * players.
+		 * Use a GameView to filter the rounds, then copy just the ones needed.
+		 * Note that the GameView will always include the current round, even
+		 * if it's before fromRound.
 		 */
-		Account userAccount = getUserAccount();
-		Player userPlayer = playersDao.findOrCreatePlayerForAccount(userAccount);
-		if (!userPlayer.equals(game.getPlayer1()) && !userPlayer.equals(game.getPlayer2()))
-			throw new IllegalArgumentException();
-
-		game = gamesDao.setMaxRounds(gameId, oldMaxRoundsValue, newMaxRoundsValue);
+		Player userPlayer = getUserPlayerIfAny();
+		GameView gameView = new GameView(game, userPlayer, fromRound, null);
+		List<GameRound> rounds = gameView.getRounds();
+		int fromIndex = Math.min(fromRound - gameView.getFirstRoundIndex(), rounds.size());
+		int toIndex = limit != null ? Math.min(rounds.size(), fromIndex + limit) : rounds.size();
+		return new ArrayList<>(rounds.subList(fromIndex, toIndex));
+	}
 
-		// Create and return a GameView for the game.
-		GameView gameView = new GameView(game, userPlayer);
-		return gameView;
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.api.game.IGameResource#setMaxRounds(java.lang.String,
+	 *      int, int)
+	 */
+	@RolesAllowed({ SecurityRole.ID_USERS })
+	@Override
+	public GameView setMaxRounds(final String gameId, final int oldMaxRoundsValue, final int newMaxRoundsValue) {
+		return executeWrite(gameId, "setMaxRounds", new TransactionCallback<GameView>() {
+			/**
+			 * @see org.springframework.transaction.support.TransactionCallback#doInTransaction(org.springframework.transaction.TransactionStatus)
+			 */
+			@Override
+			public GameView doInTransaction(TransactionStatus status) {
+				Game game = getRawGame(gameId, GameFetchProfile.SUMMARY);
+
+				/*
+				 * Check to make sure that the requesting user is one of the two
+				 * players.
+				 */
+				Account userAccount = getUserAccount();
+				Player userPlayer = playersDao.findOrCreatePlayerForAccount(userAccount);
+				if (!userPlayer.equals(game.getPlayer1()) && !userPlayer.equals(game.getPlayer2()))
+					throw new IllegalArgumentException();
+
+				game = gamesDao.setMaxRounds(gameId, oldMaxRoundsValue, newMaxRoundsValue);
+
+				// Create and return a GameView for the game.
+				GameView gameView = new GameView(game, userPlayer);
+				return gameView;
+			}
+		});
 	}
 
 	/**
@@ -200,94 +435,125 @@ public class GameResourceImpl implements IGameResource {
 	 *      long)
 	 */
 	@RolesAllowed({ SecurityRole.ID_USERS })
-	@Transactional
 	@Override
-	public void inviteOpponent(String gameId, long playerId) throws NotFoundException, GameConflictException {
-		Game game = getRawGame(gameId);
-
-		// Determine the current user/player.
-		Account userAccount = getUserAccount();
-		Player userPlayer = playersDao.findOrCreatePlayerForAccount(userAccount);
-
-		// Verify that the current user is Player 1.
-		if (!game.getPlayer1().equals(userPlayer))
-			throw new ForbiddenException();
-
-		// Verify that the invited player is a BuiltInAi.
-		Player invitedPlayer = playersDao.getPlayer(playerId);
-		if (invitedPlayer.getBuiltInAi() == null)
-			throw new ForbiddenException();
-
-		// Join the player to the game.
-		game.setPlayer2(invitedPlayer);
-
-		// Advance the game for any AI players.
-		aiHelper.advanceGameForAiPlayers(game);
-
-		// Save the resulting game state.
-		gamesDao.save(game);
+	public void inviteOpponent(final String gameId, final long playerId)
+			throws NotFoundException, GameConflictException {
+		executeWrite(gameId, "inviteOpponent", new TransactionCallbackWithoutResult() {
+			/**
+			 * @see org.springframework.transaction.support.TransactionCallbackWithoutResult#doInTransactionWithoutResult(org.springframework.transaction.TransactionStatus)
+			 */
+			@Override
+			protected void doInTransactionWithoutResult(TransactionStatus status) {
+				Game game = getRawGame(gameId, GameFetchProfile.PLAY);
+
+				// Determine the current user/player.
+				Account userAccount = getUserAccount();
+				Player userPlayer = playersDao.findOrCreatePlayerForAccount(userAccount);
+
+				// Verify that the current user is Player 1.
+				if (!game.getPlayer1().equals(userPlayer))
+					throw new ForbiddenException();
+
+				// Verify that the invited player is a BuiltInAi.
+				Player invitedPlayer = playersDao.getPlayer(playerId);
+				if (invitedPlayer.getBuiltInAi() == null)
+					throw new ForbiddenException();
+
+				// Join the player to the game, unless someone else got there first.
+				gamesDao.claimPlayer2(gameId, invitedPlayer);
+				game.setPlayer2(invitedPlayer);
+
+				// Let the AI player get ready for the game, in the background.
+				submitToAiPlayers(game);
+
+				// Save the resulting game state.
+				gamesDao.save(game);
+			}
+		});
 	}
 
 	/**
 	 * @see com.justdavis.karl.rpstourney.service.api.game.IGameResource#joinGame(java.lang.String)
 	 */
 	@RolesAllowed({ SecurityRole.ID_USERS })
-	@Transactional
 	@Override
-	public GameView joinGame(String gameId) {
-		Game game = getRawGame(gameId);
-
-		// Determine the current user/player.
-		Account userAccount = getUserAccount();
-		Player userPlayer = playersDao.findOrCreatePlayerForAccount(userAccount);
-
-		try {
-			game.setPlayer2(userPlayer);
-		} catch (IllegalArgumentException e) {
-			// Trying to set the same user as both players.
-			throw new WebApplicationException(e, Status.BAD_REQUEST);
-		}
-
-		// Advance the game for any AI players.
-		aiHelper.advanceGameForAiPlayers(game);
-
-		// Save the resulting game state.
-		gamesDao.save(game);
-
-		// Create and return a GameView for the game.
-		GameView gameView = new GameView(game, userPlayer);
-		return gameView;
+	public GameView joinGame(final String gameId) {
+		return executeWrite(gameId, "joinGame", new TransactionCallback<GameView>() {
+			/**
+			 * @see org.springframework.transaction.support.TransactionCallback#doInTransaction(org.springframework.transaction.TransactionStatus)
+			 */
+			@Override
+			public GameView doInTransaction(TransactionStatus status) {
+				Game game = getRawGame(gameId, GameFetchProfile.PLAY);
+
+				// Determine the current user/player.
+				Account userAccount = getUserAccount();
+				Player userPlayer = playersDao.findOrCreatePlayerForAccount(userAccount);
+
+				/*
+				 * Claim the Player 2 slot first, unless someone else got there
+				 * first, and then apply the rest of the join to the Game. (If
+				 * the join is then rejected, the claim will be rolled back
+				 * along with it.)
+				 */
+				gamesDao.claimPlayer2(gameId, userPlayer);
+				try {
+					game.setPlayer2(userPlayer);
+				} catch (IllegalArgumentException e) {
+					// Trying to set the same user as both players.
+					throw new WebApplicationException(e, Status.BAD_REQUEST);
+				}
+
+				// Let any AI players respond, in the background.
+				submitToAiPlayers(game);
+
+				// Save the resulting game state.
+				gamesDao.save(game);
+
+				// Create and return a GameView for the game.
+				GameView gameView = new GameView(game, userPlayer);
+				return gameView;
+			}
+		});
 	}
 
 	/**
 	 * @see com.justdavis.karl.rpstourney.service.api.game.IGameResource#prepareRound(java.lang.String)
 	 */
-	@Transactional
 	@Override
-	public GameView prepareRound(String gameId) {
+	public GameView prepareRound(final String gameId) {
 		/*
 		 * Note: This method is intentionally not marked with @RolesAllowed, as
 		 * it doesn't really matter who calls it.
 		 */
 
-		LOGGER.trace("Prepare round start.");
-		Game game = getRawGame(gameId);
-
-		// Prepare the round, if needed.
-		if (!game.isRoundPrepared()) {
-			game.prepareRound();
-		}
-
-		// TODO does AI need to be called here, too?
-
-		gamesDao.save(game);
-
-		// Create and return a GameView for the game.
-		Account userAccount = getUserAccount();
-		Player userPlayer = playersDao.findPlayerForAccount(userAccount);
-		GameView gameView = new GameView(game, userPlayer);
-		LOGGER.trace("Prepare round end.");
-		return gameView;
+		return executeWrite(gameId, "prepareRound", new TransactionCallback<GameView>() {
+			/**
+			 * @see org.springframework.transaction.support.TransactionCallback#doInTransaction(org.springframework.transaction.TransactionStatus)
+			 */
+			@Override
+			public GameView doInTransaction(TransactionStatus status) {
+				LOGGER.trace("Prepare round start.");
+				Game game = getRawGame(gameId, GameFetchProfile.PLAY);
+
+				// Prepare the round, if needed.
+				if (!game.isRoundPrepared()) {
+					game.prepareRound();
+				}
+
+				// Get a head start on any AI players' throws for the round.
+				aiHelper.precalculateThrows(game);
+
+				gamesDao.save(game);
+
+				// Create and return a GameView for the game.
+				Account userAccount = getUserAccount();
+				Player userPlayer = playersDao.findPlayerForAccount(userAccount);
+				GameView gameView = new GameView(game, userPlayer);
+				LOGGER.trace("Prepare round end.");
+				return gameView;
+			}
+		});
 	}
 
 	/**
@@ -295,59 +561,263 @@ public class GameResourceImpl implements IGameResource {
 	 *      int, com.justdavis.karl.rpstourney.service.api.game.Throw)
 	 */
 	@RolesAllowed({ SecurityRole.ID_USERS })
-	@Transactional
 	@Override
-	public GameView submitThrow(String gameId, int roundIndex, Throw throwToPlay) {
-		Game game = getRawGame(gameId);
-
-		// Determine the current user/player.
-		Account userAccount = getUserAccount();
-		Player userPlayer = playersDao.findOrCreatePlayerForAccount(userAccount);
-
-		// Submit the Throw to the game.
-		game.submitThrow(roundIndex, userPlayer, throwToPlay);
-
-		// Advance the game for any AI players.
-		if (game.getState() != State.FINISHED)
-			aiHelper.advanceGameForAiPlayers(game);
+	public GameView submitThrow(final String gameId, final int roundIndex, final Throw throwToPlay) {
+		if (throwJournal.isEnabled()) {
+			GameView journaledGameView = submitJournaledThrow(gameId, roundIndex, throwToPlay);
+			if (journaledGameView != null)
+				return journaledGameView;
+		}
 
-		// Save the resulting game state.
-		gamesDao.save(game);
+		return executeWrite(gameId, "submitThrow", new TransactionCallback<GameView>() {
+			/**
+			 * @see org.springframework.transaction.support.TransactionCallback#doInTransaction(org.springframework.transaction.TransactionStatus)
+			 */
+			@Override
+			public GameView doInTransaction(TransactionStatus status) {
+				Game game = getRawGame(gameId, GameFetchProfile.SUMMARY);
+
+				// Determine the current user/player.
+				Account userAccount = getUserAccount();
+				Player userPlayer = playersDao.findOrCreatePlayerForAccount(userAccount);
+				PlayerRole[] userRoles = game.getPlayerRoles(userPlayer);
+				if (userRoles.length != 1)
+					throw new IllegalArgumentException();
+
+				/*
+				 * Between two humans, the Throw only needs to touch its round
+				 * and the Game's summary columns, which the DAO writes directly
+				 * (no refresh or save needed).
+				 */
+				if (game.getPlayer2() != null && game.getPlayer1().isHuman() && game.getPlayer2().isHuman()) {
+					game = gamesDao.submitThrowInPlace(game, roundIndex, userRoles[0], throwToPlay);
+					return new GameView(game, userPlayer);
+				}
+
+				/*
+				 * Otherwise, submit the Throw to the game. This is written
+				 * straight to its round, rather than via the Game, so that it
+				 * can't clobber (or be clobbered by) a concurrent Throw from
+				 * the opponent.
+				 */
+				game = gamesDao.submitThrow(game, roundIndex, userRoles[0], throwToPlay);
+
+				// If that Throw completed the round, prepare the next one.
+				if (!game.isRoundPrepared())
+					game.prepareRound();
+
+				// Let any AI opponent respond, in the background.
+				submitToAiPlayers(game);
+
+				// Save the resulting game state.
+				gamesDao.save(game);
+
+				// Create and return a GameView for the game.
+				GameView gameView = new GameView(game, userPlayer);
+				return gameView;
+			}
+		});
+	}
 
-		// Create and return a GameView for the game.
-		GameView gameView = new GameView(game, userPlayer);
-		return gameView;
+	/**
+	 * Records the specified {@link Throw} in the {@link ThrowJournal} (rather
+	 * than writing it to the database right away), if it's eligible for that.
+	 * Only {@link Throw}s that won't complete their round, in {@link Game}s
+	 * between two human players, are eligible: anything else has follow-on
+	 * effects (e.g. AI responses or the next round) that need to be written
+	 * along with it.
+	 *
+	 * @param gameId
+	 *            the {@link Game#getId()} of the {@link Game} to submit the
+	 *            {@link Throw} to
+	 * @param roundIndex
+	 *            the {@link GameRound#getRoundIndex()} of the round to submit
+	 *            the {@link Throw} to
+	 * @param throwToPlay
+	 *            the {@link Throw} to submit
+	 * @return a {@link GameView} of the resulting {@link Game}, or
+	 *         <code>null</code> if the {@link Throw} wasn't eligible for the
+	 *         {@link ThrowJournal} (and so needs to be written normally)
+	 */
+	private GameView submitJournaledThrow(final String gameId, final int roundIndex, final Throw throwToPlay) {
+		try {
+			return commandExecutor.execute(gameId, new Supplier<GameView>() {
+				/**
+				 * @see java.util.function.Supplier#get()
+				 */
+				@Override
+				public GameView get() {
+					if (!throwJournal.isReplayApplied() || throwJournal.getPendingThrow(gameId) != null)
+						return null;
+
+					Game game = getRawGame(gameId, GameFetchProfile.FULL);
+
+					// Determine the current user/player and their opponent.
+					Player userPlayer = playersDao.findPlayerForAccount(getUserAccount());
+					if (userPlayer == null)
+						return null;
+					PlayerRole[] userRoles = game.getPlayerRoles(userPlayer);
+					if (userRoles.length != 1)
+						return null;
+					Player opponent = userRoles[0] == PlayerRole.PLAYER_1 ? game.getPlayer2() : game.getPlayer1();
+					if (opponent == null || opponent.getBuiltInAi() != null)
+						return null;
+
+					// Make sure that this Throw won't complete the round.
+					if (game.getState() != State.WAITING_FOR_FIRST_THROW && game.getState() != State.STARTED)
+						return null;
+					if (!game.isRoundPrepared())
+						return null;
+					GameRound currentRound = game.getCurrentRound();
+					if (currentRound.getRoundIndex() != roundIndex)
+						return null;
+					if (currentRound.getThrowForPlayer1() != null || currentRound.getThrowForPlayer2() != null)
+						return null;
+
+					// Record the Throw, and apply it to the Game as loaded.
+					JournaledThrow journaledThrow = new JournaledThrow(gameId, roundIndex, userRoles[0], throwToPlay,
+							Instant.now());
+					if (!journaledThrow.applyTo(game))
+						return null;
+					throwJournal.append(journaledThrow);
+
+					// Create and return a GameView for the game.
+					GameView gameView = new GameView(game, userPlayer);
+					return gameView;
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			throw new ServiceUnavailableException(WRITE_RETRY_AFTER_SECONDS);
+		}
 	}
 
 	/**
 	 * @see com.justdavis.karl.rpstourney.service.api.game.IGameResource#deleteGame(java.lang.String)
 	 */
 	@RolesAllowed({ SecurityRole.ID_ADMINS })
-	@Transactional
 	@Override
-	public void deleteGame(String gameId) throws NotFoundException {
-		Game game = getRawGame(gameId);
-		if (game == null)
-			throw new NotFoundException("Game not found: " + gameId);
+	public void deleteGame(final String gameId) throws NotFoundException {
+		executeWrite(gameId, "deleteGame", new TransactionCallbackWithoutResult() {
+			/**
+			 * @see org.springframework.transaction.support.TransactionCallbackWithoutResult#doInTransactionWithoutResult(org.springframework.transaction.TransactionStatus)
+			 */
+			@Override
+			protected void doInTransactionWithoutResult(TransactionStatus status) {
+				Game game = getRawGame(gameId, GameFetchProfile.SUMMARY);
+				if (game == null)
+					throw new NotFoundException("Game not found: " + gameId);
+
+				gamesDao.delete(game.getId());
+			}
+		});
+	}
 
-		gamesDao.delete(game.getId());
+	/**
+	 * Runs the specified write to an existing {@link Game}: after any other
+	 * writes already waiting for that {@link Game} (via the
+	 * {@link GameCommandExecutor}), and in its own transaction that will be
+	 * retried if it still conflicts with something (via the
+	 * {@link GameWriteRetrier}). Any {@link Throw} pending for the {@link Game}
+	 * in the {@link ThrowJournal} is written to the database first.
+	 *
+	 * @param gameId
+	 *            the {@link Game#getId()} of the {@link Game} being written to
+	 * @param operation
+	 *            the name of the web service method performing the write
+	 * @param action
+	 *            the {@link TransactionCallback} that performs the write
+	 * @return the result of the {@link TransactionCallback}
+	 */
+	private <T> T executeWrite(final String gameId, final String operation, final TransactionCallback<T> action) {
+		try {
+			return commandExecutor.execute(gameId, new Supplier<T>() {
+				/**
+				 * @see java.util.function.Supplier#get()
+				 */
+				@Override
+				public T get() {
+					throwJournal.flush(gameId);
+					return writeRetrier.execute(operation, action);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			throw new ServiceUnavailableException(WRITE_RETRY_AFTER_SECONDS);
+		}
 	}
 
 	/**
 	 * @param gameId
 	 *            the {@link Game#getId()} value to match
+	 * @param fetchProfile
+	 *            the {@link GameFetchProfile} to load the {@link Game} with,
+	 *            which should be the lightest one that covers everything the
+	 *            caller needs
 	 * @return the specified {@link Game} instance (not wrapped in a
 	 *         {@link GameView})
 	 */
-	private Game getRawGame(String gameId) {
+	private Game getRawGame(String gameId, GameFetchProfile fetchProfile) {
 		// Look up the specified game.
-		Game game = gamesDao.findById(gameId);
+		Game game = gamesDao.findById(gameId, fetchProfile);
 		if (game == null)
 			throw new NotFoundException("Game not found: " + gameId);
 
 		return game;
 	}
 
+	/**
+	 * Hands the specified {@link Game} off to the {@link AiWorkerPool}, if it
+	 * has any AI {@link Player}s, so that they can respond once the current
+	 * transaction commits. If the pool is full, they'll instead respond right
+	 * away, as the {@link Game} would otherwise stall.
+	 *
+	 * @param game
+	 *            the {@link Game} that was just modified (which must have
+	 *            both of its {@link Player}s)
+	 */
+	private void submitToAiPlayers(Game game) {
+		if (game.getPlayer1().isHuman() && game.getPlayer2().isHuman())
+			return;
+
+		if (!aiWorkerPool.submit(game.getId())) {
+			LOGGER.warn("AI worker pool is full. Responding to game '{}' inline.", game.getId());
+			aiHelper.respondToThrow(game);
+		}
+	}
+
+	/**
+	 * @param gameId
+	 *            the {@link Game#getId()} value to match
+	 * @return the specified {@link Game} instance (loaded with
+	 *         {@link GameFetchProfile#FULL}), with any {@link Throw} pending
+	 *         for it in the {@link ThrowJournal} applied
+	 */
+	private Game getCurrentGame(String gameId) {
+		/*
+		 * The pending Throw has to be checked before loading the Game: if it's
+		 * flushed in between, it'll be in the Game already (and applying it
+		 * again will be a no-op).
+		 */
+		JournaledThrow pendingThrow = throwJournal.getPendingThrow(gameId);
+		Game game = getRawGame(gameId, GameFetchProfile.FULL);
+		if (pendingThrow != null)
+			pendingThrow.applyTo(game);
+
+		return game;
+	}
+
+	/**
+	 * Unlike {@link #getUserAccount()}, this method may be used on web service
+	 * requests that allow unauthenticated users.
+	 * 
+	 * @return the {@link Player} for the requestor's {@link Account}, or
+	 *         <code>null</code> if the request isn't authenticated or the
+	 *         {@link Account} doesn't have a {@link Player}
+	 */
+	private Player getUserPlayerIfAny() {
+		Account userAccount = securityContext.getUserPrincipal();
+		return userAccount != null ? playersDao.findPlayerForAccount(userAccount) : null;
+	}
+
 	/**
 	 * This method should only be used on web service requests annotated with
 	 * <code>@RolesAllowed({ SecurityRole.ID_USERS })</code>, as it assumes that
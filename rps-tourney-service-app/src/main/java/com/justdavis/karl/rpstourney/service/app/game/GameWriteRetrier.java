@@ -0,0 +1,310 @@
+package com.justdavis.karl.rpstourney.service.app.game;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.inject.Inject;
+import javax.persistence.OptimisticLockException;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.justdavis.karl.rpstourney.service.api.game.Game;
+
+/**
+ * <p>
+ * Runs {@link Game} writes in their own transactions, retrying them (against
+ * a fresh copy of the {@link Game}) if they fail due to a conflicting,
+ * concurrent write. Such conflicts are detected via {@link Game}'s optimistic
+ * locking, rather than by holding row locks for the whole transaction.
+ * </p>
+ * <p>
+ * Each write is given at most {@link #getMaxAttempts()} attempts. Between
+ * attempts, the retrier waits a random ("jittered") amount of time, up to an
+ * exponentially increasing limit, so that the conflicting writers don't just
+ * collide again. The number of conflicts, retries, and writes that ran out of
+ * attempts are counted for each named operation, and exported via JMX.
+ * </p>
+ */
+@Component
+@ManagedResource(objectName = "com.justdavis.karl.rpstourney.service:name=GameWriteRetrier")
+public class GameWriteRetrier {
+	private static final Logger LOGGER = LoggerFactory.getLogger(GameWriteRetrier.class);
+
+	/**
+	 * The name of the <code>GameRounds</code> table's primary key constraint,
+	 * which concurrent {@link Game#prepareRound()} calls can collide on.
+	 */
+	static final String GAME_ROUNDS_PK_NAME = "GameRoundsPk";
+
+	/**
+	 * The default value for {@link #getMaxAttempts()}.
+	 */
+	static final int DEFAULT_MAX_ATTEMPTS = 4;
+
+	/**
+	 * The default upper limit (in milliseconds) on the wait before the first
+	 * retry. It doubles for each retry after that.
+	 */
+	static final long DEFAULT_BASE_BACKOFF_MILLIS = 10;
+
+	/**
+	 * The default upper limit (in milliseconds) on the wait before any retry.
+	 */
+	static final long DEFAULT_MAX_BACKOFF_MILLIS = 250;
+
+	private final TransactionTemplate transactionTemplate;
+	private final int maxAttempts;
+	private final long baseBackoffMillis;
+	private final long maxBackoffMillis;
+	private final Random random;
+	private final ConcurrentMap<String, OperationCounters> counters;
+
+	/**
+	 * Constructs a new {@link GameWriteRetrier} instance, with the default
+	 * settings.
+	 *
+	 * @param transactionManager
+	 *            the injected {@link PlatformTransactionManager} to use
+	 */
+	@Inject
+	public GameWriteRetrier(PlatformTransactionManager transactionManager) {
+		this(transactionManager, DEFAULT_MAX_ATTEMPTS, DEFAULT_BASE_BACKOFF_MILLIS, DEFAULT_MAX_BACKOFF_MILLIS);
+	}
+
+	/**
+	 * Constructs a new {@link GameWriteRetrier} instance.
+	 *
+	 * @param transactionManager
+	 *            the {@link PlatformTransactionManager} to run each attempt's
+	 *            transaction with
+	 * @param maxAttempts
+	 *            the value to use for {@link #getMaxAttempts()}
+	 * @param baseBackoffMillis
+	 *            the upper limit (in milliseconds) on the wait before the
+	 *            first retry, which doubles for each retry after that
+	 * @param maxBackoffMillis
+	 *            the upper limit (in milliseconds) on the wait before any
+	 *            retry
+	 */
+	public GameWriteRetrier(PlatformTransactionManager transactionManager, int maxAttempts, long baseBackoffMillis,
+			long maxBackoffMillis) {
+		if (transactionManager == null)
+			throw new IllegalArgumentException();
+		if (maxAttempts < 1)
+			throw new IllegalArgumentException();
+		if (baseBackoffMillis < 0)
+			throw new IllegalArgumentException();
+		if (maxBackoffMillis < baseBackoffMillis)
+			throw new IllegalArgumentException();
+
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.maxAttempts = maxAttempts;
+		this.baseBackoffMillis = baseBackoffMillis;
+		this.maxBackoffMillis = maxBackoffMillis;
+		this.random = new Random();
+		this.counters = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * @return the maximum number of times that each write will be attempted
+	 */
+	@ManagedAttribute
+	public int getMaxAttempts() {
+		return maxAttempts;
+	}
+
+	/**
+	 * Runs the specified write in a new transaction, retrying it (in another
+	 * new transaction) if it fails due to a conflicting concurrent write. The
+	 * write may be run more than once, and so must not have any side effects
+	 * outside of its transaction (other than those that only happen once it
+	 * commits).
+	 *
+	 * @param operation
+	 *            the name of the operation (e.g. the web service method)
+	 *            performing the write, which its counters will be recorded
+	 *            under
+	 * @param action
+	 *            the {@link TransactionCallback} that performs the write
+	 * @return the result of the {@link TransactionCallback}'s successful
+	 *         attempt
+	 * @throws RuntimeException
+	 *             Any {@link RuntimeException}s thrown by the
+	 *             {@link TransactionCallback} or the transaction's commit will
+	 *             be passed through as-is, once it's determined that they
+	 *             either aren't conflicts, or that the write is out of
+	 *             attempts.
+	 */
+	public <T> T execute(String operation, TransactionCallback<T> action) {
+		if (operation == null)
+			throw new IllegalArgumentException();
+		if (action == null)
+			throw new IllegalArgumentException();
+
+		OperationCounters operationCounters = getCounters(operation);
+		for (int attempt = 1;; attempt++) {
+			try {
+				return transactionTemplate.execute(action);
+			} catch (RuntimeException e) {
+				if (!isConflict(e))
+					throw e;
+
+				operationCounters.conflicts.incrementAndGet();
+				if (attempt >= maxAttempts) {
+					operationCounters.exhausted.incrementAndGet();
+					LOGGER.warn("Write for '{}' still conflicted after {} attempts.", operation, attempt);
+					throw e;
+				}
+
+				operationCounters.retries.incrementAndGet();
+				LOGGER.debug("Write for '{}' conflicted on attempt {}. Retrying.", operation, attempt, e);
+				backoff(attempt);
+			}
+		}
+	}
+
+	/**
+	 * @param attempt
+	 *            the number of the attempt that just failed, starting at 1
+	 */
+	private void backoff(int attempt) {
+		long limitMillis = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempt - 1, 30));
+		if (limitMillis <= 0)
+			return;
+
+		long waitMillis;
+		synchronized (random) {
+			waitMillis = (long) (random.nextDouble() * limitMillis);
+		}
+
+		try {
+			Thread.sleep(waitMillis);
+		} catch (InterruptedException e) {
+			// Preserve the interrupt, but otherwise just carry on with the retry.
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * @param e
+	 *            the {@link Throwable} to check
+	 * @return <code>true</code> if the specified {@link Throwable} (or any of
+	 *         its causes) is an optimistic locking failure or a
+	 *         {@link #GAME_ROUNDS_PK_NAME} violation, indicating that the write
+	 *         conflicted with another concurrent write, and so is worth
+	 *         retrying, <code>false</code> if not
+	 */
+	static boolean isConflict(Throwable e) {
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof OptimisticLockException || cause instanceof OptimisticLockingFailureException
+					|| cause instanceof StaleStateException)
+				return true;
+
+			/*
+			 * When two concurrent Game.prepareRound() calls both add the same
+			 * GameRound, the loser will usually hit the GameRounds PK before
+			 * its version check. As noted there, that's just another form of
+			 * the same conflict. Any other constraint violation is a real
+			 * error, though, and retrying it would only hide that.
+			 */
+			if (cause instanceof ConstraintViolationException
+					&& isGameRoundsPk(((ConstraintViolationException) cause).getConstraintName()))
+				return true;
+
+			if (cause.getCause() == cause)
+				break;
+		}
+
+		return false;
+	}
+
+	/**
+	 * @param constraintName
+	 *            the {@link ConstraintViolationException#getConstraintName()}
+	 *            value to check, which may be <code>null</code>
+	 * @return <code>true</code> if the specified constraint name refers to
+	 *         {@link #GAME_ROUNDS_PK_NAME}, <code>false</code> if not
+	 */
+	private static boolean isGameRoundsPk(String constraintName) {
+		if (constraintName == null)
+			return false;
+
+		// HSQL reports the name still quoted, PostgreSQL doesn't.
+		return GAME_ROUNDS_PK_NAME.equalsIgnoreCase(constraintName.replace("\"", ""));
+	}
+
+	/**
+	 * @param operation
+	 *            the name of the operation to get the {@link OperationCounters}
+	 *            for
+	 * @return the {@link OperationCounters} for the specified operation
+	 */
+	private OperationCounters getCounters(String operation) {
+		OperationCounters operationCounters = counters.get(operation);
+		if (operationCounters != null)
+			return operationCounters;
+
+		counters.putIfAbsent(operation, new OperationCounters());
+		return counters.get(operation);
+	}
+
+	/**
+	 * @return the number of attempts that have failed due to conflicts, for
+	 *         each operation (including any attempts that were then out of
+	 *         retries)
+	 */
+	@ManagedAttribute
+	public Map<String, Long> getConflictCounts() {
+		Map<String, Long> conflictCounts = new TreeMap<>();
+		for (Map.Entry<String, OperationCounters> entry : counters.entrySet())
+			conflictCounts.put(entry.getKey(), entry.getValue().conflicts.get());
+		return conflictCounts;
+	}
+
+	/**
+	 * @return the number of retries that have been made, for each operation
+	 */
+	@ManagedAttribute
+	public Map<String, Long> getRetryCounts() {
+		Map<String, Long> retryCounts = new TreeMap<>();
+		for (Map.Entry<String, OperationCounters> entry : counters.entrySet())
+			retryCounts.put(entry.getKey(), entry.getValue().retries.get());
+		return retryCounts;
+	}
+
+	/**
+	 * @return the number of writes that failed because they were still
+	 *         conflicting after {@link #getMaxAttempts()} attempts, for each
+	 *         operation
+	 */
+	@ManagedAttribute
+	public Map<String, Long> getExhaustedCounts() {
+		Map<String, Long> exhaustedCounts = new TreeMap<>();
+		for (Map.Entry<String, OperationCounters> entry : counters.entrySet())
+			exhaustedCounts.put(entry.getKey(), entry.getValue().exhausted.get());
+		return exhaustedCounts;
+	}
+
+	/**
+	 * Tracks the conflict/retry counts for a single named operation.
+	 */
+	private static final class OperationCounters {
+		private final AtomicLong conflicts = new AtomicLong(0);
+		private final AtomicLong retries = new AtomicLong(0);
+		private final AtomicLong exhausted = new AtomicLong(0);
+	}
+}
@@ -1,30 +1,94 @@
 package com.justdavis.karl.rpstourney.service.app.game;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import javax.persistence.EntityManager;
+import javax.persistence.OptimisticLockException;
 import javax.persistence.PersistenceContext;
 import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaDelete;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.CriteriaUpdate;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.SingularAttribute;
 
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jdbc.Work;
+import org.hibernate.query.NativeQuery;
 import org.springframework.stereotype.Repository;
 
 import com.justdavis.karl.misc.exceptions.BadCodeMonkeyException;
 import com.justdavis.karl.rpstourney.service.api.game.Game;
 import com.justdavis.karl.rpstourney.service.api.game.GameConflictException;
 import com.justdavis.karl.rpstourney.service.api.game.GameConflictException.ConflictType;
+import com.justdavis.karl.rpstourney.service.api.game.GameRound;
+import com.justdavis.karl.rpstourney.service.api.game.GameRoundHistory;
+import com.justdavis.karl.rpstourney.service.api.game.GameRound_;
+import com.justdavis.karl.rpstourney.service.api.game.GameSummary;
+import com.justdavis.karl.rpstourney.service.api.game.GameSummaryPage;
 import com.justdavis.karl.rpstourney.service.api.game.Game_;
 import com.justdavis.karl.rpstourney.service.api.game.Player;
+import com.justdavis.karl.rpstourney.service.api.game.PlayerRole;
 import com.justdavis.karl.rpstourney.service.api.game.State;
+import com.justdavis.karl.rpstourney.service.api.game.Throw;
 
 /**
  * The default {@link IGamesDao} implementation.
  */
 @Repository
 public class GamesDaoImpl implements IGamesDao {
+	/**
+	 * The JPA query hint that applies an entity graph as a load graph: the
+	 * graph's attributes are fetched eagerly, and all others are fetched as
+	 * they're mapped.
+	 */
+	private static final String HINT_LOAD_GRAPH = "javax.persistence.loadgraph";
+
+	/*
+	 * Design note: These are used by applyJournaledThrows(...), which uses
+	 * plain JDBC so that its updates can be batched. As in
+	 * GameSummaryMigration, the GameRounds' FK column is left unquoted (see
+	 * the FIXME in GameRound).
+	 */
+
+	private static final String SQL_UPDATE_ROUND_THROW_1 = "UPDATE \"GameRounds\" SET \"throwForPlayer1\" = ?, "
+			+ "\"throwForPlayer1Timestamp\" = ? WHERE gameId = ? AND \"roundIndex\" = ? "
+			+ "AND \"throwForPlayer1\" IS NULL";
+	private static final String SQL_UPDATE_ROUND_THROW_2 = "UPDATE \"GameRounds\" SET \"throwForPlayer2\" = ?, "
+			+ "\"throwForPlayer2Timestamp\" = ? WHERE gameId = ? AND \"roundIndex\" = ? "
+			+ "AND \"throwForPlayer2\" IS NULL";
+	private static final String SQL_UPDATE_GAME_TIMESTAMP = "UPDATE \"Games\" SET \"lastThrowTimestamp\" = ?, "
+			+ "\"version\" = \"version\" + 1 WHERE \"id\" = ? AND \"lastThrowTimestamp\" < ?";
+	private static final String SQL_UPDATE_GAME_STATE = "UPDATE \"Games\" SET \"state\" = ?, "
+			+ "\"version\" = \"version\" + 1 WHERE \"id\" = ? AND \"state\" = ?";
+
+	/*
+	 * Design note: This is used by submitThrowInPlace(...), as new GameRounds
+	 * can't be inserted via JPA queries (and persisting them would cascade to
+	 * their detached Game).
+	 */
+
+	private static final String SQL_INSERT_ROUND = "INSERT INTO \"GameRounds\" (gameId, \"roundIndex\", "
+			+ "\"adjustedRoundIndex\") VALUES (?, ?, ?)";
+
 	private EntityManager entityManager;
 
 	/**
@@ -52,6 +116,10 @@ public class GamesDaoImpl implements IGamesDao {
 	 */
 	@Override
 	public void save(Game game) {
+		// Finished games' rounds can't change, so they can be stored compactly.
+		if (game.getState() == State.FINISHED && !game.isRoundsCompacted())
+			game.compactRounds();
+
 		entityManager.persist(game);
 	}
 
@@ -60,14 +128,26 @@ public class GamesDaoImpl implements IGamesDao {
 	 */
 	@Override
 	public Game findById(String gameId) {
+		return findById(gameId, GameFetchProfile.FULL);
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.app.game.IGamesDao#findById(java.lang.String,
+	 *      com.justdavis.karl.rpstourney.service.app.game.GameFetchProfile)
+	 */
+	@Override
+	public Game findById(String gameId, GameFetchProfile fetchProfile) {
+		if (fetchProfile == null)
+			throw new IllegalArgumentException();
+
 		// Build a query for the matching game.
 		CriteriaBuilder criteriaBuilder = entityManager.getEntityManagerFactory().getCriteriaBuilder();
 		CriteriaQuery<Game> criteria = criteriaBuilder.createQuery(Game.class);
 		criteria.where(criteriaBuilder.equal(criteria.from(Game.class).get(Game_.id), gameId));
 
 		// Run the query.
-		TypedQuery<Game> query = entityManager.createQuery(criteria);
-		List<Game> results = query.getResultList();
+		TypedQuery<Game> query = createQuery(criteria, fetchProfile);
+		List<Game> results = getDistinctResults(query);
 
 		/*
 		 * The Game.id field should have a UNIQUE constraint.
@@ -104,18 +184,124 @@ public class GamesDaoImpl implements IGamesDao {
 	 */
 	@Override
 	public List<Game> getGamesForPlayer(Player player) {
+		/*
+		 * This is run as two separate queries, rather than as one with an OR,
+		 * as not all DB platforms (e.g. HSQL) can satisfy an OR across two
+		 * different columns from their indexes.
+		 */
+		List<Game> results = new ArrayList<>(getGamesForPlayer(true, player));
+		for (Game game : getGamesForPlayer(false, player))
+			if (!results.contains(game))
+				results.add(game);
+		return results;
+	}
+
+	/**
+	 * @param asPlayer1
+	 *            <code>true</code> to match against {@link Game#getPlayer1()},
+	 *            or <code>false</code> to match against
+	 *            {@link Game#getPlayer2()}
+	 * @param player
+	 *            the {@link Player} to match against
+	 * @return the {@link Game}s that match the specified parameters, or an
+	 *         empty {@link List} if none are found
+	 */
+	private List<Game> getGamesForPlayer(boolean asPlayer1, Player player) {
 		// Build a query.
 		CriteriaBuilder cb = entityManager.getEntityManagerFactory().getCriteriaBuilder();
 		CriteriaQuery<Game> cq = cb.createQuery(Game.class);
 		Root<Game> game = cq.from(Game.class);
-		cq.where(cb.or(cb.and(cb.isNotNull(game.get(Game_.player1)), cb.equal(game.get(Game_.player1), player)),
-				cb.and(cb.isNotNull(game.get(Game_.player1)), cb.equal(game.get(Game_.player2), player))));
+		cq.where(cb.equal(asPlayer1 ? game.get(Game_.player1) : game.get(Game_.player2), player));
 
 		// Run the query.
-		TypedQuery<Game> query = entityManager.createQuery(cq);
-		List<Game> results = query.getResultList();
+		TypedQuery<Game> query = createQuery(cq, GameFetchProfile.FULL);
+		return getDistinctResults(query);
+	}
 
-		return results;
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.app.game.IGamesDao#getGameSummariesForPlayer(com.justdavis.karl.rpstourney.service.api.game.Player,
+	 *      com.justdavis.karl.rpstourney.service.api.game.GameSummaryPage.Cursor,
+	 *      int)
+	 */
+	@Override
+	public List<GameSummary> getGameSummariesForPlayer(Player player, GameSummaryPage.Cursor after, int limit) {
+		if (player == null)
+			throw new IllegalArgumentException();
+		if (limit < 1)
+			throw new IllegalArgumentException();
+
+		/*
+		 * See getGamesForPlayer(Player) for why this is two queries. Each one
+		 * returns (at most) a full page, straight from the index on its player
+		 * column, and then the two are merged.
+		 */
+		List<GameSummary> results = new ArrayList<>(getGameSummariesForPlayer(true, player, after, limit));
+		Set<String> gameIds = new HashSet<>();
+		for (GameSummary summary : results)
+			gameIds.add(summary.getId());
+		for (GameSummary summary : getGameSummariesForPlayer(false, player, after, limit))
+			if (!gameIds.contains(summary.getId()))
+				results.add(summary);
+
+		Collections.sort(results, new ListingOrderComparator());
+		return results.size() > limit ? new ArrayList<>(results.subList(0, limit)) : results;
+	}
+
+	/**
+	 * @param asPlayer1
+	 *            <code>true</code> to match against {@link Game#getPlayer1()},
+	 *            or <code>false</code> to match against
+	 *            {@link Game#getPlayer2()}
+	 * @param player
+	 *            the {@link Player} to match against
+	 * @param after
+	 *            the {@link GameSummaryPage.Cursor} to return the
+	 *            {@link GameSummary}s after, or <code>null</code>
+	 * @param limit
+	 *            the maximum number of {@link GameSummary}s to return
+	 * @return {@link GameSummary}s for the {@link Game}s that match the
+	 *         specified parameters, or an empty {@link List} if none are found
+	 */
+	private List<GameSummary> getGameSummariesForPlayer(boolean asPlayer1, Player player,
+			GameSummaryPage.Cursor after, int limit) {
+		/*
+		 * Build a query. Only the summary columns are selected, so the Games'
+		 * rounds are never loaded. (Player 2 needs an outer join, as they may
+		 * not have joined yet.)
+		 */
+		CriteriaBuilder cb = entityManager.getEntityManagerFactory().getCriteriaBuilder();
+		CriteriaQuery<GameSummary> cq = cb.createQuery(GameSummary.class);
+		Root<Game> game = cq.from(Game.class);
+		Join<Game, Player> player1 = game.join(Game_.player1);
+		Join<Game, Player> player2 = game.join(Game_.player2, JoinType.LEFT);
+		cq.select(cb.construct(GameSummary.class, game.get(Game_.id), game.get(Game_.createdTimestamp),
+				game.get(Game_.state), game.get(Game_.maxRounds), player1, player2,
+				game.get(Game_.summaryScoreForPlayer1), game.get(Game_.summaryScoreForPlayer2),
+				game.get(Game_.summaryRoundCount), game.get(Game_.summaryLastThrowTimestamp),
+				game.get(Game_.summaryWinnerId)));
+
+		/*
+		 * This is a keyset query: rather than skipping some number of rows,
+		 * it picks up right after the cursor's row. Along with the
+		 * (playerNId, lastThrowTimestamp, id) indices, that keeps the cost of
+		 * each page the same, no matter how far into the listing it is.
+		 */
+		Predicate playerMatches = cb.equal(asPlayer1 ? game.get(Game_.player1) : game.get(Game_.player2), player);
+		if (after == null) {
+			cq.where(playerMatches);
+		} else {
+			Path<Instant> lastThrowTimestamp = game.get(Game_.summaryLastThrowTimestamp);
+			cq.where(playerMatches,
+					cb.or(cb.lessThan(lastThrowTimestamp, after.getLastThrowTimestamp()),
+							cb.and(cb.equal(lastThrowTimestamp, after.getLastThrowTimestamp()),
+									cb.lessThan(game.get(Game_.id), after.getGameId()))));
+		}
+		cq.orderBy(cb.desc(game.get(Game_.summaryLastThrowTimestamp)), cb.desc(game.get(Game_.id)));
+
+		// Run the query.
+		TypedQuery<GameSummary> query = entityManager.createQuery(cq);
+		query.setMaxResults(limit);
+		return query.getResultList();
 	}
 
 	/**
@@ -136,7 +322,7 @@ public class GamesDaoImpl implements IGamesDao {
 		CriteriaBuilder cb = entityManager.getEntityManagerFactory().getCriteriaBuilder();
 		CriteriaUpdate<Game> cu = cb.createCriteriaUpdate(Game.class);
 		Root<Game> gameRoot = cu.from(Game.class);
-		cu.set(Game_.maxRounds, newMaxRoundsValue)
+		cu.set(Game_.maxRounds, newMaxRoundsValue).set(Game_.version, cb.sum(gameRoot.get(Game_.version), 1L))
 				.where(cb.and(cb.equal(gameRoot.get(Game_.id), gameId),
 						cb.equal(gameRoot.get(Game_.maxRounds), oldMaxRoundsValue),
 						gameRoot.get(Game_.state).in(State.WAITING_FOR_PLAYER, State.WAITING_FOR_FIRST_THROW)));
@@ -153,11 +339,350 @@ public class GamesDaoImpl implements IGamesDao {
 		 * the Game retrieved here will be stale. Calling refresh(...) fixes
 		 * that.
 		 */
-		Game game = findById(gameId);
+		Game game = findById(gameId, GameFetchProfile.SUMMARY);
+		entityManager.refresh(game);
+		return game;
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.app.game.IGamesDao#claimPlayer2(java.lang.String,
+	 *      com.justdavis.karl.rpstourney.service.api.game.Player)
+	 */
+	@Override
+	public void claimPlayer2(String gameId, Player player2) {
+		if (gameId == null)
+			throw new IllegalArgumentException();
+		if (player2 == null)
+			throw new IllegalArgumentException();
+
+		/*
+		 * The Player may have only just been created, and the update below
+		 * can't reference it until it's been written out.
+		 */
+		entityManager.flush();
+
+		/*
+		 * Build an update query that only matches the game if its Player 2
+		 * slot is still empty. As with setMaxRounds(...), this ensures that
+		 * only one of multiple concurrent joins can succeed. Unlike there,
+		 * though, the Game's version isn't incremented here, as the caller's
+		 * copy of the Game (which will increment it) is expected to be saved
+		 * in the same transaction.
+		 */
+		CriteriaBuilder cb = entityManager.getEntityManagerFactory().getCriteriaBuilder();
+		CriteriaUpdate<Game> cu = cb.createCriteriaUpdate(Game.class);
+		Root<Game> gameRoot = cu.from(Game.class);
+		cu.set(Game_.player2, player2).where(cb.and(cb.equal(gameRoot.get(Game_.id), gameId),
+				cb.isNull(gameRoot.get(Game_.player2))));
+
+		// Run the update query.
+		int numEntitiesUpdated = entityManager.createQuery(cu).executeUpdate();
+		if (numEntitiesUpdated == 0)
+			throw new GameConflictException(ConflictType.PLAYER_2_FINALIZED);
+		else if (numEntitiesUpdated > 1)
+			throw new BadCodeMonkeyException();
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.app.game.IGamesDao#submitThrow(com.justdavis.karl.rpstourney.service.api.game.Game,
+	 *      int, com.justdavis.karl.rpstourney.service.api.game.PlayerRole,
+	 *      com.justdavis.karl.rpstourney.service.api.game.Throw)
+	 */
+	@Override
+	public Game submitThrow(Game game, int roundIndex, PlayerRole role, Throw throwToPlay) {
+		if (game == null)
+			throw new IllegalArgumentException();
+		if (role == null)
+			throw new IllegalArgumentException();
+		if (throwToPlay == null)
+			throw new GameConflictException(ConflictType.THROW_INVALID);
+
+		/*
+		 * Build an update query that only matches the round if the player
+		 * hasn't already thrown in it. Completed rounds, finished games, and
+		 * games without a Player 2 won't have any such round, so a miss here
+		 * covers all of the possible conflicts.
+		 */
+		Instant throwTimestamp = Instant.now();
+		CriteriaBuilder cb = entityManager.getEntityManagerFactory().getCriteriaBuilder();
+		CriteriaUpdate<GameRound> roundUpdate = createRoundThrowUpdate(cb, game, roundIndex, role, throwToPlay,
+				throwTimestamp);
+
+		// Run the update query.
+		int numRoundsUpdated = entityManager.createQuery(roundUpdate).executeUpdate();
+		if (numRoundsUpdated == 0) {
+			entityManager.refresh(game);
+			throw new GameConflictException(determineThrowConflict(game, roundIndex));
+		} else if (numRoundsUpdated > 1) {
+			throw new BadCodeMonkeyException();
+		}
+
+		/*
+		 * Keep the game's summary timestamp up to date. The Game's version is
+		 * incremented, too, so that any stale copies of it can't be saved.
+		 */
+		CriteriaUpdate<Game> timestampUpdate = cb.createCriteriaUpdate(Game.class);
+		Root<Game> timestampRoot = timestampUpdate.from(Game.class);
+		timestampUpdate.set(Game_.summaryLastThrowTimestamp, throwTimestamp)
+				.set(Game_.version, cb.sum(timestampRoot.get(Game_.version), 1L))
+				.where(cb.and(cb.equal(timestampRoot.get(Game_.id), game.getId()),
+						cb.lessThan(timestampRoot.get(Game_.summaryLastThrowTimestamp), throwTimestamp)));
+		entityManager.createQuery(timestampUpdate).executeUpdate();
+
+		// If this was the game's first throw, mark it as started.
+		if (game.getState() == State.WAITING_FOR_FIRST_THROW) {
+			CriteriaUpdate<Game> stateUpdate = cb.createCriteriaUpdate(Game.class);
+			Root<Game> stateRoot = stateUpdate.from(Game.class);
+			stateUpdate.set(Game_.state, State.STARTED)
+					.set(Game_.version, cb.sum(stateRoot.get(Game_.version), 1L))
+					.where(cb.and(cb.equal(stateRoot.get(Game_.id), game.getId()),
+							cb.equal(stateRoot.get(Game_.state), State.WAITING_FOR_FIRST_THROW)));
+			entityManager.createQuery(stateUpdate).executeUpdate();
+		}
+
+		/*
+		 * As in setMaxRounds(...), the updates above sidestep the Hibernate
+		 * entity cache, so the Game needs to be refreshed.
+		 */
 		entityManager.refresh(game);
 		return game;
 	}
 
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.app.game.IGamesDao#submitThrowInPlace(com.justdavis.karl.rpstourney.service.api.game.Game,
+	 *      int, com.justdavis.karl.rpstourney.service.api.game.PlayerRole,
+	 *      com.justdavis.karl.rpstourney.service.api.game.Throw)
+	 */
+	@Override
+	public Game submitThrowInPlace(Game game, int roundIndex, PlayerRole role, Throw throwToPlay) {
+		if (game == null)
+			throw new IllegalArgumentException();
+		if (role == null)
+			throw new IllegalArgumentException();
+		if (throwToPlay == null)
+			throw new GameConflictException(ConflictType.THROW_INVALID);
+
+		/*
+		 * Detach the Game (and its rounds) before changing it, so that those
+		 * changes aren't also written out when the transaction is flushed. The
+		 * version that it was loaded with is grabbed first, as all of the
+		 * writes below are only valid against that.
+		 */
+		entityManager.flush();
+		int roundCountBefore = game.getRounds().size();
+		Object loadedVersion = entityManager.unwrap(SessionImplementor.class).getPersistenceContext().getEntry(game)
+				.getVersion();
+		entityManager.detach(game);
+
+		/*
+		 * Apply the Throw in memory, which takes care of all of the gameplay
+		 * rules, conflicts, scoring, etc. Some old Games may not have had
+		 * their latest round prepared yet, so that has to be done first.
+		 */
+		if (!game.isRoundPrepared())
+			game.prepareRound();
+		Instant throwTimestamp = Instant.now();
+		Player player = role == PlayerRole.PLAYER_1 ? game.getPlayer1() : game.getPlayer2();
+		game.submitThrow(roundIndex, player, throwToPlay, throwTimestamp);
+		if (game.getState() == State.FINISHED)
+			game.compactRounds();
+
+		// Write out the Throw, and any new rounds that it led to.
+		CriteriaBuilder cb = entityManager.getEntityManagerFactory().getCriteriaBuilder();
+		int numRoundsUpdated = entityManager
+				.createQuery(createRoundThrowUpdate(cb, game, roundIndex, role, throwToPlay, throwTimestamp))
+				.executeUpdate();
+		if (numRoundsUpdated != 1)
+			throw new OptimisticLockException(
+					String.format("Round '%d' of game '%s' changed concurrently.", roundIndex, game.getId()));
+		List<GameRound> rounds = game.getRounds();
+		for (GameRound newRound : rounds.subList(Math.min(roundCountBefore, rounds.size()), rounds.size())) {
+			entityManager.createNativeQuery(SQL_INSERT_ROUND).unwrap(NativeQuery.class)
+					.addSynchronizedEntityClass(GameRound.class).setParameter(1, game.getId())
+					.setParameter(2, newRound.getRoundIndex()).setParameter(3, newRound.getAdjustedRoundIndex())
+					.executeUpdate();
+		}
+
+		/*
+		 * Write out the summary columns. Finished Games get their rounds
+		 * compacted here, just as save(...) would have done.
+		 */
+		CriteriaUpdate<Game> gameUpdate = cb.createCriteriaUpdate(Game.class);
+		Root<Game> gameRoot = gameUpdate.from(Game.class);
+		gameUpdate.set(Game_.state, game.getState()).set(Game_.summaryScoreForPlayer1, game.getScoreForPlayer1())
+				.set(Game_.summaryScoreForPlayer2, game.getScoreForPlayer2())
+				.set(Game_.summaryRoundCount, rounds.size())
+				.set(Game_.summaryLastThrowTimestamp, game.getLastThrowTimestamp())
+				.set(Game_.version, cb.sum(gameRoot.get(Game_.version), 1L));
+		if (game.getState() == State.FINISHED) {
+			CriteriaDelete<GameRound> roundsDelete = cb.createCriteriaDelete(GameRound.class);
+			Root<GameRound> roundsRoot = roundsDelete.from(GameRound.class);
+			roundsDelete.where(cb.equal(roundsRoot.get(GameRound_.game), game));
+			entityManager.createQuery(roundsDelete).executeUpdate();
+
+			Player winner = game.getWinner();
+			gameUpdate.set(Game_.summaryWinnerId, winner.getId()).set(Game_.roundHistory,
+					GameRoundHistory.encode(rounds));
+		}
+		gameUpdate.where(cb.and(cb.equal(gameRoot.get(Game_.id), game.getId()),
+				cb.equal(gameRoot.get(Game_.version), loadedVersion)));
+		int numGamesUpdated = entityManager.createQuery(gameUpdate).executeUpdate();
+		if (numGamesUpdated != 1)
+			throw new OptimisticLockException(String.format("Game '%s' changed concurrently.", game.getId()));
+
+		return game;
+	}
+
+	/**
+	 * @param cb
+	 *            the {@link CriteriaBuilder} to use
+	 * @param game
+	 *            the {@link Game} to submit the {@link Throw} to
+	 * @param roundIndex
+	 *            the {@link GameRound#getRoundIndex()} of the round to submit
+	 *            the {@link Throw} to
+	 * @param role
+	 *            the {@link PlayerRole} to submit the {@link Throw} for
+	 * @param throwToPlay
+	 *            the {@link Throw} to submit
+	 * @param throwTimestamp
+	 *            the {@link Instant} to record for the {@link Throw}
+	 * @return a {@link CriteriaUpdate} that sets the {@link Throw} in the
+	 *         specified {@link GameRound}, but only if the {@link Player}
+	 *         hasn't already thrown in it
+	 */
+	private static CriteriaUpdate<GameRound> createRoundThrowUpdate(CriteriaBuilder cb, Game game, int roundIndex,
+			PlayerRole role, Throw throwToPlay, Instant throwTimestamp) {
+		SingularAttribute<GameRound, Throw> throwAttribute = role == PlayerRole.PLAYER_1
+				? GameRound_.throwForPlayer1 : GameRound_.throwForPlayer2;
+		SingularAttribute<GameRound, Instant> throwTimestampAttribute = role == PlayerRole.PLAYER_1
+				? GameRound_.throwForPlayer1Timestamp : GameRound_.throwForPlayer2Timestamp;
+		CriteriaUpdate<GameRound> roundUpdate = cb.createCriteriaUpdate(GameRound.class);
+		Root<GameRound> roundRoot = roundUpdate.from(GameRound.class);
+		roundUpdate.set(throwAttribute, throwToPlay).set(throwTimestampAttribute, throwTimestamp)
+				.where(cb.and(cb.equal(roundRoot.get(GameRound_.game), game),
+						cb.equal(roundRoot.get(GameRound_.roundIndex), roundIndex),
+						cb.isNull(roundRoot.get(throwAttribute))));
+		return roundUpdate;
+	}
+
+	/**
+	 * @param game
+	 *            the (up to date) {@link Game} that a {@link Throw} could not
+	 *            be submitted to
+	 * @param roundIndex
+	 *            the {@link GameRound#getRoundIndex()} that the {@link Throw}
+	 *            was submitted for
+	 * @return the {@link ConflictType} that explains why the {@link Throw}
+	 *         could not be submitted, matching what
+	 *         {@link Game#submitThrow(int, Player, Throw)} would have used
+	 */
+	private static ConflictType determineThrowConflict(Game game, int roundIndex) {
+		if (game.getState() == State.WAITING_FOR_PLAYER)
+			return ConflictType.THROW_BEFORE_START;
+		if (game.getState() == State.FINISHED)
+			return ConflictType.THROW_AFTER_FINISH;
+
+		List<GameRound> rounds = game.getRounds();
+		if (roundIndex != rounds.get(rounds.size() - 1).getRoundIndex())
+			return ConflictType.THROW_WRONG_ROUND;
+		return ConflictType.THROW_ALREADY_SET;
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.app.game.IGamesDao#applyJournaledThrows(java.util.List)
+	 */
+	@Override
+	public int applyJournaledThrows(final List<JournaledThrow> journaledThrows) {
+		if (journaledThrows == null)
+			throw new IllegalArgumentException();
+		if (journaledThrows.isEmpty())
+			return 0;
+
+		// Make sure that any pending changes are written first.
+		entityManager.flush();
+
+		final int[] appliedCount = new int[] { 0 };
+		entityManager.unwrap(Session.class).doWork(new Work() {
+			/**
+			 * @see org.hibernate.jdbc.Work#execute(java.sql.Connection)
+			 */
+			@Override
+			public void execute(Connection connection) throws SQLException {
+				try (PreparedStatement updateRoundThrow1 = connection.prepareStatement(SQL_UPDATE_ROUND_THROW_1);
+						PreparedStatement updateRoundThrow2 = connection.prepareStatement(SQL_UPDATE_ROUND_THROW_2);
+						PreparedStatement updateGameTimestamp = connection
+								.prepareStatement(SQL_UPDATE_GAME_TIMESTAMP);
+						PreparedStatement updateGameState = connection.prepareStatement(SQL_UPDATE_GAME_STATE)) {
+					/*
+					 * First, batch up the round updates for each player. (These
+					 * have to be kept in separate statements, as the columns
+					 * differ.)
+					 */
+					List<JournaledThrow> throws1 = new ArrayList<>();
+					List<JournaledThrow> throws2 = new ArrayList<>();
+					for (JournaledThrow journaledThrow : journaledThrows) {
+						boolean isPlayer1 = journaledThrow.getRole() == PlayerRole.PLAYER_1;
+						PreparedStatement updateRoundThrow = isPlayer1 ? updateRoundThrow1 : updateRoundThrow2;
+						updateRoundThrow.setString(1, journaledThrow.getThrowToPlay().name());
+						updateRoundThrow.setTimestamp(2, Timestamp.from(journaledThrow.getTimestamp()));
+						updateRoundThrow.setString(3, journaledThrow.getGameId());
+						updateRoundThrow.setInt(4, journaledThrow.getRoundIndex());
+						updateRoundThrow.addBatch();
+						(isPlayer1 ? throws1 : throws2).add(journaledThrow);
+					}
+					List<JournaledThrow> appliedThrows = new ArrayList<>();
+					collectApplied(throws1, updateRoundThrow1.executeBatch(), appliedThrows);
+					collectApplied(throws2, updateRoundThrow2.executeBatch(), appliedThrows);
+
+					/*
+					 * Then, batch up the matching Game updates for the ones
+					 * that were applied (the same ones that submitThrow(...)
+					 * makes).
+					 */
+					for (JournaledThrow appliedThrow : appliedThrows) {
+						Timestamp throwTimestamp = Timestamp.from(appliedThrow.getTimestamp());
+						updateGameTimestamp.setTimestamp(1, throwTimestamp);
+						updateGameTimestamp.setString(2, appliedThrow.getGameId());
+						updateGameTimestamp.setTimestamp(3, throwTimestamp);
+						updateGameTimestamp.addBatch();
+
+						updateGameState.setString(1, State.STARTED.name());
+						updateGameState.setString(2, appliedThrow.getGameId());
+						updateGameState.setString(3, State.WAITING_FOR_FIRST_THROW.name());
+						updateGameState.addBatch();
+					}
+					if (!appliedThrows.isEmpty()) {
+						updateGameTimestamp.executeBatch();
+						updateGameState.executeBatch();
+					}
+
+					appliedCount[0] = appliedThrows.size();
+				}
+			}
+		});
+
+		return appliedCount[0];
+	}
+
+	/**
+	 * @param journaledThrows
+	 *            the {@link JournaledThrow}s that were batched up
+	 * @param updateCounts
+	 *            the update counts returned for the batch
+	 * @param appliedThrows
+	 *            the {@link List} to add the {@link JournaledThrow}s that were
+	 *            actually applied to
+	 */
+	private static void collectApplied(List<JournaledThrow> journaledThrows, int[] updateCounts,
+			List<JournaledThrow> appliedThrows) {
+		for (int i = 0; i < journaledThrows.size(); i++) {
+			// Some JDBC drivers only report that the batch succeeded.
+			if (updateCounts[i] > 0 || updateCounts[i] == Statement.SUCCESS_NO_INFO)
+				appliedThrows.add(journaledThrows.get(i));
+		}
+	}
+
 	/**
 	 * @see com.justdavis.karl.rpstourney.service.app.game.IGamesDao#delete(java.lang.String)
 	 */
@@ -169,7 +694,56 @@ public class GamesDaoImpl implements IGamesDao {
 		 * CascadeType.REMOVE with that API.
 		 * https://hibernate.atlassian.net/browse/HHH-8993
 		 */
-		Game game = findById(gameId);
+		Game game = findById(gameId, GameFetchProfile.SUMMARY);
 		entityManager.remove(game);
 	}
+
+	/**
+	 * @param criteria
+	 *            the {@link CriteriaQuery} to create a {@link TypedQuery} for
+	 * @param fetchProfile
+	 *            the {@link GameFetchProfile} to load the {@link Game}s with
+	 * @return a {@link TypedQuery} for the specified {@link CriteriaQuery},
+	 *         which will load its {@link Game}s as specified by the
+	 *         {@link GameFetchProfile}
+	 */
+	private TypedQuery<Game> createQuery(CriteriaQuery<Game> criteria, GameFetchProfile fetchProfile) {
+		TypedQuery<Game> query = entityManager.createQuery(criteria);
+		query.setHint(HINT_LOAD_GRAPH, entityManager.getEntityGraph(fetchProfile.getEntityGraphName()));
+		return query;
+	}
+
+	/**
+	 * @param query
+	 *            the {@link TypedQuery} to run
+	 * @return the distinct {@link Game}s returned by the {@link TypedQuery}, in
+	 *         the order they were returned
+	 */
+	private static List<Game> getDistinctResults(TypedQuery<Game> query) {
+		/*
+		 * When an entity graph fetches the rounds, Hibernate returns one copy
+		 * of each Game per round. A DISTINCT query would avoid that, but not
+		 * all DB platforms can compare the roundHistory column, so the
+		 * duplicates are removed here, instead.
+		 */
+		return new ArrayList<>(new LinkedHashSet<>(query.getResultList()));
+	}
+
+	/**
+	 * Sorts {@link GameSummary} instances into the order described by
+	 * {@link GameSummaryPage}, which matches the <code>ORDER BY</code> used in
+	 * the summary queries.
+	 */
+	private static final class ListingOrderComparator implements Comparator<GameSummary> {
+		/**
+		 * @see java.util.Comparator#compare(java.lang.Object, java.lang.Object)
+		 */
+		@Override
+		public int compare(GameSummary o1, GameSummary o2) {
+			int timestampComparison = o2.getLastThrowTimestamp().compareTo(o1.getLastThrowTimestamp());
+			if (timestampComparison != 0)
+				return timestampComparison;
+			return o2.getId().compareTo(o1.getId());
+		}
+	}
 }
@@ -2,10 +2,18 @@ package com.justdavis.karl.rpstourney.service.app.game;
 
 import java.util.List;
 
+import javax.persistence.OptimisticLockException;
+
 import com.justdavis.karl.rpstourney.service.api.game.Game;
 import com.justdavis.karl.rpstourney.service.api.game.GameConflictException;
+import com.justdavis.karl.rpstourney.service.api.game.GameConflictException.ConflictType;
 import com.justdavis.karl.rpstourney.service.api.game.GameRound;
+import com.justdavis.karl.rpstourney.service.api.game.GameSummary;
+import com.justdavis.karl.rpstourney.service.api.game.GameSummaryPage;
 import com.justdavis.karl.rpstourney.service.api.game.Player;
+import com.justdavis.karl.rpstourney.service.api.game.PlayerRole;
+import com.justdavis.karl.rpstourney.service.api.game.State;
+import com.justdavis.karl.rpstourney.service.api.game.Throw;
 
 /**
  * A DAO for {@link Game} JPA entities (and indirectly, its child
@@ -13,6 +21,9 @@ import com.justdavis.karl.rpstourney.service.api.game.Player;
  */
 public interface IGamesDao {
 	/**
+	 * Note: if the {@link Game} is {@link State#FINISHED}, its
+	 * {@link GameRound}s will be compacted via {@link Game#compactRounds()}.
+	 * 
 	 * @param game
 	 *            the {@link Game} instance to be inserted/updated in the
 	 *            database
@@ -20,6 +31,9 @@ public interface IGamesDao {
 	void save(Game game);
 
 	/**
+	 * Equivalent to calling {@link #findById(String, GameFetchProfile)} with
+	 * {@link GameFetchProfile#FULL}.
+	 * 
 	 * @param gameId
 	 *            the {@link Game#getId()} value to match against
 	 * @return the {@link Game} that matches the specified parameters, or
@@ -27,6 +41,17 @@ public interface IGamesDao {
 	 */
 	Game findById(String gameId);
 
+	/**
+	 * @param gameId
+	 *            the {@link Game#getId()} value to match against
+	 * @param fetchProfile
+	 *            the {@link GameFetchProfile} that determines how much of the
+	 *            {@link Game} will be loaded up front
+	 * @return the {@link Game} that matches the specified parameters, or
+	 *         <code>null</code> if no match was found
+	 */
+	Game findById(String gameId, GameFetchProfile fetchProfile);
+
 	/**
 	 * Note: This method is really only appropriate for use in testing; it's a
 	 * bad idea to use it in production code.
@@ -36,6 +61,9 @@ public interface IGamesDao {
 	List<Game> getGames();
 
 	/**
+	 * Note: The {@link Game}s returned by this method will be loaded with
+	 * {@link GameFetchProfile#FULL}.
+	 * 
 	 * @param player
 	 *            the {@link Game#getPlayer1()} / {@link Game#getPlayer2()}
 	 *            value to match against
@@ -44,6 +72,27 @@ public interface IGamesDao {
 	 */
 	List<Game> getGamesForPlayer(Player player);
 
+	/**
+	 * Unlike {@link #getGamesForPlayer(Player)}, this doesn't load any of the
+	 * {@link Game}s' {@link GameRound}s, and only returns a single page of
+	 * results.
+	 * 
+	 * @param player
+	 *            the {@link Game#getPlayer1()} / {@link Game#getPlayer2()}
+	 *            value to match against
+	 * @param after
+	 *            the {@link GameSummaryPage.Cursor} to return the
+	 *            {@link GameSummary}s after, or <code>null</code> to start from
+	 *            the beginning
+	 * @param limit
+	 *            the maximum number of {@link GameSummary}s to return
+	 * @return {@link GameSummary}s for the {@link Game}s that match the
+	 *         specified parameters, in the order described by
+	 *         {@link GameSummaryPage}, or an empty {@link List} if none are
+	 *         found
+	 */
+	List<GameSummary> getGameSummariesForPlayer(Player player, GameSummaryPage.Cursor after, int limit);
+
 	/**
 	 * <p>
 	 * Alters the value of {@link Game#getMaxRounds()}.
@@ -73,6 +122,124 @@ public interface IGamesDao {
 	 */
 	Game setMaxRounds(String gameId, int oldMaxRoundsValue, int newMaxRoundsValue);
 
+	/**
+	 * <p>
+	 * Claims the {@link Game#getPlayer2()} slot of the specified {@link Game}
+	 * for the specified {@link Player}, via a single conditional update that
+	 * only succeeds if the slot is still empty in the database.
+	 * </p>
+	 * <p>
+	 * This only writes the {@link Game#getPlayer2()} column: callers must then
+	 * also call {@link Game#setPlayer2(Player)} on their (already loaded) copy
+	 * of the {@link Game} and save it, within the same transaction, to apply
+	 * the rest of the changes that go along with that.
+	 * </p>
+	 * 
+	 * @param gameId
+	 *            the {@link Game#getId()} of the {@link Game} to be modified
+	 * @param player2
+	 *            the {@link Player} to claim the slot for
+	 * @throws GameConflictException
+	 *             A {@link GameConflictException} with
+	 *             {@link ConflictType#PLAYER_2_FINALIZED} will be thrown if
+	 *             the {@link Game} already has a {@link Game#getPlayer2()}.
+	 */
+	void claimPlayer2(String gameId, Player player2);
+
+	/**
+	 * <p>
+	 * Submits a {@link Throw} to the specified {@link Game}'s current
+	 * {@link GameRound}, via a single conditional update that only succeeds if
+	 * that {@link GameRound} still lacks a {@link Throw} for the specified
+	 * {@link PlayerRole}. Unlike {@link Game#submitThrow(int, Player, Throw)}
+	 * followed by {@link #save(Game)}, this can't overwrite a concurrent
+	 * {@link Throw} from the opponent.
+	 * </p>
+	 * <p>
+	 * Unlike {@link Game#submitThrow(int, Player, Throw)}, this doesn't prepare
+	 * the next {@link GameRound}: callers must still check
+	 * {@link Game#isRoundPrepared()} afterwards.
+	 * </p>
+	 * 
+	 * @param game
+	 *            the {@link Game} to be modified, which must have been loaded
+	 *            in the current transaction
+	 * @param roundIndex
+	 *            the {@link GameRound#getRoundIndex()} of the current round
+	 * @param role
+	 *            the {@link PlayerRole} to submit the {@link Throw} for
+	 * @param throwToPlay
+	 *            the {@link Throw} to submit
+	 * @return the specified {@link Game}, refreshed to reflect the
+	 *         {@link Throw} (and any other concurrent changes)
+	 * @throws GameConflictException
+	 *             A {@link GameConflictException} will be thrown if the
+	 *             {@link Throw} can't be submitted, with the same
+	 *             {@link ConflictType}s as
+	 *             {@link Game#submitThrow(int, Player, Throw)}.
+	 */
+	Game submitThrow(Game game, int roundIndex, PlayerRole role, Throw throwToPlay);
+
+	/**
+	 * <p>
+	 * Submits a {@link Throw} to the specified {@link Game}, by applying
+	 * {@link Game#submitThrow(int, Player, Throw)} to it in memory and then
+	 * writing out only the columns that changed: the {@link Throw} itself, any
+	 * new {@link GameRound}, and the {@link Game}'s state and summary columns.
+	 * The {@link Game} is neither refreshed nor saved.
+	 * </p>
+	 * <p>
+	 * The {@link Game} will be detached from the current transaction, and the
+	 * writes will only succeed if the {@link Game} hasn't been modified since
+	 * it was loaded. This is only suitable for {@link Game}s where nothing else
+	 * (e.g. an AI {@link Player}) needs to respond to the {@link Throw}.
+	 * </p>
+	 * 
+	 * @param game
+	 *            the {@link Game} to be modified, which must have been loaded
+	 *            in the current transaction
+	 * @param roundIndex
+	 *            the {@link GameRound#getRoundIndex()} of the current round
+	 * @param role
+	 *            the {@link PlayerRole} to submit the {@link Throw} for
+	 * @param throwToPlay
+	 *            the {@link Throw} to submit
+	 * @return the specified (now detached) {@link Game}, updated to reflect
+	 *         the {@link Throw}
+	 * @throws GameConflictException
+	 *             A {@link GameConflictException} will be thrown if the
+	 *             {@link Throw} can't be submitted, with the same
+	 *             {@link ConflictType}s as
+	 *             {@link Game#submitThrow(int, Player, Throw)}.
+	 * @throws OptimisticLockException
+	 *             An {@link OptimisticLockException} will be thrown if the
+	 *             {@link Game} was modified concurrently.
+	 */
+	Game submitThrowInPlace(Game game, int roundIndex, PlayerRole role, Throw throwToPlay);
+
+	/**
+	 * <p>
+	 * Writes the specified {@link JournaledThrow}s to their {@link Game}s'
+	 * {@link GameRound}s, in batches. As with
+	 * {@link #submitThrow(Game, int, PlayerRole, Throw)}, each one is applied
+	 * via a conditional update that only succeeds if its {@link GameRound}
+	 * still lacks a {@link Throw} for its {@link PlayerRole}. Applying the same
+	 * {@link JournaledThrow} more than once will thus have no further effect.
+	 * </p>
+	 * <p>
+	 * Unlike {@link #submitThrow(Game, int, PlayerRole, Throw)}, this doesn't
+	 * report conflicts: any {@link JournaledThrow}s that can't be applied are
+	 * just skipped.
+	 * </p>
+	 * 
+	 * @param journaledThrows
+	 *            the {@link JournaledThrow}s to apply, in order (none of which
+	 *            may complete their {@link GameRound})
+	 * @return the number of {@link JournaledThrow}s that were applied (rather
+	 *         than skipped)
+	 */
+	int applyJournaledThrows(List<JournaledThrow> journaledThrows);
+
 	/**
 	 * Removes/deletes the specified {@link Game} from the database.
 	 * 
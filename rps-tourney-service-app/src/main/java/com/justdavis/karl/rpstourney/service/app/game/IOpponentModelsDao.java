@@ -0,0 +1,32 @@
+package com.justdavis.karl.rpstourney.service.app.game;
+
+import java.util.Map;
+
+import com.justdavis.karl.rpstourney.service.api.game.ai.ILearningPositronicMind;
+
+/**
+ * A DAO for the opponent models learned by the AIs (see
+ * {@link ILearningPositronicMind#exportOpponentModel()}), which are stored as
+ * opaque <code>byte[]</code>s.
+ *
+ * @see OpponentModelCache
+ */
+public interface IOpponentModelsDao {
+	/**
+	 * @param key
+	 *            the {@link OpponentModelKey} of the opponent model to find
+	 * @return the saved opponent model that matches the specified
+	 *         {@link OpponentModelKey}, or <code>null</code> if no match was
+	 *         found
+	 */
+	byte[] find(OpponentModelKey key);
+
+	/**
+	 * Inserts/updates the specified opponent models, all in one transaction.
+	 *
+	 * @param models
+	 *            the opponent models to save, keyed by their
+	 *            {@link OpponentModelKey}s
+	 */
+	void save(Map<OpponentModelKey, byte[]> models);
+}
@@ -0,0 +1,193 @@
+package com.justdavis.karl.rpstourney.service.app.game;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.zip.CRC32;
+
+import com.justdavis.karl.rpstourney.service.api.game.Game;
+import com.justdavis.karl.rpstourney.service.api.game.GameConflictException;
+import com.justdavis.karl.rpstourney.service.api.game.GameRound;
+import com.justdavis.karl.rpstourney.service.api.game.Player;
+import com.justdavis.karl.rpstourney.service.api.game.PlayerRole;
+import com.justdavis.karl.rpstourney.service.api.game.Throw;
+
+/**
+ * An accepted {@link Throw}, as recorded in the {@link ThrowJournal} until
+ * it's been written to the database. Instances are immutable.
+ */
+public final class JournaledThrow {
+	private static final char SEPARATOR = ',';
+
+	private final String gameId;
+	private final int roundIndex;
+	private final PlayerRole role;
+	private final Throw throwToPlay;
+	private final Instant timestamp;
+
+	/**
+	 * Constructs a new {@link JournaledThrow} instance.
+	 *
+	 * @param gameId
+	 *            the value to use for {@link #getGameId()}
+	 * @param roundIndex
+	 *            the value to use for {@link #getRoundIndex()}
+	 * @param role
+	 *            the value to use for {@link #getRole()}
+	 * @param throwToPlay
+	 *            the value to use for {@link #getThrowToPlay()}
+	 * @param timestamp
+	 *            the value to use for {@link #getTimestamp()}
+	 */
+	public JournaledThrow(String gameId, int roundIndex, PlayerRole role, Throw throwToPlay, Instant timestamp) {
+		if (gameId == null)
+			throw new IllegalArgumentException();
+		if (!Game.ID_PATTERN.matcher(gameId).matches())
+			throw new IllegalArgumentException();
+		if (roundIndex < 0)
+			throw new IllegalArgumentException();
+		if (role == null)
+			throw new IllegalArgumentException();
+		if (throwToPlay == null)
+			throw new IllegalArgumentException();
+		if (timestamp == null)
+			throw new IllegalArgumentException();
+
+		this.gameId = gameId;
+		this.roundIndex = roundIndex;
+		this.role = role;
+		this.throwToPlay = throwToPlay;
+		this.timestamp = timestamp;
+	}
+
+	/**
+	 * @return the {@link Game#getId()} of the {@link Game} that the
+	 *         {@link Throw} was made in
+	 */
+	public String getGameId() {
+		return gameId;
+	}
+
+	/**
+	 * @return the {@link GameRound#getRoundIndex()} of the {@link GameRound}
+	 *         that the {@link Throw} was made in
+	 */
+	public int getRoundIndex() {
+		return roundIndex;
+	}
+
+	/**
+	 * @return the {@link PlayerRole} of the {@link Player} that made the
+	 *         {@link Throw}
+	 */
+	public PlayerRole getRole() {
+		return role;
+	}
+
+	/**
+	 * @return the {@link Throw} that was made
+	 */
+	public Throw getThrowToPlay() {
+		return throwToPlay;
+	}
+
+	/**
+	 * @return the date-time that the {@link Throw} was accepted at
+	 */
+	public Instant getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * Applies this {@link JournaledThrow} to the specified in-memory copy of
+	 * its {@link Game}, unless that copy already includes it (e.g. because it
+	 * was loaded after this {@link JournaledThrow} was written to the
+	 * database).
+	 *
+	 * @param game
+	 *            the {@link Game} to apply this {@link JournaledThrow} to
+	 * @return <code>true</code> if the {@link Game} was modified,
+	 *         <code>false</code> if not
+	 */
+	boolean applyTo(Game game) {
+		if (!gameId.equals(game.getId()))
+			throw new IllegalArgumentException();
+
+		Player player = role == PlayerRole.PLAYER_1 ? game.getPlayer1() : game.getPlayer2();
+		try {
+			game.submitThrow(roundIndex, player, throwToPlay, timestamp);
+			return true;
+		} catch (GameConflictException e) {
+			// The Game has already moved past this Throw.
+			return false;
+		}
+	}
+
+	/**
+	 * @return the single-line journal record for this {@link JournaledThrow}
+	 *         (including the trailing newline), which can be parsed back via
+	 *         {@link #parse(String)}
+	 */
+	byte[] encode() {
+		String fields = gameId + SEPARATOR + roundIndex + SEPARATOR + role.name() + SEPARATOR + throwToPlay.name()
+				+ SEPARATOR + timestamp.toString();
+		return (fields + SEPARATOR + Long.toHexString(checksum(fields)) + '\n').getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * @param record
+	 *            a journal record produced by {@link #encode()}, without its
+	 *            trailing newline
+	 * @return the {@link JournaledThrow} represented by the specified record,
+	 *         or <code>null</code> if it's not a valid record (e.g. because it
+	 *         was only partially written before a crash)
+	 */
+	static JournaledThrow parse(String record) {
+		int checksumIndex = record.lastIndexOf(SEPARATOR);
+		if (checksumIndex < 0)
+			return null;
+		String fields = record.substring(0, checksumIndex);
+		if (!Long.toHexString(checksum(fields)).equals(record.substring(checksumIndex + 1)))
+			return null;
+
+		String[] values = fields.split(String.valueOf(SEPARATOR));
+		if (values.length != 5)
+			return null;
+		try {
+			return new JournaledThrow(values[0], Integer.parseInt(values[1]), PlayerRole.valueOf(values[2]),
+					Throw.valueOf(values[3]), Instant.parse(values[4]));
+		} catch (RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * @param fields
+	 *            the record fields to compute the checksum of
+	 * @return the CRC-32 checksum of the specified record fields
+	 */
+	private static long checksum(String fields) {
+		CRC32 crc = new CRC32();
+		crc.update(fields.getBytes(StandardCharsets.UTF_8));
+		return crc.getValue();
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("JournaledThrow [gameId=");
+		builder.append(gameId);
+		builder.append(", roundIndex=");
+		builder.append(roundIndex);
+		builder.append(", role=");
+		builder.append(role);
+		builder.append(", throwToPlay=");
+		builder.append(throwToPlay);
+		builder.append(", timestamp=");
+		builder.append(timestamp);
+		builder.append("]");
+		return builder.toString();
+	}
+}
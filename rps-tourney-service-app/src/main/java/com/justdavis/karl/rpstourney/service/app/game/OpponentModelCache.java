@@ -0,0 +1,410 @@
+package com.justdavis.karl.rpstourney.service.app.game;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.justdavis.karl.rpstourney.service.api.game.Game;
+import com.justdavis.karl.rpstourney.service.api.game.Player;
+import com.justdavis.karl.rpstourney.service.api.game.ai.BuiltInAi;
+import com.justdavis.karl.rpstourney.service.api.game.ai.ILearningPositronicBrain;
+import com.justdavis.karl.rpstourney.service.app.config.OpponentModelCacheConfig;
+import com.justdavis.karl.rpstourney.service.app.config.ServiceConfig;
+
+/**
+ * <p>
+ * A bounded, thread-safe cache of the opponent models that the learning
+ * {@link BuiltInAi}s (those with an {@link ILearningPositronicBrain}) have
+ * built up for each human {@link Player}, so that each new {@link Game}
+ * against a known opponent can pick up where the last one left off.
+ * </p>
+ * <p>
+ * The cache's memory use is capped at
+ * {@link OpponentModelCacheConfig#getMaxSizeBytes()}, no matter how many
+ * {@link Player}s there are: past that, the least recently used models are
+ * evicted (skipping over any that haven't been saved yet, if possible). If
+ * {@link OpponentModelCacheConfig#getPersistIntervalSeconds()} is non-zero,
+ * updated models are also periodically saved to the database (via
+ * {@link IOpponentModelsDao}), and models that aren't cached are loaded from
+ * there.
+ * </p>
+ */
+@Component
+public class OpponentModelCache {
+	private static final Logger LOGGER = LoggerFactory.getLogger(OpponentModelCache.class);
+
+	/**
+	 * A rough estimate of the memory used by each cache entry, beyond the
+	 * model itself: the {@link OpponentModelKey}, the map entry, etc.
+	 */
+	static final int ENTRY_OVERHEAD_BYTES = 128;
+
+	private final long maxSizeBytes;
+	private final IOpponentModelsDao modelsDao;
+	private final ScheduledExecutorService flushExecutor;
+
+	/*
+	 * Design note: All access to these fields must synchronize on
+	 * cachedModels. A null CachedModel.model indicates that there's no such
+	 * model (in the DB, either), which is worth caching, too.
+	 */
+
+	private final Map<OpponentModelKey, CachedModel> cachedModels = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long sizeBytes;
+	private long hitCount;
+	private long missCount;
+	private long evictionCount;
+
+	/**
+	 * Constructs a new {@link OpponentModelCache} instance, which will
+	 * periodically {@link #flush()} itself if the
+	 * {@link OpponentModelCacheConfig} calls for that.
+	 *
+	 * @param config
+	 *            the injected {@link ServiceConfig} to use
+	 * @param modelsDao
+	 *            the injected {@link IOpponentModelsDao} to use
+	 */
+	@Inject
+	public OpponentModelCache(ServiceConfig config, IOpponentModelsDao modelsDao) {
+		this(config.getOpponentModelCacheConfig().getMaxSizeBytes(),
+				config.getOpponentModelCacheConfig().getPersistIntervalSeconds() > 0 ? modelsDao : null,
+				config.getOpponentModelCacheConfig().getPersistIntervalSeconds());
+	}
+
+	/**
+	 * Constructs a new {@link OpponentModelCache} instance, which will only
+	 * {@link #flush()} when asked to.
+	 *
+	 * @param maxSizeBytes
+	 *            the (approximate) maximum amount of memory, in bytes, that
+	 *            the cache may use
+	 * @param modelsDao
+	 *            the {@link IOpponentModelsDao} to load and save models with,
+	 *            or <code>null</code> to only keep them in memory
+	 */
+	public OpponentModelCache(long maxSizeBytes, IOpponentModelsDao modelsDao) {
+		this(maxSizeBytes, modelsDao, 0);
+	}
+
+	/**
+	 * Constructs a new {@link OpponentModelCache} instance.
+	 *
+	 * @param maxSizeBytes
+	 *            the (approximate) maximum amount of memory, in bytes, that
+	 *            the cache may use
+	 * @param modelsDao
+	 *            the {@link IOpponentModelsDao} to load and save models with,
+	 *            or <code>null</code> to only keep them in memory
+	 * @param flushIntervalSeconds
+	 *            how often (in seconds) to {@link #flush()} the cache, or
+	 *            <code>0</code> to only do so when asked to
+	 */
+	private OpponentModelCache(long maxSizeBytes, IOpponentModelsDao modelsDao, long flushIntervalSeconds) {
+		if (maxSizeBytes < 0)
+			throw new IllegalArgumentException();
+		if (flushIntervalSeconds < 0)
+			throw new IllegalArgumentException();
+
+		this.maxSizeBytes = maxSizeBytes;
+		this.modelsDao = modelsDao;
+		this.sizeBytes = 0;
+		this.hitCount = 0;
+		this.missCount = 0;
+		this.evictionCount = 0;
+
+		if (modelsDao != null && flushIntervalSeconds > 0) {
+			this.flushExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+				/**
+				 * @see java.util.concurrent.ThreadFactory#newThread(java.lang.Runnable)
+				 */
+				@Override
+				public Thread newThread(Runnable runnable) {
+					Thread thread = new Thread(runnable, "opponent-model-cache-flush");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+			this.flushExecutor.scheduleWithFixedDelay(new Runnable() {
+				/**
+				 * @see java.lang.Runnable#run()
+				 */
+				@Override
+				public void run() {
+					try {
+						flush();
+					} catch (RuntimeException e) {
+						// Must not throw, or no further flushes will be run.
+						LOGGER.error("Unable to save opponent models.", e);
+					}
+				}
+			}, flushIntervalSeconds, flushIntervalSeconds, TimeUnit.SECONDS);
+		} else {
+			this.flushExecutor = null;
+		}
+	}
+
+	/**
+	 * @param key
+	 *            the {@link OpponentModelKey} of the opponent model to get
+	 * @return the opponent model for the specified {@link OpponentModelKey},
+	 *         or <code>null</code> if there isn't one yet
+	 */
+	public byte[] get(OpponentModelKey key) {
+		if (key == null)
+			throw new IllegalArgumentException();
+
+		synchronized (cachedModels) {
+			CachedModel cachedModel = cachedModels.get(key);
+			if (cachedModel != null) {
+				hitCount++;
+				return cachedModel.model;
+			}
+
+			missCount++;
+		}
+
+		// Don't hold the lock for this (possibly slow) lookup.
+		byte[] model = modelsDao != null ? modelsDao.find(key) : null;
+
+		synchronized (cachedModels) {
+			// Don't clobber anything that was put() in the meantime.
+			if (!cachedModels.containsKey(key))
+				cache(key, new CachedModel(model, false));
+		}
+
+		return model;
+	}
+
+	/**
+	 * @param key
+	 *            the {@link OpponentModelKey} of the opponent model to store
+	 * @param model
+	 *            the new/updated opponent model to store
+	 */
+	public void put(OpponentModelKey key, byte[] model) {
+		if (key == null)
+			throw new IllegalArgumentException();
+		if (model == null)
+			throw new IllegalArgumentException();
+
+		synchronized (cachedModels) {
+			CachedModel oldModel = cachedModels.remove(key);
+			if (oldModel != null)
+				sizeBytes -= computeSize(oldModel.model);
+
+			cache(key, new CachedModel(model, modelsDao != null));
+		}
+	}
+
+	/**
+	 * Saves all of the updated opponent models to the database, if this
+	 * {@link OpponentModelCache} has an {@link IOpponentModelsDao}.
+	 */
+	public void flush() {
+		if (modelsDao == null)
+			return;
+
+		Map<OpponentModelKey, byte[]> modelsToSave = new HashMap<>();
+		synchronized (cachedModels) {
+			// Note: Iterating doesn't affect the access order.
+			for (Map.Entry<OpponentModelKey, CachedModel> cachedModel : cachedModels.entrySet()) {
+				if (cachedModel.getValue().dirty) {
+					modelsToSave.put(cachedModel.getKey(), cachedModel.getValue().model);
+					cachedModel.getValue().dirty = false;
+				}
+			}
+		}
+
+		if (modelsToSave.isEmpty())
+			return;
+
+		// Don't hold the lock for this (possibly slow) save.
+		try {
+			modelsDao.save(modelsToSave);
+		} catch (RuntimeException e) {
+			// Make sure the models are retried next time, unless replaced.
+			synchronized (cachedModels) {
+				for (Map.Entry<OpponentModelKey, byte[]> unsavedModel : modelsToSave.entrySet()) {
+					CachedModel cachedModel = cachedModels.get(unsavedModel.getKey());
+					if (cachedModel != null && cachedModel.model == unsavedModel.getValue())
+						cachedModel.dirty = true;
+				}
+			}
+			throw e;
+		}
+
+		LOGGER.info("Saved {} opponent models. Cache: {} models, {} bytes, {} hit rate, {} evictions.",
+				modelsToSave.size(), getSize(), getSizeBytes(), String.format("%.3f", getHitRate()),
+				getEvictionCount());
+	}
+
+	/**
+	 * Stops the periodic flushes (if any), and then runs one last
+	 * {@link #flush()}. Called by Spring when the application is shutting
+	 * down.
+	 */
+	@PreDestroy
+	public void close() {
+		if (flushExecutor != null)
+			flushExecutor.shutdownNow();
+
+		try {
+			flush();
+		} catch (RuntimeException e) {
+			LOGGER.warn("Unable to save opponent models at shutdown.", e);
+		}
+	}
+
+	/**
+	 * @return the number of {@link #get(OpponentModelKey)} calls that were
+	 *         answered from memory
+	 */
+	public long getHitCount() {
+		synchronized (cachedModels) {
+			return hitCount;
+		}
+	}
+
+	/**
+	 * @return the number of {@link #get(OpponentModelKey)} calls that had to go
+	 *         to the database (if any)
+	 */
+	public long getMissCount() {
+		synchronized (cachedModels) {
+			return missCount;
+		}
+	}
+
+	/**
+	 * @return the fraction of {@link #get(OpponentModelKey)} calls that were
+	 *         answered from memory, or <code>0.0</code> if there haven't been
+	 *         any
+	 */
+	public double getHitRate() {
+		synchronized (cachedModels) {
+			long requestCount = hitCount + missCount;
+			return requestCount > 0 ? (double) hitCount / requestCount : 0.0;
+		}
+	}
+
+	/**
+	 * @return the number of opponent models that have been evicted to keep the
+	 *         cache within its maximum size
+	 */
+	public long getEvictionCount() {
+		synchronized (cachedModels) {
+			return evictionCount;
+		}
+	}
+
+	/**
+	 * @return the number of opponent models currently held in memory
+	 */
+	public int getSize() {
+		synchronized (cachedModels) {
+			return cachedModels.size();
+		}
+	}
+
+	/**
+	 * @return the (approximate) amount of memory, in bytes, that the cache is
+	 *         currently using
+	 */
+	public long getSizeBytes() {
+		synchronized (cachedModels) {
+			return sizeBytes;
+		}
+	}
+
+	/**
+	 * Adds the specified {@link CachedModel} and then evicts the least
+	 * recently used ones, as needed. Must only be called while synchronized on
+	 * {@link #cachedModels}, and when there isn't already a model for the
+	 * specified {@link OpponentModelKey}.
+	 *
+	 * @param key
+	 *            the {@link OpponentModelKey} to add a {@link CachedModel} for
+	 * @param cachedModel
+	 *            the {@link CachedModel} to add
+	 */
+	private void cache(OpponentModelKey key, CachedModel cachedModel) {
+		cachedModels.put(key, cachedModel);
+		sizeBytes += computeSize(cachedModel.model);
+
+		while (sizeBytes > maxSizeBytes && !cachedModels.isEmpty()) {
+			// Evict the least recently used model that's already been saved.
+			Map.Entry<OpponentModelKey, CachedModel> evicted = null;
+			Iterator<Map.Entry<OpponentModelKey, CachedModel>> cachedModelsIter = cachedModels.entrySet().iterator();
+			while (cachedModelsIter.hasNext()) {
+				Map.Entry<OpponentModelKey, CachedModel> candidate = cachedModelsIter.next();
+				if (!candidate.getValue().dirty) {
+					evicted = candidate;
+					cachedModelsIter.remove();
+					break;
+				}
+			}
+
+			/*
+			 * If none of them have been saved, the flushes aren't keeping up.
+			 * Memory use wins out.
+			 */
+			if (evicted == null) {
+				cachedModelsIter = cachedModels.entrySet().iterator();
+				evicted = cachedModelsIter.next();
+				cachedModelsIter.remove();
+				LOGGER.warn("Dropped unsaved opponent model: {}", evicted.getKey());
+			}
+
+			sizeBytes -= computeSize(evicted.getValue().model);
+			evictionCount++;
+		}
+	}
+
+	/**
+	 * @param model
+	 *            the opponent model (or <code>null</code>) to compute the size
+	 *            of
+	 * @return the (approximate) amount of memory, in bytes, that caching the
+	 *         specified opponent model takes up
+	 */
+	private static long computeSize(byte[] model) {
+		return ENTRY_OVERHEAD_BYTES + (model != null ? model.length : 0);
+	}
+
+	/**
+	 * An opponent model held in {@link OpponentModelCache#cachedModels}.
+	 */
+	private static final class CachedModel {
+		private final byte[] model;
+		private boolean dirty;
+
+		/**
+		 * Constructs a new {@link CachedModel}.
+		 *
+		 * @param model
+		 *            the opponent model, or <code>null</code> if there is no
+		 *            such model
+		 * @param dirty
+		 *            <code>true</code> if the model needs to be saved to the
+		 *            database, <code>false</code> if not
+		 */
+		CachedModel(byte[] model, boolean dirty) {
+			this.model = model;
+			this.dirty = dirty;
+		}
+	}
+}
@@ -0,0 +1,78 @@
+package com.justdavis.karl.rpstourney.service.app.game;
+
+import com.justdavis.karl.rpstourney.service.api.game.Player;
+import com.justdavis.karl.rpstourney.service.api.game.ai.BuiltInAi;
+
+/**
+ * Identifies an opponent model: what a particular {@link BuiltInAi} has
+ * learned about a particular (human) {@link Player}.
+ *
+ * @see OpponentModelCache
+ * @see IOpponentModelsDao
+ */
+public final class OpponentModelKey {
+	private final BuiltInAi ai;
+	private final long playerId;
+
+	/**
+	 * Constructs a new {@link OpponentModelKey} instance.
+	 *
+	 * @param ai
+	 *            the value to use for {@link #getAi()}
+	 * @param playerId
+	 *            the value to use for {@link #getPlayerId()}
+	 */
+	public OpponentModelKey(BuiltInAi ai, long playerId) {
+		if (ai == null)
+			throw new IllegalArgumentException();
+		if (playerId < 0)
+			throw new IllegalArgumentException();
+
+		this.ai = ai;
+		this.playerId = playerId;
+	}
+
+	/**
+	 * @return the {@link BuiltInAi} that learned the opponent model
+	 */
+	public BuiltInAi getAi() {
+		return ai;
+	}
+
+	/**
+	 * @return the {@link Player#getId()} of the opponent being modeled
+	 */
+	public long getPlayerId() {
+		return playerId;
+	}
+
+	/**
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return 31 * ai.hashCode() + Long.hashCode(playerId);
+	}
+
+	/**
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (!(obj instanceof OpponentModelKey))
+			return false;
+
+		OpponentModelKey other = (OpponentModelKey) obj;
+		return ai == other.ai && playerId == other.playerId;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "OpponentModelKey [ai=" + ai + ", playerId=" + playerId + "]";
+	}
+}
@@ -0,0 +1,125 @@
+package com.justdavis.karl.rpstourney.service.app.game;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import javax.persistence.TemporalType;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.justdavis.karl.misc.exceptions.BadCodeMonkeyException;
+
+/**
+ * <p>
+ * The default {@link IOpponentModelsDao} implementation.
+ * </p>
+ * <p>
+ * Design Note: The opponent models are just opaque blobs that are only ever
+ * looked up by their key, so they're stored via simple native queries, rather
+ * than as JPA entities (which would have to be registered in the shared
+ * <code>persistence.xml</code>, even though only this application uses them).
+ * </p>
+ */
+@Repository
+public class OpponentModelsDaoImpl implements IOpponentModelsDao {
+	private static final String SQL_FIND = "SELECT \"model\" FROM \"AiOpponentModels\""
+			+ " WHERE \"builtInAi\" = ?1 AND \"playerId\" = ?2";
+	private static final String SQL_UPDATE = "UPDATE \"AiOpponentModels\" SET \"model\" = ?3, \"updatedTimestamp\" = ?4"
+			+ " WHERE \"builtInAi\" = ?1 AND \"playerId\" = ?2";
+	private static final String SQL_INSERT = "INSERT INTO \"AiOpponentModels\""
+			+ " (\"builtInAi\", \"playerId\", \"model\", \"updatedTimestamp\") VALUES (?1, ?2, ?3, ?4)";
+
+	private EntityManager entityManager;
+
+	/**
+	 * Constructs a new {@link OpponentModelsDaoImpl} instance.
+	 */
+	public OpponentModelsDaoImpl() {
+	}
+
+	/**
+	 * @param entityManager
+	 *            a JPA {@link EntityManager} connected to the application's
+	 *            database
+	 */
+	@PersistenceContext
+	public void setEntityManager(EntityManager entityManager) {
+		// Sanity check: null EntityManager?
+		if (entityManager == null)
+			throw new IllegalArgumentException();
+
+		this.entityManager = entityManager;
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.app.game.IOpponentModelsDao#find(com.justdavis.karl.rpstourney.service.app.game.OpponentModelKey)
+	 */
+	@Override
+	public byte[] find(OpponentModelKey key) {
+		if (key == null)
+			throw new IllegalArgumentException();
+
+		Query query = entityManager.createNativeQuery(SQL_FIND);
+		query.setParameter(1, key.getAi().name());
+		query.setParameter(2, key.getPlayerId());
+		List<?> results = query.getResultList();
+
+		// The table's PK is (builtInAi, playerId), so there's 0 or 1 results.
+		if (results.isEmpty())
+			return null;
+		else if (results.size() != 1)
+			throw new BadCodeMonkeyException();
+
+		return (byte[]) results.get(0);
+	}
+
+	/**
+	 * <p>
+	 * Note: Unlike the rest of the application's DAO methods, this one starts
+	 * its own transaction, if needed, as it's called by
+	 * {@link OpponentModelCache}'s background flushes, rather than from a
+	 * (transactional) web service request.
+	 * </p>
+	 *
+	 * @see com.justdavis.karl.rpstourney.service.app.game.IOpponentModelsDao#save(java.util.Map)
+	 */
+	@Override
+	@Transactional
+	public void save(Map<OpponentModelKey, byte[]> models) {
+		if (models == null)
+			throw new IllegalArgumentException();
+
+		Date now = new Date();
+		for (Map.Entry<OpponentModelKey, byte[]> model : models.entrySet()) {
+			// Try an update first, as most saves will be for existing models.
+			int updatedRows = bindSaveParameters(entityManager.createNativeQuery(SQL_UPDATE), model, now)
+					.executeUpdate();
+			if (updatedRows == 0)
+				bindSaveParameters(entityManager.createNativeQuery(SQL_INSERT), model, now).executeUpdate();
+		}
+	}
+
+	/**
+	 * @param query
+	 *            the {@link #SQL_UPDATE} or {@link #SQL_INSERT} {@link Query}
+	 *            to bind the parameters of
+	 * @param model
+	 *            the opponent model being saved
+	 * @param updatedTimestamp
+	 *            the <code>updatedTimestamp</code> column value to save
+	 * @return the specified {@link Query}, for chaining
+	 */
+	private static Query bindSaveParameters(Query query, Map.Entry<OpponentModelKey, byte[]> model,
+			Date updatedTimestamp) {
+		query.setParameter(1, model.getKey().getAi().name());
+		query.setParameter(2, model.getKey().getPlayerId());
+		query.setParameter(3, model.getValue());
+		query.setParameter(4, updatedTimestamp, TemporalType.TIMESTAMP);
+		return query;
+	}
+}
@@ -0,0 +1,178 @@
+package com.justdavis.karl.rpstourney.service.app.game;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Component;
+
+import com.justdavis.karl.rpstourney.service.api.auth.Account;
+import com.justdavis.karl.rpstourney.service.api.game.Player;
+
+/**
+ * <p>
+ * A bounded, thread-safe cache that maps each human {@link Player}'s
+ * {@link Player#getHumanAccount()} {@link Account#getId()} to their
+ * {@link Player#getId()}, so that {@link PlayersDaoImpl} can resolve the
+ * {@link Player} for an {@link Account} by ID (which Hibernate's second-level
+ * cache can then answer), rather than by querying on the <code>Players</code>
+ * table's <code>humanAccountId</code> column.
+ * </p>
+ * <p>
+ * A {@link Player}'s {@link Account} never changes, so the only way for an
+ * entry to go stale is for the {@link Player} to be deleted (which
+ * {@link PlayersDaoImpl#delete(Player)} handles), or for the transaction that
+ * created it to be rolled back. Callers must treat a cached ID that no longer
+ * resolves to that {@link Account}'s {@link Player} as a miss, and
+ * {@link #remove(long)} it.
+ * </p>
+ */
+@Component
+@ManagedResource(objectName = "com.justdavis.karl.rpstourney.service:name=PlayerIdCache")
+public class PlayerIdCache {
+	/**
+	 * The default value for {@link #getMaxSize()}. Each entry only takes up
+	 * around 100 bytes, so this is generous.
+	 */
+	static final int DEFAULT_MAX_SIZE = 100000;
+
+	private final int maxSize;
+
+	/*
+	 * Design note: All access to these fields must synchronize on playerIds.
+	 */
+
+	private final Map<Long, Long> playerIds = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long hitCount;
+	private long missCount;
+	private long evictionCount;
+
+	/**
+	 * Constructs a new {@link PlayerIdCache} instance, with a
+	 * {@link #getMaxSize()} of {@link #DEFAULT_MAX_SIZE}.
+	 */
+	public PlayerIdCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Constructs a new {@link PlayerIdCache} instance.
+	 *
+	 * @param maxSize
+	 *            the value to use for {@link #getMaxSize()}
+	 */
+	public PlayerIdCache(int maxSize) {
+		if (maxSize < 1)
+			throw new IllegalArgumentException();
+
+		this.maxSize = maxSize;
+		this.hitCount = 0;
+		this.missCount = 0;
+		this.evictionCount = 0;
+	}
+
+	/**
+	 * @param accountId
+	 *            the {@link Account#getId()} of the {@link Account} to get the
+	 *            {@link Player#getId()} for
+	 * @return the cached {@link Player#getId()} of the {@link Player} for the
+	 *         specified {@link Account}, or <code>null</code> if there isn't
+	 *         one cached
+	 */
+	public Long get(long accountId) {
+		synchronized (playerIds) {
+			Long playerId = playerIds.get(accountId);
+			if (playerId != null)
+				hitCount++;
+			else
+				missCount++;
+			return playerId;
+		}
+	}
+
+	/**
+	 * Caches the specified mapping, and then evicts the least recently used
+	 * ones, as needed.
+	 *
+	 * @param accountId
+	 *            the {@link Account#getId()} of the {@link Account} to cache
+	 *            the {@link Player#getId()} for
+	 * @param playerId
+	 *            the {@link Player#getId()} of the specified {@link Account}'s
+	 *            {@link Player}
+	 */
+	public void put(long accountId, long playerId) {
+		synchronized (playerIds) {
+			playerIds.put(accountId, playerId);
+
+			while (playerIds.size() > maxSize) {
+				playerIds.remove(playerIds.keySet().iterator().next());
+				evictionCount++;
+			}
+		}
+	}
+
+	/**
+	 * @param accountId
+	 *            the {@link Account#getId()} of the {@link Account} whose
+	 *            mapping (if any) should be removed from the cache
+	 */
+	public void remove(long accountId) {
+		synchronized (playerIds) {
+			playerIds.remove(accountId);
+		}
+	}
+
+	/**
+	 * @return the maximum number of mappings that this {@link PlayerIdCache}
+	 *         will hold, past which the least recently used ones are evicted
+	 */
+	@ManagedAttribute
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * @return the number of mappings currently held in memory
+	 */
+	@ManagedAttribute
+	public int getSize() {
+		synchronized (playerIds) {
+			return playerIds.size();
+		}
+	}
+
+	/**
+	 * @return the number of {@link #get(long)} calls that found a mapping
+	 */
+	@ManagedAttribute
+	public long getHitCount() {
+		synchronized (playerIds) {
+			return hitCount;
+		}
+	}
+
+	/**
+	 * @return the number of {@link #get(long)} calls that didn't find a
+	 *         mapping
+	 */
+	@ManagedAttribute
+	public long getMissCount() {
+		synchronized (playerIds) {
+			return missCount;
+		}
+	}
+
+	/**
+	 * @return the number of mappings that have been evicted to keep the cache
+	 *         within its {@link #getMaxSize()}
+	 */
+	@ManagedAttribute
+	public long getEvictionCount() {
+		synchronized (playerIds) {
+			return evictionCount;
+		}
+	}
+}
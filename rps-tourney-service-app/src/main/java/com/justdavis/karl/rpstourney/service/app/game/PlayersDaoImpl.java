@@ -6,12 +6,14 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import javax.inject.Inject;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 
+import org.hibernate.annotations.QueryHints;
 import org.springframework.stereotype.Component;
 
 import com.justdavis.karl.misc.exceptions.BadCodeMonkeyException;
@@ -21,11 +23,28 @@ import com.justdavis.karl.rpstourney.service.api.game.Player_;
 import com.justdavis.karl.rpstourney.service.api.game.ai.BuiltInAi;
 
 /**
+ * <p>
  * The default {@link IPlayersDao} implementation.
+ * </p>
+ * <p>
+ * {@link Player}s are kept in Hibernate's second-level cache (see
+ * <code>SpringBindingsForJpa</code>), and this DAO's lookups by
+ * {@link Account} and {@link BuiltInAi} use the query cache, in the
+ * {@link #QUERY_CACHE_REGION} region. Lookups by {@link Account} go through
+ * the {@link PlayerIdCache} first, if one has been provided, which avoids the
+ * query entirely.
+ * </p>
  */
 @Component
 public final class PlayersDaoImpl implements IPlayersDao {
+	/**
+	 * The name of the Hibernate query cache region used for this DAO's
+	 * {@link Player} lookups.
+	 */
+	static final String QUERY_CACHE_REGION = PlayersDaoImpl.class.getName();
+
 	private EntityManager entityManager;
+	private PlayerIdCache playerIdCache;
 
 	/**
 	 * Constructs a new {@link PlayersDaoImpl} instance.
@@ -47,6 +66,19 @@ public final class PlayersDaoImpl implements IPlayersDao {
 		this.entityManager = entityManager;
 	}
 
+	/**
+	 * @param playerIdCache
+	 *            the injected {@link PlayerIdCache} to use
+	 */
+	@Inject
+	public void setPlayerIdCache(PlayerIdCache playerIdCache) {
+		// Sanity check: null PlayerIdCache?
+		if (playerIdCache == null)
+			throw new IllegalArgumentException();
+
+		this.playerIdCache = playerIdCache;
+	}
+
 	/**
 	 * @see com.justdavis.karl.rpstourney.service.app.game.IPlayersDao#save(com.justdavis.karl.rpstourney.service.api.game.Player)
 	 */
@@ -63,27 +95,8 @@ public final class PlayersDaoImpl implements IPlayersDao {
 		if (playerId < 0)
 			throw new IllegalArgumentException();
 
-		// Build a query for the matching Player.
-		CriteriaBuilder criteriaBuilder = entityManager.getEntityManagerFactory().getCriteriaBuilder();
-		CriteriaQuery<Player> criteria = criteriaBuilder.createQuery(Player.class);
-		criteria.where(criteriaBuilder.equal(criteria.from(Player.class).get(Player_.id), playerId));
-
-		// Run the query.
-		TypedQuery<Player> query = entityManager.createQuery(criteria);
-		List<Player> results = query.getResultList();
-
-		/*
-		 * The Player.id field should have a UNIQUE constraint, so this should
-		 * only return 0 or 1 results.
-		 */
-		if (results.isEmpty())
-			return null;
-		else if (results.size() != 1)
-			throw new BadCodeMonkeyException();
-
-		// Return the result.
-		Player player = results.get(0);
-		return player;
+		// This will be served from the second-level cache, when possible.
+		return entityManager.find(Player.class, playerId);
 	}
 
 	/**
@@ -112,7 +125,7 @@ public final class PlayersDaoImpl implements IPlayersDao {
 		criteria.where(criteria.from(Player.class).get(Player_.builtInAi).in(aisCollection));
 
 		// Run the query.
-		TypedQuery<Player> query = entityManager.createQuery(criteria);
+		TypedQuery<Player> query = createCacheableQuery(criteria);
 		List<Player> results = query.getResultList();
 
 		// Return the result.
@@ -141,6 +154,8 @@ public final class PlayersDaoImpl implements IPlayersDao {
 		// No pre-existing Player, so create, save, and return a new one.
 		Player newPlayer = new Player(account);
 		entityManager.persist(newPlayer);
+		if (playerIdCache != null)
+			playerIdCache.put(newPlayer.getHumanAccount().getId(), newPlayer.getId());
 		return newPlayer;
 	}
 
@@ -149,6 +164,9 @@ public final class PlayersDaoImpl implements IPlayersDao {
 	 */
 	@Override
 	public void delete(Player player) {
+		if (playerIdCache != null && player != null && player.isHuman())
+			playerIdCache.remove(player.getHumanAccount().getId());
+
 		entityManager.remove(player);
 	}
 
@@ -167,13 +185,27 @@ public final class PlayersDaoImpl implements IPlayersDao {
 		if (!account.hasId())
 			return null;
 
+		// If the Player's ID is cached, it can be looked up by that, instead.
+		if (playerIdCache != null) {
+			Long cachedPlayerId = playerIdCache.get(account.getId());
+			if (cachedPlayerId != null) {
+				Player cachedPlayer = entityManager.find(Player.class, cachedPlayerId);
+				if (cachedPlayer != null && cachedPlayer.isHuman()
+						&& cachedPlayer.getHumanAccount().getId() == account.getId())
+					return cachedPlayer;
+
+				// The Player must have been deleted (or never committed).
+				playerIdCache.remove(account.getId());
+			}
+		}
+
 		// Build a query for the matching Account.
 		CriteriaBuilder criteriaBuilder = entityManager.getEntityManagerFactory().getCriteriaBuilder();
 		CriteriaQuery<Player> criteria = criteriaBuilder.createQuery(Player.class);
 		criteria.where(criteriaBuilder.equal(criteria.from(Player.class).get(Player_.humanAccount), account));
 
 		// Run the query.
-		TypedQuery<Player> query = entityManager.createQuery(criteria);
+		TypedQuery<Player> query = createCacheableQuery(criteria);
 		List<Player> results = query.getResultList();
 
 		/*
@@ -187,9 +219,24 @@ public final class PlayersDaoImpl implements IPlayersDao {
 
 		// Return the result.
 		Player player = results.get(0);
+		if (playerIdCache != null)
+			playerIdCache.put(account.getId(), player.getId());
 		return player;
 	}
 
+	/**
+	 * @param criteria
+	 *            the {@link CriteriaQuery} to create a {@link TypedQuery} for
+	 * @return a {@link TypedQuery} for the specified {@link CriteriaQuery},
+	 *         whose results will be cached in the {@link #QUERY_CACHE_REGION}
+	 */
+	private TypedQuery<Player> createCacheableQuery(CriteriaQuery<Player> criteria) {
+		TypedQuery<Player> query = entityManager.createQuery(criteria);
+		query.setHint(QueryHints.CACHEABLE, true);
+		query.setHint(QueryHints.CACHE_REGION, QUERY_CACHE_REGION);
+		return query;
+	}
+
 	/**
 	 * @see com.justdavis.karl.rpstourney.service.app.game.IPlayersDao#getPlayers()
 	 */
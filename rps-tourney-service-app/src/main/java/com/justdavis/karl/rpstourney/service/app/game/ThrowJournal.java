@@ -0,0 +1,675 @@
+package com.justdavis.karl.rpstourney.service.app.game;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+
+import com.justdavis.karl.rpstourney.service.api.game.Game;
+import com.justdavis.karl.rpstourney.service.api.game.Throw;
+import com.justdavis.karl.rpstourney.service.app.config.ServiceConfig;
+import com.justdavis.karl.rpstourney.service.app.config.ThrowJournalConfig;
+
+/**
+ * <p>
+ * An optional write-behind journal for {@link Throw}s: accepted
+ * {@link Throw}s are appended to a local file (and forced to disk) right
+ * away, and then written to the database in batches by a background flusher
+ * thread, every {@link ThrowJournalConfig#getFlushIntervalMillis()}. If the
+ * service stops before a {@link Throw} has been flushed, it will be replayed
+ * from the journal when the service next starts. Writing a
+ * {@link JournaledThrow} to the database is idempotent, so replaying one that
+ * did make it is harmless.
+ * </p>
+ * <p>
+ * At most one {@link JournaledThrow} may be pending for each {@link Game}.
+ * Anything else that writes to a {@link Game} must call
+ * {@link #flush(String)} first, so that it sees the pending {@link Throw}, and
+ * anything that reads a {@link Game} should apply
+ * {@link #getPendingThrow(String)} to it.
+ * </p>
+ * <p>
+ * The journal is kept in a series of "segment" files, each of which is
+ * deleted once all of its {@link JournaledThrow}s have been flushed. Each
+ * record in a segment is one line, with a checksum, so that a record that was
+ * only partially written (e.g. due to a crash) can be recognized and skipped.
+ * </p>
+ * <p>
+ * Unless {@link ThrowJournalConfig#isEnabled()}, this does nothing: no files
+ * are created, no threads are started, and {@link #append(JournaledThrow)}
+ * may not be called.
+ * </p>
+ */
+@Component
+@ManagedResource(objectName = "com.justdavis.karl.rpstourney.service:name=ThrowJournal")
+public class ThrowJournal {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ThrowJournal.class);
+
+	private static final Pattern SEGMENT_NAME_PATTERN = Pattern.compile("throws-(\\d+)\\.journal");
+
+	private final boolean enabled;
+	private final Path directory;
+	private final int maxBatchSize;
+	private final IGamesDao gamesDao;
+	private final GameWriteRetrier writeRetrier;
+	private final ScheduledExecutorService flusher;
+
+	/*
+	 * The following fields are all guarded by this' lock.
+	 */
+	private final Map<String, PendingThrow> pendingThrows;
+	private final Map<Long, Integer> segmentPendingCounts;
+	private long segmentNumber;
+	private FileChannel segment;
+	private boolean segmentEmpty;
+	private long appendedSequence;
+
+	/*
+	 * The following fields are all guarded by forceLock.
+	 */
+	private final Object forceLock = new Object();
+	private long durableSequence;
+
+	/*
+	 * The following fields are all guarded by replayLock.
+	 */
+	private final Object replayLock = new Object();
+	private List<JournaledThrow> replayedThrows;
+	private List<Path> replayedSegments;
+	private volatile boolean replayApplied;
+
+	private final AtomicLong appendedCount = new AtomicLong(0);
+	private final AtomicLong flushedCount = new AtomicLong(0);
+	private final AtomicLong flushFailureCount = new AtomicLong(0);
+	private final AtomicLong replayedCount = new AtomicLong(0);
+
+	/**
+	 * Constructs a new {@link ThrowJournal} instance.
+	 *
+	 * @param config
+	 *            the injected {@link ServiceConfig} to use
+	 * @param gamesDao
+	 *            the injected {@link IGamesDao} to use
+	 * @param writeRetrier
+	 *            the injected {@link GameWriteRetrier} to use
+	 */
+	@Inject
+	public ThrowJournal(ServiceConfig config, IGamesDao gamesDao, GameWriteRetrier writeRetrier) {
+		this(config.getThrowJournalConfig(), gamesDao, writeRetrier);
+	}
+
+	/**
+	 * Constructs a new {@link ThrowJournal} instance. If it's enabled, any
+	 * {@link JournaledThrow}s left in its directory will be read in (to be
+	 * written to the database by the first flush), and a new segment will be
+	 * started.
+	 *
+	 * @param config
+	 *            the {@link ThrowJournalConfig} to use
+	 * @param gamesDao
+	 *            the {@link IGamesDao} to write {@link JournaledThrow}s with
+	 * @param writeRetrier
+	 *            the {@link GameWriteRetrier} to run each flush with
+	 */
+	public ThrowJournal(ThrowJournalConfig config, IGamesDao gamesDao, GameWriteRetrier writeRetrier) {
+		if (config == null)
+			throw new IllegalArgumentException();
+		if (gamesDao == null)
+			throw new IllegalArgumentException();
+		if (writeRetrier == null)
+			throw new IllegalArgumentException();
+
+		this.enabled = config.isEnabled();
+		this.maxBatchSize = config.getMaxBatchSize();
+		this.gamesDao = gamesDao;
+		this.writeRetrier = writeRetrier;
+		this.pendingThrows = new LinkedHashMap<>();
+		this.segmentPendingCounts = new TreeMap<>();
+
+		if (!enabled) {
+			this.directory = null;
+			this.flusher = null;
+			this.replayApplied = true;
+			return;
+		}
+
+		this.directory = Paths.get(config.getDirectory());
+		try {
+			Files.createDirectories(directory);
+			readSegments();
+			openSegment();
+		} catch (IOException e) {
+			throw new UncheckedIOException("Unable to open the throw journal in: " + directory, e);
+		}
+
+		this.flusher = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			/**
+			 * @see java.util.concurrent.ThreadFactory#newThread(java.lang.Runnable)
+			 */
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "throw-journal-flusher");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		this.flusher.scheduleWithFixedDelay(new Runnable() {
+			/**
+			 * @see java.lang.Runnable#run()
+			 */
+			@Override
+			public void run() {
+				try {
+					flush();
+				} catch (RuntimeException e) {
+					// Already logged and counted. Will be retried next time.
+				}
+			}
+		}, config.getFlushIntervalMillis(), config.getFlushIntervalMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Reads in all of the {@link JournaledThrow}s from the segments left in
+	 * {@link #directory}, and sets {@link #segmentNumber} to follow them.
+	 *
+	 * @throws IOException
+	 *             Any {@link IOException}s encountered will be passed through.
+	 */
+	private void readSegments() throws IOException {
+		Map<Long, Path> segments = new TreeMap<>();
+		try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory)) {
+			for (Path path : directoryStream) {
+				Matcher segmentNameMatcher = SEGMENT_NAME_PATTERN.matcher(path.getFileName().toString());
+				if (segmentNameMatcher.matches())
+					segments.put(Long.parseLong(segmentNameMatcher.group(1)), path);
+			}
+		}
+
+		List<JournaledThrow> throwsRead = new ArrayList<>();
+		for (Map.Entry<Long, Path> segmentEntry : segments.entrySet()) {
+			for (String record : Files.readAllLines(segmentEntry.getValue(), StandardCharsets.UTF_8)) {
+				JournaledThrow journaledThrow = JournaledThrow.parse(record);
+				if (journaledThrow != null)
+					throwsRead.add(journaledThrow);
+				else
+					LOGGER.warn("Skipping invalid throw journal record in {}: '{}'", segmentEntry.getValue(), record);
+			}
+			segmentNumber = segmentEntry.getKey();
+		}
+
+		this.replayedThrows = throwsRead;
+		this.replayedSegments = new ArrayList<>(segments.values());
+		this.replayApplied = segments.isEmpty();
+		if (!segments.isEmpty())
+			LOGGER.info("Read {} throws to replay from {} throw journal segments.", throwsRead.size(),
+					segments.size());
+	}
+
+	/**
+	 * Starts the next segment. Must be called while holding this' lock (or from
+	 * the constructor).
+	 *
+	 * @throws IOException
+	 *             Any {@link IOException}s encountered will be passed through.
+	 */
+	private void openSegment() throws IOException {
+		segmentNumber++;
+		segment = FileChannel.open(getSegmentPath(segmentNumber),
+				StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+		segmentEmpty = true;
+	}
+
+	/**
+	 * @param number
+	 *            the number of the segment to get the {@link Path} of
+	 * @return the {@link Path} of the specified segment's file
+	 */
+	private Path getSegmentPath(long number) {
+		return directory.resolve(String.format("throws-%d.journal", number));
+	}
+
+	/**
+	 * @return <code>true</code> if {@link #append(JournaledThrow)} may be
+	 *         called, <code>false</code> if not
+	 */
+	@ManagedAttribute
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @return <code>true</code> if the {@link JournaledThrow}s read in at
+	 *         startup have all been written to the database (or there weren't
+	 *         any), <code>false</code> if not
+	 */
+	public boolean isReplayApplied() {
+		return replayApplied;
+	}
+
+	/**
+	 * @return the number of {@link JournaledThrow}s that haven't yet been
+	 *         written to the database (excluding any that are waiting to be
+	 *         replayed)
+	 */
+	@ManagedAttribute
+	public synchronized int getPendingCount() {
+		return pendingThrows.size();
+	}
+
+	/**
+	 * @return the number of {@link JournaledThrow}s that have been appended to
+	 *         the journal since startup
+	 */
+	@ManagedAttribute
+	public long getAppendedCount() {
+		return appendedCount.get();
+	}
+
+	/**
+	 * @return the number of {@link JournaledThrow}s that have been written to
+	 *         the database since startup (including ones that turned out to
+	 *         already be there)
+	 */
+	@ManagedAttribute
+	public long getFlushedCount() {
+		return flushedCount.get();
+	}
+
+	/**
+	 * @return the number of flushes that have failed (and will be retried)
+	 *         since startup
+	 */
+	@ManagedAttribute
+	public long getFlushFailureCount() {
+		return flushFailureCount.get();
+	}
+
+	/**
+	 * @return the number of {@link JournaledThrow}s that were replayed from
+	 *         the journal at startup
+	 */
+	@ManagedAttribute
+	public long getReplayedCount() {
+		return replayedCount.get();
+	}
+
+	/**
+	 * @param gameId
+	 *            the {@link Game#getId()} of the {@link Game} to check
+	 * @return the {@link JournaledThrow} that's waiting to be written to the
+	 *         database for the specified {@link Game}, or <code>null</code> if
+	 *         there isn't one
+	 */
+	public synchronized JournaledThrow getPendingThrow(String gameId) {
+		PendingThrow pendingThrow = pendingThrows.get(gameId);
+		return pendingThrow != null ? pendingThrow.journaledThrow : null;
+	}
+
+	/**
+	 * @return the {@link JournaledThrow}s that are waiting to be written to
+	 *         the database, keyed by {@link Game#getId()}
+	 */
+	public synchronized Map<String, JournaledThrow> getPendingThrows() {
+		Map<String, JournaledThrow> pendingThrowsCopy = new HashMap<>();
+		for (PendingThrow pendingThrow : pendingThrows.values())
+			pendingThrowsCopy.put(pendingThrow.journaledThrow.getGameId(), pendingThrow.journaledThrow);
+		return pendingThrowsCopy;
+	}
+
+	/**
+	 * Durably records the specified {@link JournaledThrow}, which will be
+	 * written to the database by a later flush. Concurrent calls share the
+	 * cost of forcing the journal to disk.
+	 *
+	 * @param journaledThrow
+	 *            the {@link JournaledThrow} to record, which must be for a
+	 *            {@link Game} that doesn't already have one pending
+	 */
+	public void append(JournaledThrow journaledThrow) {
+		if (!enabled)
+			throw new IllegalStateException();
+		if (journaledThrow == null)
+			throw new IllegalArgumentException();
+
+		long sequence;
+		long recordSegmentNumber;
+		synchronized (this) {
+			if (pendingThrows.containsKey(journaledThrow.getGameId()))
+				throw new IllegalStateException();
+
+			try {
+				ByteBuffer record = ByteBuffer.wrap(journaledThrow.encode());
+				while (record.hasRemaining())
+					segment.write(record);
+			} catch (IOException e) {
+				throw new UncheckedIOException("Unable to write to the throw journal.", e);
+			}
+			segmentEmpty = false;
+			recordSegmentNumber = segmentNumber;
+			incrementSegmentPendingCount(recordSegmentNumber);
+			sequence = ++appendedSequence;
+		}
+
+		force(sequence);
+
+		synchronized (this) {
+			pendingThrows.put(journaledThrow.getGameId(), new PendingThrow(journaledThrow, recordSegmentNumber));
+		}
+		appendedCount.incrementAndGet();
+	}
+
+	/**
+	 * Ensures that everything up to (and including) the specified record has
+	 * been forced to disk. Whichever caller gets here first forces everything
+	 * written so far, which will often include the records of the callers
+	 * waiting behind it.
+	 *
+	 * @param sequence
+	 *            the {@link #appendedSequence} of the record to wait for
+	 */
+	private void force(long sequence) {
+		synchronized (forceLock) {
+			if (durableSequence >= sequence)
+				return;
+
+			long targetSequence;
+			FileChannel targetSegment;
+			synchronized (this) {
+				targetSequence = appendedSequence;
+				targetSegment = segment;
+			}
+
+			try {
+				targetSegment.force(false);
+			} catch (ClosedChannelException e) {
+				// The segment was rotated out, which forces it before closing.
+			} catch (IOException e) {
+				throw new UncheckedIOException("Unable to force the throw journal to disk.", e);
+			}
+			durableSequence = targetSequence;
+		}
+	}
+
+	/**
+	 * Writes the {@link JournaledThrow} pending for the specified {@link Game}
+	 * (if any) to the database, along with any replayed ones that haven't been
+	 * written yet. Must be called before any other writes to that
+	 * {@link Game}.
+	 *
+	 * @param gameId
+	 *            the {@link Game#getId()} of the {@link Game} to flush
+	 */
+	public void flush(String gameId) {
+		if (!enabled)
+			return;
+
+		applyReplayedThrows();
+
+		PendingThrow pendingThrow;
+		synchronized (this) {
+			pendingThrow = pendingThrows.get(gameId);
+		}
+		if (pendingThrow == null)
+			return;
+
+		List<PendingThrow> batch = new ArrayList<>(1);
+		batch.add(pendingThrow);
+		writeBatch(batch);
+	}
+
+	/**
+	 * Writes the oldest (up to {@link ThrowJournalConfig#getMaxBatchSize()})
+	 * pending {@link JournaledThrow}s to the database, in a single
+	 * transaction. Called periodically by the background flusher thread.
+	 */
+	void flush() {
+		if (!enabled)
+			return;
+
+		applyReplayedThrows();
+
+		List<PendingThrow> batch = new ArrayList<>();
+		synchronized (this) {
+			Iterator<PendingThrow> pendingThrowsIter = pendingThrows.values().iterator();
+			while (pendingThrowsIter.hasNext() && batch.size() < maxBatchSize)
+				batch.add(pendingThrowsIter.next());
+
+			// Seal the current segment, so that it can be deleted once flushed.
+			if (!segmentEmpty) {
+				try {
+					long sealedSegmentNumber = segmentNumber;
+					segment.force(false);
+					segment.close();
+					openSegment();
+					deleteSegmentIfDone(sealedSegmentNumber);
+				} catch (IOException e) {
+					throw new UncheckedIOException("Unable to rotate the throw journal.", e);
+				}
+			}
+		}
+		if (batch.isEmpty())
+			return;
+
+		writeBatch(batch);
+	}
+
+	/**
+	 * Writes the {@link JournaledThrow}s that were read in at startup to the
+	 * database (if that hasn't already been done), and then deletes the
+	 * segments that they were read from.
+	 */
+	private void applyReplayedThrows() {
+		if (replayApplied)
+			return;
+
+		synchronized (replayLock) {
+			if (replayApplied)
+				return;
+
+			for (int batchStart = 0; batchStart < replayedThrows.size(); batchStart += maxBatchSize) {
+				List<JournaledThrow> batch = replayedThrows.subList(batchStart,
+						Math.min(replayedThrows.size(), batchStart + maxBatchSize));
+				writeToDatabase(batch);
+			}
+			replayedCount.addAndGet(replayedThrows.size());
+			LOGGER.info("Replayed {} throws from the throw journal.", replayedThrows.size());
+
+			for (Path replayedSegment : replayedSegments) {
+				try {
+					Files.deleteIfExists(replayedSegment);
+				} catch (IOException e) {
+					LOGGER.warn("Unable to delete throw journal segment: {}", replayedSegment, e);
+				}
+			}
+			replayedThrows = null;
+			replayedSegments = null;
+			replayApplied = true;
+		}
+	}
+
+	/**
+	 * Writes the specified pending {@link JournaledThrow}s to the database,
+	 * and then marks them as no longer pending.
+	 *
+	 * @param batch
+	 *            the {@link PendingThrow}s to write
+	 */
+	private void writeBatch(List<PendingThrow> batch) {
+		List<JournaledThrow> journaledThrows = new ArrayList<>(batch.size());
+		for (PendingThrow pendingThrow : batch)
+			journaledThrows.add(pendingThrow.journaledThrow);
+		writeToDatabase(journaledThrows);
+
+		synchronized (this) {
+			for (PendingThrow pendingThrow : batch) {
+				/*
+				 * The flusher thread and flush(String) may both have written
+				 * the same one, so only the first of them to get here may
+				 * count it.
+				 */
+				if (!pendingThrows.remove(pendingThrow.journaledThrow.getGameId(), pendingThrow))
+					continue;
+
+				flushedCount.incrementAndGet();
+				segmentPendingCounts.put(pendingThrow.segmentNumber,
+						segmentPendingCounts.get(pendingThrow.segmentNumber) - 1);
+				deleteSegmentIfDone(pendingThrow.segmentNumber);
+			}
+		}
+	}
+
+	/**
+	 * @param journaledThrows
+	 *            the {@link JournaledThrow}s to write to the database, in a
+	 *            single transaction
+	 */
+	private void writeToDatabase(final List<JournaledThrow> journaledThrows) {
+		try {
+			writeRetrier.execute("throwJournal", new TransactionCallback<Integer>() {
+				/**
+				 * @see org.springframework.transaction.support.TransactionCallback#doInTransaction(org.springframework.transaction.TransactionStatus)
+				 */
+				@Override
+				public Integer doInTransaction(TransactionStatus status) {
+					return gamesDao.applyJournaledThrows(journaledThrows);
+				}
+			});
+		} catch (RuntimeException e) {
+			flushFailureCount.incrementAndGet();
+			LOGGER.warn("Unable to flush {} journaled throws.", journaledThrows.size(), e);
+			throw e;
+		}
+	}
+
+	/**
+	 * @param recordSegmentNumber
+	 *            the number of the segment that a record was just written to
+	 */
+	private void incrementSegmentPendingCount(long recordSegmentNumber) {
+		Integer segmentPendingCount = segmentPendingCounts.get(recordSegmentNumber);
+		segmentPendingCounts.put(recordSegmentNumber, segmentPendingCount != null ? segmentPendingCount + 1 : 1);
+	}
+
+	/**
+	 * Deletes the specified segment if it's been sealed and all of its
+	 * {@link JournaledThrow}s have been flushed. Must be called while holding
+	 * this' lock.
+	 *
+	 * @param candidateSegmentNumber
+	 *            the number of the segment to check
+	 */
+	private void deleteSegmentIfDone(long candidateSegmentNumber) {
+		if (candidateSegmentNumber == segmentNumber)
+			return;
+		Integer segmentPendingCount = segmentPendingCounts.get(candidateSegmentNumber);
+		if (segmentPendingCount != null && segmentPendingCount > 0)
+			return;
+
+		segmentPendingCounts.remove(candidateSegmentNumber);
+		Path segmentPath = getSegmentPath(candidateSegmentNumber);
+		try {
+			Files.deleteIfExists(segmentPath);
+		} catch (IOException e) {
+			LOGGER.warn("Unable to delete throw journal segment: {}", segmentPath, e);
+		}
+	}
+
+	/**
+	 * Stops the background flusher thread, makes a last attempt to flush all
+	 * pending {@link JournaledThrow}s, and closes the journal. (Anything that
+	 * couldn't be flushed will be replayed at the next startup.)
+	 */
+	@PreDestroy
+	public void close() {
+		if (!enabled)
+			return;
+
+		flusher.shutdown();
+		try {
+			if (!flusher.awaitTermination(10, TimeUnit.SECONDS))
+				LOGGER.warn("Throw journal flusher did not stop in time.");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		try {
+			do {
+				flush();
+			} while (getPendingCount() > 0);
+		} catch (RuntimeException e) {
+			LOGGER.warn("Unable to flush the throw journal at shutdown. It will be replayed at the next startup.");
+		}
+
+		synchronized (this) {
+			try {
+				segment.close();
+			} catch (IOException e) {
+				LOGGER.warn("Unable to close the throw journal.", e);
+			}
+			if (segmentEmpty) {
+				// Don't leave an empty segment behind.
+				Path segmentPath = getSegmentPath(segmentNumber);
+				try {
+					Files.deleteIfExists(segmentPath);
+				} catch (IOException e) {
+					LOGGER.warn("Unable to delete throw journal segment: {}", segmentPath, e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * A {@link JournaledThrow} that hasn't been written to the database yet,
+	 * along with the number of the segment it was written to.
+	 */
+	private static final class PendingThrow {
+		private final JournaledThrow journaledThrow;
+		private final long segmentNumber;
+
+		/**
+		 * Constructs a new {@link PendingThrow} instance.
+		 *
+		 * @param journaledThrow
+		 *            the {@link JournaledThrow} that's pending
+		 * @param segmentNumber
+		 *            the number of the segment that the {@link JournaledThrow}
+		 *            was written to
+		 */
+		PendingThrow(JournaledThrow journaledThrow, long segmentNumber) {
+			this.journaledThrow = journaledThrow;
+			this.segmentNumber = segmentNumber;
+		}
+	}
+}
@@ -0,0 +1,151 @@
+package com.justdavis.karl.rpstourney.service.app.jpa;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.justdavis.karl.rpstourney.service.api.game.Game;
+import com.justdavis.karl.rpstourney.service.api.game.GameRound;
+import com.justdavis.karl.rpstourney.service.api.game.GameRoundHistory;
+import com.justdavis.karl.rpstourney.service.api.game.State;
+import com.justdavis.karl.rpstourney.service.api.game.Throw;
+
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.SetupException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+
+/**
+ * <p>
+ * A Liquibase {@link CustomTaskChange} that moves the {@link GameRound}s of
+ * every {@link State#FINISHED} {@link Game} out of the <code>GameRounds</code>
+ * table and into the compact <code>Games.roundHistory</code> column, in the
+ * same format that {@link Game#compactRounds()} would.
+ * </p>
+ * <p>
+ * This is referenced from the application's Liquibase change log, and must
+ * only be run after the <code>roundHistory</code> column has been added.
+ * </p>
+ */
+public final class GameRoundHistoryMigration implements CustomTaskChange {
+	/*
+	 * Design note: The GameRounds' FK column isn't quoted (see the FIXME in
+	 * GameRound), so it's left unquoted here, too. That way, it will end up
+	 * with the right case on each DB platform.
+	 */
+
+	private static final String SQL_SELECT_GAMES = "SELECT \"id\" FROM \"Games\" WHERE \"state\" = ? AND \"roundHistory\" IS NULL";
+	private static final String SQL_SELECT_ROUNDS = "SELECT \"throwForPlayer1\", \"throwForPlayer1Timestamp\", "
+			+ "\"throwForPlayer2\", \"throwForPlayer2Timestamp\" FROM \"GameRounds\" WHERE gameId = ? "
+			+ "ORDER BY \"roundIndex\" ASC";
+	private static final String SQL_UPDATE_GAME = "UPDATE \"Games\" SET \"roundHistory\" = ? WHERE \"id\" = ?";
+	private static final String SQL_DELETE_ROUNDS = "DELETE FROM \"GameRounds\" WHERE gameId = ?";
+
+	private int gamesMigrated = 0;
+
+	/**
+	 * @see liquibase.change.custom.CustomTaskChange#execute(liquibase.database.Database)
+	 */
+	@Override
+	public void execute(Database database) throws CustomChangeException {
+		/*
+		 * Note: Liquibase is managing the transaction here, so this mustn't
+		 * commit or close the Connection.
+		 */
+		Connection connection = ((JdbcConnection) database.getConnection()).getUnderlyingConnection();
+
+		try {
+			List<String> gameIds = new ArrayList<>();
+			try (PreparedStatement selectGames = connection.prepareStatement(SQL_SELECT_GAMES)) {
+				selectGames.setString(1, State.FINISHED.name());
+				try (ResultSet games = selectGames.executeQuery()) {
+					while (games.next())
+						gameIds.add(games.getString(1));
+				}
+			}
+
+			try (PreparedStatement selectRounds = connection.prepareStatement(SQL_SELECT_ROUNDS);
+					PreparedStatement updateGame = connection.prepareStatement(SQL_UPDATE_GAME);
+					PreparedStatement deleteRounds = connection.prepareStatement(SQL_DELETE_ROUNDS)) {
+				for (String gameId : gameIds) {
+					GameRoundHistory.Builder history = new GameRoundHistory.Builder();
+					selectRounds.setString(1, gameId);
+					try (ResultSet rounds = selectRounds.executeQuery()) {
+						while (rounds.next())
+							history.addRound(parseThrow(rounds.getString(1)), parseTimestamp(rounds.getTimestamp(2)),
+									parseThrow(rounds.getString(3)), parseTimestamp(rounds.getTimestamp(4)));
+					}
+
+					updateGame.setBytes(1, history.build().toBytes());
+					updateGame.setString(2, gameId);
+					updateGame.executeUpdate();
+
+					deleteRounds.setString(1, gameId);
+					deleteRounds.executeUpdate();
+
+					gamesMigrated++;
+				}
+			}
+		} catch (SQLException e) {
+			throw new CustomChangeException(e);
+		}
+	}
+
+	/**
+	 * @param throwName
+	 *            the {@link Throw#name()} value to parse, or <code>null</code>
+	 * @return the matching {@link Throw}, or <code>null</code>
+	 */
+	private static Throw parseThrow(String throwName) {
+		return throwName != null ? Throw.valueOf(throwName) : null;
+	}
+
+	/**
+	 * @param timestamp
+	 *            the {@link Timestamp} to convert, or <code>null</code>
+	 * @return the equivalent {@link Instant}, or <code>null</code>
+	 */
+	private static Instant parseTimestamp(Timestamp timestamp) {
+		return timestamp != null ? timestamp.toInstant() : null;
+	}
+
+	/**
+	 * @see liquibase.change.custom.CustomChange#getConfirmationMessage()
+	 */
+	@Override
+	public String getConfirmationMessage() {
+		return String.format("Compacted the rounds of %d finished games.", gamesMigrated);
+	}
+
+	/**
+	 * @see liquibase.change.custom.CustomChange#setUp()
+	 */
+	@Override
+	public void setUp() throws SetupException {
+		// Nothing to do here.
+	}
+
+	/**
+	 * @see liquibase.change.custom.CustomChange#setFileOpener(liquibase.resource.ResourceAccessor)
+	 */
+	@Override
+	public void setFileOpener(ResourceAccessor resourceAccessor) {
+		// Not needed.
+	}
+
+	/**
+	 * @see liquibase.change.custom.CustomChange#validate(liquibase.database.Database)
+	 */
+	@Override
+	public ValidationErrors validate(Database database) {
+		return new ValidationErrors();
+	}
+}
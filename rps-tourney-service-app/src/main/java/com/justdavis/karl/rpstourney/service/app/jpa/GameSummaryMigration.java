@@ -0,0 +1,168 @@
+package com.justdavis.karl.rpstourney.service.app.jpa;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+
+import com.justdavis.karl.rpstourney.service.api.game.Game;
+import com.justdavis.karl.rpstourney.service.api.game.GameRoundHistory;
+import com.justdavis.karl.rpstourney.service.api.game.GameSummary;
+import com.justdavis.karl.rpstourney.service.api.game.State;
+import com.justdavis.karl.rpstourney.service.api.game.Throw;
+
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.SetupException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+
+/**
+ * <p>
+ * A Liquibase {@link CustomTaskChange} that fills in the summary columns (see
+ * {@link GameSummary}) of every existing {@link Game}, with the same values
+ * that {@link Game} itself would have computed for them.
+ * </p>
+ * <p>
+ * This is referenced from the application's Liquibase change log, and must
+ * only be run after the summary columns have been added. Each {@link Game}'s
+ * rounds are read from its compacted <code>roundHistory</code>, if it has one,
+ * or from the <code>GameRounds</code> table otherwise.
+ * </p>
+ */
+public final class GameSummaryMigration implements CustomTaskChange {
+	/*
+	 * Design note: The GameRounds' FK column isn't quoted (see the FIXME in
+	 * GameRound), so it's left unquoted here, too. That way, it will end up
+	 * with the right case on each DB platform.
+	 */
+
+	private static final String SQL_SELECT_GAMES = "SELECT \"id\", \"createdTimestamp\", \"state\", "
+			+ "\"player1Id\", \"player2Id\", \"roundHistory\" FROM \"Games\"";
+	private static final String SQL_SELECT_ROUNDS = "SELECT \"throwForPlayer1\", \"throwForPlayer1Timestamp\", "
+			+ "\"throwForPlayer2\", \"throwForPlayer2Timestamp\" FROM \"GameRounds\" WHERE gameId = ? "
+			+ "ORDER BY \"roundIndex\" ASC";
+	private static final String SQL_UPDATE_GAME = "UPDATE \"Games\" SET \"score1\" = ?, \"score2\" = ?, "
+			+ "\"roundCount\" = ?, \"lastThrowTimestamp\" = ?, \"winnerId\" = ? WHERE \"id\" = ?";
+
+	private int gamesMigrated = 0;
+
+	/**
+	 * @see liquibase.change.custom.CustomTaskChange#execute(liquibase.database.Database)
+	 */
+	@Override
+	public void execute(Database database) throws CustomChangeException {
+		/*
+		 * Note: Liquibase is managing the transaction here, so this mustn't
+		 * commit or close the Connection.
+		 */
+		Connection connection = ((JdbcConnection) database.getConnection()).getUnderlyingConnection();
+
+		try (PreparedStatement selectGames = connection.prepareStatement(SQL_SELECT_GAMES);
+				PreparedStatement selectRounds = connection.prepareStatement(SQL_SELECT_ROUNDS);
+				PreparedStatement updateGame = connection.prepareStatement(SQL_UPDATE_GAME);
+				ResultSet games = selectGames.executeQuery()) {
+			while (games.next()) {
+				String gameId = games.getString(1);
+				Instant createdTimestamp = games.getTimestamp(2).toInstant();
+				State state = State.valueOf(games.getString(3));
+				long player1Id = games.getLong(4);
+				long player2Id = games.getLong(5);
+				byte[] roundHistoryBytes = games.getBytes(6);
+
+				GameRoundHistory history;
+				if (roundHistoryBytes != null) {
+					history = GameRoundHistory.fromBytes(roundHistoryBytes);
+				} else {
+					GameRoundHistory.Builder historyBuilder = new GameRoundHistory.Builder();
+					selectRounds.setString(1, gameId);
+					try (ResultSet rounds = selectRounds.executeQuery()) {
+						while (rounds.next())
+							historyBuilder.addRound(parseThrow(rounds.getString(1)),
+									parseTimestamp(rounds.getTimestamp(2)), parseThrow(rounds.getString(3)),
+									parseTimestamp(rounds.getTimestamp(4)));
+					}
+					history = historyBuilder.build();
+				}
+				GameRoundHistory.Stats stats = history.computeStats();
+
+				// This matches Game.getLastThrowTimestamp().
+				Instant lastThrowTimestamp = createdTimestamp;
+				if (stats.getLastThrowTimestamp() != null
+						&& stats.getLastThrowTimestamp().compareTo(lastThrowTimestamp) > 0)
+					lastThrowTimestamp = stats.getLastThrowTimestamp();
+
+				updateGame.setInt(1, stats.getScoreForPlayer1());
+				updateGame.setInt(2, stats.getScoreForPlayer2());
+				updateGame.setInt(3, stats.getRoundCount());
+				updateGame.setTimestamp(4, Timestamp.from(lastThrowTimestamp));
+				if (state == State.FINISHED)
+					updateGame.setLong(5, stats.getScoreForPlayer1() > stats.getScoreForPlayer2() ? player1Id
+							: player2Id);
+				else
+					updateGame.setNull(5, Types.BIGINT);
+				updateGame.setString(6, gameId);
+				updateGame.executeUpdate();
+
+				gamesMigrated++;
+			}
+		} catch (SQLException e) {
+			throw new CustomChangeException(e);
+		}
+	}
+
+	/**
+	 * @param throwName
+	 *            the {@link Throw#name()} value to parse, or <code>null</code>
+	 * @return the matching {@link Throw}, or <code>null</code>
+	 */
+	private static Throw parseThrow(String throwName) {
+		return throwName != null ? Throw.valueOf(throwName) : null;
+	}
+
+	/**
+	 * @param timestamp
+	 *            the {@link Timestamp} to convert, or <code>null</code>
+	 * @return the equivalent {@link Instant}, or <code>null</code>
+	 */
+	private static Instant parseTimestamp(Timestamp timestamp) {
+		return timestamp != null ? timestamp.toInstant() : null;
+	}
+
+	/**
+	 * @see liquibase.change.custom.CustomChange#getConfirmationMessage()
+	 */
+	@Override
+	public String getConfirmationMessage() {
+		return String.format("Filled in the summary columns of %d games.", gamesMigrated);
+	}
+
+	/**
+	 * @see liquibase.change.custom.CustomChange#setUp()
+	 */
+	@Override
+	public void setUp() throws SetupException {
+		// Nothing to do here.
+	}
+
+	/**
+	 * @see liquibase.change.custom.CustomChange#setFileOpener(liquibase.resource.ResourceAccessor)
+	 */
+	@Override
+	public void setFileOpener(ResourceAccessor resourceAccessor) {
+		// Not needed.
+	}
+
+	/**
+	 * @see liquibase.change.custom.CustomChange#validate(liquibase.database.Database)
+	 */
+	@Override
+	public ValidationErrors validate(Database database) {
+		return new ValidationErrors();
+	}
+}
@@ -1,5 +1,10 @@
 package com.justdavis.karl.rpstourney.service.app.jpa;
 
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.PersistenceContext;
@@ -20,6 +25,10 @@ import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+import com.justdavis.karl.misc.exceptions.BadCodeMonkeyException;
+import com.justdavis.karl.rpstourney.service.api.auth.Account;
+import com.justdavis.karl.rpstourney.service.api.game.Player;
+
 /**
  * Provides the Spring {@link Configuration} for JPA.
  */
@@ -27,6 +36,12 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 @EnableJpaRepositories
 @EnableTransactionManagement
 public class SpringBindingsForJpa {
+	/**
+	 * The classpath resource that configures the caches (i.e. regions) used
+	 * by Hibernate's second-level cache.
+	 */
+	private static final String CACHE_CONFIG_RESOURCE = "/ehcache.xml";
+
 	/**
 	 * @return the Spring {@link JpaVendorAdapter} for the application's
 	 *         database
@@ -51,6 +66,10 @@ public class SpringBindingsForJpa {
 	 * created/updated before this Spring bean is created, which is why this
 	 * method has a {@link DependsOn} annotation.
 	 * </p>
+	 * <p>
+	 * The {@link EntityManagerFactory} will also be configured with the
+	 * Hibernate properties from {@link #createJpaProperties()}.
+	 * </p>
 	 * 
 	 * @param dataSource
 	 *            the injected {@link DataSource} that the JPA
@@ -69,9 +88,83 @@ public class SpringBindingsForJpa {
 		LocalContainerEntityManagerFactoryBean lef = new LocalContainerEntityManagerFactoryBean();
 		lef.setDataSource(dataSource);
 		lef.setJpaVendorAdapter(jpaVendorAdapter);
+		lef.setJpaPropertyMap(createJpaProperties());
 		return lef;
 	}
 
+	/**
+	 * <p>
+	 * Returns the Hibernate-specific JPA properties that the application's
+	 * {@link EntityManagerFactory} should use. These include all of those from
+	 * {@link #createCacheProperties()}, plus the following, which cut down on
+	 * the number of database round trips needed to insert new entities (e.g.
+	 * when a new guest signs up, which creates an {@link Account}, its login,
+	 * and a {@link Player}):
+	 * </p>
+	 * <ul>
+	 * <li>The <code>pooled-lo</code> ID optimizer: each <code>nextval</code>
+	 * call on an entity's sequence reserves a block of IDs (the sequences
+	 * increment by the entities' <code>allocationSize</code>, which must match),
+	 * so only one in every so many inserts needs to query the sequence.</li>
+	 * <li>JDBC batching of inserts and updates, with statements ordered by
+	 * entity type so that more of them can be batched together.</li>
+	 * </ul>
+	 * 
+	 * @return the Hibernate-specific JPA properties that the application's
+	 *         {@link EntityManagerFactory} should use
+	 */
+	public static Map<String, Object> createJpaProperties() {
+		Map<String, Object> jpaProperties = createCacheProperties();
+		jpaProperties.put("hibernate.id.optimizer.pooled.preferred", "pooled-lo");
+		jpaProperties.put("hibernate.jdbc.batch_size", "50");
+		jpaProperties.put("hibernate.order_inserts", "true");
+		jpaProperties.put("hibernate.order_updates", "true");
+		jpaProperties.put("hibernate.jdbc.batch_versioned_data", "true");
+		return jpaProperties;
+	}
+
+	/**
+	 * <p>
+	 * Returns the JPA properties that enable Hibernate's second-level cache,
+	 * backed by Ehcache via JCache (JSR-107). Only the entities and
+	 * collections that are marked with Hibernate's <code>@Cache</code>
+	 * annotation will be cached: {@link Player}s, {@link Account}s, and
+	 * {@link Account#getRoles()}. The query cache is enabled, too, for use by
+	 * queries that explicitly request it.
+	 * </p>
+	 * <p>
+	 * Each cache region's size limit and TTL are set in the
+	 * {@link #CACHE_CONFIG_RESOURCE} file. That file also enables JCache's
+	 * statistics for each region, which will publish their hit, miss, and
+	 * eviction counts via JMX (as <code>javax.cache:type=CacheStatistics</code>
+	 * MBeans).
+	 * </p>
+	 * <p>
+	 * Note that all writes to the cached entities must go through JPA (rather
+	 * than native SQL or bulk updates), so that Hibernate can keep the cache
+	 * up to date.
+	 * </p>
+	 * 
+	 * @return the JPA properties that enable Hibernate's second-level cache
+	 */
+	public static Map<String, Object> createCacheProperties() {
+		URL cacheConfigUrl = SpringBindingsForJpa.class.getResource(CACHE_CONFIG_RESOURCE);
+		if (cacheConfigUrl == null)
+			throw new BadCodeMonkeyException("Missing resource: " + CACHE_CONFIG_RESOURCE);
+
+		Map<String, Object> cacheProperties = new HashMap<>();
+		cacheProperties.put("hibernate.cache.use_second_level_cache", "true");
+		cacheProperties.put("hibernate.cache.use_query_cache", "true");
+		cacheProperties.put("hibernate.cache.region.factory_class", "org.hibernate.cache.jcache.JCacheRegionFactory");
+		cacheProperties.put("hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider");
+		try {
+			cacheProperties.put("hibernate.javax.cache.uri", cacheConfigUrl.toURI().toString());
+		} catch (URISyntaxException e) {
+			throw new BadCodeMonkeyException(e);
+		}
+		return cacheProperties;
+	}
+
 	/**
 	 * @param entityManagerFactoryBean
 	 *            the injected {@link LocalContainerEntityManagerFactoryBean}
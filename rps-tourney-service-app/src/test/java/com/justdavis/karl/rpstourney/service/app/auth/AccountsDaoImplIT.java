@@ -19,7 +19,9 @@ import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
 
 import org.hibernate.Session;
+import org.hibernate.SessionFactory;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
 import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
@@ -38,6 +40,7 @@ import com.justdavis.karl.rpstourney.service.api.auth.Account;
 import com.justdavis.karl.rpstourney.service.api.auth.AuditAccountGameMerge;
 import com.justdavis.karl.rpstourney.service.api.auth.AuditAccountMerge;
 import com.justdavis.karl.rpstourney.service.api.auth.AuthToken;
+import com.justdavis.karl.rpstourney.service.api.auth.SecurityRole;
 import com.justdavis.karl.rpstourney.service.api.auth.guest.GuestLoginIdentity;
 import com.justdavis.karl.rpstourney.service.api.game.Game;
 import com.justdavis.karl.rpstourney.service.api.game.Player;
@@ -245,6 +248,66 @@ public final class AccountsDaoImplIT {
 		}
 	}
 
+	/**
+	 * Verifies that {@link AccountsDaoImpl#getAccountById(long)} is served from
+	 * Hibernate's second-level cache, and that
+	 * {@link AccountsDaoImpl#merge(Account)} keeps that cache up to date.
+	 */
+	@Test
+	public void getAccountByIdCached() {
+		EntityManager entityManager = daoTestHelper.getEntityManagerFactory().createEntityManager();
+		Statistics statistics = daoTestHelper.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+		try {
+			// Create the DAO.
+			AccountsDaoImpl accountsDao = new AccountsDaoImpl();
+			accountsDao.setEntityManager(entityManager);
+
+			// Save the entity.
+			Account account = new Account();
+			EntityTransaction tx = null;
+			try {
+				tx = entityManager.getTransaction();
+				tx.begin();
+				accountsDao.save(account);
+				tx.commit();
+			} finally {
+				if (tx != null && tx.isActive())
+					tx.rollback();
+			}
+
+			// Look it up again from an empty persistence context.
+			entityManager.clear();
+			long hitCount = statistics.getSecondLevelCacheStatistics(Account.class.getName()).getHitCount();
+			Account cachedAccount = accountsDao.getAccountById(account.getId());
+			Assert.assertNotNull(cachedAccount);
+			Assert.assertEquals(hitCount + 1,
+					statistics.getSecondLevelCacheStatistics(Account.class.getName()).getHitCount());
+
+			// Modify and merge a detached copy of the entity.
+			entityManager.clear();
+			cachedAccount.setName("foo");
+			cachedAccount.getRoles().add(SecurityRole.ADMINS);
+			try {
+				tx = entityManager.getTransaction();
+				tx.begin();
+				accountsDao.merge(cachedAccount);
+				tx.commit();
+			} finally {
+				if (tx != null && tx.isActive())
+					tx.rollback();
+			}
+
+			// Verify that the cached copy was updated.
+			entityManager.clear();
+			Account updatedAccount = accountsDao.getAccountById(account.getId());
+			Assert.assertEquals("foo", updatedAccount.getName());
+			Assert.assertTrue(updatedAccount.hasRole(SecurityRole.ADMINS));
+		} finally {
+			entityManager.close();
+		}
+	}
+
 	/**
 	 * Tests {@link AccountsDaoImpl#getAccountByAuthToken(UUID)}.
 	 */
@@ -1,10 +1,12 @@
 package com.justdavis.karl.rpstourney.service.app.auth;
 
 import javax.inject.Inject;
+import javax.persistence.EntityManagerFactory;
 import javax.ws.rs.BadRequestException;
 import javax.ws.rs.core.Response.Status;
 
 import org.hamcrest.core.StringContains;
+import org.hibernate.SessionFactory;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Rule;
@@ -49,6 +51,9 @@ public final class AccountsResourceImplIT {
 	@Inject
 	private IDataSourceSchemaManager schemaManager;
 
+	@Inject
+	private EntityManagerFactory entityManagerFactory;
+
 	@Inject
 	private IConfigLoader configLoader;
 
@@ -62,6 +67,9 @@ public final class AccountsResourceImplIT {
 	public void wipeSchema() {
 		schemaManager.wipeSchema(configLoader.getConfig().getDataSourceCoordinates());
 		schemaManager.createOrUpgradeSchema(configLoader.getConfig().getDataSourceCoordinates());
+
+		// The wipe bypasses Hibernate, so its second-level cache is now stale.
+		entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
 	}
 
 	/**
@@ -3,7 +3,9 @@ package com.justdavis.karl.rpstourney.service.app.auth.game;
 import javax.inject.Inject;
 import javax.mail.internet.AddressException;
 import javax.mail.internet.InternetAddress;
+import javax.persistence.EntityManagerFactory;
 
+import org.hibernate.SessionFactory;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Test;
@@ -43,6 +45,9 @@ public final class GameAuthResourceImplIT {
 	@Inject
 	private IDataSourceSchemaManager schemaManager;
 
+	@Inject
+	private EntityManagerFactory entityManagerFactory;
+
 	@Inject
 	private IConfigLoader configLoader;
 
@@ -53,6 +58,9 @@ public final class GameAuthResourceImplIT {
 	public void wipeSchema() {
 		schemaManager.wipeSchema(configLoader.getConfig().getDataSourceCoordinates());
 		schemaManager.createOrUpgradeSchema(configLoader.getConfig().getDataSourceCoordinates());
+
+		// The wipe bypasses Hibernate, so its second-level cache is now stale.
+		entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
 	}
 
 	/**
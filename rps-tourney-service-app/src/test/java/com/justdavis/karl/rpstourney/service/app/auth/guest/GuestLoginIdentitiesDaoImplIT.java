@@ -22,6 +22,7 @@ import com.justdavis.karl.misc.datasources.provisioners.postgresql.PostgreSqlPro
 import com.justdavis.karl.rpstourney.service.api.auth.Account;
 import com.justdavis.karl.rpstourney.service.api.auth.AuthToken;
 import com.justdavis.karl.rpstourney.service.api.auth.guest.GuestLoginIdentity;
+import com.justdavis.karl.rpstourney.service.api.auth.guest.PooledGuestAccount;
 import com.justdavis.karl.rpstourney.service.app.SpringBindingsForDaoITs;
 import com.justdavis.karl.rpstourney.service.app.SpringProfile;
 import com.justdavis.karl.rpstourney.service.app.auth.AccountsDaoImplIT;
@@ -123,4 +124,51 @@ public final class GuestLoginIdentitiesDaoImplIT {
 			entityManager.close();
 		}
 	}
+
+	/**
+	 * Tests {@link GuestLoginIdentitiesDaoImpl#save(PooledGuestAccount)},
+	 * {@link GuestLoginIdentitiesDaoImpl#getPooledAccountIds(int)}, and
+	 * {@link GuestLoginIdentitiesDaoImpl#claimPooledAccount(long)}.
+	 */
+	@Test
+	public void claimPooledAccount() {
+		EntityManager entityManager = daoTestHelper.getEntityManagerFactory().createEntityManager();
+
+		try {
+			// Create the DAO.
+			GuestLoginIdentitiesDaoImpl loginsDao = new GuestLoginIdentitiesDaoImpl();
+			loginsDao.setEntityManager(entityManager);
+
+			// Create and pool an account.
+			Account account = new Account();
+			GuestLoginIdentity login = new GuestLoginIdentity(account);
+			EntityTransaction tx = entityManager.getTransaction();
+			try {
+				tx.begin();
+				loginsDao.save(login);
+				loginsDao.save(new PooledGuestAccount(account));
+				tx.commit();
+			} finally {
+				if (tx.isActive())
+					tx.rollback();
+			}
+			Assert.assertEquals(1, loginsDao.getPooledAccountIds(10).size());
+			Assert.assertEquals(account.getId(), loginsDao.getPooledAccountIds(10).get(0).longValue());
+
+			// Claim it, and verify that it can only be claimed once.
+			try {
+				tx.begin();
+				Assert.assertTrue(loginsDao.claimPooledAccount(account.getId()));
+				Assert.assertFalse(loginsDao.claimPooledAccount(account.getId()));
+				tx.commit();
+			} finally {
+				if (tx.isActive())
+					tx.rollback();
+			}
+			Assert.assertEquals(0, loginsDao.getPooledAccountIds(10).size());
+			Assert.assertEquals(1, loginsDao.getLogins().size());
+		} finally {
+			entityManager.close();
+		}
+	}
 }
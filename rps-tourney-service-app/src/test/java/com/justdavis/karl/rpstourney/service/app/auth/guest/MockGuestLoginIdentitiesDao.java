@@ -1,9 +1,12 @@
 package com.justdavis.karl.rpstourney.service.app.auth.guest;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.justdavis.karl.rpstourney.service.api.auth.guest.GuestLoginIdentity;
+import com.justdavis.karl.rpstourney.service.api.auth.guest.PooledGuestAccount;
 import com.justdavis.karl.rpstourney.service.app.auth.MockAccountsDao;
 
 /**
@@ -12,6 +15,7 @@ import com.justdavis.karl.rpstourney.service.app.auth.MockAccountsDao;
  */
 public final class MockGuestLoginIdentitiesDao implements IGuestLoginIndentitiesDao {
 	public final List<GuestLoginIdentity> logins = new ArrayList<>();
+	public final Map<Long, PooledGuestAccount> pooledAccounts = new LinkedHashMap<>();
 	private final MockAccountsDao accountsDao;
 
 	/**
@@ -42,4 +46,29 @@ public final class MockGuestLoginIdentitiesDao implements IGuestLoginIndentities
 	public List<GuestLoginIdentity> getLogins() {
 		return logins;
 	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.app.auth.guest.IGuestLoginIndentitiesDao#save(com.justdavis.karl.rpstourney.service.api.auth.guest.PooledGuestAccount)
+	 */
+	@Override
+	public void save(PooledGuestAccount pooledAccount) {
+		pooledAccounts.put(pooledAccount.getAccountId(), pooledAccount);
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.app.auth.guest.IGuestLoginIndentitiesDao#getPooledAccountIds(int)
+	 */
+	@Override
+	public List<Long> getPooledAccountIds(int maxResults) {
+		List<Long> pooledAccountIds = new ArrayList<>(pooledAccounts.keySet());
+		return pooledAccountIds.subList(0, Math.min(maxResults, pooledAccountIds.size()));
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.app.auth.guest.IGuestLoginIndentitiesDao#claimPooledAccount(long)
+	 */
+	@Override
+	public boolean claimPooledAccount(long accountId) {
+		return pooledAccounts.remove(accountId) != null;
+	}
 }
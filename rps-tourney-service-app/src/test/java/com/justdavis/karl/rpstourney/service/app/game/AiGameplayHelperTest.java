@@ -1,12 +1,16 @@
 package com.justdavis.karl.rpstourney.service.app.game;
 
+import java.lang.reflect.Field;
+
 import org.junit.Assert;
 import org.junit.Test;
 
 import com.justdavis.karl.rpstourney.service.api.auth.Account;
 import com.justdavis.karl.rpstourney.service.api.game.Game;
 import com.justdavis.karl.rpstourney.service.api.game.Player;
+import com.justdavis.karl.rpstourney.service.api.game.State;
 import com.justdavis.karl.rpstourney.service.api.game.Throw;
+import com.justdavis.karl.rpstourney.service.api.game.ai.AiPlayerMind;
 import com.justdavis.karl.rpstourney.service.api.game.ai.BuiltInAi;
 
 /**
@@ -38,6 +42,36 @@ public final class AiGameplayHelperTest {
 		Assert.assertEquals(Throw.ROCK, game.getRounds().get(2).getThrowForPlayer2());
 	}
 
+	/**
+	 * Verifies that {@link AiGameplayHelper#respondToThrow(Game)} only has the
+	 * AI throw once the human has, for every round after the first.
+	 */
+	@Test
+	public void respondToThrow() {
+		AiGameplayHelper aiHelper = new AiGameplayHelper();
+		Game game = new Game(new Player(new Account()));
+		game.setPlayer2(new Player(BuiltInAi.THREE_SIDED_DIE_V1));
+		aiHelper.advanceGameForAiPlayers(game);
+		Assert.assertNotNull(game.getRounds().get(0).getThrowForPlayer2());
+
+		/*
+		 * After each human throw, the AI's throw for the next round should
+		 * only be precalculated, not made.
+		 */
+		while (game.getState() != State.FINISHED) {
+			int roundIndex = game.getRounds().size() - 1;
+			game.submitThrow(roundIndex, game.getPlayer1(), Throw.ROCK);
+			aiHelper.respondToThrow(game);
+
+			Assert.assertNotNull(game.getRounds().get(roundIndex).getThrowForPlayer2());
+			if (game.getState() != State.FINISHED) {
+				Assert.assertEquals(roundIndex + 2, game.getRounds().size());
+				Assert.assertNull(game.getCurrentRound().getThrowForPlayer2());
+			}
+		}
+		aiHelper.close();
+	}
+
 	/**
 	 * Verifies that {@link AiGameplayHelper} works as expected when both of the
 	 * players in a {@link Game} are AI.
@@ -58,4 +92,123 @@ public final class AiGameplayHelperTest {
 		Assert.assertEquals(2, game.getScoreForPlayer2());
 		Assert.assertEquals(game.getPlayer2(), game.getWinner());
 	}
+
+	/**
+	 * Verifies that {@link AiGameplayHelper#advanceGameForAiPlayers(Game, int)}
+	 * stops after the requested number of moves, and can then pick back up
+	 * where it left off.
+	 */
+	@Test
+	public void twoAiPlayersInBatches() {
+		AiGameplayHelper aiHelper = new AiGameplayHelper();
+		Game game = new Game(new Player(BuiltInAi.ONE_SIDED_DIE_ROCK));
+		game.setMaxRounds(5);
+		game.setPlayer2(new Player(BuiltInAi.ONE_SIDED_DIE_PAPER));
+
+		// Each batch of two moves should play exactly one round.
+		Assert.assertTrue(aiHelper.advanceGameForAiPlayers(game, 2));
+		Assert.assertEquals(1, game.getScoreForPlayer2());
+		Assert.assertTrue(aiHelper.advanceGameForAiPlayers(game, 2));
+		Assert.assertEquals(2, game.getScoreForPlayer2());
+		Assert.assertFalse(aiHelper.advanceGameForAiPlayers(game, 2));
+		Assert.assertEquals(3, game.getScoreForPlayer2());
+		Assert.assertEquals(State.FINISHED, game.getState());
+	}
+
+	/**
+	 * Verifies that {@link AiGameplayHelper} uses its
+	 * {@link OpponentModelCache} to carry what a learning AI learned about its
+	 * opponent in one {@link Game} over to the next.
+	 * 
+	 * @throws ReflectiveOperationException
+	 *             (indicates a problem with the test's reflection hack)
+	 */
+	@Test
+	public void learnsAcrossGames() throws ReflectiveOperationException {
+		AiGameplayHelper aiHelper = new AiGameplayHelper();
+		OpponentModelCache opponentModelCache = new OpponentModelCache(1024 * 1024, null);
+		aiHelper.setOpponentModelCache(opponentModelCache);
+
+		/*
+		 * Only saved Players can be remembered. To avoid involving the DB
+		 * here, we'll cheat and set the ID via reflection.
+		 */
+		Player humanPlayer = new Player(new Account());
+		Field playerIdField = Player.class.getDeclaredField("id");
+		playerIdField.setAccessible(true);
+		playerIdField.set(humanPlayer, 42L);
+		Player aiPlayer = new Player(BuiltInAi.ENSEMBLE_V1);
+
+		// Play a game where the human only ever throws ROCK.
+		Game firstGame = new Game(humanPlayer);
+		firstGame.setMaxRounds(21);
+		firstGame.setPlayer2(aiPlayer);
+		while (firstGame.getState() != State.FINISHED) {
+			firstGame.submitThrow(firstGame.getRounds().size() - 1, humanPlayer, Throw.ROCK);
+			if (firstGame.getState() == State.FINISHED)
+				aiHelper.recordFinishedGame(firstGame);
+			else
+				aiHelper.advanceGameForAiPlayers(firstGame);
+		}
+		Assert.assertEquals(1, opponentModelCache.getSize());
+
+		/*
+		 * In the next game, the AI should expect ROCK as soon as it has a
+		 * previous round to go on.
+		 */
+		Game secondGame = new Game(humanPlayer);
+		secondGame.setMaxRounds(21);
+		secondGame.setPlayer2(aiPlayer);
+		for (int i = 0; i < 5; i++) {
+			secondGame.submitThrow(i, humanPlayer, Throw.ROCK);
+			aiHelper.advanceGameForAiPlayers(secondGame);
+		}
+		for (int i = 1; i < 5; i++)
+			Assert.assertEquals(Throw.PAPER, secondGame.getRounds().get(i).getThrowForPlayer2());
+		Assert.assertEquals(1, opponentModelCache.getHitCount());
+	}
+
+	/**
+	 * Verifies that {@link AiGameplayHelper#precalculateThrows(Game)} builds
+	 * the AI's {@link AiPlayerMind} (including its opponent model) in the
+	 * background if it isn't cached yet, so that
+	 * {@link AiGameplayHelper#respondToThrow(Game)} doesn't have to.
+	 * 
+	 * @throws ReflectiveOperationException
+	 *             (indicates a problem with the test's reflection hack)
+	 * @throws InterruptedException
+	 *             (indicates a test error)
+	 */
+	@Test
+	public void precalculationBuildsMind() throws ReflectiveOperationException, InterruptedException {
+		AiGameplayHelper aiHelper = new AiGameplayHelper();
+		OpponentModelCache opponentModelCache = new OpponentModelCache(1024 * 1024, null);
+		aiHelper.setOpponentModelCache(opponentModelCache);
+
+		// As in learnsAcrossGames(), cheat and set the Player's ID.
+		Player humanPlayer = new Player(new Account());
+		Field playerIdField = Player.class.getDeclaredField("id");
+		playerIdField.setAccessible(true);
+		playerIdField.set(humanPlayer, 42L);
+
+		Game game = new Game(humanPlayer);
+		game.setPlayer2(new Player(BuiltInAi.ENSEMBLE_V1));
+		aiHelper.precalculateThrows(game);
+
+		long timeout = System.currentTimeMillis() + 10000;
+		while (aiHelper.getCachedGameCount() < 1) {
+			if (System.currentTimeMillis() > timeout)
+				Assert.fail("Timed out waiting for precalculation.");
+			Thread.sleep(10);
+		}
+		Assert.assertEquals(1, opponentModelCache.getMissCount());
+
+		// The AI's response should use that mind, rather than building another.
+		game.submitThrow(0, humanPlayer, Throw.ROCK);
+		aiHelper.respondToThrow(game);
+		Assert.assertNotNull(game.getRounds().get(0).getThrowForPlayer2());
+		Assert.assertEquals(1, opponentModelCache.getMissCount());
+		Assert.assertEquals(0, opponentModelCache.getHitCount());
+		aiHelper.close();
+	}
 }
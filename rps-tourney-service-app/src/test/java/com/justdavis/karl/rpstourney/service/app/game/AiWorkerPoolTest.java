@@ -0,0 +1,191 @@
+package com.justdavis.karl.rpstourney.service.app.game;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.justdavis.karl.rpstourney.service.api.auth.Account;
+import com.justdavis.karl.rpstourney.service.api.game.Game;
+import com.justdavis.karl.rpstourney.service.api.game.Player;
+import com.justdavis.karl.rpstourney.service.api.game.State;
+import com.justdavis.karl.rpstourney.service.api.game.Throw;
+import com.justdavis.karl.rpstourney.service.api.game.ai.BuiltInAi;
+import com.justdavis.karl.rpstourney.service.app.config.AiWorkerPoolConfig;
+
+/**
+ * Unit tests for {@link AiWorkerPool}.
+ */
+public final class AiWorkerPoolTest {
+	/**
+	 * Verifies that {@link AiWorkerPool} plays out a {@link Game} between two
+	 * AI {@link Player}s in the background, saving it after each batch.
+	 * 
+	 * @throws InterruptedException
+	 *             (indicates a test error)
+	 */
+	@Test
+	public void playsOutGame() throws InterruptedException {
+		MockGamesDao gamesDao = new MockGamesDao();
+		AiWorkerPool aiWorkerPool = new AiWorkerPool(new AiWorkerPoolConfig(1, 10, 2), gamesDao,
+				new AiGameplayHelper(), new GameWriteRetrier(new MockTransactionManager()));
+
+		try {
+			Game game = new Game(new Player(BuiltInAi.ONE_SIDED_DIE_ROCK));
+			game.setMaxRounds(5);
+			game.setPlayer2(new Player(BuiltInAi.ONE_SIDED_DIE_PAPER));
+			gamesDao.save(game);
+			gamesDao.saveCount.set(0);
+
+			Assert.assertTrue(aiWorkerPool.submit(game.getId()));
+			waitForIdle(aiWorkerPool);
+
+			Assert.assertEquals(State.FINISHED, game.getState());
+			Assert.assertEquals(game.getPlayer2(), game.getWinner());
+			Assert.assertEquals(3, gamesDao.saveCount.get());
+			Assert.assertEquals(3, aiWorkerPool.getBatchCount());
+			Assert.assertEquals(0, aiWorkerPool.getFailedBatchCount());
+			Assert.assertEquals(0, aiWorkerPool.getQueueDepth());
+		} finally {
+			aiWorkerPool.close();
+		}
+	}
+
+	/**
+	 * Verifies that {@link AiWorkerPool} has the AI {@link Player} in a
+	 * {@link Game} against a human respond to the human's {@link Throw}s (and
+	 * only to those).
+	 * 
+	 * @throws InterruptedException
+	 *             (indicates a test error)
+	 */
+	@Test
+	public void respondsToHumanThrows() throws InterruptedException {
+		MockGamesDao gamesDao = new MockGamesDao();
+		AiWorkerPool aiWorkerPool = new AiWorkerPool(new AiWorkerPoolConfig(1, 10, 2), gamesDao,
+				new AiGameplayHelper(), new GameWriteRetrier(new MockTransactionManager()));
+
+		try {
+			Player humanPlayer = new Player(new Account());
+			Game game = new Game(humanPlayer);
+			game.setMaxRounds(1);
+			game.setPlayer2(new Player(BuiltInAi.ONE_SIDED_DIE_ROCK));
+			gamesDao.save(game);
+
+			// The AI shouldn't throw before the human has.
+			Assert.assertTrue(aiWorkerPool.submit(game.getId()));
+			waitForIdle(aiWorkerPool);
+			Assert.assertNull(game.getCurrentRound().getThrowForPlayer2());
+
+			game.submitThrow(0, humanPlayer, Throw.PAPER);
+			Assert.assertTrue(aiWorkerPool.submit(game.getId()));
+			waitForIdle(aiWorkerPool);
+			Assert.assertEquals(State.FINISHED, game.getState());
+			Assert.assertEquals(humanPlayer, game.getWinner());
+		} finally {
+			aiWorkerPool.close();
+		}
+	}
+
+	/**
+	 * Verifies that {@link AiWorkerPool#submit(String)} waits for the current
+	 * transaction to commit before starting on a {@link Game}, and turns
+	 * {@link Game}s away once it's full.
+	 * 
+	 * @throws InterruptedException
+	 *             (indicates a test error)
+	 */
+	@Test
+	public void transactionsAndBackpressure() throws InterruptedException {
+		MockGamesDao gamesDao = new MockGamesDao();
+		AiWorkerPool aiWorkerPool = new AiWorkerPool(new AiWorkerPoolConfig(1, 1, 2), gamesDao,
+				new AiGameplayHelper(), new GameWriteRetrier(new MockTransactionManager()));
+
+		try {
+			Game game = new Game(new Player(BuiltInAi.ONE_SIDED_DIE_ROCK));
+			game.setPlayer2(new Player(BuiltInAi.ONE_SIDED_DIE_PAPER));
+			gamesDao.save(game);
+			Game otherGame = new Game(new Player(BuiltInAi.ONE_SIDED_DIE_ROCK));
+			otherGame.setPlayer2(new Player(BuiltInAi.ONE_SIDED_DIE_PAPER));
+			gamesDao.save(otherGame);
+
+			// Submit the first game (twice) and then the second, in a "transaction".
+			List<TransactionSynchronization> synchronizations;
+			TransactionSynchronizationManager.initSynchronization();
+			try {
+				Assert.assertTrue(aiWorkerPool.submit(game.getId()));
+				Assert.assertTrue(aiWorkerPool.submit(game.getId()));
+				Assert.assertFalse(aiWorkerPool.submit(otherGame.getId()));
+				synchronizations = TransactionSynchronizationManager.getSynchronizations();
+			} finally {
+				TransactionSynchronizationManager.clearSynchronization();
+			}
+			Assert.assertEquals(1, synchronizations.size());
+			Assert.assertEquals(1, aiWorkerPool.getActiveGameCount());
+			Assert.assertEquals(1, aiWorkerPool.getRejectedCount());
+
+			// Nothing should happen until the "transaction" commits.
+			Thread.sleep(100);
+			Assert.assertEquals(State.WAITING_FOR_FIRST_THROW, game.getState());
+			synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+			waitForIdle(aiWorkerPool);
+			Assert.assertEquals(State.FINISHED, game.getState());
+
+			// Now that the pool is free, the second game can be submitted.
+			Assert.assertTrue(aiWorkerPool.submit(otherGame.getId()));
+			waitForIdle(aiWorkerPool);
+			Assert.assertEquals(State.FINISHED, otherGame.getState());
+		} finally {
+			aiWorkerPool.close();
+		}
+	}
+
+	/**
+	 * Verifies that {@link AiWorkerPool} gives up on {@link Game}s that would
+	 * otherwise go on forever.
+	 * 
+	 * @throws InterruptedException
+	 *             (indicates a test error)
+	 */
+	@Test
+	public void stopsEndlessGames() throws InterruptedException {
+		MockGamesDao gamesDao = new MockGamesDao();
+		AiWorkerPool aiWorkerPool = new AiWorkerPool(new AiWorkerPoolConfig(1, 10, 7), gamesDao,
+				new AiGameplayHelper(), new GameWriteRetrier(new MockTransactionManager()));
+
+		try {
+			Game game = new Game(new Player(BuiltInAi.ONE_SIDED_DIE_ROCK));
+			game.setMaxRounds(1);
+			game.setPlayer2(new Player(BuiltInAi.ONE_SIDED_DIE_ROCK));
+			gamesDao.save(game);
+
+			Assert.assertTrue(aiWorkerPool.submit(game.getId()));
+			waitForIdle(aiWorkerPool);
+
+			Assert.assertEquals(State.STARTED, game.getState());
+			Assert.assertNull(game.getWinner());
+			Assert.assertTrue(game.getRounds().size() >= AiWorkerPool.MAX_ROUNDS_FACTOR);
+			Assert.assertTrue(game.getRounds().size() <= AiWorkerPool.MAX_ROUNDS_FACTOR + 7);
+			Assert.assertEquals(1, aiWorkerPool.getCappedGameCount());
+		} finally {
+			aiWorkerPool.close();
+		}
+	}
+
+	/**
+	 * @param aiWorkerPool
+	 *            the {@link AiWorkerPool} to wait on
+	 * @throws InterruptedException
+	 *             (indicates a test error)
+	 */
+	private static void waitForIdle(AiWorkerPool aiWorkerPool) throws InterruptedException {
+		long timeout = System.currentTimeMillis() + 10000;
+		while (aiWorkerPool.getActiveGameCount() > 0) {
+			if (System.currentTimeMillis() > timeout)
+				Assert.fail("Timed out waiting for AI workers.");
+			Thread.sleep(10);
+		}
+	}
+}
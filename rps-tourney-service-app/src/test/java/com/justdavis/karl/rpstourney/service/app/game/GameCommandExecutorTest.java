@@ -0,0 +1,267 @@
+package com.justdavis.karl.rpstourney.service.app.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.justdavis.karl.rpstourney.service.api.game.Game;
+import com.justdavis.karl.rpstourney.service.app.config.GameCommandExecutorConfig;
+
+/**
+ * Unit tests for {@link GameCommandExecutor}.
+ */
+public final class GameCommandExecutorTest {
+	/**
+	 * Verifies that {@link GameCommandExecutor} runs the commands for a single
+	 * {@link Game} one at a time.
+	 *
+	 * @throws InterruptedException
+	 *             (indicates a test error)
+	 */
+	@Test
+	public void serializesCommandsPerGame() throws InterruptedException {
+		final GameCommandExecutor commandExecutor = new GameCommandExecutor(
+				new GameCommandExecutorConfig(100, 60000));
+		try {
+			final AtomicInteger running = new AtomicInteger(0);
+			final AtomicInteger overlaps = new AtomicInteger(0);
+			final AtomicInteger completed = new AtomicInteger(0);
+			List<Thread> threads = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				Thread thread = new Thread(new Runnable() {
+					/**
+					 * @see java.lang.Runnable#run()
+					 */
+					@Override
+					public void run() {
+						for (int j = 0; j < 10; j++) {
+							commandExecutor.execute("abc", new Supplier<Void>() {
+								/**
+								 * @see java.util.function.Supplier#get()
+								 */
+								@Override
+								public Void get() {
+									if (running.incrementAndGet() > 1)
+										overlaps.incrementAndGet();
+									Thread.yield();
+									running.decrementAndGet();
+									completed.incrementAndGet();
+									return null;
+								}
+							});
+						}
+					}
+				});
+				threads.add(thread);
+				thread.start();
+			}
+			for (Thread thread : threads)
+				thread.join(10000);
+
+			Assert.assertEquals(80, completed.get());
+			Assert.assertEquals(0, overlaps.get());
+			Assert.assertEquals(80, commandExecutor.getCommandCount());
+			Assert.assertEquals(0, commandExecutor.getQueueDepth());
+		} finally {
+			commandExecutor.close();
+		}
+	}
+
+	/**
+	 * Verifies that {@link GameCommandExecutor} runs commands on the calling
+	 * thread, rather than handing them off to another one.
+	 */
+	@Test
+	public void runsOnCallingThread() {
+		GameCommandExecutor commandExecutor = new GameCommandExecutor(new GameCommandExecutorConfig());
+		try {
+			Thread commandThread = commandExecutor.execute("abc", new Supplier<Thread>() {
+				/**
+				 * @see java.util.function.Supplier#get()
+				 */
+				@Override
+				public Thread get() {
+					return Thread.currentThread();
+				}
+			});
+			Assert.assertSame(Thread.currentThread(), commandThread);
+		} finally {
+			commandExecutor.close();
+		}
+	}
+
+	/**
+	 * Verifies that {@link GameCommandExecutor} runs the commands for
+	 * different {@link Game}s at the same time.
+	 */
+	@Test
+	public void parallelizesCommandsAcrossGames() {
+		final GameCommandExecutor commandExecutor = new GameCommandExecutor(new GameCommandExecutorConfig(1, 60000));
+		try {
+			// Each of these commands can only complete if the other one runs.
+			final CountDownLatch bothRunning = new CountDownLatch(2);
+			Thread otherThread = new Thread(new Runnable() {
+				/**
+				 * @see java.lang.Runnable#run()
+				 */
+				@Override
+				public void run() {
+					commandExecutor.execute("abc", new AwaitingCommand(bothRunning));
+				}
+			});
+			otherThread.start();
+
+			Assert.assertTrue(commandExecutor.execute("def", new AwaitingCommand(bothRunning)));
+		} finally {
+			commandExecutor.close();
+		}
+	}
+
+	/**
+	 * Verifies that {@link GameCommandExecutor} turns away commands once a
+	 * {@link Game}'s mailbox is full.
+	 *
+	 * @throws InterruptedException
+	 *             (indicates a test error)
+	 */
+	@Test
+	public void rejectsWhenMailboxFull() throws InterruptedException {
+		final GameCommandExecutor commandExecutor = new GameCommandExecutor(new GameCommandExecutorConfig(1, 60000));
+		try {
+			// Tie up the Game's lock, and then fill its mailbox.
+			final CountDownLatch started = new CountDownLatch(1);
+			final CountDownLatch release = new CountDownLatch(1);
+			startInBackground(commandExecutor, "abc", new Supplier<Boolean>() {
+				/**
+				 * @see java.util.function.Supplier#get()
+				 */
+				@Override
+				public Boolean get() {
+					started.countDown();
+					try {
+						return release.await(10, TimeUnit.SECONDS);
+					} catch (InterruptedException e) {
+						return false;
+					}
+				}
+			});
+			Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+			startInBackground(commandExecutor, "abc", new AwaitingCommand(new CountDownLatch(0)));
+			long timeout = System.currentTimeMillis() + 10000;
+			while (commandExecutor.getQueueDepth() < 1 && System.currentTimeMillis() < timeout)
+				Thread.sleep(10);
+
+			try {
+				commandExecutor.execute("abc", new AwaitingCommand(new CountDownLatch(0)));
+				Assert.fail();
+			} catch (RejectedExecutionException e) {
+				// Expected.
+			}
+			Assert.assertEquals(1, commandExecutor.getRejectedCount());
+			Assert.assertEquals(1, commandExecutor.getMaxQueueDepth());
+			release.countDown();
+		} finally {
+			commandExecutor.close();
+		}
+	}
+
+	/**
+	 * Verifies that {@link GameCommandExecutor} passes through exceptions
+	 * from commands, and evicts idle mailboxes.
+	 *
+	 * @throws InterruptedException
+	 *             (indicates a test error)
+	 */
+	@Test
+	public void failuresAndEviction() throws InterruptedException {
+		GameCommandExecutor commandExecutor = new GameCommandExecutor(new GameCommandExecutorConfig(1, 1));
+		try {
+			final IllegalStateException failure = new IllegalStateException();
+			try {
+				commandExecutor.execute("abc", new Supplier<Void>() {
+					/**
+					 * @see java.util.function.Supplier#get()
+					 */
+					@Override
+					public Void get() {
+						throw failure;
+					}
+				});
+				Assert.fail();
+			} catch (IllegalStateException e) {
+				Assert.assertSame(failure, e);
+			}
+
+			Thread.sleep(10);
+			commandExecutor.evictIdleMailboxes();
+			Assert.assertEquals(0, commandExecutor.getMailboxCount());
+			Assert.assertTrue(commandExecutor.getEvictedCount() >= 1);
+
+			// Make sure that the Game gets a new mailbox, if needed.
+			Assert.assertTrue(commandExecutor.execute("abc", new AwaitingCommand(new CountDownLatch(0))));
+		} finally {
+			commandExecutor.close();
+		}
+	}
+
+	/**
+	 * @param commandExecutor
+	 *            the {@link GameCommandExecutor} to use
+	 * @param gameId
+	 *            the {@link Game#getId()} to run the command for
+	 * @param command
+	 *            the command to run
+	 */
+	private static void startInBackground(final GameCommandExecutor commandExecutor, final String gameId,
+			final Supplier<Boolean> command) {
+		Thread thread = new Thread(new Runnable() {
+			/**
+			 * @see java.lang.Runnable#run()
+			 */
+			@Override
+			public void run() {
+				commandExecutor.execute(gameId, command);
+			}
+		});
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * A command that counts down a {@link CountDownLatch}, and then waits for
+	 * it to reach zero.
+	 */
+	private static final class AwaitingCommand implements Supplier<Boolean> {
+		private final CountDownLatch latch;
+
+		/**
+		 * Constructs a new {@link AwaitingCommand} instance.
+		 *
+		 * @param latch
+		 *            the {@link CountDownLatch} to use
+		 */
+		AwaitingCommand(CountDownLatch latch) {
+			this.latch = latch;
+		}
+
+		/**
+		 * @see java.util.function.Supplier#get()
+		 */
+		@Override
+		public Boolean get() {
+			latch.countDown();
+			try {
+				return latch.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				return false;
+			}
+		}
+	}
+}
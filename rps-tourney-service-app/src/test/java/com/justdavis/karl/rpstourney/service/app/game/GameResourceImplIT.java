@@ -1,6 +1,9 @@
 package com.justdavis.karl.rpstourney.service.app.game;
 
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -11,9 +14,11 @@ import java.util.concurrent.atomic.AtomicInteger;
 import javax.inject.Inject;
 import javax.mail.internet.AddressException;
 import javax.mail.internet.InternetAddress;
+import javax.persistence.EntityManagerFactory;
 import javax.ws.rs.NotFoundException;
 import javax.ws.rs.core.Response.Status;
 
+import org.hibernate.SessionFactory;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Rule;
@@ -29,6 +34,9 @@ import com.justdavis.karl.misc.jetty.EmbeddedServer;
 import com.justdavis.karl.misc.junit.JulLoggingToSlf4jBinder;
 import com.justdavis.karl.rpstourney.service.api.auth.Account;
 import com.justdavis.karl.rpstourney.service.api.game.GameConflictException;
+import com.justdavis.karl.rpstourney.service.api.game.GameRound;
+import com.justdavis.karl.rpstourney.service.api.game.GameSummary;
+import com.justdavis.karl.rpstourney.service.api.game.GameSummaryPage;
 import com.justdavis.karl.rpstourney.service.api.game.GameView;
 import com.justdavis.karl.rpstourney.service.api.game.IGameResource;
 import com.justdavis.karl.rpstourney.service.api.game.Player;
@@ -63,6 +71,9 @@ public final class GameResourceImplIT {
 	@Inject
 	private IDataSourceSchemaManager schemaManager;
 
+	@Inject
+	private EntityManagerFactory entityManagerFactory;
+
 	@Inject
 	private IConfigLoader configLoader;
 
@@ -76,6 +87,9 @@ public final class GameResourceImplIT {
 	public void wipeSchema() {
 		schemaManager.wipeSchema(configLoader.getConfig().getDataSourceCoordinates());
 		schemaManager.createOrUpgradeSchema(configLoader.getConfig().getDataSourceCoordinates());
+
+		// The wipe bypasses Hibernate, so its second-level cache is now stale.
+		entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
 	}
 
 	/**
@@ -103,6 +117,47 @@ public final class GameResourceImplIT {
 		Assert.assertEquals(0, gameClientForPlayer1.getGamesForPlayer().size());
 	}
 
+	/**
+	 * Ensures that the client and server
+	 * {@link IGameResource#getGameSummariesForPlayer(String, Integer)}
+	 * implementations work correctly when paging through a {@link Player}'s
+	 * games.
+	 */
+	@Test
+	public void getGameSummariesForPlayerPaged() {
+		ClientConfig clientConfig = new ClientConfig(server.getServerBaseAddress());
+		CookieStore cookiesForPlayer1 = new CookieStore();
+
+		// Login the player and create their games.
+		GuestAuthClient authClientForPlayer1 = new GuestAuthClient(clientConfig, cookiesForPlayer1);
+		authClientForPlayer1.loginAsGuest();
+		GameClient gameClientForPlayer1 = new GameClient(clientConfig, cookiesForPlayer1);
+		Set<String> gameIds = new HashSet<>();
+		for (int i = 0; i < 5; i++)
+			gameIds.add(gameClientForPlayer1.createGame().getId());
+
+		// Page through the summaries, two at a time.
+		GameSummaryPage page1 = gameClientForPlayer1.getGameSummariesForPlayer(null, 2);
+		Assert.assertEquals(2, page1.getSummaries().size());
+		Assert.assertNotNull(page1.getNextCursor());
+		GameSummaryPage page2 = gameClientForPlayer1.getGameSummariesForPlayer(page1.getNextCursor(), 2);
+		Assert.assertEquals(2, page2.getSummaries().size());
+		Assert.assertNotNull(page2.getNextCursor());
+		GameSummaryPage page3 = gameClientForPlayer1.getGameSummariesForPlayer(page2.getNextCursor(), 2);
+		Assert.assertEquals(1, page3.getSummaries().size());
+		Assert.assertNull(page3.getNextCursor());
+
+		// Verify that every game was listed exactly once.
+		Set<String> listedGameIds = new HashSet<>();
+		for (GameSummaryPage page : new GameSummaryPage[] { page1, page2, page3 })
+			for (GameSummary summary : page.getSummaries())
+				Assert.assertTrue(listedGameIds.add(summary.getId()));
+		Assert.assertEquals(gameIds, listedGameIds);
+
+		// The first page should also be returned when no limit is specified.
+		Assert.assertEquals(5, gameClientForPlayer1.getGameSummariesForPlayer(null, null).getSummaries().size());
+	}
+
 	/**
 	 * Ensures that the client and server {@link IGameResource#createGame()} and
 	 * {@link IGameResource#getGame(String)} implementations work correctly.
@@ -181,9 +236,11 @@ public final class GameResourceImplIT {
 	 * 
 	 * @throws AddressException
 	 *             (won't be thrown; address is correct and static)
+	 * @throws InterruptedException
+	 *             (indicates a test error)
 	 */
 	@Test
-	public void playGameWithAi() throws AddressException {
+	public void playGameWithAi() throws AddressException, InterruptedException {
 		ClientConfig clientConfig = new ClientConfig(server.getServerBaseAddress());
 		CookieStore cookiesForPlayer1 = new CookieStore();
 
@@ -200,10 +257,13 @@ public final class GameResourceImplIT {
 		GameView game = gameClientForPlayer1.createGame();
 		gameClientForPlayer1.inviteOpponent(game.getId(), aiPlayer.getId());
 
-		// Play the game.
+		// Play the game. (The AI responds in the background.)
 		gameClientForPlayer1.submitThrow(game.getId(), 0, Throw.ROCK);
+		waitForRoundResult(gameClientForPlayer1, game.getId(), 0);
 		gameClientForPlayer1.submitThrow(game.getId(), 1, Throw.PAPER);
+		waitForRoundResult(gameClientForPlayer1, game.getId(), 1);
 		gameClientForPlayer1.submitThrow(game.getId(), 2, Throw.PAPER);
+		waitForRoundResult(gameClientForPlayer1, game.getId(), 2);
 
 		// Verify the game's results.
 		game = gameClientForPlayer1.getGame(game.getId());
@@ -214,6 +274,64 @@ public final class GameResourceImplIT {
 		Assert.assertEquals(game.getPlayer1(), game.getWinner());
 	}
 
+	/**
+	 * Ensures that the client and server
+	 * {@link IGameResource#getGame(String, Integer, Integer)} and
+	 * {@link IGameResource#getRounds(String, int, Integer)} implementations
+	 * only return the requested rounds, but still return the correct scores
+	 * and such for the whole game.
+	 * 
+	 * @throws AddressException
+	 *             (won't be thrown; address is correct and static)
+	 * @throws InterruptedException
+	 *             (indicates a test error)
+	 */
+	@Test
+	public void getPartialRounds() throws AddressException, InterruptedException {
+		ClientConfig clientConfig = new ClientConfig(server.getServerBaseAddress());
+		CookieStore cookiesForPlayer1 = new CookieStore();
+
+		// Login the human player.
+		GuestAuthClient authClientForPlayer1 = new GuestAuthClient(clientConfig, cookiesForPlayer1);
+		authClientForPlayer1.loginAsGuest();
+
+		// Create the game and request an AI opponent.
+		GameClient gameClientForPlayer1 = new GameClient(clientConfig, cookiesForPlayer1);
+		PlayersClient playersClientForPlayer1 = new PlayersClient(clientConfig, cookiesForPlayer1);
+		aiPlayerInitializer.initializeAiPlayers(BuiltInAi.ONE_SIDED_DIE_ROCK);
+		Player aiPlayer = playersClientForPlayer1.getPlayersForBuiltInAis(Arrays.asList(BuiltInAi.ONE_SIDED_DIE_ROCK))
+				.iterator().next();
+		GameView game = gameClientForPlayer1.createGame();
+		gameClientForPlayer1.setMaxRounds(game.getId(), game.getMaxRounds(), 5);
+		gameClientForPlayer1.inviteOpponent(game.getId(), aiPlayer.getId());
+
+		// Play the game. (The AI responds in the background.)
+		Throw[] throwsForPlayer1 = new Throw[] { Throw.ROCK, Throw.PAPER, Throw.PAPER, Throw.SCISSORS, Throw.PAPER };
+		for (int roundIndex = 0; roundIndex < throwsForPlayer1.length; roundIndex++) {
+			gameClientForPlayer1.submitThrow(game.getId(), roundIndex, throwsForPlayer1[roundIndex]);
+			waitForRoundResult(gameClientForPlayer1, game.getId(), roundIndex);
+		}
+
+		// Verify the partial game views.
+		GameView lastRoundsView = gameClientForPlayer1.getGame(game.getId(), null, 2);
+		Assert.assertEquals(State.FINISHED, lastRoundsView.getState());
+		Assert.assertEquals(3, lastRoundsView.getFirstRoundIndex());
+		Assert.assertEquals(2, lastRoundsView.getRounds().size());
+		Assert.assertEquals(3, lastRoundsView.getScoreForPlayer1());
+		Assert.assertEquals(1, lastRoundsView.getScoreForPlayer2());
+		Assert.assertEquals(lastRoundsView.getPlayer1(), lastRoundsView.getWinner());
+		GameView fromRoundView = gameClientForPlayer1.getGame(game.getId(), 4, null);
+		Assert.assertEquals(1, fromRoundView.getRounds().size());
+		Assert.assertEquals(4, fromRoundView.getCurrentRound().getRoundIndex());
+
+		// Verify the rounds.
+		List<GameRound> rounds = gameClientForPlayer1.getRounds(game.getId(), 1, 2);
+		Assert.assertEquals(2, rounds.size());
+		Assert.assertEquals(1, rounds.get(0).getRoundIndex());
+		Assert.assertEquals(Throw.PAPER, rounds.get(1).getThrowForPlayer1());
+		Assert.assertEquals(0, gameClientForPlayer1.getRounds(game.getId(), 10, null).size());
+	}
+
 	/**
 	 * Ensures that {@link GameResourceImpl#inviteOpponent(String, long)}
 	 * correctly handles security: only player 1 should be able to invite
@@ -603,4 +721,30 @@ public final class GameResourceImplIT {
 		}
 		Assert.assertTrue(gameDeleted);
 	}
+
+	/**
+	 * Waits for the specified round to be completed, e.g. by an AI opponent
+	 * that responds in the background.
+	 * 
+	 * @param gameClient
+	 *            the {@link IGameResource} client to poll with
+	 * @param gameId
+	 *            the {@link GameView#getId()} of the game to wait on
+	 * @param roundIndex
+	 *            the {@link GameRound#getRoundIndex()} of the round to wait on
+	 * @throws InterruptedException
+	 *             (indicates a test error)
+	 */
+	private static void waitForRoundResult(IGameResource gameClient, String gameId, int roundIndex)
+			throws InterruptedException {
+		long timeout = System.currentTimeMillis() + 10000;
+		while (true) {
+			List<GameRound> rounds = gameClient.getGame(gameId).getRounds();
+			if (rounds.size() > roundIndex && rounds.get(roundIndex).getResult() != null)
+				return;
+			if (System.currentTimeMillis() > timeout)
+				Assert.fail("Timed out waiting for round " + roundIndex + ".");
+			Thread.sleep(10);
+		}
+	}
 }
@@ -0,0 +1,143 @@
+package com.justdavis.karl.rpstourney.service.app.game;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.persistence.OptimisticLockException;
+import javax.persistence.PersistenceException;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+
+import com.justdavis.karl.rpstourney.service.api.game.GameConflictException;
+import com.justdavis.karl.rpstourney.service.api.game.GameConflictException.ConflictType;
+
+/**
+ * Unit tests for {@link GameWriteRetrier}.
+ */
+public final class GameWriteRetrierTest {
+	/**
+	 * Verifies that {@link GameWriteRetrier#execute(String, TransactionCallback)}
+	 * retries writes that fail due to conflicts, and counts them.
+	 */
+	@Test
+	public void retriesConflicts() {
+		GameWriteRetrier retrier = new GameWriteRetrier(new MockTransactionManager(), 3, 0, 0);
+		ConflictingCallback callback = new ConflictingCallback(2,
+				new PersistenceException(new OptimisticLockException()));
+
+		Assert.assertEquals("done", retrier.execute("foo", callback));
+		Assert.assertEquals(3, callback.attempts.get());
+		Assert.assertEquals(2L, (long) retrier.getConflictCounts().get("foo"));
+		Assert.assertEquals(2L, (long) retrier.getRetryCounts().get("foo"));
+		Assert.assertEquals(0L, (long) retrier.getExhaustedCounts().get("foo"));
+	}
+
+	/**
+	 * Verifies that {@link GameWriteRetrier#execute(String, TransactionCallback)}
+	 * gives up (and passes the failure through) once a write has run out of
+	 * attempts.
+	 */
+	@Test
+	public void exhaustsAttempts() {
+		GameWriteRetrier retrier = new GameWriteRetrier(new MockTransactionManager(), 3, 0, 0);
+		OptimisticLockException conflict = new OptimisticLockException();
+		ConflictingCallback callback = new ConflictingCallback(Integer.MAX_VALUE, conflict);
+
+		try {
+			retrier.execute("foo", callback);
+			Assert.fail();
+		} catch (OptimisticLockException e) {
+			Assert.assertSame(conflict, e);
+		}
+		Assert.assertEquals(3, callback.attempts.get());
+		Assert.assertEquals(3L, (long) retrier.getConflictCounts().get("foo"));
+		Assert.assertEquals(2L, (long) retrier.getRetryCounts().get("foo"));
+		Assert.assertEquals(1L, (long) retrier.getExhaustedCounts().get("foo"));
+	}
+
+	/**
+	 * Verifies that {@link GameWriteRetrier#execute(String, TransactionCallback)}
+	 * does not retry failures that aren't conflicts.
+	 */
+	@Test
+	public void doesNotRetryOtherFailures() {
+		GameWriteRetrier retrier = new GameWriteRetrier(new MockTransactionManager(), 3, 0, 0);
+		ConflictingCallback callback = new ConflictingCallback(1,
+				new GameConflictException(ConflictType.PLAYER_2_FINALIZED));
+
+		try {
+			retrier.execute("foo", callback);
+			Assert.fail();
+		} catch (GameConflictException e) {
+			// Expected.
+		}
+		Assert.assertEquals(1, callback.attempts.get());
+		Assert.assertEquals(0L, (long) retrier.getConflictCounts().get("foo"));
+		Assert.assertEquals(0L, (long) retrier.getRetryCounts().get("foo"));
+	}
+
+	/**
+	 * Verifies that {@link GameWriteRetrier#isConflict(Throwable)} only
+	 * accepts optimistic locking failures and violations of the
+	 * {@link GameWriteRetrier#GAME_ROUNDS_PK_NAME} constraint.
+	 */
+	@Test
+	public void isConflict() {
+		Assert.assertTrue(GameWriteRetrier.isConflict(new PersistenceException(new OptimisticLockException())));
+		Assert.assertTrue(GameWriteRetrier.isConflict(new OptimisticLockingFailureException("foo")));
+		Assert.assertTrue(GameWriteRetrier.isConflict(new StaleStateException("foo")));
+
+		// HSQL reports constraint names quoted, PostgreSQL doesn't.
+		Assert.assertTrue(GameWriteRetrier.isConflict(new PersistenceException(
+				new ConstraintViolationException("foo", new SQLException(), "\"GameRoundsPk\""))));
+		Assert.assertTrue(GameWriteRetrier.isConflict(new DataIntegrityViolationException("foo",
+				new ConstraintViolationException("foo", new SQLException(), "GameRoundsPk"))));
+
+		Assert.assertFalse(GameWriteRetrier.isConflict(new PersistenceException(
+				new ConstraintViolationException("foo", new SQLException(), "\"GamesToPlayersId1\""))));
+		Assert.assertFalse(GameWriteRetrier.isConflict(
+				new PersistenceException(new ConstraintViolationException("foo", new SQLException(), null))));
+		Assert.assertFalse(GameWriteRetrier.isConflict(new DataIntegrityViolationException("foo")));
+		Assert.assertFalse(GameWriteRetrier.isConflict(new PersistenceException()));
+	}
+
+	/**
+	 * A {@link TransactionCallback} that fails a specified number of times
+	 * before succeeding.
+	 */
+	private static final class ConflictingCallback implements TransactionCallback<String> {
+		private final int failures;
+		private final RuntimeException failure;
+		private final AtomicInteger attempts = new AtomicInteger(0);
+
+		/**
+		 * Constructs a new {@link ConflictingCallback} instance.
+		 *
+		 * @param failures
+		 *            the number of attempts that should fail
+		 * @param failure
+		 *            the {@link RuntimeException} to fail with
+		 */
+		ConflictingCallback(int failures, RuntimeException failure) {
+			this.failures = failures;
+			this.failure = failure;
+		}
+
+		/**
+		 * @see org.springframework.transaction.support.TransactionCallback#doInTransaction(org.springframework.transaction.TransactionStatus)
+		 */
+		@Override
+		public String doInTransaction(TransactionStatus status) {
+			if (attempts.incrementAndGet() <= failures)
+				throw failure;
+			return "done";
+		}
+	}
+}
@@ -1,15 +1,22 @@
 package com.justdavis.karl.rpstourney.service.app.game;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import javax.persistence.EntityManager;
 import javax.persistence.EntityTransaction;
+import javax.persistence.OptimisticLockException;
 import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
@@ -24,9 +31,16 @@ import com.justdavis.karl.misc.datasources.provisioners.hsql.HsqlProvisioningReq
 import com.justdavis.karl.misc.datasources.provisioners.postgresql.PostgreSqlProvisioningRequest;
 import com.justdavis.karl.rpstourney.service.api.auth.Account;
 import com.justdavis.karl.rpstourney.service.api.game.Game;
+import com.justdavis.karl.rpstourney.service.api.game.GameConflictException;
+import com.justdavis.karl.rpstourney.service.api.game.GameConflictException.ConflictType;
 import com.justdavis.karl.rpstourney.service.api.game.GameRound;
+import com.justdavis.karl.rpstourney.service.api.game.GameSummary;
+import com.justdavis.karl.rpstourney.service.api.game.GameSummaryPage;
 import com.justdavis.karl.rpstourney.service.api.game.Player;
+import com.justdavis.karl.rpstourney.service.api.game.PlayerRole;
+import com.justdavis.karl.rpstourney.service.api.game.State;
 import com.justdavis.karl.rpstourney.service.api.game.Throw;
+import com.justdavis.karl.rpstourney.service.api.game.ai.BuiltInAi;
 import com.justdavis.karl.rpstourney.service.app.SpringBindingsForDaoITs;
 import com.justdavis.karl.rpstourney.service.app.SpringProfile;
 import com.justdavis.karl.rpstourney.service.app.jpa.DaoTestHelper;
@@ -227,6 +241,73 @@ public final class GamesDaoImplIT {
 		}
 	}
 
+	/**
+	 * Tests {@link GamesDaoImpl#save(Game)} with a {@link State#FINISHED}
+	 * {@link Game}, whose {@link GameRound}s should be compacted.
+	 */
+	@Test
+	public void saveFinishedGame() {
+		EntityManager entityManager = daoTestHelper.getEntityManagerFactory().createEntityManager();
+
+		try {
+			// Create the DAO.
+			GamesDaoImpl gamesDao = new GamesDaoImpl();
+			gamesDao.setEntityManager(entityManager);
+
+			// Create the entity to try saving.
+			Player player1 = new Player(new Account());
+			Game game = new Game(player1);
+			Player player2 = new Player(new Account());
+			game.setPlayer2(player2);
+			game.submitThrow(0, player1, Throw.ROCK);
+			game.submitThrow(0, player2, Throw.ROCK);
+			game.submitThrow(1, player1, Throw.PAPER);
+			game.submitThrow(1, player2, Throw.ROCK);
+			game.submitThrow(2, player1, Throw.SCISSORS);
+			game.submitThrow(2, player2, Throw.PAPER);
+			game.prepareRound();
+			Assert.assertEquals(State.FINISHED, game.getState());
+			List<GameRound> rounds = new ArrayList<>(game.getRounds());
+
+			// Try to save the entity.
+			EntityTransaction tx = entityManager.getTransaction();
+			try {
+				tx.begin();
+				gamesDao.save(game);
+				tx.commit();
+			} finally {
+				if (tx.isActive())
+					tx.rollback();
+			}
+
+			// Verify the result, as freshly loaded from the DB.
+			entityManager.clear();
+			Game gameFromDb = gamesDao.findById(game.getId());
+			Assert.assertTrue(gameFromDb.isRoundsCompacted());
+			Assert.assertEquals(rounds.size(), gameFromDb.getRounds().size());
+			for (int i = 0; i < rounds.size(); i++) {
+				GameRound round = rounds.get(i);
+				GameRound roundFromDb = gameFromDb.getRounds().get(i);
+				Assert.assertEquals(round.getAdjustedRoundIndex(), roundFromDb.getAdjustedRoundIndex());
+				Assert.assertEquals(round.getThrowForPlayer1(), roundFromDb.getThrowForPlayer1());
+				Assert.assertEquals(round.getThrowForPlayer2(), roundFromDb.getThrowForPlayer2());
+				Assert.assertNotNull(roundFromDb.getThrowForPlayer1Timestamp());
+				Assert.assertNotNull(roundFromDb.getThrowForPlayer2Timestamp());
+			}
+			Assert.assertEquals(2, gameFromDb.getScoreForPlayer1());
+			Assert.assertEquals(player1, gameFromDb.getWinner());
+
+			// The individual GameRound records should be gone.
+			CriteriaBuilder criteriaBuilder = entityManager.getEntityManagerFactory().getCriteriaBuilder();
+			CriteriaQuery<GameRound> criteria = criteriaBuilder.createQuery(GameRound.class);
+			criteria.from(GameRound.class);
+			TypedQuery<GameRound> query = entityManager.createQuery(criteria);
+			Assert.assertEquals(0, query.getResultList().size());
+		} finally {
+			entityManager.close();
+		}
+	}
+
 	/**
 	 * Tests {@link GamesDaoImpl#findById(String)}.
 	 */
@@ -265,6 +346,84 @@ public final class GamesDaoImplIT {
 		}
 	}
 
+	/**
+	 * <p>
+	 * Verifies the number of SQL statements that
+	 * {@link GamesDaoImpl#findById(String, GameFetchProfile)} runs for each
+	 * {@link GameFetchProfile}, both to load the {@link Game} and to then read
+	 * its {@link GameRound}s. Each {@link GameResourceImpl} endpoint loads its
+	 * {@link Game} via exactly one of these, so this covers all of them.
+	 * </p>
+	 * <p>
+	 * {@link Player}s with {@link Account}s also load those {@link Account}s'
+	 * eager collections, so the exact counts are only checked for
+	 * {@link BuiltInAi} players. For the others, the counts are just checked to
+	 * not grow with the number of {@link GameRound}s.
+	 * </p>
+	 */
+	@Test
+	public void findByIdStatementCounts() {
+		EntityManager entityManager = daoTestHelper.getEntityManagerFactory().createEntityManager();
+
+		try {
+			// Create the DAO.
+			GamesDaoImpl gamesDao = new GamesDaoImpl();
+			gamesDao.setEntityManager(entityManager);
+
+			// Create and save the entities to test against.
+			Player aiPlayer1 = new Player(BuiltInAi.ONE_SIDED_DIE_ROCK);
+			Player aiPlayer2 = new Player(BuiltInAi.ONE_SIDED_DIE_PAPER);
+			Game aiGame = new Game(aiPlayer1);
+			aiGame.setPlayer2(aiPlayer2);
+			aiGame.submitThrow(0, aiPlayer1, Throw.ROCK);
+			aiGame.submitThrow(0, aiPlayer2, Throw.ROCK);
+			aiGame.submitThrow(1, aiPlayer1, Throw.PAPER);
+			aiGame.submitThrow(1, aiPlayer2, Throw.PAPER);
+			Player humanPlayer1 = new Player(new Account());
+			Player humanPlayer2 = new Player(new Account());
+			Game shortGame = new Game(humanPlayer1);
+			shortGame.setPlayer2(humanPlayer2);
+			shortGame.submitThrow(0, humanPlayer1, Throw.ROCK);
+			Game longGame = new Game(humanPlayer1);
+			longGame.setPlayer2(humanPlayer2);
+			for (int roundIndex = 0; roundIndex < 5; roundIndex++) {
+				longGame.submitThrow(roundIndex, humanPlayer1, Throw.ROCK);
+				longGame.submitThrow(roundIndex, humanPlayer2, Throw.ROCK);
+			}
+			EntityTransaction tx = entityManager.getTransaction();
+			try {
+				tx.begin();
+				gamesDao.save(aiGame);
+				gamesDao.save(shortGame);
+				gamesDao.save(longGame);
+				tx.commit();
+			} finally {
+				if (tx.isActive())
+					tx.rollback();
+			}
+
+			// Check the AI Game's exact counts.
+			Assert.assertArrayEquals(new long[] { 1, 1 },
+					countFindByIdStatements(entityManager, gamesDao, aiGame.getId(), GameFetchProfile.SUMMARY));
+			Assert.assertArrayEquals(new long[] { 1, 0 },
+					countFindByIdStatements(entityManager, gamesDao, aiGame.getId(), GameFetchProfile.PLAY));
+			Assert.assertArrayEquals(new long[] { 1, 0 },
+					countFindByIdStatements(entityManager, gamesDao, aiGame.getId(), GameFetchProfile.FULL));
+
+			// Check that the human Games' counts don't depend on their rounds.
+			for (GameFetchProfile fetchProfile : GameFetchProfile.values()) {
+				long[] shortGameCounts = countFindByIdStatements(entityManager, gamesDao, shortGame.getId(),
+						fetchProfile);
+				long[] longGameCounts = countFindByIdStatements(entityManager, gamesDao, longGame.getId(),
+						fetchProfile);
+				Assert.assertArrayEquals(shortGameCounts, longGameCounts);
+				Assert.assertEquals(fetchProfile == GameFetchProfile.SUMMARY ? 1 : 0, longGameCounts[1]);
+			}
+		} finally {
+			entityManager.close();
+		}
+	}
+
 	/**
 	 * Tests {@link GamesDaoImpl#getGamesForPlayer(Player)}.
 	 */
@@ -306,6 +465,586 @@ public final class GamesDaoImplIT {
 		}
 	}
 
+	/**
+	 * Tests
+	 * {@link GamesDaoImpl#getGameSummariesForPlayer(Player, GameSummaryPage.Cursor, int)}
+	 * .
+	 * 
+	 * @throws InterruptedException
+	 *             (indicates a problem with the test setup)
+	 */
+	@Test
+	public void getGameSummariesForPlayer() throws InterruptedException {
+		EntityManager entityManager = daoTestHelper.getEntityManagerFactory().createEntityManager();
+
+		try {
+			// Create the DAO.
+			GamesDaoImpl gamesDao = new GamesDaoImpl();
+			gamesDao.setEntityManager(entityManager);
+
+			/*
+			 * Create and save the entities to test against. Add an artificial
+			 * delay before the throws, to ensure that game1 ends up with the
+			 * latest timestamp.
+			 */
+			Player playerA = new Player(new Account());
+			Player playerB = new Player(new Account());
+			Game game2 = new Game(playerA);
+			Game game1 = new Game(playerA);
+			game1.setPlayer2(playerB);
+			new CountDownLatch(1).await(100, TimeUnit.MILLISECONDS);
+			game1.submitThrow(0, playerA, Throw.ROCK);
+			game1.submitThrow(0, playerB, Throw.SCISSORS);
+			EntityTransaction tx = entityManager.getTransaction();
+			try {
+				tx.begin();
+				gamesDao.save(game2);
+				gamesDao.save(game1);
+				tx.commit();
+			} finally {
+				if (tx.isActive())
+					tx.rollback();
+			}
+			entityManager.clear();
+
+			// Try to query for the summaries.
+			List<GameSummary> summariesForPlayerA = gamesDao.getGameSummariesForPlayer(playerA, null, 10);
+			Assert.assertEquals(2, summariesForPlayerA.size());
+			Assert.assertEquals(game1.getId(), summariesForPlayerA.get(0).getId());
+			Assert.assertEquals(game2.getId(), summariesForPlayerA.get(1).getId());
+			List<GameSummary> summariesForPlayerB = gamesDao.getGameSummariesForPlayer(playerB, null, 10);
+			Assert.assertEquals(1, summariesForPlayerB.size());
+
+			// Verify the summary columns.
+			GameSummary summary1 = summariesForPlayerB.get(0);
+			Assert.assertEquals(State.STARTED, summary1.getState());
+			Assert.assertEquals(playerA, summary1.getPlayer1());
+			Assert.assertEquals(playerB, summary1.getPlayer2());
+			Assert.assertEquals(1, summary1.getScoreForPlayer1());
+			Assert.assertEquals(0, summary1.getScoreForPlayer2());
+			Assert.assertEquals(1, summary1.getRoundCount());
+			Assert.assertEquals(game1.getLastThrowTimestamp().toEpochMilli(),
+					summary1.getLastThrowTimestamp().toEpochMilli());
+			Assert.assertNull(summary1.getWinner());
+			GameSummary summary2 = summariesForPlayerA.get(1);
+			Assert.assertNull(summary2.getPlayer2());
+			Assert.assertEquals(0, summary2.getRoundCount());
+		} finally {
+			entityManager.close();
+		}
+	}
+
+	/**
+	 * Tests
+	 * {@link GamesDaoImpl#getGameSummariesForPlayer(Player, GameSummaryPage.Cursor, int)}
+	 * when paging through more {@link Game}s than fit in a single page.
+	 */
+	@Test
+	public void getGameSummariesForPlayerPaged() {
+		EntityManager entityManager = daoTestHelper.getEntityManagerFactory().createEntityManager();
+
+		try {
+			// Create the DAO.
+			GamesDaoImpl gamesDao = new GamesDaoImpl();
+			gamesDao.setEntityManager(entityManager);
+
+			/*
+			 * Create and save the entities to test against. Some of these
+			 * will likely end up with identical timestamps, which is good, as
+			 * it exercises the tie-breaking on ID.
+			 */
+			Player playerA = new Player(new Account());
+			Player playerB = new Player(new Account());
+			List<String> gameIds = new ArrayList<>();
+			EntityTransaction tx = entityManager.getTransaction();
+			try {
+				tx.begin();
+				for (int i = 0; i < 7; i++) {
+					Game game = new Game(i % 2 == 0 ? playerA : playerB);
+					if (i % 2 != 0)
+						game.setPlayer2(playerA);
+					gamesDao.save(game);
+					gameIds.add(game.getId());
+				}
+				gamesDao.save(new Game(playerB));
+				tx.commit();
+			} finally {
+				if (tx.isActive())
+					tx.rollback();
+			}
+			entityManager.clear();
+
+			// Page through the summaries.
+			List<GameSummary> allSummaries = new ArrayList<>();
+			GameSummaryPage.Cursor cursor = null;
+			while (true) {
+				List<GameSummary> page = gamesDao.getGameSummariesForPlayer(playerA, cursor, 3);
+				Assert.assertTrue(page.size() <= 3);
+				if (page.isEmpty())
+					break;
+
+				allSummaries.addAll(page);
+				cursor = new GameSummaryPage.Cursor(page.get(page.size() - 1));
+			}
+
+			// Verify that every Game was listed exactly once, in order.
+			Assert.assertEquals(gameIds.size(), allSummaries.size());
+			for (int i = 0; i < allSummaries.size(); i++) {
+				Assert.assertTrue(gameIds.contains(allSummaries.get(i).getId()));
+				if (i > 0)
+					Assert.assertTrue(
+							new GameSummaryPage.Cursor(allSummaries.get(i - 1)).isBefore(allSummaries.get(i)));
+			}
+		} finally {
+			entityManager.close();
+		}
+	}
+
+	/**
+	 * Tests {@link GamesDaoImpl#claimPlayer2(String, Player)}.
+	 */
+	@Test
+	public void claimPlayer2() {
+		EntityManager entityManager = daoTestHelper.getEntityManagerFactory().createEntityManager();
+
+		try {
+			// Create the DAO.
+			GamesDaoImpl gamesDao = new GamesDaoImpl();
+			gamesDao.setEntityManager(entityManager);
+
+			// Create and save the entity to test against.
+			Game game = new Game(new Player(new Account()));
+			EntityTransaction tx = entityManager.getTransaction();
+			try {
+				tx.begin();
+				gamesDao.save(game);
+				tx.commit();
+			} finally {
+				if (tx.isActive())
+					tx.rollback();
+			}
+
+			// Claim the slot, then apply the rest of the join.
+			Player player2 = new Player(new Account());
+			tx = entityManager.getTransaction();
+			try {
+				tx.begin();
+				entityManager.persist(player2);
+				gamesDao.claimPlayer2(game.getId(), player2);
+				game.setPlayer2(player2);
+				gamesDao.save(game);
+				tx.commit();
+			} finally {
+				if (tx.isActive())
+					tx.rollback();
+			}
+
+			// Verify that a second claim is rejected, even from a stale copy.
+			entityManager.clear();
+			Player player3 = new Player(new Account());
+			tx = entityManager.getTransaction();
+			try {
+				tx.begin();
+				entityManager.persist(player3);
+				gamesDao.claimPlayer2(game.getId(), player3);
+				Assert.fail();
+			} catch (GameConflictException e) {
+				Assert.assertEquals(ConflictType.PLAYER_2_FINALIZED, e.getType());
+			} finally {
+				if (tx.isActive())
+					tx.rollback();
+			}
+
+			// Verify the result.
+			entityManager.clear();
+			Game gameFromDb = gamesDao.findById(game.getId());
+			Assert.assertEquals(player2.getId(), gameFromDb.getPlayer2().getId());
+			Assert.assertEquals(State.WAITING_FOR_FIRST_THROW, gameFromDb.getState());
+		} finally {
+			entityManager.close();
+		}
+	}
+
+	/**
+	 * Tests
+	 * {@link GamesDaoImpl#submitThrow(Game, int, PlayerRole, Throw)}.
+	 */
+	@Test
+	public void submitThrow() {
+		EntityManager entityManager = daoTestHelper.getEntityManagerFactory().createEntityManager();
+
+		try {
+			// Create the DAO.
+			GamesDaoImpl gamesDao = new GamesDaoImpl();
+			gamesDao.setEntityManager(entityManager);
+
+			// Create and save the entity to test against.
+			Player player1 = new Player(new Account());
+			Player player2 = new Player(new Account());
+			Game game = new Game(player1);
+			game.setPlayer2(player2);
+			EntityTransaction tx = entityManager.getTransaction();
+			try {
+				tx.begin();
+				gamesDao.save(game);
+				tx.commit();
+			} finally {
+				if (tx.isActive())
+					tx.rollback();
+			}
+
+			/*
+			 * Submit Player 1's throw from one persistence context, then
+			 * Player 2's from a stale copy of the Game, loaded before that.
+			 */
+			entityManager.clear();
+			Game staleGame = gamesDao.findById(game.getId(), GameFetchProfile.SUMMARY);
+			EntityManager otherEntityManager = daoTestHelper.getEntityManagerFactory().createEntityManager();
+			try {
+				GamesDaoImpl otherGamesDao = new GamesDaoImpl();
+				otherGamesDao.setEntityManager(otherEntityManager);
+				EntityTransaction otherTx = otherEntityManager.getTransaction();
+				try {
+					otherTx.begin();
+					Game otherGame = otherGamesDao.findById(game.getId(), GameFetchProfile.SUMMARY);
+					otherGame = otherGamesDao.submitThrow(otherGame, 0, PlayerRole.PLAYER_1, Throw.ROCK);
+					Assert.assertEquals(State.STARTED, otherGame.getState());
+					Assert.assertEquals(Throw.ROCK, otherGame.getRounds().get(0).getThrowForPlayer1());
+					otherTx.commit();
+				} finally {
+					if (otherTx.isActive())
+						otherTx.rollback();
+				}
+			} finally {
+				otherEntityManager.close();
+			}
+			tx = entityManager.getTransaction();
+			try {
+				tx.begin();
+				Game updatedGame = gamesDao.submitThrow(staleGame, 0, PlayerRole.PLAYER_2, Throw.PAPER);
+				Assert.assertEquals(Throw.ROCK, updatedGame.getRounds().get(0).getThrowForPlayer1());
+				Assert.assertEquals(Throw.PAPER, updatedGame.getRounds().get(0).getThrowForPlayer2());
+				Assert.assertFalse(updatedGame.isRoundPrepared());
+				updatedGame.prepareRound();
+				gamesDao.save(updatedGame);
+				tx.commit();
+			} finally {
+				if (tx.isActive())
+					tx.rollback();
+			}
+
+			// Verify that the conflicts are all mapped correctly.
+			assertThrowConflict(gamesDao, game.getId(), 0, PlayerRole.PLAYER_1, ConflictType.THROW_WRONG_ROUND);
+			assertThrowConflict(gamesDao, game.getId(), 2, PlayerRole.PLAYER_1, ConflictType.THROW_WRONG_ROUND);
+			tx = entityManager.getTransaction();
+			try {
+				tx.begin();
+				gamesDao.submitThrow(gamesDao.findById(game.getId()), 1, PlayerRole.PLAYER_1, Throw.ROCK);
+				tx.commit();
+			} finally {
+				if (tx.isActive())
+					tx.rollback();
+			}
+			assertThrowConflict(gamesDao, game.getId(), 1, PlayerRole.PLAYER_1, ConflictType.THROW_ALREADY_SET);
+
+			// Verify the result.
+			entityManager.clear();
+			Game gameFromDb = gamesDao.findById(game.getId());
+			Assert.assertEquals(2, gameFromDb.getRounds().size());
+			Assert.assertEquals(1, gameFromDb.getScoreForPlayer2());
+			Assert.assertEquals(gameFromDb.getRounds().get(1).getThrowForPlayer1Timestamp(),
+					gameFromDb.getLastThrowTimestamp());
+		} finally {
+			entityManager.close();
+		}
+	}
+
+	/**
+	 * Tests
+	 * {@link GamesDaoImpl#submitThrowInPlace(Game, int, PlayerRole, Throw)},
+	 * and verifies (via the Hibernate {@link Statistics}) that it only issues
+	 * the expected writes: no refresh of the {@link Game}, and nothing further
+	 * when the transaction commits.
+	 */
+	@Test
+	public void submitThrowInPlace() {
+		EntityManager entityManager = daoTestHelper.getEntityManagerFactory().createEntityManager();
+
+		try {
+			// Create the DAO.
+			GamesDaoImpl gamesDao = new GamesDaoImpl();
+			gamesDao.setEntityManager(entityManager);
+
+			// Create and save the entity to test against.
+			Player player1 = new Player(new Account());
+			Player player2 = new Player(new Account());
+			Game game = new Game(player1);
+			game.setPlayer2(player2);
+			EntityTransaction tx = entityManager.getTransaction();
+			try {
+				tx.begin();
+				gamesDao.save(game);
+				tx.commit();
+			} finally {
+				if (tx.isActive())
+					tx.rollback();
+			}
+
+			// Load a copy of the Game that will be stale by the time it's used.
+			EntityManager staleEntityManager = daoTestHelper.getEntityManagerFactory().createEntityManager();
+			try {
+				GamesDaoImpl staleGamesDao = new GamesDaoImpl();
+				staleGamesDao.setEntityManager(staleEntityManager);
+				EntityTransaction staleTx = staleEntityManager.getTransaction();
+				try {
+					staleTx.begin();
+					Game staleGame = staleGamesDao.findById(game.getId(), GameFetchProfile.SUMMARY);
+					staleGame.getRounds().size();
+
+					/*
+					 * A non-completing Throw should just be the round's update
+					 * and the Game's update.
+					 */
+					Assert.assertEquals(2,
+							countSubmitThrowInPlaceStatements(entityManager, gamesDao, game.getId(), 0,
+									PlayerRole.PLAYER_1, Throw.ROCK));
+
+					// The stale copy should now be rejected.
+					try {
+						staleGamesDao.submitThrowInPlace(staleGame, 0, PlayerRole.PLAYER_2, Throw.PAPER);
+						Assert.fail();
+					} catch (OptimisticLockException e) {
+						// Expected.
+					}
+				} finally {
+					if (staleTx.isActive())
+						staleTx.rollback();
+				}
+			} finally {
+				staleEntityManager.close();
+			}
+
+			// A round-completing Throw should also insert the next round.
+			Assert.assertEquals(3, countSubmitThrowInPlaceStatements(entityManager, gamesDao, game.getId(), 0,
+					PlayerRole.PLAYER_2, Throw.PAPER));
+			Assert.assertEquals(2, countSubmitThrowInPlaceStatements(entityManager, gamesDao, game.getId(), 1,
+					PlayerRole.PLAYER_1, Throw.ROCK));
+
+			// A game-finishing Throw should instead compact the rounds.
+			Assert.assertEquals(3, countSubmitThrowInPlaceStatements(entityManager, gamesDao, game.getId(), 1,
+					PlayerRole.PLAYER_2, Throw.PAPER));
+
+			// Verify the result.
+			entityManager.clear();
+			Game gameFromDb = gamesDao.findById(game.getId());
+			Assert.assertEquals(State.FINISHED, gameFromDb.getState());
+			Assert.assertTrue(gameFromDb.isRoundsCompacted());
+			Assert.assertEquals(2, gameFromDb.getRounds().size());
+			Assert.assertEquals(0, gameFromDb.getScoreForPlayer1());
+			Assert.assertEquals(2, gameFromDb.getScoreForPlayer2());
+			Assert.assertEquals(player2.getId(), gameFromDb.getWinner().getId());
+			Assert.assertEquals(gameFromDb.getRounds().get(1).getThrowForPlayer2Timestamp(),
+					gameFromDb.getLastThrowTimestamp());
+			GameSummary summaryFromDb = gamesDao.getGameSummariesForPlayer(player1, null, 10).get(0);
+			Assert.assertEquals(2, summaryFromDb.getRoundCount());
+			Assert.assertEquals(2, summaryFromDb.getScoreForPlayer2());
+			Assert.assertEquals(player2.getId(), summaryFromDb.getWinner().getId());
+
+			// Conflicts should still be reported as such.
+			tx = entityManager.getTransaction();
+			try {
+				tx.begin();
+				gamesDao.submitThrowInPlace(gamesDao.findById(game.getId()), 1, PlayerRole.PLAYER_1, Throw.ROCK);
+				Assert.fail();
+			} catch (GameConflictException e) {
+				Assert.assertEquals(ConflictType.THROW_AFTER_FINISH, e.getType());
+			} finally {
+				if (tx.isActive())
+					tx.rollback();
+			}
+		} finally {
+			entityManager.close();
+		}
+	}
+
+	/**
+	 * Tests {@link GamesDaoImpl#applyJournaledThrows(List)}.
+	 */
+	@Test
+	public void applyJournaledThrows() {
+		EntityManager entityManager = daoTestHelper.getEntityManagerFactory().createEntityManager();
+
+		try {
+			// Create the DAO.
+			GamesDaoImpl gamesDao = new GamesDaoImpl();
+			gamesDao.setEntityManager(entityManager);
+
+			// Create and save the entities to test against.
+			Game game = new Game(new Player(new Account()));
+			game.setPlayer2(new Player(new Account()));
+			Game otherGame = new Game(new Player(new Account()));
+			otherGame.setPlayer2(new Player(new Account()));
+			EntityTransaction tx = entityManager.getTransaction();
+			try {
+				tx.begin();
+				gamesDao.save(game);
+				gamesDao.save(otherGame);
+				tx.commit();
+			} finally {
+				if (tx.isActive())
+					tx.rollback();
+			}
+
+			/*
+			 * Apply the same batch twice: the second time, nothing should
+			 * change (as would be the case for a replay).
+			 */
+			List<JournaledThrow> journaledThrows = new ArrayList<>();
+			journaledThrows.add(new JournaledThrow(game.getId(), 0, PlayerRole.PLAYER_1, Throw.ROCK, Instant.now()));
+			journaledThrows
+					.add(new JournaledThrow(otherGame.getId(), 0, PlayerRole.PLAYER_2, Throw.PAPER, Instant.now()));
+			for (int expectedAppliedCount : new int[] { 2, 0 }) {
+				tx = entityManager.getTransaction();
+				try {
+					tx.begin();
+					Assert.assertEquals(expectedAppliedCount, gamesDao.applyJournaledThrows(journaledThrows));
+					tx.commit();
+				} finally {
+					if (tx.isActive())
+						tx.rollback();
+				}
+			}
+
+			// Verify the results.
+			entityManager.clear();
+			Game gameFromDb = gamesDao.findById(game.getId());
+			Assert.assertEquals(State.STARTED, gameFromDb.getState());
+			Assert.assertEquals(Throw.ROCK, gameFromDb.getRounds().get(0).getThrowForPlayer1());
+			Assert.assertNull(gameFromDb.getRounds().get(0).getThrowForPlayer2());
+			Assert.assertEquals(gameFromDb.getRounds().get(0).getThrowForPlayer1Timestamp(),
+					gameFromDb.getLastThrowTimestamp());
+			Game otherGameFromDb = gamesDao.findById(otherGame.getId());
+			Assert.assertEquals(State.STARTED, otherGameFromDb.getState());
+			Assert.assertEquals(Throw.PAPER, otherGameFromDb.getRounds().get(0).getThrowForPlayer2());
+		} finally {
+			entityManager.close();
+		}
+	}
+
+	/**
+	 * Verifies that
+	 * {@link GamesDaoImpl#submitThrow(Game, int, PlayerRole, Throw)} rejects
+	 * the specified {@link Throw} with the expected {@link ConflictType}.
+	 * 
+	 * @param gamesDao
+	 *            the {@link GamesDaoImpl} to use
+	 * @param gameId
+	 *            the {@link Game#getId()} of the {@link Game} to submit a
+	 *            {@link Throw} to
+	 * @param roundIndex
+	 *            the {@link GameRound#getRoundIndex()} to submit the
+	 *            {@link Throw} for
+	 * @param role
+	 *            the {@link PlayerRole} to submit the {@link Throw} for
+	 * @param expectedConflictType
+	 *            the {@link ConflictType} that's expected
+	 */
+	private void assertThrowConflict(GamesDaoImpl gamesDao, String gameId, int roundIndex, PlayerRole role,
+			ConflictType expectedConflictType) {
+		EntityManager entityManager = daoTestHelper.getEntityManagerFactory().createEntityManager();
+
+		try {
+			GamesDaoImpl conflictGamesDao = new GamesDaoImpl();
+			conflictGamesDao.setEntityManager(entityManager);
+			EntityTransaction tx = entityManager.getTransaction();
+			try {
+				tx.begin();
+				Game game = conflictGamesDao.findById(gameId, GameFetchProfile.SUMMARY);
+				conflictGamesDao.submitThrow(game, roundIndex, role, Throw.SCISSORS);
+				Assert.fail();
+			} catch (GameConflictException e) {
+				Assert.assertEquals(expectedConflictType, e.getType());
+			} finally {
+				if (tx.isActive())
+					tx.rollback();
+			}
+		} finally {
+			entityManager.close();
+		}
+	}
+
+	/**
+	 * Verifies that {@link GamesDaoImpl#save(Game)} rejects stale copies of a
+	 * {@link Game}, via its optimistic locking, and that
+	 * {@link GameWriteRetrier} recognizes that as a conflict.
+	 */
+	@Test
+	public void saveStaleGame() {
+		EntityManager entityManager = daoTestHelper.getEntityManagerFactory().createEntityManager();
+
+		try {
+			// Create the DAO.
+			GamesDaoImpl gamesDao = new GamesDaoImpl();
+			gamesDao.setEntityManager(entityManager);
+
+			// Create and save the entity to test against.
+			Game game = new Game(new Player(new Account()));
+			EntityTransaction tx = entityManager.getTransaction();
+			try {
+				tx.begin();
+				gamesDao.save(game);
+				tx.commit();
+			} finally {
+				if (tx.isActive())
+					tx.rollback();
+			}
+
+			// Load a copy of the Game, and then update it from elsewhere.
+			entityManager.clear();
+			Game staleGame = gamesDao.findById(game.getId(), GameFetchProfile.SUMMARY);
+			EntityManager otherEntityManager = daoTestHelper.getEntityManagerFactory().createEntityManager();
+			try {
+				GamesDaoImpl otherGamesDao = new GamesDaoImpl();
+				otherGamesDao.setEntityManager(otherEntityManager);
+				EntityTransaction otherTx = otherEntityManager.getTransaction();
+				try {
+					otherTx.begin();
+					Game otherGame = otherGamesDao.findById(game.getId(), GameFetchProfile.SUMMARY);
+					otherGame.setMaxRounds(5);
+					otherGamesDao.save(otherGame);
+					otherTx.commit();
+				} finally {
+					if (otherTx.isActive())
+						otherTx.rollback();
+				}
+			} finally {
+				otherEntityManager.close();
+			}
+
+			// Try to save the stale copy.
+			tx = entityManager.getTransaction();
+			try {
+				tx.begin();
+				staleGame.setMaxRounds(7);
+				gamesDao.save(staleGame);
+				tx.commit();
+				Assert.fail("Stale Game was saved.");
+			} catch (RuntimeException e) {
+				Assert.assertTrue(GameWriteRetrier.isConflict(e));
+			} finally {
+				if (tx.isActive())
+					tx.rollback();
+			}
+
+			// Verify the result.
+			entityManager.clear();
+			Game gameFromDb = gamesDao.findById(game.getId());
+			Assert.assertEquals(5, gameFromDb.getMaxRounds());
+		} finally {
+			entityManager.close();
+		}
+	}
+
 	/**
 	 * Tests {@link GamesDaoImpl#delete(String)}.
 	 */
@@ -365,4 +1104,85 @@ public final class GamesDaoImplIT {
 			entityManager.close();
 		}
 	}
+
+	/**
+	 * Runs {@link GamesDaoImpl#submitThrowInPlace(Game, int, PlayerRole, Throw)}
+	 * in its own transaction, against a freshly loaded copy of the specified
+	 * {@link Game}.
+	 * 
+	 * @param entityManager
+	 *            the {@link EntityManager} that the {@link GamesDaoImpl} is
+	 *            using
+	 * @param gamesDao
+	 *            the {@link GamesDaoImpl} to test
+	 * @param gameId
+	 *            the {@link Game#getId()} of the {@link Game} to throw in
+	 * @param roundIndex
+	 *            the {@link GameRound#getRoundIndex()} to throw in
+	 * @param role
+	 *            the {@link PlayerRole} to throw for
+	 * @param throwToPlay
+	 *            the {@link Throw} to submit
+	 * @return the number of JDBC statements that were prepared for the
+	 *         {@link Throw}, from just after the {@link Game} (and its
+	 *         {@link GameRound}s) were loaded, through the commit
+	 */
+	private static long countSubmitThrowInPlaceStatements(EntityManager entityManager, GamesDaoImpl gamesDao,
+			String gameId, int roundIndex, PlayerRole role, Throw throwToPlay) {
+		Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		entityManager.clear();
+
+		EntityTransaction tx = entityManager.getTransaction();
+		try {
+			tx.begin();
+			Game game = gamesDao.findById(gameId, GameFetchProfile.SUMMARY);
+			game.getRounds().size();
+			statistics.clear();
+
+			Game updatedGame = gamesDao.submitThrowInPlace(game, roundIndex, role, throwToPlay);
+			GameRound round = updatedGame.getRounds().get(roundIndex);
+			Assert.assertEquals(throwToPlay,
+					role == PlayerRole.PLAYER_1 ? round.getThrowForPlayer1() : round.getThrowForPlayer2());
+			tx.commit();
+		} finally {
+			if (tx.isActive())
+				tx.rollback();
+		}
+
+		return statistics.getPrepareStatementCount();
+	}
+
+	/**
+	 * Loads the specified {@link Game} via
+	 * {@link GamesDaoImpl#findById(String, GameFetchProfile)} into an empty
+	 * persistence context, and then reads its {@link GameRound}s.
+	 * 
+	 * @param entityManager
+	 *            the {@link EntityManager} that the {@link GamesDaoImpl} is
+	 *            using
+	 * @param gamesDao
+	 *            the {@link GamesDaoImpl} to use
+	 * @param gameId
+	 *            the {@link Game#getId()} of the {@link Game} to load
+	 * @param fetchProfile
+	 *            the {@link GameFetchProfile} to load the {@link Game} with
+	 * @return the number of SQL statements that were run to load the
+	 *         {@link Game}, followed by the number that were then run to read
+	 *         its {@link GameRound}s
+	 */
+	private static long[] countFindByIdStatements(EntityManager entityManager, GamesDaoImpl gamesDao, String gameId,
+			GameFetchProfile fetchProfile) {
+		Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		entityManager.clear();
+		statistics.clear();
+
+		Game game = gamesDao.findById(gameId, fetchProfile);
+		Assert.assertNotNull(game);
+		long loadStatements = statistics.getPrepareStatementCount();
+
+		Assert.assertFalse(game.getRounds().isEmpty());
+		long roundsStatements = statistics.getPrepareStatementCount() - loadStatements;
+
+		return new long[] { loadStatements, roundsStatements };
+	}
 }
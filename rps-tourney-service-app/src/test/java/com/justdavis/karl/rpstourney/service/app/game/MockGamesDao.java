@@ -0,0 +1,150 @@
+package com.justdavis.karl.rpstourney.service.app.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.justdavis.karl.rpstourney.service.api.game.Game;
+import com.justdavis.karl.rpstourney.service.api.game.GameSummary;
+import com.justdavis.karl.rpstourney.service.api.game.GameSummaryPage;
+import com.justdavis.karl.rpstourney.service.api.game.Player;
+import com.justdavis.karl.rpstourney.service.api.game.PlayerRole;
+import com.justdavis.karl.rpstourney.service.api.game.Throw;
+
+/**
+ * A mock {@link IGamesDao} implementation for use in tests. Stores
+ * {@link Game}s in-memory (as-is, without copying them).
+ */
+public final class MockGamesDao implements IGamesDao {
+	public final Map<String, Game> games = new ConcurrentHashMap<>();
+	public final AtomicInteger saveCount = new AtomicInteger(0);
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.app.game.IGamesDao#save(com.justdavis.karl.rpstourney.service.api.game.Game)
+	 */
+	@Override
+	public void save(Game game) {
+		saveCount.incrementAndGet();
+		games.put(game.getId(), game);
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.app.game.IGamesDao#findById(java.lang.String)
+	 */
+	@Override
+	public Game findById(String gameId) {
+		return games.get(gameId);
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.app.game.IGamesDao#findById(java.lang.String,
+	 *      com.justdavis.karl.rpstourney.service.app.game.GameFetchProfile)
+	 */
+	@Override
+	public Game findById(String gameId, GameFetchProfile fetchProfile) {
+		if (fetchProfile == null)
+			throw new IllegalArgumentException();
+
+		return games.get(gameId);
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.app.game.IGamesDao#getGames()
+	 */
+	@Override
+	public List<Game> getGames() {
+		return new ArrayList<>(games.values());
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.app.game.IGamesDao#getGamesForPlayer(com.justdavis.karl.rpstourney.service.api.game.Player)
+	 */
+	@Override
+	public List<Game> getGamesForPlayer(Player player) {
+		List<Game> gamesForPlayer = new ArrayList<>();
+		for (Game game : games.values())
+			if (player.equals(game.getPlayer1()) || player.equals(game.getPlayer2()))
+				gamesForPlayer.add(game);
+		return gamesForPlayer;
+	}
+
+	/**
+	 * Note: This mock doesn't sort the {@link GameSummary}s.
+	 * 
+	 * @see com.justdavis.karl.rpstourney.service.app.game.IGamesDao#getGameSummariesForPlayer(com.justdavis.karl.rpstourney.service.api.game.Player,
+	 *      com.justdavis.karl.rpstourney.service.api.game.GameSummaryPage.Cursor,
+	 *      int)
+	 */
+	@Override
+	public List<GameSummary> getGameSummariesForPlayer(Player player, GameSummaryPage.Cursor after, int limit) {
+		List<GameSummary> summaries = new ArrayList<>();
+		for (Game game : getGamesForPlayer(player)) {
+			GameSummary summary = new GameSummary(game);
+			if (summaries.size() < limit && (after == null || after.isBefore(summary)))
+				summaries.add(summary);
+		}
+		return summaries;
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.app.game.IGamesDao#setMaxRounds(java.lang.String,
+	 *      int, int)
+	 */
+	@Override
+	public Game setMaxRounds(String gameId, int oldMaxRoundsValue, int newMaxRoundsValue) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.app.game.IGamesDao#claimPlayer2(java.lang.String,
+	 *      com.justdavis.karl.rpstourney.service.api.game.Player)
+	 */
+	@Override
+	public void claimPlayer2(String gameId, Player player2) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.app.game.IGamesDao#submitThrow(com.justdavis.karl.rpstourney.service.api.game.Game,
+	 *      int, com.justdavis.karl.rpstourney.service.api.game.PlayerRole,
+	 *      com.justdavis.karl.rpstourney.service.api.game.Throw)
+	 */
+	@Override
+	public Game submitThrow(Game game, int roundIndex, PlayerRole role, Throw throwToPlay) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.app.game.IGamesDao#submitThrowInPlace(com.justdavis.karl.rpstourney.service.api.game.Game,
+	 *      int, com.justdavis.karl.rpstourney.service.api.game.PlayerRole,
+	 *      com.justdavis.karl.rpstourney.service.api.game.Throw)
+	 */
+	@Override
+	public Game submitThrowInPlace(Game game, int roundIndex, PlayerRole role, Throw throwToPlay) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.app.game.IGamesDao#applyJournaledThrows(java.util.List)
+	 */
+	@Override
+	public int applyJournaledThrows(List<JournaledThrow> journaledThrows) {
+		int appliedCount = 0;
+		for (JournaledThrow journaledThrow : journaledThrows) {
+			Game game = games.get(journaledThrow.getGameId());
+			if (game != null && journaledThrow.applyTo(game))
+				appliedCount++;
+		}
+		return appliedCount;
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.app.game.IGamesDao#delete(java.lang.String)
+	 */
+	@Override
+	public void delete(String gameId) {
+		games.remove(gameId);
+	}
+}
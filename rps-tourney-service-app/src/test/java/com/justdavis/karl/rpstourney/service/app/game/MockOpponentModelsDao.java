@@ -0,0 +1,32 @@
+package com.justdavis.karl.rpstourney.service.app.game;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A mock {@link IOpponentModelsDao} implementation for use in tests. Stores
+ * opponent models in-memory.
+ */
+public final class MockOpponentModelsDao implements IOpponentModelsDao {
+	public final Map<OpponentModelKey, byte[]> models = new HashMap<>();
+	public int findCount = 0;
+	public int saveCount = 0;
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.app.game.IOpponentModelsDao#find(com.justdavis.karl.rpstourney.service.app.game.OpponentModelKey)
+	 */
+	@Override
+	public byte[] find(OpponentModelKey key) {
+		findCount++;
+		return models.get(key);
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.app.game.IOpponentModelsDao#save(java.util.Map)
+	 */
+	@Override
+	public void save(Map<OpponentModelKey, byte[]> models) {
+		saveCount++;
+		this.models.putAll(models);
+	}
+}
@@ -0,0 +1,43 @@
+package com.justdavis.karl.rpstourney.service.app.game;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * A do-nothing {@link AbstractPlatformTransactionManager}, for tests that
+ * don't have a real database.
+ */
+public final class MockTransactionManager extends AbstractPlatformTransactionManager {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * @see org.springframework.transaction.support.AbstractPlatformTransactionManager#doGetTransaction()
+	 */
+	@Override
+	protected Object doGetTransaction() {
+		return new Object();
+	}
+
+	/**
+	 * @see org.springframework.transaction.support.AbstractPlatformTransactionManager#doBegin(java.lang.Object,
+	 *      org.springframework.transaction.TransactionDefinition)
+	 */
+	@Override
+	protected void doBegin(Object transaction, TransactionDefinition definition) {
+	}
+
+	/**
+	 * @see org.springframework.transaction.support.AbstractPlatformTransactionManager#doCommit(org.springframework.transaction.support.DefaultTransactionStatus)
+	 */
+	@Override
+	protected void doCommit(DefaultTransactionStatus status) {
+	}
+
+	/**
+	 * @see org.springframework.transaction.support.AbstractPlatformTransactionManager#doRollback(org.springframework.transaction.support.DefaultTransactionStatus)
+	 */
+	@Override
+	protected void doRollback(DefaultTransactionStatus status) {
+	}
+}
@@ -0,0 +1,106 @@
+package com.justdavis.karl.rpstourney.service.app.game;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.justdavis.karl.rpstourney.service.api.game.ai.BuiltInAi;
+
+/**
+ * Unit tests for {@link OpponentModelCache}.
+ */
+public final class OpponentModelCacheTest {
+	/**
+	 * Verifies that {@link OpponentModelCache} stores models and tracks its
+	 * hits and misses correctly.
+	 */
+	@Test
+	public void getAndPut() {
+		OpponentModelCache cache = new OpponentModelCache(1024 * 1024, null);
+		OpponentModelKey key = new OpponentModelKey(BuiltInAi.MARKOV_CHAIN_V1, 1L);
+
+		Assert.assertNull(cache.get(key));
+		cache.put(key, new byte[] { 1, 2, 3 });
+		Assert.assertArrayEquals(new byte[] { 1, 2, 3 }, cache.get(key));
+		Assert.assertNull(cache.get(new OpponentModelKey(BuiltInAi.ENSEMBLE_V1, 1L)));
+
+		Assert.assertEquals(1, cache.getHitCount());
+		Assert.assertEquals(2, cache.getMissCount());
+		Assert.assertEquals(1.0 / 3, cache.getHitRate(), 0.0001);
+		Assert.assertEquals(2, cache.getSize());
+		Assert.assertEquals(2 * OpponentModelCache.ENTRY_OVERHEAD_BYTES + 3, cache.getSizeBytes());
+	}
+
+	/**
+	 * Verifies that {@link OpponentModelCache} evicts the least recently used
+	 * models to stay within its maximum size, no matter how many players there
+	 * are.
+	 */
+	@Test
+	public void evictsLeastRecentlyUsed() {
+		int modelSize = 1000;
+		long maxSizeBytes = 10 * (OpponentModelCache.ENTRY_OVERHEAD_BYTES + modelSize);
+		OpponentModelCache cache = new OpponentModelCache(maxSizeBytes, null);
+
+		OpponentModelKey firstKey = new OpponentModelKey(BuiltInAi.ENSEMBLE_V1, 0L);
+		cache.put(firstKey, new byte[modelSize]);
+		for (long playerId = 1; playerId < 10000; playerId++) {
+			cache.put(new OpponentModelKey(BuiltInAi.ENSEMBLE_V1, playerId), new byte[modelSize]);
+
+			// Keep using the first model, so it's never the eldest.
+			Assert.assertNotNull(cache.get(firstKey));
+			Assert.assertTrue(cache.getSizeBytes() <= maxSizeBytes);
+		}
+
+		Assert.assertEquals(10, cache.getSize());
+		Assert.assertEquals(10000 - 10, cache.getEvictionCount());
+		Assert.assertNull(cache.get(new OpponentModelKey(BuiltInAi.ENSEMBLE_V1, 1L)));
+		Assert.assertNotNull(cache.get(new OpponentModelKey(BuiltInAi.ENSEMBLE_V1, 9999L)));
+	}
+
+	/**
+	 * Verifies that {@link OpponentModelCache} loads uncached models from its
+	 * {@link IOpponentModelsDao}, saves updated ones on
+	 * {@link OpponentModelCache#flush()}, and doesn't evict them before then.
+	 */
+	@Test
+	public void persistence() {
+		MockOpponentModelsDao modelsDao = new MockOpponentModelsDao();
+		OpponentModelKey savedKey = new OpponentModelKey(BuiltInAi.MARKOV_CHAIN_V1, 1L);
+		modelsDao.models.put(savedKey, new byte[] { 1 });
+		OpponentModelCache cache = new OpponentModelCache(2 * (OpponentModelCache.ENTRY_OVERHEAD_BYTES + 1),
+				modelsDao);
+
+		// The first get() should go to the DAO, and the second shouldn't.
+		Assert.assertArrayEquals(new byte[] { 1 }, cache.get(savedKey));
+		Assert.assertArrayEquals(new byte[] { 1 }, cache.get(savedKey));
+		Assert.assertEquals(1, modelsDao.findCount);
+
+		// Nothing has changed yet, so there's nothing to save.
+		cache.flush();
+		Assert.assertEquals(0, modelsDao.saveCount);
+
+		// Update one model and add another, filling up the cache.
+		cache.put(savedKey, new byte[] { 2 });
+		OpponentModelKey newKey = new OpponentModelKey(BuiltInAi.MARKOV_CHAIN_V1, 2L);
+		cache.put(newKey, new byte[] { 3 });
+
+		// The unsaved models should stay put, even though they're older.
+		OpponentModelKey missingKey = new OpponentModelKey(BuiltInAi.MARKOV_CHAIN_V1, 3L);
+		Assert.assertNull(cache.get(missingKey));
+		Assert.assertEquals(1, cache.getEvictionCount());
+		Assert.assertEquals(2, cache.getSize());
+
+		cache.flush();
+		Assert.assertEquals(1, modelsDao.saveCount);
+		Assert.assertArrayEquals(new byte[] { 2 }, modelsDao.models.get(savedKey));
+		Assert.assertArrayEquals(new byte[] { 3 }, modelsDao.models.get(newKey));
+
+		// Now that they're saved, they can be evicted.
+		Assert.assertNull(cache.get(missingKey));
+		Assert.assertEquals(2, cache.getEvictionCount());
+		Assert.assertArrayEquals(new byte[] { 3 }, cache.get(newKey));
+		Assert.assertEquals(3, modelsDao.findCount);
+		Assert.assertArrayEquals(new byte[] { 2 }, cache.get(savedKey));
+		Assert.assertEquals(4, modelsDao.findCount);
+	}
+}
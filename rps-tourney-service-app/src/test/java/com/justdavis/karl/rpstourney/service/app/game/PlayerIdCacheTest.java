@@ -0,0 +1,50 @@
+package com.justdavis.karl.rpstourney.service.app.game;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link PlayerIdCache}.
+ */
+public final class PlayerIdCacheTest {
+	/**
+	 * Verifies that {@link PlayerIdCache} stores and removes mappings, and
+	 * tracks its hits and misses correctly.
+	 */
+	@Test
+	public void getPutAndRemove() {
+		PlayerIdCache cache = new PlayerIdCache();
+
+		Assert.assertNull(cache.get(1L));
+		cache.put(1L, 42L);
+		Assert.assertEquals(Long.valueOf(42L), cache.get(1L));
+		cache.remove(1L);
+		Assert.assertNull(cache.get(1L));
+
+		Assert.assertEquals(1, cache.getHitCount());
+		Assert.assertEquals(2, cache.getMissCount());
+		Assert.assertEquals(0, cache.getSize());
+	}
+
+	/**
+	 * Verifies that {@link PlayerIdCache} evicts the least recently used
+	 * mappings to stay within its maximum size.
+	 */
+	@Test
+	public void evictsLeastRecentlyUsed() {
+		PlayerIdCache cache = new PlayerIdCache(10);
+
+		cache.put(0L, 100L);
+		for (long accountId = 1; accountId < 1000; accountId++) {
+			cache.put(accountId, accountId + 100L);
+
+			// Keep using the first mapping, so it's never the eldest.
+			Assert.assertNotNull(cache.get(0L));
+			Assert.assertTrue(cache.getSize() <= 10);
+		}
+
+		Assert.assertEquals(1000 - 10, cache.getEvictionCount());
+		Assert.assertNull(cache.get(1L));
+		Assert.assertEquals(Long.valueOf(1099L), cache.get(999L));
+	}
+}
@@ -271,6 +271,63 @@ public final class PlayersDaoImplIT {
 		}
 	}
 
+	/**
+	 * Verifies that {@link PlayersDaoImpl#findPlayerForAccount(Account)} uses
+	 * and maintains its {@link PlayerIdCache} correctly.
+	 */
+	@Test
+	public void findPlayerForAccountCached() {
+		EntityManager entityManager = daoTestHelper.getEntityManagerFactory().createEntityManager();
+
+		try {
+			// Create the DAO.
+			PlayerIdCache playerIdCache = new PlayerIdCache();
+			PlayersDaoImpl playersDao = new PlayersDaoImpl();
+			playersDao.setEntityManager(entityManager);
+			playersDao.setPlayerIdCache(playerIdCache);
+
+			// Creating the Player should cache its ID.
+			Account account = new Account();
+			Player player;
+			EntityTransaction tx = entityManager.getTransaction();
+			try {
+				tx.begin();
+				player = playersDao.findOrCreatePlayerForAccount(account);
+				tx.commit();
+			} finally {
+				if (tx.isActive())
+					tx.rollback();
+			}
+			Assert.assertEquals(Long.valueOf(player.getId()), playerIdCache.get(account.getId()));
+
+			// Lookups should then be served from it.
+			entityManager.clear();
+			long hitCount = playerIdCache.getHitCount();
+			Assert.assertEquals(player, playersDao.findPlayerForAccount(account));
+			Assert.assertEquals(hitCount + 1, playerIdCache.getHitCount());
+
+			// Stale entries should be ignored and removed.
+			playerIdCache.put(account.getId(), player.getId() + 1000);
+			Assert.assertEquals(player, playersDao.findPlayerForAccount(account));
+			Assert.assertEquals(Long.valueOf(player.getId()), playerIdCache.get(account.getId()));
+
+			// Deleting the Player should remove its entry.
+			tx = entityManager.getTransaction();
+			try {
+				tx.begin();
+				playersDao.delete(playersDao.findPlayerForAccount(account));
+				tx.commit();
+			} finally {
+				if (tx.isActive())
+					tx.rollback();
+			}
+			Assert.assertNull(playerIdCache.get(account.getId()));
+			Assert.assertNull(playersDao.findPlayerForAccount(account));
+		} finally {
+			entityManager.close();
+		}
+	}
+
 	/**
 	 * Tests {@link PlayersDaoImpl#delete(Player)}.
 	 */
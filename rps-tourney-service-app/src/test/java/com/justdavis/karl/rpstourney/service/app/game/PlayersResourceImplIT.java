@@ -4,7 +4,9 @@ import java.util.Arrays;
 import java.util.Set;
 
 import javax.inject.Inject;
+import javax.persistence.EntityManagerFactory;
 
+import org.hibernate.SessionFactory;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Rule;
@@ -46,6 +48,9 @@ public final class PlayersResourceImplIT {
 	@Inject
 	private IDataSourceSchemaManager schemaManager;
 
+	@Inject
+	private EntityManagerFactory entityManagerFactory;
+
 	@Inject
 	private IConfigLoader configLoader;
 
@@ -59,6 +64,9 @@ public final class PlayersResourceImplIT {
 	public void wipeSchema() {
 		schemaManager.wipeSchema(configLoader.getConfig().getDataSourceCoordinates());
 		schemaManager.createOrUpgradeSchema(configLoader.getConfig().getDataSourceCoordinates());
+
+		// The wipe bypasses Hibernate, so its second-level cache is now stale.
+		entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
 	}
 
 	/**
@@ -0,0 +1,219 @@
+package com.justdavis.karl.rpstourney.service.app.game;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.justdavis.karl.rpstourney.service.api.auth.Account;
+import com.justdavis.karl.rpstourney.service.api.game.Game;
+import com.justdavis.karl.rpstourney.service.api.game.Player;
+import com.justdavis.karl.rpstourney.service.api.game.PlayerRole;
+import com.justdavis.karl.rpstourney.service.api.game.State;
+import com.justdavis.karl.rpstourney.service.api.game.Throw;
+import com.justdavis.karl.rpstourney.service.app.config.ThrowJournalConfig;
+
+/**
+ * Unit tests for {@link ThrowJournal} and {@link JournaledThrow}.
+ */
+public final class ThrowJournalTest {
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
+	/**
+	 * Verifies that {@link JournaledThrow#encode()} and
+	 * {@link JournaledThrow#parse(String)} round-trip correctly, and that
+	 * partially-written records are rejected.
+	 */
+	@Test
+	public void encodeAndParse() {
+		JournaledThrow journaledThrow = new JournaledThrow("abc", 3, PlayerRole.PLAYER_2, Throw.SCISSORS,
+				Instant.parse("2026-01-02T03:04:05.678Z"));
+		String record = new String(journaledThrow.encode(), StandardCharsets.UTF_8);
+		Assert.assertTrue(record.endsWith("\n"));
+		record = record.substring(0, record.length() - 1);
+
+		JournaledThrow parsedThrow = JournaledThrow.parse(record);
+		Assert.assertNotNull(parsedThrow);
+		Assert.assertEquals(journaledThrow.getGameId(), parsedThrow.getGameId());
+		Assert.assertEquals(journaledThrow.getRoundIndex(), parsedThrow.getRoundIndex());
+		Assert.assertEquals(journaledThrow.getRole(), parsedThrow.getRole());
+		Assert.assertEquals(journaledThrow.getThrowToPlay(), parsedThrow.getThrowToPlay());
+		Assert.assertEquals(journaledThrow.getTimestamp(), parsedThrow.getTimestamp());
+
+		Assert.assertNull(JournaledThrow.parse(record.substring(0, record.length() - 3)));
+		Assert.assertNull(JournaledThrow.parse(record.replace("SCISSORS", "PAPER")));
+		Assert.assertNull(JournaledThrow.parse(""));
+	}
+
+	/**
+	 * Verifies that a disabled {@link ThrowJournal} does nothing.
+	 */
+	@Test
+	public void disabled() {
+		ThrowJournal throwJournal = new ThrowJournal(new ThrowJournalConfig(), new MockGamesDao(),
+				new GameWriteRetrier(new MockTransactionManager()));
+		try {
+			Assert.assertFalse(throwJournal.isEnabled());
+			Assert.assertTrue(throwJournal.isReplayApplied());
+			Assert.assertNull(throwJournal.getPendingThrow("abc"));
+			throwJournal.flush("abc");
+
+			try {
+				throwJournal.append(new JournaledThrow("abc", 0, PlayerRole.PLAYER_1, Throw.ROCK, Instant.now()));
+				Assert.fail();
+			} catch (IllegalStateException e) {
+				// Expected.
+			}
+		} finally {
+			throwJournal.close();
+		}
+	}
+
+	/**
+	 * Verifies that {@link ThrowJournal} holds {@link JournaledThrow}s as
+	 * pending until they're flushed, and then cleans up after them.
+	 *
+	 * @throws IOException
+	 *             (indicates a test error)
+	 */
+	@Test
+	public void appendAndFlush() throws IOException {
+		MockGamesDao gamesDao = new MockGamesDao();
+		Game game = createGame(gamesDao);
+		Game otherGame = createGame(gamesDao);
+		Path directory = tempFolder.newFolder().toPath();
+		ThrowJournal throwJournal = new ThrowJournal(new ThrowJournalConfig(directory.toString(), 60000, 500),
+				gamesDao, new GameWriteRetrier(new MockTransactionManager()));
+		try {
+			JournaledThrow journaledThrow = new JournaledThrow(game.getId(), 0, PlayerRole.PLAYER_1, Throw.ROCK,
+					Instant.now());
+			throwJournal.append(journaledThrow);
+			throwJournal.append(
+					new JournaledThrow(otherGame.getId(), 0, PlayerRole.PLAYER_2, Throw.PAPER, Instant.now()));
+			Assert.assertSame(journaledThrow, throwJournal.getPendingThrow(game.getId()));
+			Assert.assertEquals(2, throwJournal.getPendingCount());
+			Assert.assertNull(game.getRounds().get(0).getThrowForPlayer1());
+
+			// Only one Game may have a Throw pending at a time.
+			try {
+				throwJournal.append(journaledThrow);
+				Assert.fail();
+			} catch (IllegalStateException e) {
+				// Expected.
+			}
+
+			// Flush just one of the Games.
+			throwJournal.flush(game.getId());
+			Assert.assertEquals(Throw.ROCK, game.getRounds().get(0).getThrowForPlayer1());
+			Assert.assertEquals(State.STARTED, game.getState());
+			Assert.assertNull(throwJournal.getPendingThrow(game.getId()));
+			Assert.assertEquals(1, throwJournal.getPendingCount());
+
+			// Flush the rest.
+			throwJournal.flush();
+			Assert.assertEquals(Throw.PAPER, otherGame.getRounds().get(0).getThrowForPlayer2());
+			Assert.assertEquals(0, throwJournal.getPendingCount());
+			Assert.assertEquals(2, throwJournal.getAppendedCount());
+			Assert.assertEquals(2, throwJournal.getFlushedCount());
+
+			// Only the new (empty) segment should be left.
+			Assert.assertEquals(1, countSegments(directory));
+		} finally {
+			throwJournal.close();
+		}
+		Assert.assertEquals(0, countSegments(directory));
+	}
+
+	/**
+	 * Verifies that {@link ThrowJournal} replays any unflushed
+	 * {@link JournaledThrow}s left behind by a previous run (e.g. one that
+	 * crashed), skipping any partially-written records.
+	 *
+	 * @throws IOException
+	 *             (indicates a test error)
+	 */
+	@Test
+	public void replayAfterRestart() throws IOException {
+		Path directory = tempFolder.newFolder().toPath();
+		ThrowJournalConfig config = new ThrowJournalConfig(directory.toString(), 60000, 1);
+
+		// The first run never gets to flush anything.
+		MockGamesDao crashedGamesDao = new MockGamesDao();
+		Game game = createGame(crashedGamesDao);
+		Game otherGame = createGame(crashedGamesDao);
+		ThrowJournal crashedJournal = new ThrowJournal(config, new MockGamesDao(),
+				new GameWriteRetrier(new MockTransactionManager()));
+		crashedJournal.append(new JournaledThrow(game.getId(), 0, PlayerRole.PLAYER_1, Throw.ROCK, Instant.now()));
+		crashedJournal
+				.append(new JournaledThrow(otherGame.getId(), 0, PlayerRole.PLAYER_1, Throw.PAPER, Instant.now()));
+		try (DirectoryStream<Path> segments = Files.newDirectoryStream(directory)) {
+			for (Path segment : segments)
+				Files.write(segment, "abc,0,PLAY".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+		}
+
+		// The next run should pick up where it left off.
+		MockGamesDao gamesDao = new MockGamesDao();
+		gamesDao.save(game);
+		gamesDao.save(otherGame);
+		ThrowJournal throwJournal = new ThrowJournal(config, gamesDao,
+				new GameWriteRetrier(new MockTransactionManager()));
+		try {
+			Assert.assertFalse(throwJournal.isReplayApplied());
+			Assert.assertEquals(0, throwJournal.getPendingCount());
+
+			throwJournal.flush(game.getId());
+			Assert.assertTrue(throwJournal.isReplayApplied());
+			Assert.assertEquals(2, throwJournal.getReplayedCount());
+			Assert.assertEquals(Throw.ROCK, game.getRounds().get(0).getThrowForPlayer1());
+			Assert.assertEquals(Throw.PAPER, otherGame.getRounds().get(0).getThrowForPlayer1());
+			Assert.assertEquals(1, countSegments(directory));
+
+			// The replay should only happen once.
+			throwJournal.flush();
+			Assert.assertEquals(2, throwJournal.getReplayedCount());
+			Assert.assertEquals(0, throwJournal.getFlushedCount());
+		} finally {
+			throwJournal.close();
+		}
+	}
+
+	/**
+	 * @param gamesDao
+	 *            the {@link MockGamesDao} to save the new {@link Game} to
+	 * @return a new {@link Game} between two human {@link Player}s, ready for
+	 *         its first {@link Throw}
+	 */
+	private static Game createGame(MockGamesDao gamesDao) {
+		Game game = new Game(new Player(new Account()));
+		game.setPlayer2(new Player(new Account()));
+		game.prepareRound();
+		gamesDao.save(game);
+		return game;
+	}
+
+	/**
+	 * @param directory
+	 *            the {@link ThrowJournal} directory to check
+	 * @return the number of segment files in the specified directory
+	 * @throws IOException
+	 *             (indicates a test error)
+	 */
+	private static int countSegments(Path directory) throws IOException {
+		int segmentCount = 0;
+		try (DirectoryStream<Path> segments = Files.newDirectoryStream(directory, "throws-*.journal")) {
+			for (@SuppressWarnings("unused")
+			Path segment : segments)
+				segmentCount++;
+		}
+		return segmentCount;
+	}
+}
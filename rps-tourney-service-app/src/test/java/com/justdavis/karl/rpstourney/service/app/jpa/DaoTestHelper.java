@@ -1,10 +1,12 @@
 package com.justdavis.karl.rpstourney.service.app.jpa;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.Persistence;
 
+import org.hibernate.SessionFactory;
 import org.junit.rules.ExternalResource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -102,8 +104,11 @@ public final class DaoTestHelper extends ExternalResource implements TestExecuti
 
 			// Create the EMF to use for the test.
 			DataSourceConnectorsManager connectorsManager = springAppContext.getBean(DataSourceConnectorsManager.class);
-			Map<String, Object> jpaCoords = connectorsManager
-					.convertToJpaProperties(this.provisioningResult.getCoords());
+			Map<String, Object> jpaCoords = new HashMap<>(
+					connectorsManager.convertToJpaProperties(this.provisioningResult.getCoords()));
+			// Allows tests to count the SQL statements run by each operation.
+			jpaCoords.put("hibernate.generate_statistics", "true");
+			jpaCoords.putAll(SpringBindingsForJpa.createJpaProperties());
 			this.entityManagerFactory = Persistence.createEntityManagerFactory("com.justdavis.karl.rpstourney",
 					jpaCoords);
 		} catch (Throwable t) {
@@ -129,8 +134,14 @@ public final class DaoTestHelper extends ExternalResource implements TestExecuti
 		 * Close the EMF that was used by the test. This is needed, because
 		 * apparently the EMF is also keeping a connection to the database open.
 		 */
-		if (this.entityManagerFactory != null)
+		if (this.entityManagerFactory != null) {
+			/*
+			 * The second-level cache's regions may outlive the EMF, and the
+			 * next test's database will reuse the same IDs, so clear them out.
+			 */
+			this.entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
 			this.entityManagerFactory.close();
+		}
 
 		// Delete the data source repository used for the test.
 		deleteProvisionedDataSourceRepository();
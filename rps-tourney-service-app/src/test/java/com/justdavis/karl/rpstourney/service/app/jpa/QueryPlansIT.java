@@ -0,0 +1,211 @@
+package com.justdavis.karl.rpstourney.service.app.jpa;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityTransaction;
+import javax.persistence.Query;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestContextManager;
+
+import com.justdavis.karl.misc.datasources.provisioners.IProvisioningRequest;
+import com.justdavis.karl.misc.datasources.provisioners.hsql.HsqlProvisioningRequest;
+import com.justdavis.karl.misc.datasources.provisioners.postgresql.PostgreSqlProvisioningRequest;
+import com.justdavis.karl.rpstourney.service.api.game.ai.BuiltInAi;
+import com.justdavis.karl.rpstourney.service.app.SpringBindingsForDaoITs;
+import com.justdavis.karl.rpstourney.service.app.SpringProfile;
+
+/**
+ * <p>
+ * Integration tests that verify the query plans used by the application's
+ * DAOs, to guard against any of the application's lookups regressing into full
+ * table scans (for instance, because an index was dropped or a query was
+ * rewritten in a way the DB can't use its indexes for).
+ * </p>
+ * <p>
+ * Each test here runs the same lookup that one of the DAOs does, as SQL,
+ * through the DB platform's <code>EXPLAIN</code> support. The tables will all
+ * be empty, so PostgreSQL's planner has to be told not to choose sequential
+ * scans (which it otherwise would, as they're the cheapest option for tiny
+ * tables): if it still picks one, there's no usable index. HSQL's planner is
+ * rule-based, and always uses an index if there is one.
+ * </p>
+ */
+@RunWith(Parameterized.class)
+@ContextConfiguration(classes = { SpringBindingsForDaoITs.class })
+@ActiveProfiles(SpringProfile.INTEGRATION_TESTS)
+public final class QueryPlansIT {
+	/**
+	 * @return the test run parameters to pass to
+	 *         {@link #QueryPlansIT(IProvisioningRequest)}, where each top-level
+	 *         element in the returned {@link Collection} represents a test run
+	 */
+	@Parameterized.Parameters(name = "{index}: IProvisioningRequest={0}")
+	public static Collection<Object[]> createTestParameters() {
+		Collection<Object[]> testParameters = new LinkedList<>();
+
+		IProvisioningRequest hsqlRequest = HsqlProvisioningRequest.requestForRandomDatabase("integrationtest");
+		testParameters.add(new Object[] { hsqlRequest });
+
+		IProvisioningRequest postgreSqlRequest = PostgreSqlProvisioningRequest
+				.requestForRandomDatabase("integrationtest");
+		testParameters.add(new Object[] { postgreSqlRequest });
+
+		return testParameters;
+	}
+
+	@Rule
+	public DaoTestHelper daoTestHelper;
+
+	private final boolean hsql;
+
+	/**
+	 * Constructs a new {@link QueryPlansIT} instance. The test runner will
+	 * generate the parameters to pass to this from the
+	 * {@link #createTestParameters()} method.
+	 *
+	 * @param provisioningRequest
+	 * @throws Exception
+	 *             An {@link Exception} might be thrown by the Spring context
+	 *             initialization.
+	 */
+	public QueryPlansIT(IProvisioningRequest provisioningRequest) throws Exception {
+		this.daoTestHelper = new DaoTestHelper(provisioningRequest);
+		this.hsql = provisioningRequest instanceof HsqlProvisioningRequest;
+
+		/*
+		 * Initialize Spring. We're using this mechanism, rather than the {@link
+		 * SpringJUnit4ClassRunner}, as this test is already using a different
+		 * runner: {@link Parameterized}.
+		 */
+		TestContextManager testContextManager = new TestContextManager(getClass());
+
+		/*
+		 * Register the DaoTestHelper with the Spring test context, so it can
+		 * snag the ApplicationContext from it. (This is a hack.)
+		 */
+		testContextManager.registerTestExecutionListeners(daoTestHelper);
+		testContextManager.prepareTestInstance(this);
+	}
+
+	/**
+	 * Verifies the query plans for the lookups made by
+	 * <code>GamesDaoImpl</code>.
+	 */
+	@Test
+	public void gamesLookups() {
+		assertIndexed("SELECT * FROM \"Games\" WHERE \"id\" = ?1", "abc123");
+		assertIndexed("SELECT * FROM \"Games\" WHERE \"player1Id\" = ?1", 1L);
+		assertIndexed("SELECT * FROM \"Games\" WHERE \"player2Id\" = ?1", 1L);
+		assertIndexed("SELECT * FROM \"GameRounds\" WHERE \"" + (hsql ? "GAMEID" : "gameid") + "\" = ?1", "abc123");
+
+		// The keyset-paginated summary listing, as run for each player column.
+		for (String playerColumn : new String[] { "player1Id", "player2Id" })
+			assertIndexed("SELECT \"id\" FROM \"Games\" WHERE \"" + playerColumn
+					+ "\" = ?1 AND (\"lastThrowTimestamp\" < ?2 OR (\"lastThrowTimestamp\" = ?2 AND \"id\" < ?3))"
+					+ " ORDER BY \"lastThrowTimestamp\" DESC, \"id\" DESC LIMIT 20", 1L, new Timestamp(0L), "abc123");
+	}
+
+	/**
+	 * Verifies the query plans for the lookups made by
+	 * <code>PlayersDaoImpl</code>.
+	 */
+	@Test
+	public void playersLookups() {
+		assertIndexed("SELECT * FROM \"Players\" WHERE \"id\" = ?1", 1L);
+		assertIndexed("SELECT * FROM \"Players\" WHERE \"humanAccountId\" = ?1", 1L);
+		assertIndexed("SELECT * FROM \"Players\" WHERE \"builtInAi\" = ?1", BuiltInAi.ONE_SIDED_DIE_ROCK.name());
+	}
+
+	/**
+	 * Verifies the query plans for the lookups made by the
+	 * <code>AccountsDaoImpl</code>, <code>GameLoginIdentitiesDaoImpl</code>,
+	 * and <code>GuestLoginIdentitiesDaoImpl</code>, including the ones that
+	 * Hibernate makes to load an <code>Account</code>'s collections.
+	 */
+	@Test
+	public void authLookups() {
+		assertIndexed("SELECT * FROM \"Accounts\" WHERE \"id\" = ?1", 1L);
+		assertIndexed("SELECT * FROM \"AccountRoles\" WHERE \"accountId\" = ?1", 1L);
+		assertIndexed("SELECT * FROM \"AuthTokens\" WHERE \"token\" = ?1", new byte[16]);
+		assertIndexed("SELECT * FROM \"AuthTokens\" WHERE \"accountId\" = ?1", 1L);
+		assertIndexed("SELECT * FROM \"LoginIdentities\" WHERE \"accountId\" = ?1", 1L);
+		assertIndexed("SELECT * FROM \"GameLoginIdentities\" WHERE \"emailAddress\" = ?1", "foo@example.com");
+		assertIndexed("SELECT * FROM \"AuditAccountMerges\" WHERE \"targetAccountId\" = ?1", 1L);
+		assertIndexed("SELECT * FROM \"AuditAccountGameMerges\" WHERE \"parentAuditAccountMergeId\" = ?1", 1L);
+	}
+
+	/**
+	 * Verifies the query plans for the lookups made by
+	 * <code>OpponentModelsDaoImpl</code>.
+	 */
+	@Test
+	public void opponentModelsLookups() {
+		assertIndexed("SELECT \"model\" FROM \"AiOpponentModels\" WHERE \"builtInAi\" = ?1 AND \"playerId\" = ?2",
+				BuiltInAi.ENSEMBLE_V1.name(), 1L);
+	}
+
+	/**
+	 * Fails the current test if the specified query's plan includes a full
+	 * table scan.
+	 *
+	 * @param sql
+	 *            the SQL <code>SELECT</code> query to check, which must only
+	 *            use quoted identifiers and positional parameters
+	 * @param parameters
+	 *            the values to bind to the query's positional parameters
+	 */
+	private void assertIndexed(String sql, Object... parameters) {
+		String queryPlan = explain(sql, parameters);
+		String fullScanMarker = hsql ? "FULL SCAN" : "Seq Scan";
+		Assert.assertFalse(String.format("Full table scan for query '%s':%n%s", sql, queryPlan),
+				queryPlan.contains(fullScanMarker));
+	}
+
+	/**
+	 * @param sql
+	 *            the SQL <code>SELECT</code> query to get the plan for
+	 * @param parameters
+	 *            the values to bind to the query's positional parameters
+	 * @return the DB platform's description of the query plan for the
+	 *         specified query
+	 */
+	private String explain(String sql, Object... parameters) {
+		EntityManager entityManager = daoTestHelper.getEntityManagerFactory().createEntityManager();
+		EntityTransaction tx = null;
+
+		try {
+			tx = entityManager.getTransaction();
+			tx.begin();
+
+			// Only affects this transaction.
+			if (!hsql)
+				entityManager.createNativeQuery("SET LOCAL enable_seqscan = off").executeUpdate();
+
+			Query query = entityManager.createNativeQuery((hsql ? "EXPLAIN PLAN FOR " : "EXPLAIN ") + sql);
+			for (int i = 0; i < parameters.length; i++)
+				query.setParameter(i + 1, parameters[i]);
+			List<?> planRows = query.getResultList();
+
+			StringBuilder queryPlan = new StringBuilder();
+			for (Object planRow : planRows)
+				queryPlan.append(planRow).append('\n');
+			return queryPlan.toString();
+		} finally {
+			if (tx != null && tx.isActive())
+				tx.rollback();
+			if (entityManager != null)
+				entityManager.close();
+		}
+	}
+}
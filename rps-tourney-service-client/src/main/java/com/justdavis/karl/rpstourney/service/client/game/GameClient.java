@@ -8,6 +8,7 @@ import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation.Builder;
+import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.Form;
 import javax.ws.rs.core.GenericType;
 import javax.ws.rs.core.MediaType;
@@ -15,7 +16,10 @@ import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
 
 import com.justdavis.karl.rpstourney.service.api.game.GameConflictException;
+import com.justdavis.karl.rpstourney.service.api.game.GameRound;
+import com.justdavis.karl.rpstourney.service.api.game.GameSummaryPage;
 import com.justdavis.karl.rpstourney.service.api.game.GameView;
+import com.justdavis.karl.rpstourney.service.api.game.IExhibitionGameResource;
 import com.justdavis.karl.rpstourney.service.api.game.IGameResource;
 import com.justdavis.karl.rpstourney.service.api.game.Throw;
 import com.justdavis.karl.rpstourney.service.client.CookieStore;
@@ -23,10 +27,10 @@ import com.justdavis.karl.rpstourney.service.client.HttpClientException;
 import com.justdavis.karl.rpstourney.service.client.config.ClientConfig;
 
 /**
- * A client-side implementation/binding for the {@link IGameResource} web
- * service.
+ * A client-side implementation/binding for the {@link IGameResource} (and
+ * {@link IExhibitionGameResource}) web service.
  */
-public final class GameClient implements IGameResource {
+public final class GameClient implements IExhibitionGameResource {
 	private final ClientConfig config;
 	private final CookieStore cookieStore;
 
@@ -66,6 +70,36 @@ public final class GameClient implements IGameResource {
 		return game;
 	}
 
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.api.game.IExhibitionGameResource#createExhibitionGame(long,
+	 *      long, int)
+	 */
+	@Override
+	public GameView createExhibitionGame(long player1Id, long player2Id, int maxRounds) {
+		Client client = ClientBuilder.newClient();
+		Builder requestBuilder = client.target(config.getServiceRoot()).path(IGameResource.SERVICE_PATH)
+				.path(IExhibitionGameResource.SERVICE_PATH_EXHIBITION).request(MediaType.TEXT_XML_TYPE);
+		cookieStore.applyCookies(requestBuilder);
+
+		Form params = new Form();
+		params.param("player1Id", "" + player1Id);
+		params.param("player2Id", "" + player2Id);
+		params.param("maxRounds", "" + maxRounds);
+
+		Response response = requestBuilder.post(Entity.form(params));
+		if (response.getStatus() == Status.NOT_FOUND.getStatusCode())
+			throw new NotFoundException("Player not found.", response);
+		else if (response.getStatus() == Status.CONFLICT.getStatusCode())
+			throw new GameConflictException(response);
+		else if (Status.Family.familyOf(response.getStatus()) != Status.Family.SUCCESSFUL)
+			throw new HttpClientException(response.getStatusInfo());
+
+		GameView game = response.readEntity(GameView.class);
+		cookieStore.remember(response.getCookies());
+
+		return game;
+	}
+
 	/**
 	 * @see com.justdavis.karl.rpstourney.service.api.game.IGameResource#getGamesForPlayer()
 	 */
@@ -89,14 +123,53 @@ public final class GameClient implements IGameResource {
 		return games;
 	}
 
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.api.game.IGameResource#getGameSummariesForPlayer(java.lang.String,
+	 *      java.lang.Integer)
+	 */
+	@Override
+	public GameSummaryPage getGameSummariesForPlayer(String cursor, Integer limit) {
+		Client client = ClientBuilder.newClient();
+		WebTarget target = client.target(config.getServiceRoot()).path(IGameResource.SERVICE_PATH)
+				.path(IGameResource.SERVICE_PATH_GAME_SUMMARIES_FOR_PLAYER);
+		if (cursor != null)
+			target = target.queryParam("cursor", cursor);
+		if (limit != null)
+			target = target.queryParam("limit", limit);
+		Builder requestBuilder = target.request(MediaType.TEXT_XML_TYPE);
+		cookieStore.applyCookies(requestBuilder);
+
+		Response response = requestBuilder.get();
+		if (Status.Family.familyOf(response.getStatus()) != Status.Family.SUCCESSFUL)
+			throw new HttpClientException(response.getStatusInfo());
+
+		GameSummaryPage page = response.readEntity(GameSummaryPage.class);
+		cookieStore.remember(response.getCookies());
+
+		return page;
+	}
+
 	/**
 	 * @see com.justdavis.karl.rpstourney.service.api.game.IGameResource#getGame(java.lang.String)
 	 */
 	@Override
 	public GameView getGame(String gameId) {
+		return getGame(gameId, null, null);
+	}
+
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.api.game.IGameResource#getGame(java.lang.String,
+	 *      java.lang.Integer, java.lang.Integer)
+	 */
+	@Override
+	public GameView getGame(String gameId, Integer fromRound, Integer lastRounds) {
 		Client client = ClientBuilder.newClient();
-		Builder requestBuilder = client.target(config.getServiceRoot()).path(IGameResource.SERVICE_PATH).path(gameId)
-				.request(MediaType.TEXT_XML_TYPE);
+		WebTarget target = client.target(config.getServiceRoot()).path(IGameResource.SERVICE_PATH).path(gameId);
+		if (fromRound != null)
+			target = target.queryParam("fromRound", fromRound);
+		if (lastRounds != null)
+			target = target.queryParam("lastRounds", lastRounds);
+		Builder requestBuilder = target.request(MediaType.TEXT_XML_TYPE);
 		cookieStore.applyCookies(requestBuilder);
 
 		Response response = requestBuilder.get();
@@ -111,6 +184,34 @@ public final class GameClient implements IGameResource {
 		return game;
 	}
 
+	/**
+	 * @see com.justdavis.karl.rpstourney.service.api.game.IGameResource#getRounds(java.lang.String,
+	 *      int, java.lang.Integer)
+	 */
+	@Override
+	public List<GameRound> getRounds(String gameId, int fromRound, Integer limit) {
+		Client client = ClientBuilder.newClient();
+		WebTarget target = client.target(config.getServiceRoot()).path(IGameResource.SERVICE_PATH).path(gameId)
+				.path(IGameResource.SERVICE_PATH_ROUNDS).queryParam("fromRound", fromRound);
+		if (limit != null)
+			target = target.queryParam("limit", limit);
+		Builder requestBuilder = target.request(MediaType.TEXT_XML_TYPE);
+		cookieStore.applyCookies(requestBuilder);
+
+		Response response = requestBuilder.get();
+		if (response.getStatus() == Status.NOT_FOUND.getStatusCode())
+			throw new NotFoundException("Game not found: " + gameId, response);
+		else if (Status.Family.familyOf(response.getStatus()) != Status.Family.SUCCESSFUL)
+			throw new HttpClientException(response.getStatusInfo());
+
+		GenericType<List<GameRound>> roundsListType = new GenericType<List<GameRound>>() {
+		};
+		List<GameRound> rounds = response.readEntity(roundsListType);
+		cookieStore.remember(response.getCookies());
+
+		return rounds;
+	}
+
 	/**
 	 * @see com.justdavis.karl.rpstourney.service.api.game.IGameResource#setMaxRounds(java.lang.String,
 	 *      int, int)
@@ -159,13 +159,19 @@ public class GameController {
 	/**
 	 * @param gameId
 	 *            the {@link Game#getId()} of the game being requested
+	 * @param fromRound
+	 *            the {@link GameRound#getRoundIndex()} of the first round to
+	 *            include in the result, or <code>null</code> to include all of
+	 *            them, as in
+	 *            {@link IGameResource#getGame(String, Integer, Integer)}
 	 * @return a {@link GameView} instance with the current game state for the
 	 *         requesting user
 	 */
 	@RequestMapping(value = "/{gameId}/data", method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
 	@ResponseBody
-	public GameView getGameAsJson(@PathVariable String gameId) {
-		GameView game = loadGame(gameId);
+	public GameView getGameAsJson(@PathVariable String gameId,
+			@RequestParam(value = "fromRound", required = false) Integer fromRound) {
+		GameView game = loadGame(gameId, fromRound);
 		return game;
 	}
 
@@ -410,9 +416,22 @@ public class GameController {
 	 *         {@link #gameClient}
 	 */
 	private GameView loadGame(String gameId) {
+		return loadGame(gameId, null);
+	}
+
+	/**
+	 * @param gameId
+	 *            the {@link Game#getId()} to match against
+	 * @param fromRound
+	 *            the {@link GameRound#getRoundIndex()} of the first round to
+	 *            include, or <code>null</code> to include all of them
+	 * @return the specified {@link GameView}, as returned by
+	 *         {@link #gameClient}
+	 */
+	private GameView loadGame(String gameId, Integer fromRound) {
 		GameView game = null;
 		try {
-			game = gameClient.getGame(gameId);
+			game = gameClient.getGame(gameId, fromRound, null);
 		} catch (NotFoundException e) {
 			throw new GameNotFoundException(e);
 		}
@@ -1,17 +1,14 @@
 package com.justdavis.karl.rpstourney.webapp.home;
 
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.List;
-
 import javax.inject.Inject;
 
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.ModelAndView;
 
-import com.justdavis.karl.rpstourney.service.api.game.GameView;
+import com.justdavis.karl.rpstourney.service.api.game.GameSummaryPage;
 import com.justdavis.karl.rpstourney.service.api.game.IGameResource;
 
 /**
@@ -34,38 +31,37 @@ public class HomeController {
 	}
 
 	/**
+	 * @param cursor
+	 *            the {@link GameSummaryPage#getNextCursor()} value of the
+	 *            page of games before the one to display, or <code>null</code>
+	 *            to display the player's latest games
 	 * @return a {@link ModelAndView} that can be used to render some basic
 	 *         information about the application
 	 */
 	@RequestMapping(method = RequestMethod.GET)
-	public ModelAndView getHomePage() {
+	public ModelAndView getHomePage(@RequestParam(value = "cursor", required = false) String cursor) {
 		ModelAndView modelAndView = new ModelAndView("home");
 
-		// Get the current player's games (if any).
-		List<GameView> games = gameClient.getGamesForPlayer();
-		Collections.sort(games, new GamesSorter());
-		modelAndView.addObject("games", games);
-
-		return modelAndView;
-	}
+		// Ignore any mangled cursors, and just start from the beginning.
+		if (cursor != null) {
+			try {
+				GameSummaryPage.Cursor.parse(cursor);
+			} catch (IllegalArgumentException e) {
+				cursor = null;
+			}
+		}
 
-	/**
-	 * Sorts {@link GameView} instances based on their
-	 * {@link GameView#getLastThrowTimestamp()} value, latest first.
-	 */
-	private static final class GamesSorter implements Comparator<GameView> {
-		/**
-		 * @see java.util.Comparator#compare(java.lang.Object, java.lang.Object)
+		/*
+		 * Get a page of the current player's games (if any). Only the
+		 * summaries are needed here, which are much cheaper for the service to
+		 * produce than the full games (with all of their rounds) are. They'll
+		 * already be sorted, latest first.
 		 */
-		@Override
-		public int compare(GameView o1, GameView o2) {
-			if (o1.getLastThrowTimestamp() == null)
-				return -1;
-			if (o2.getLastThrowTimestamp() == null)
-				return -1;
+		GameSummaryPage games = gameClient.getGameSummariesForPlayer(cursor, null);
+		modelAndView.addObject("games", games.getSummaries());
+		modelAndView.addObject("gamesCursor", cursor);
+		modelAndView.addObject("gamesNextCursor", games.getNextCursor());
 
-			int timestampComparison = o1.getLastThrowTimestamp().compareTo(o2.getLastThrowTimestamp());
-			return -1 * timestampComparison;
-		}
+		return modelAndView;
 	}
 }
@@ -16,13 +16,13 @@ import org.springframework.web.servlet.tags.RequestContextAwareTag;
 
 import com.justdavis.karl.misc.exceptions.BadCodeMonkeyException;
 import com.justdavis.karl.rpstourney.service.api.auth.Account;
-import com.justdavis.karl.rpstourney.service.api.game.GameView;
+import com.justdavis.karl.rpstourney.service.api.game.GameSummary;
 
 /**
  * <p>
  * A JSP tag handler that provides the
  * <code>&lt;rps:gameOpponent game="${someGame}" /&gt;</code> tag, for printing
- * out a user's opponent in a {@link GameView}.
+ * out a user's opponent in a {@link GameSummary}.
  * </p>
  * <p>
  * Please note that this class and its properties must be correctly listed in
@@ -32,16 +32,16 @@ import com.justdavis.karl.rpstourney.service.api.game.GameView;
 public final class GameOpponentTag extends RequestContextAwareTag {
 	private static final long serialVersionUID = -2870916586936080691L;
 
-	private GameView game;
+	private GameSummary game;
 	private SecurityContext mockSecurityContext;
 	private MessageSource messageSource;
 	private boolean initialized;
 
 	/**
 	 * @param game
-	 *            the {@link GameView} to be rendered
+	 *            the {@link GameSummary} to be rendered
 	 */
-	public void setGame(GameView value) {
+	public void setGame(GameSummary value) {
 		this.game = value;
 	}
 
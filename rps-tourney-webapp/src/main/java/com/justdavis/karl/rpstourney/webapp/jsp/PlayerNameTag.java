@@ -17,6 +17,7 @@ import org.springframework.web.servlet.tags.RequestContextAwareTag;
 
 import com.justdavis.karl.misc.exceptions.BadCodeMonkeyException;
 import com.justdavis.karl.rpstourney.service.api.auth.Account;
+import com.justdavis.karl.rpstourney.service.api.game.GameSummary;
 import com.justdavis.karl.rpstourney.service.api.game.GameView;
 import com.justdavis.karl.rpstourney.service.api.game.Player;
 import com.justdavis.karl.rpstourney.service.api.game.PlayerRole;
@@ -167,7 +168,66 @@ public final class PlayerNameTag extends RequestContextAwareTag {
 		if (game == null)
 			return null;
 
-		if (player == null && game.getPlayer2() == null) {
+		return generateContent(messageSource, locale, authenticatedAccount, game.getPlayer2(), player,
+				game.getPlayerRoles(player), textOnly);
+	}
+
+	/**
+	 * @param messageSource
+	 *            the {@link MessageSource} to use
+	 * @param locale
+	 *            the {@link Locale} being rendered to
+	 * @param authenticatedAccount
+	 *            the currently-authenticated user {@link Account}, or
+	 *            <code>null</code> if no user is authenticated
+	 * @param game
+	 *            the {@link GameSummary} to render the {@link Player} for
+	 * @param player
+	 *            the {@link Player} whose name is being rendered
+	 * @param textOnly
+	 *            if <code>true</code>, only text will be returned, if
+	 *            <code>false</code>, the result will include HTML markup
+	 * @return a rendered <code>&lt;span /&gt;</code> tag that wraps the
+	 *         specified {@link Player}'s name, and includes CSS classes
+	 *         indicating which {@link PlayerRole}s they represent
+	 */
+	static String generateContent(MessageSource messageSource, Locale locale, Account authenticatedAccount,
+			GameSummary game, Player player, boolean textOnly) {
+		// If no Game was provided, just print out nothing.
+		if (game == null)
+			return null;
+
+		return generateContent(messageSource, locale, authenticatedAccount, game.getPlayer2(), player,
+				game.getPlayerRoles(player), textOnly);
+	}
+
+	/**
+	 * @param messageSource
+	 *            the {@link MessageSource} to use
+	 * @param locale
+	 *            the {@link Locale} being rendered to
+	 * @param authenticatedAccount
+	 *            the currently-authenticated user {@link Account}, or
+	 *            <code>null</code> if no user is authenticated
+	 * @param player2
+	 *            the game's {@link PlayerRole#PLAYER_2} {@link Player}, or
+	 *            <code>null</code> if they have not yet joined
+	 * @param player
+	 *            the {@link Player} whose name is being rendered
+	 * @param roles
+	 *            the {@link PlayerRole}s that the specified {@link Player}
+	 *            has in the game, which will be empty if they're not part of
+	 *            it
+	 * @param textOnly
+	 *            if <code>true</code>, only text will be returned, if
+	 *            <code>false</code>, the result will include HTML markup
+	 * @return a rendered <code>&lt;span /&gt;</code> tag that wraps the
+	 *         specified {@link Player}'s name, and includes CSS classes
+	 *         indicating which {@link PlayerRole}s they represent
+	 */
+	private static String generateContent(MessageSource messageSource, Locale locale, Account authenticatedAccount,
+			Player player2, Player player, PlayerRole[] roles, boolean textOnly) {
+		if (player == null && player2 == null) {
 			// We're printing out a not-yet-joined Player 2.
 			String displayName = messageSource.getMessage("playerName.notJoined", null, locale);
 
@@ -183,7 +243,7 @@ public final class PlayerNameTag extends RequestContextAwareTag {
 				return null;
 
 			// If the Player is not part of the Game, just print out nothing.
-			if (!game.isPlayer(player))
+			if (roles.length == 0)
 				return null;
 
 			// Select the base display name.
@@ -203,7 +263,7 @@ public final class PlayerNameTag extends RequestContextAwareTag {
 			if (textOnly)
 				return displayName;
 			else
-				return generateTag(displayName, game.getPlayerRoles(player));
+				return generateTag(displayName, roles);
 		}
 	}
 
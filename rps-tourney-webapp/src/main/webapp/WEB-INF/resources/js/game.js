@@ -374,6 +374,22 @@ function processNewGameState(gameData) {
 	}
 }
 
+/*
+ * This function returns the roundIndex of the latest round displayed in the
+ * round history table, or null if no rounds are displayed yet.
+ */
+function findLatestDisplayedRoundIndex() {
+	var latestRoundIndex = null;
+	$("tr[id^='round-data-']").not("#round-data-fake").each(function() {
+		var roundIndex = parseInt(this.id.substring("round-data-".length), 10);
+		if (latestRoundIndex === null || roundIndex > latestRoundIndex) {
+			latestRoundIndex = roundIndex;
+		}
+	});
+
+	return latestRoundIndex;
+}
+
 /*
  * When called, this function will automatically refresh the game state.
  */
@@ -382,6 +398,16 @@ function refreshGameState() {
 	gameUrl = window.location.href;
 	gameStateUrl = gameUrl + "/data";
 
+	/*
+	 * Only request the rounds that aren't already displayed, plus the latest
+	 * displayed one (as it may not have been complete). The scores and such
+	 * will still be for the whole game.
+	 */
+	var latestRoundIndex = findLatestDisplayedRoundIndex();
+	if (latestRoundIndex !== null) {
+		gameStateUrl = gameStateUrl + "?fromRound=" + latestRoundIndex;
+	}
+
 	// Issue an AJAX request for the current game state.
 	$.getJSON(gameStateUrl, function(gameData) {
 		console.log("Refresh successful. Next interval: %d.", refreshInterval);
@@ -39,6 +39,12 @@
 		</table>
 		</c:otherwise>
 		</c:choose>
+		<c:if test="${not empty gamesCursor or not empty gamesNextCursor}">
+		<p id="player-games-paging">
+			<c:if test="${not empty gamesCursor}"><a id="player-games-latest" href="${requestScope['rpstourney.config.baseurl']}/"><spring:message code="home.games.latest" /></a></c:if>
+			<c:if test="${not empty gamesNextCursor}"><a id="player-games-older" href="${requestScope['rpstourney.config.baseurl']}/?cursor=<c:out value="${gamesNextCursor}" />"><spring:message code="home.games.older" /></a></c:if>
+		</p>
+		</c:if>
 		
 		<%-- Disabling logout until username & password authentication is fully supported: registration and login are missing. --%>
 		<%-- <sec:authorize access="isAuthenticated()"> --%>
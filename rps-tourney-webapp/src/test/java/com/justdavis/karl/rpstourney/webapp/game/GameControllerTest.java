@@ -172,7 +172,7 @@ public final class GameControllerTest {
 	}
 
 	/**
-	 * Tests {@link GameController#getGameAsJson(String)}, when called before a
+	 * Tests {@link GameController#getGameAsJson(String, Integer)}, when called before a
 	 * game has started. This is a regression test case for
 	 * <a href="https://github.com/karlmdavis/rps-tourney/issues/110">Issue
 	 * #110: Unable to retrieve game JSON before game starts: HTTP 500</a>.
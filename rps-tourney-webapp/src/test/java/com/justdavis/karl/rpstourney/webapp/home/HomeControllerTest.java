@@ -1,11 +1,13 @@
 package com.justdavis.karl.rpstourney.webapp.home;
 
-import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 import org.hamcrest.CustomMatcher;
 import org.hamcrest.Matcher;
+import org.junit.Assert;
 import org.junit.Test;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
@@ -14,6 +16,8 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import com.justdavis.karl.rpstourney.service.api.auth.Account;
 import com.justdavis.karl.rpstourney.service.api.game.Game;
+import com.justdavis.karl.rpstourney.service.api.game.GameSummary;
+import com.justdavis.karl.rpstourney.service.api.game.GameSummaryPage;
 import com.justdavis.karl.rpstourney.service.api.game.GameView;
 import com.justdavis.karl.rpstourney.service.api.game.IGameResource;
 import com.justdavis.karl.rpstourney.service.api.game.MockGameClient;
@@ -25,7 +29,7 @@ import com.justdavis.karl.rpstourney.service.api.game.Throw;
  */
 public final class HomeControllerTest {
 	/**
-	 * Tests the {@link HomeController#getHomePage()} response.
+	 * Tests the {@link HomeController#getHomePage(String)} response.
 	 * 
 	 * @throws Exception
 	 *             (all of the MVC test methods declare this exception)
@@ -42,8 +46,9 @@ public final class HomeControllerTest {
 	}
 
 	/**
-	 * Tests {@link HomeController#getHomePage()} to ensure its model properly
-	 * includes the results of {@link IGameResource#getGamesForPlayer()}.
+	 * Tests {@link HomeController#getHomePage(String)} to ensure its model
+	 * properly includes the results of
+	 * {@link IGameResource#getGameSummariesForPlayer(String, Integer)}.
 	 * 
 	 * @throws Exception
 	 *             (all of the MVC test methods declare this exception)
@@ -78,11 +83,56 @@ public final class HomeControllerTest {
 				 * Note the order of the games here: games updated last should
 				 * now be first in the model's list.
 				 */
-				return Arrays.asList(gameViewB, gameViewA).equals(item);
+				if (!(item instanceof List))
+					return false;
+				List<?> games = (List<?>) item;
+				if (games.size() != 2)
+					return false;
+				return gameViewB.getId().equals(((GameSummary) games.get(0)).getId())
+						&& gameViewA.getId().equals(((GameSummary) games.get(1)).getId());
 			}
 		};
 		mockMvc.perform(MockMvcRequestBuilders.get("/")).andExpect(MockMvcResultMatchers.status().isOk())
 				.andExpect(MockMvcResultMatchers.model().attributeExists("games"))
 				.andExpect(MockMvcResultMatchers.model().attribute("games", matcher));
 	}
+
+	/**
+	 * Tests {@link HomeController#getHomePage(String)} to ensure that it pages
+	 * through the player's games correctly.
+	 * 
+	 * @throws Exception
+	 *             (all of the MVC test methods declare this exception)
+	 */
+	@Test
+	public void getGamesForPlayerPaged() throws Exception {
+		// Build the mocks needed for the test.
+		Player player1 = new Player(new Account());
+		Game[] games = new Game[GameSummaryPage.DEFAULT_LIMIT + 2];
+		for (int i = 0; i < games.length; i++)
+			games[i] = new Game(player1);
+		MockGameClient gameClient = new MockGameClient(games);
+
+		// Build the controller and prepare it for mock testing.
+		HomeController homeController = new HomeController(gameClient);
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(homeController).build();
+
+		// Run the mock tests against the controller.
+		Map<String, Object> page1Model = mockMvc.perform(MockMvcRequestBuilders.get("/"))
+				.andExpect(MockMvcResultMatchers.status().isOk()).andReturn().getModelAndView().getModel();
+		Assert.assertEquals(GameSummaryPage.DEFAULT_LIMIT, ((List<?>) page1Model.get("games")).size());
+		String nextCursor = (String) page1Model.get("gamesNextCursor");
+		Assert.assertNotNull(nextCursor);
+
+		Map<String, Object> page2Model = mockMvc.perform(MockMvcRequestBuilders.get("/").param("cursor", nextCursor))
+				.andExpect(MockMvcResultMatchers.status().isOk()).andReturn().getModelAndView().getModel();
+		Assert.assertEquals(2, ((List<?>) page2Model.get("games")).size());
+		Assert.assertEquals(nextCursor, page2Model.get("gamesCursor"));
+		Assert.assertNull(page2Model.get("gamesNextCursor"));
+
+		// Mangled cursors should just be ignored.
+		Map<String, Object> mangledModel = mockMvc.perform(MockMvcRequestBuilders.get("/").param("cursor", "foo"))
+				.andExpect(MockMvcResultMatchers.status().isOk()).andReturn().getModelAndView().getModel();
+		Assert.assertEquals(GameSummaryPage.DEFAULT_LIMIT, ((List<?>) mangledModel.get("games")).size());
+	}
 }
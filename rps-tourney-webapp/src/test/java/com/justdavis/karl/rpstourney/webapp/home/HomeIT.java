@@ -14,7 +14,7 @@ import com.justdavis.karl.rpstourney.webapp.ITUtils;
  */
 public final class HomeIT {
 	/**
-	 * Tests {@link HomeController#getHomePage()} for an unauthenticated user.
+	 * Tests {@link HomeController#getHomePage(String)} for an unauthenticated user.
 	 */
 	@Test
 	public void home_unauthenticated() {
@@ -32,7 +32,7 @@ public final class HomeIT {
 	}
 
 	/**
-	 * Tests {@link HomeController#getHomePage()} for an authenticated user that
+	 * Tests {@link HomeController#getHomePage(String)} for an authenticated user that
 	 * has at least one game to be displayed.
 	 */
 	@Test
@@ -13,7 +13,7 @@ import org.springframework.security.core.context.SecurityContextImpl;
 
 import com.justdavis.karl.rpstourney.service.api.auth.Account;
 import com.justdavis.karl.rpstourney.service.api.game.Game;
-import com.justdavis.karl.rpstourney.service.api.game.GameView;
+import com.justdavis.karl.rpstourney.service.api.game.GameSummary;
 import com.justdavis.karl.rpstourney.service.api.game.Player;
 import com.justdavis.karl.rpstourney.service.api.game.ai.BuiltInAi;
 import com.justdavis.karl.rpstourney.webapp.security.WebServiceAccountAuthentication;
@@ -51,8 +51,7 @@ public class GameOpponentTagTest {
 		player2Account.setName("foo");
 		Game game = new Game(new Player(player1Account));
 		game.setPlayer2(new Player(player2Account));
-		GameView gameView = new GameView(game, game.getPlayer1());
-		gameOpponentTag.setGame(gameView);
+		gameOpponentTag.setGame(new GameSummary(game));
 		gameOpponentTag.doEndTag();
 		Assert.assertEquals("<span class=\"PLAYER_2\">foo</span>", jspWriter.output.toString());
 	}
@@ -83,8 +82,7 @@ public class GameOpponentTagTest {
 		Account player1Account = new Account();
 		securityContext.setAuthentication(new WebServiceAccountAuthentication(player1Account));
 		Game game = new Game(new Player(player1Account));
-		GameView gameView = new GameView(game, game.getPlayer1());
-		gameOpponentTag.setGame(gameView);
+		gameOpponentTag.setGame(new GameSummary(game));
 		gameOpponentTag.doEndTag();
 		Assert.assertEquals("<span class=\"PLAYER_2\">(Waiting for Opponent...)</span>", jspWriter.output.toString());
 	}
@@ -116,8 +114,7 @@ public class GameOpponentTagTest {
 		securityContext.setAuthentication(new WebServiceAccountAuthentication(player1Account));
 		Game game = new Game(new Player(player1Account));
 		game.setPlayer2(new Player(BuiltInAi.ONE_SIDED_DIE_PAPER));
-		GameView gameView = new GameView(game, game.getPlayer1());
-		gameOpponentTag.setGame(gameView);
+		gameOpponentTag.setGame(new GameSummary(game));
 		gameOpponentTag.doEndTag();
 		Assert.assertEquals("<span class=\"PLAYER_2\">Always Paper</span>", jspWriter.output.toString());
 	}